@@ -0,0 +1,142 @@
+package com.lol.championselector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.manager.ChampionCatalog;
+import com.lol.championselector.model.Champion;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 英雄目录生成工具：下载Data Dragon的英文和中文英雄列表，与现有目录合并后写出 champions.catalog。
+ * 现有英雄保留原顺序和手工维护的关键词，新英雄按key排序追加在后面。
+ * 用法: ChampionCatalogTool [版本号] [输出文件]
+ */
+public class ChampionCatalogTool {
+    private static final Logger logger = LoggerFactory.getLogger(ChampionCatalogTool.class);
+
+    private static final String VERSION_API = "https://ddragon.leagueoflegends.com/api/versions.json";
+    private static final String CHAMPIONS_API = "https://ddragon.leagueoflegends.com/cdn/%s/data/%s/champion.json";
+    private static final String DEFAULT_OUTPUT = "src/main/resources/champion/data/champions.catalog";
+
+    private final OkHttpClient httpClient = new OkHttpClient.Builder()
+        .connectTimeout(15, TimeUnit.SECONDS)
+        .readTimeout(30, TimeUnit.SECONDS)
+        .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) {
+        ChampionCatalogTool tool = new ChampionCatalogTool();
+        try {
+            String version = args.length > 0 ? args[0] : tool.fetchJson(VERSION_API).get(0).asText();
+            Path output = Paths.get(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+
+            JsonNode english = tool.fetchJson(String.format(CHAMPIONS_API, version, "en_US"));
+            JsonNode chinese = tool.fetchJson(String.format(CHAMPIONS_API, version, "zh_CN"));
+            List<Champion> champions = merge(ChampionCatalog.getInstance().getChampions(), english, chinese);
+
+            Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                ChampionCatalog.write(version, champions, out);
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+
+            logger.info("Wrote {} champions for version {} to {} ({} bytes)",
+                        champions.size(), version, output, Files.size(output));
+            System.out.println("✅ 英雄目录已更新: " + champions.size() + " 个英雄, 版本 " + version);
+        } catch (Exception e) {
+            logger.error("Failed to build champion catalog", e);
+            System.out.println("❌ 英雄目录生成失败: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 合并现有目录和Data Dragon数据。Data Dragon中文数据的name是称号、title是英雄名，与本项目相反
+     */
+    public static List<Champion> merge(List<Champion> existing, JsonNode english, JsonNode chinese) {
+        Map<String, Champion> merged = new LinkedHashMap<>();
+        for (Champion champion : existing) {
+            merged.put(champion.getKey(), champion);
+        }
+
+        Map<String, Champion> added = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> entries = english.path("data").fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            JsonNode en = entry.getValue();
+            JsonNode zh = chinese.path("data").path(entry.getKey());
+
+            String key = en.path("id").asText();
+            String id = en.path("key").asText();
+            String nameEn = en.path("name").asText();
+            String nameCn = zh.path("title").asText(nameEn);
+            String title = zh.path("name").asText("");
+            List<String> tags = new ArrayList<>();
+            en.path("tags").forEach(tag -> tags.add(tag.asText()));
+
+            Champion previous = merged.get(key);
+            List<String> keywords = previous != null ? previous.getKeywords() : generateKeywords(nameCn, title, tags);
+            Champion champion = new Champion(key, id, nameEn, nameCn, keywords, title, tags);
+            if (previous != null) {
+                merged.put(key, champion);
+            } else {
+                added.put(key, champion);
+            }
+        }
+
+        List<Champion> result = new ArrayList<>(merged.values());
+        result.addAll(added.values());
+        return result;
+    }
+
+    private static List<String> generateKeywords(String nameCn, String title, List<String> tags) {
+        List<String> keywords = new ArrayList<>();
+        for (String tag : tags) {
+            switch (tag) {
+                case "Fighter": keywords.add("战士"); break;
+                case "Tank": keywords.add("坦克"); break;
+                case "Assassin": keywords.add("刺客"); break;
+                case "Mage": keywords.add("法师"); break;
+                case "Marksman": keywords.add("射手"); break;
+                case "Support": keywords.add("辅助"); break;
+                default: break;
+            }
+        }
+        if (!title.isEmpty()) {
+            keywords.add(title);
+        }
+        keywords.add(nameCn);
+        return keywords;
+    }
+
+    private JsonNode fetchJson(String url) throws IOException {
+        Request request = new Request.Builder().url(url).build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException("HTTP " + response.code() + " for " + url);
+            }
+            try (InputStream in = response.body().byteStream()) {
+                return objectMapper.readTree(in);
+            }
+        }
+    }
+}
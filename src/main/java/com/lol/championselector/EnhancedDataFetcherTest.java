@@ -38,7 +38,7 @@ public class EnhancedDataFetcherTest {
                 System.out.println("   - src/main/resources/champion/data/all_champions_data.json");
                 System.out.println("\n4. 元数据信息:");
                 System.out.println("   - src/main/resources/champion/data/metadata.json");
-                System.out.println("   - src/main/resources/champion/data/version.txt");
+                System.out.println("   - src/main/resources/champion/data/full_version.txt");
                 
                 System.out.println("\n数据内容包括:");
                 System.out.println("- 英雄基本信息（中英文名称、称号）");
@@ -2,6 +2,7 @@ package com.lol.championselector;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.manager.ResourceManager;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -15,7 +16,6 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SkillIconDownloadTool {
@@ -37,7 +37,7 @@ public class SkillIconDownloadTool {
             .readTimeout(Duration.ofSeconds(30))
             .build();
         
-        this.executor = Executors.newFixedThreadPool(MAX_CONCURRENT_DOWNLOADS);
+        this.executor = ResourceManager.getInstance().newBoundedExecutor(ResourceManager.Role.IO, MAX_CONCURRENT_DOWNLOADS);
         this.objectMapper = new ObjectMapper();
         this.skillIconsDir = Paths.get(SKILL_ICONS_DIR);
         
@@ -0,0 +1,287 @@
+package com.lol.championselector.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.manager.ResourceManager;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 数据同步用的HTTP下载器：固定数量的工作线程限制并发，同一主机的请求按最小间隔排队，
+ * 并使用ETag/Last-Modified发送条件请求，校验值保存在本地文件中，未变化的文件返回304不再下载。
+ * 保存时整体覆盖校验值文件，因此每个下载器应使用自己的文件
+ */
+public class ConditionalFetcher {
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalFetcher.class);
+
+    public enum Status { UPDATED, NOT_MODIFIED, FAILED }
+
+    /**
+     * 在响应关闭前直接读取响应流，大文件不必先缓冲成byte[]
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    /**
+     * 单个请求的结果；只有UPDATED时才有内容：未指定BodyReader时为body，否则为value
+     */
+    public static class Result {
+        private final Status status;
+        private final int httpCode;
+        private final byte[] body;
+        private final Object value;
+
+        Result(Status status, int httpCode, byte[] body) {
+            this(status, httpCode, body, null);
+        }
+
+        Result(Status status, int httpCode, byte[] body, Object value) {
+            this.status = status;
+            this.httpCode = httpCode;
+            this.body = body;
+            this.value = value;
+        }
+
+        public Status getStatus() { return status; }
+        public int getHttpCode() { return httpCode; }
+        public byte[] getBody() { return body; }
+
+        /**
+         * BodyReader读取的结果
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getValue() { return (T) value; }
+    }
+
+    private final OkHttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor;
+    private final long minIntervalNanos;
+    private final Map<String, Long> nextSlotByHost = new HashMap<>();
+    private final Path validatorFile;
+    private final Map<String, Map<String, String>> validators = new ConcurrentHashMap<>();
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    /**
+     * @param maxConcurrent   同时进行的请求数（线程来自共享I/O线程池，另受其大小限制）
+     * @param minIntervalMs   同一主机两次请求之间的最小间隔
+     * @param validatorFile   ETag/Last-Modified的保存位置，为null时不持久化
+     */
+    public ConditionalFetcher(OkHttpClient httpClient, int maxConcurrent, long minIntervalMs, Path validatorFile) {
+        this.httpClient = httpClient;
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMs);
+        this.validatorFile = validatorFile;
+        this.executor = ResourceManager.getInstance().newBoundedExecutor(ResourceManager.Role.IO, Math.max(1, maxConcurrent));
+        loadValidators();
+    }
+
+    /**
+     * 在工作线程中下载url；existing文件存在时发送条件请求
+     */
+    public CompletableFuture<Result> fetchAsync(String url, Path existing) {
+        return fetchAsync(url, existing, null);
+    }
+
+    /**
+     * 在工作线程中下载url，由reader直接读取响应流
+     */
+    public <T> CompletableFuture<Result> fetchAsync(String url, Path existing, BodyReader<T> reader) {
+        return CompletableFuture.supplyAsync(() -> fetch(url, existing, reader), executor);
+    }
+
+    /**
+     * 在当前线程下载url，同样遵守主机间隔
+     */
+    public Result fetch(String url, Path existing) {
+        return fetch(url, existing, null);
+    }
+
+    /**
+     * 在当前线程下载url；reader非null时读取响应流，读取失败视为FAILED且不记录校验值
+     */
+    public <T> Result fetch(String url, Path existing, BodyReader<T> reader) {
+        try {
+            HttpUrl httpUrl = HttpUrl.get(url);
+            awaitHostSlot(httpUrl.host());
+
+            Request.Builder request = new Request.Builder().url(httpUrl);
+            Map<String, String> stored = validators.get(url);
+            if (stored != null && existing != null && Files.exists(existing)) {
+                if (stored.containsKey("etag")) {
+                    request.header("If-None-Match", stored.get("etag"));
+                }
+                if (stored.containsKey("lastModified")) {
+                    request.header("If-Modified-Since", stored.get("lastModified"));
+                }
+            }
+
+            try (Response response = httpClient.newCall(request.build()).execute()) {
+                if (response.code() == 304) {
+                    return new Result(Status.NOT_MODIFIED, 304, null);
+                }
+                ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    logger.debug("HTTP {} for {}", response.code(), url);
+                    return new Result(Status.FAILED, response.code(), null);
+                }
+                if (reader != null) {
+                    CountingInputStream stream = new CountingInputStream(body.byteStream());
+                    T value = reader.read(stream);
+                    transferredBytes.addAndGet(stream.count);
+                    rememberValidators(url, response);
+                    return new Result(Status.UPDATED, response.code(), null, value);
+                }
+                byte[] bytes = body.bytes();
+                transferredBytes.addAndGet(bytes.length);
+                rememberValidators(url, response);
+                return new Result(Status.UPDATED, response.code(), bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(Status.FAILED, -1, null);
+        } catch (Exception e) {
+            logger.debug("Error fetching {}", url, e);
+            return new Result(Status.FAILED, -1, null);
+        }
+    }
+
+    /**
+     * 本次同步下载的字节数（304不计）
+     */
+    public long getTransferredBytes() {
+        return transferredBytes.get();
+    }
+
+    /**
+     * 丢弃不再需要的校验值；URL带版本号时由调用方在得知最新版本后清理旧版本的条目，避免文件无限增长
+     */
+    public void retainValidators(Predicate<String> keepUrl) {
+        int before = validators.size();
+        validators.keySet().removeIf(url -> !keepUrl.test(url));
+        if (validators.size() < before) {
+            logger.debug("Pruned {} stale HTTP validators", before - validators.size());
+        }
+    }
+
+    /**
+     * 把校验值写回磁盘，应在一次同步结束后调用
+     */
+    public void saveValidators() {
+        if (validatorFile == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(validatorFile.toAbsolutePath().getParent());
+            Path temp = validatorFile.resolveSibling(validatorFile.getFileName() + ".tmp");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), validators);
+            Files.move(temp, validatorFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to save HTTP validators to {}", validatorFile, e);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void awaitHostSlot(String host) throws InterruptedException {
+        long waitNanos;
+        synchronized (nextSlotByHost) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotByHost.getOrDefault(host, now));
+            nextSlotByHost.put(host, slot + minIntervalNanos);
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void rememberValidators(String url, Response response) {
+        Map<String, String> entry = new HashMap<>();
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        if (etag != null) {
+            entry.put("etag", etag);
+        }
+        if (lastModified != null) {
+            entry.put("lastModified", lastModified);
+        }
+        if (entry.isEmpty()) {
+            validators.remove(url);
+        } else {
+            validators.put(url, entry);
+        }
+    }
+
+    private void loadValidators() {
+        if (validatorFile == null || !Files.exists(validatorFile)) {
+            return;
+        }
+        try {
+            validators.putAll(objectMapper.readValue(validatorFile.toFile(),
+                new TypeReference<Map<String, Map<String, String>>>() {}));
+            logger.debug("Loaded {} HTTP validators from {}", validators.size(), validatorFile);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable HTTP validator file {}", validatorFile, e);
+        }
+    }
+
+    /**
+     * 统计reader实际读取的字节数
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
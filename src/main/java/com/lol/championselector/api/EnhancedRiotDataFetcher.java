@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.lol.championselector.config.ChampionSelectorConfig;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -17,7 +18,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Enhanced Riot Data Fetcher that saves complete champion data including stats and skills
@@ -36,9 +41,16 @@ public class EnhancedRiotDataFetcher {
     
     // Data directory
     private static final String DATA_DIR = "src/main/resources/champion/data";
+    // Shared with DataSyncManager, so this fetcher keeps its own version and validator files
+    private static final String VERSION_FILE = "full_version.txt";
+    private static final String VALIDATORS_FILE = "full_http_validators.json";
+    
+    // 同一主机两次请求之间的最小间隔
+    private static final long HOST_MIN_INTERVAL_MS = 20;
     
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ConditionalFetcher fetcher;
     private String currentVersion;
     
     public EnhancedRiotDataFetcher() {
@@ -50,6 +62,8 @@ public class EnhancedRiotDataFetcher {
         this.objectMapper = new ObjectMapper();
         
         createDataDirectories();
+        this.fetcher = new ConditionalFetcher(httpClient, new ChampionSelectorConfig().getMaxConcurrentDownloads(),
+                                              HOST_MIN_INTERVAL_MS, Paths.get(DATA_DIR, VALIDATORS_FILE));
     }
     
     private void createDataDirectories() {
@@ -77,6 +91,13 @@ public class EnhancedRiotDataFetcher {
                 return false;
             }
             logger.info("Latest version: {}", currentVersion);
+            String versionPath = "/cdn/" + currentVersion + "/";
+            fetcher.retainValidators(url -> !url.contains("/cdn/") || url.contains(versionPath));
+            
+            if (currentVersion.equals(readStoredVersion()) && Files.exists(Paths.get(DATA_DIR, "all_champions_data.json"))) {
+                logger.info("Champion data is already up to date (version: {})", currentVersion);
+                return true;
+            }
             
             // 2. Fetch champion list in both languages
             JsonNode championsEn = fetchChampionList(currentVersion, LANG_EN);
@@ -106,6 +127,18 @@ public class EnhancedRiotDataFetcher {
         } catch (Exception e) {
             logger.error("Error fetching champion data", e);
             return false;
+        } finally {
+            fetcher.saveValidators();
+        }
+    }
+    
+    private String readStoredVersion() {
+        try {
+            Path versionFile = Paths.get(DATA_DIR, VERSION_FILE);
+            return Files.exists(versionFile) ? new String(Files.readAllBytes(versionFile)).trim() : "";
+        } catch (IOException e) {
+            logger.debug("Error reading stored version", e);
+            return "";
         }
     }
     
@@ -219,58 +252,68 @@ public class EnhancedRiotDataFetcher {
     private boolean fetchAndSaveAllChampionDetails(JsonNode championList) {
         JsonNode champions = championList.path("data");
         int totalChampions = champions.size();
-        int successCount = 0;
-        int errorCount = 0;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger unchangedCount = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
         
         logger.info("Fetching complete data for {} champions", totalChampions);
         
+        // Parallel downloads; concurrency and per-host pacing are handled by the fetcher
+        List<CompletableFuture<Void>> downloads = new ArrayList<>(totalChampions);
         for (JsonNode champion : champions) {
             String championKey = champion.path("id").asText();
-            
-            try {
-                // Fetch both language versions
-                JsonNode detailEn = fetchChampionDetail(currentVersion, LANG_EN, championKey);
-                JsonNode detailZh = fetchChampionDetail(currentVersion, LANG_ZH, championKey);
-                
-                if (detailEn != null && detailZh != null) {
-                    // Create complete champion data file
-                    JsonNode completeData = createCompleteChampionData(detailEn, detailZh);
-                    saveChampionCompleteData(championKey, completeData);
-                    successCount++;
+            Path target = Paths.get(DATA_DIR, "full", championKey + "_complete.json");
+            String urlEn = String.format(CHAMPION_DETAIL_API, currentVersion, LANG_EN, championKey);
+            String urlZh = String.format(CHAMPION_DETAIL_API, currentVersion, LANG_ZH, championKey);
+            
+            CompletableFuture<ConditionalFetcher.Result> en = fetcher.fetchAsync(urlEn, target);
+            CompletableFuture<ConditionalFetcher.Result> zh = fetcher.fetchAsync(urlZh, target);
+            downloads.add(en.thenAcceptBoth(zh, (resultEn, resultZh) -> {
+                try {
+                    if (resultEn.getStatus() == ConditionalFetcher.Status.NOT_MODIFIED
+                            && resultZh.getStatus() == ConditionalFetcher.Status.NOT_MODIFIED) {
+                        unchangedCount.incrementAndGet();
+                        successCount.incrementAndGet();
+                        return;
+                    }
                     
-                    if (successCount % 10 == 0) {
-                        logger.info("Progress: {}/{} champions", successCount, totalChampions);
+                    // Only one language changed: the merged file needs both bodies
+                    byte[] bodyEn = bodyOf(resultEn, urlEn);
+                    byte[] bodyZh = bodyOf(resultZh, urlZh);
+                    if (bodyEn != null && bodyZh != null) {
+                        JsonNode completeData = createCompleteChampionData(objectMapper.readTree(bodyEn),
+                                                                           objectMapper.readTree(bodyZh));
+                        saveChampionCompleteData(championKey, completeData);
+                        int done = successCount.incrementAndGet();
+                        
+                        if (done % 10 == 0) {
+                            logger.info("Progress: {}/{} champions", done, totalChampions);
+                        }
+                    } else {
+                        errorCount.incrementAndGet();
+                        logger.warn("Failed to fetch details for champion: {}", championKey);
                     }
-                } else {
-                    errorCount++;
-                    logger.warn("Failed to fetch details for champion: {}", championKey);
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                    logger.error("Error processing champion: {}", championKey, e);
                 }
-                
-                // Rate limiting
-                Thread.sleep(100);
-                
-            } catch (Exception e) {
-                errorCount++;
-                logger.error("Error processing champion: {}", championKey, e);
-            }
+            }));
         }
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).join();
         
-        logger.info("Champion details fetch completed: {} success, {} errors", successCount, errorCount);
-        return errorCount == 0 || (double) successCount / totalChampions > 0.8;
+        logger.info("Champion details fetch completed: {} success ({} unchanged), {} errors",
+                    successCount.get(), unchangedCount.get(), errorCount.get());
+        return errorCount.get() == 0 || (double) successCount.get() / totalChampions > 0.8;
     }
     
-    private JsonNode fetchChampionDetail(String version, String language, String championKey) throws IOException {
-        String url = String.format(CHAMPION_DETAIL_API, version, language, championKey);
-        Request request = new Request.Builder()
-            .url(url)
-            .build();
-            
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
+    private byte[] bodyOf(ConditionalFetcher.Result result, String url) {
+        switch (result.getStatus()) {
+            case UPDATED:
+                return result.getBody();
+            case NOT_MODIFIED:
+                return fetcher.fetch(url, null).getBody();
+            default:
                 return null;
-            }
-            
-            return objectMapper.readTree(response.body().string());
         }
     }
     
@@ -478,7 +521,7 @@ public class EnhancedRiotDataFetcher {
         objectMapper.writerWithDefaultPrettyPrinter().writeValue(metadataPath.toFile(), metadata);
         
         // Save version file
-        Path versionFile = Paths.get(DATA_DIR, "version.txt");
+        Path versionFile = Paths.get(DATA_DIR, VERSION_FILE);
         Files.write(versionFile, currentVersion.getBytes());
         
         logger.info("Saved metadata and version info");
@@ -486,6 +529,7 @@ public class EnhancedRiotDataFetcher {
     
     public void shutdown() {
         try {
+            fetcher.shutdown();
             httpClient.dispatcher().executorService().shutdown();
             httpClient.connectionPool().evictAll();
             logger.info("EnhancedRiotDataFetcher shut down successfully");
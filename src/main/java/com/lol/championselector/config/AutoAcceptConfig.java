@@ -2,7 +2,9 @@ package com.lol.championselector.config;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.manager.ChampionCatalog;
 import com.lol.championselector.model.Champion;
+import com.lol.championselector.model.ChampionIdSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +44,7 @@ public class AutoAcceptConfig {
     // System tray menu settings
     private boolean forceEnglishTrayMenu = false; // 强制使用英文托盘菜单
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ChampionSelectConfig {
         private boolean autoBanEnabled = false;
         private boolean autoPickEnabled = false;
@@ -113,7 +116,7 @@ public class AutoAcceptConfig {
             jungleConfig.addPickChampion(new ChampionInfo("Warwick", "沃里克", "祖安怒兽"));
             jungleConfig.addPickChampion(new ChampionInfo("Sejuani", "瑟庄妮", "北地之怒"));
             jungleConfig.addPickChampion(new ChampionInfo("JarvanIV", "嘉文四世", "德玛西亚皇子"));
-            jungleConfig.addPickChampion(new ChampionInfo("Ammu", "阿木木", "殇之木乃伊"));
+            jungleConfig.addPickChampion(new ChampionInfo("Amumu", "阿木木", "殇之木乃伊"));
             positionConfigs.put("jungle", jungleConfig);
             
             // Middle
@@ -259,6 +262,7 @@ public class AutoAcceptConfig {
     /**
      * 分路配置类
      */
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class PositionConfig {
         private String position;
         private List<ChampionInfo> banChampions = new ArrayList<>();
@@ -298,21 +302,21 @@ public class AutoAcceptConfig {
             return pickChampions.isEmpty() ? null : pickChampions.get(0);
         }
         
-        public ChampionInfo getAlternateBanChampion(Set<Integer> bannedChampionIds) {
+        public ChampionInfo getAlternateBanChampion(ChampionIdSet bannedChampionIds) {
             for (ChampionInfo champion : banChampions) {
-                if (champion.getChampionId() != null && 
-                    !bannedChampionIds.contains(champion.getChampionId())) {
+                Integer championId = champion.getChampionId();
+                if (championId != null && !bannedChampionIds.contains(championId.intValue())) {
                     return champion;
                 }
             }
             return null;
         }
         
-        public ChampionInfo getAlternatePickChampion(Set<Integer> bannedChampionIds, Set<Integer> pickedChampionIds) {
+        public ChampionInfo getAlternatePickChampion(ChampionIdSet bannedChampionIds, ChampionIdSet pickedChampionIds) {
             for (ChampionInfo champion : pickChampions) {
-                if (champion.getChampionId() != null && 
-                    !bannedChampionIds.contains(champion.getChampionId()) &&
-                    !pickedChampionIds.contains(champion.getChampionId())) {
+                Integer championId = champion.getChampionId();
+                if (championId != null && !bannedChampionIds.contains(championId.intValue()) &&
+                    !pickedChampionIds.contains(championId.intValue())) {
                     return champion;
                 }
             }
@@ -333,6 +337,7 @@ public class AutoAcceptConfig {
         public void setPreferredPickChampion(ChampionInfo preferredPickChampion) { this.preferredPickChampion = preferredPickChampion; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ChampionInfo {
         private String key;
         private String nameCn;
@@ -357,20 +362,29 @@ public class AutoAcceptConfig {
             this.nameEn = champion.getNameEn();
             this.title = champion.getTitle();
             
-            // 安全地解析 championId
-            try {
-                if (champion.getId() != null && !champion.getId().trim().isEmpty()) {
-                    this.championId = Integer.parseInt(champion.getId().trim());
-                } else {
-                    logger.warn("Champion {} has null or empty ID", champion.getKey());
-                    this.championId = null;
+            // 优先使用目录中的championId，目录中没有时再解析
+            this.championId = ChampionCatalog.getInstance().findIdByKey(champion.getKey());
+            if (this.championId == null) {
+                try {
+                    if (champion.getId() != null && !champion.getId().trim().isEmpty()) {
+                        this.championId = Integer.parseInt(champion.getId().trim());
+                    } else {
+                        logger.warn("Champion {} has null or empty ID", champion.getKey());
+                    }
+                } catch (NumberFormatException e) {
+                    logger.error("Failed to parse champion ID for {}: {}", champion.getKey(), champion.getId(), e);
                 }
-            } catch (NumberFormatException e) {
-                logger.error("Failed to parse champion ID for {}: {}", champion.getKey(), champion.getId(), e);
-                this.championId = null;
             }
         }
         
+        /**
+         * 根据championId创建英雄信息，目录中没有该英雄时返回null
+         */
+        public static ChampionInfo forChampionId(int championId) {
+            Champion champion = ChampionCatalog.getInstance().findById(championId);
+            return champion != null ? new ChampionInfo(champion) : null;
+        }
+        
         // Getters and Setters
         public String getKey() { return key; }
         public void setKey(String key) { this.key = key; }
@@ -394,169 +408,7 @@ public class AutoAcceptConfig {
             if (key == null || key.trim().isEmpty()) {
                 return null;
             }
-            
-            // 简化的ID映射表，基于常见英雄
-            Map<String, Integer> keyToIdMap = new HashMap<>();
-            keyToIdMap.put("Aatrox", 266);
-            keyToIdMap.put("Ahri", 103);
-            keyToIdMap.put("Akali", 84);
-            keyToIdMap.put("Alistar", 12);
-            keyToIdMap.put("Ammu", 32);
-            keyToIdMap.put("Anivia", 34);
-            keyToIdMap.put("Annie", 1);
-            keyToIdMap.put("Aphelios", 523);
-            keyToIdMap.put("Ashe", 22);
-            keyToIdMap.put("AurelionSol", 136);
-            keyToIdMap.put("Azir", 268);
-            keyToIdMap.put("Bard", 432);
-            keyToIdMap.put("Blitzcrank", 53);
-            keyToIdMap.put("Brand", 63);
-            keyToIdMap.put("Braum", 201);
-            keyToIdMap.put("Caitlyn", 51);
-            keyToIdMap.put("Camille", 164);
-            keyToIdMap.put("Cassiopeia", 69);
-            keyToIdMap.put("Chogath", 31);
-            keyToIdMap.put("Corki", 42);
-            keyToIdMap.put("Darius", 122);
-            keyToIdMap.put("Diana", 131);
-            keyToIdMap.put("DrMundo", 36);
-            keyToIdMap.put("Draven", 119);
-            keyToIdMap.put("Ekko", 245);
-            keyToIdMap.put("Elise", 60);
-            keyToIdMap.put("Evelynn", 28);
-            keyToIdMap.put("Ezreal", 81);
-            keyToIdMap.put("Fiddlesticks", 9);
-            keyToIdMap.put("Fiora", 114);
-            keyToIdMap.put("Fizz", 105);
-            keyToIdMap.put("Galio", 3);
-            keyToIdMap.put("Gangplank", 41);
-            keyToIdMap.put("Garen", 86);
-            keyToIdMap.put("Gnar", 150);
-            keyToIdMap.put("Gragas", 79);
-            keyToIdMap.put("Graves", 104);
-            keyToIdMap.put("Gwen", 887);
-            keyToIdMap.put("Hecarim", 120);
-            keyToIdMap.put("Heimerdinger", 74);
-            keyToIdMap.put("Illaoi", 420);
-            keyToIdMap.put("Irelia", 39);
-            keyToIdMap.put("Ivern", 427);
-            keyToIdMap.put("Janna", 40);
-            keyToIdMap.put("JarvanIV", 59);
-            keyToIdMap.put("Jax", 24);
-            keyToIdMap.put("Jayce", 126);
-            keyToIdMap.put("Jhin", 202);
-            keyToIdMap.put("Jinx", 222);
-            keyToIdMap.put("Kaisa", 145);
-            keyToIdMap.put("Kalista", 429);
-            keyToIdMap.put("Karma", 43);
-            keyToIdMap.put("Karthus", 30);
-            keyToIdMap.put("Kassadin", 38);
-            keyToIdMap.put("Katarina", 55);
-            keyToIdMap.put("Kayle", 10);
-            keyToIdMap.put("Kayn", 141);
-            keyToIdMap.put("Kennen", 85);
-            keyToIdMap.put("Khazix", 121);
-            keyToIdMap.put("Kindred", 203);
-            keyToIdMap.put("Kled", 240);
-            keyToIdMap.put("KogMaw", 96);
-            keyToIdMap.put("Leblanc", 7);
-            keyToIdMap.put("LeeSin", 64);
-            keyToIdMap.put("Leona", 89);
-            keyToIdMap.put("Lillia", 876);
-            keyToIdMap.put("Lissandra", 127);
-            keyToIdMap.put("Lucian", 236);
-            keyToIdMap.put("Lulu", 117);
-            keyToIdMap.put("Lux", 99);
-            keyToIdMap.put("Malphite", 54);
-            keyToIdMap.put("Malzahar", 90);
-            keyToIdMap.put("Maokai", 57);
-            keyToIdMap.put("MasterYi", 11);
-            keyToIdMap.put("MissFortune", 21);
-            keyToIdMap.put("Mordekaiser", 82);
-            keyToIdMap.put("Morgana", 25);
-            keyToIdMap.put("Nami", 267);
-            keyToIdMap.put("Nasus", 75);
-            keyToIdMap.put("Nautilus", 111);
-            keyToIdMap.put("Neeko", 518);
-            keyToIdMap.put("Nidalee", 76);
-            keyToIdMap.put("Nocturne", 56);
-            keyToIdMap.put("Nunu", 20);
-            keyToIdMap.put("Olaf", 2);
-            keyToIdMap.put("Orianna", 61);
-            keyToIdMap.put("Ornn", 516);
-            keyToIdMap.put("Pantheon", 80);
-            keyToIdMap.put("Poppy", 78);
-            keyToIdMap.put("Pyke", 555);
-            keyToIdMap.put("Qiyana", 246);
-            keyToIdMap.put("Quinn", 133);
-            keyToIdMap.put("Rakan", 497);
-            keyToIdMap.put("Rammus", 33);
-            keyToIdMap.put("RekSai", 421);
-            keyToIdMap.put("Rell", 526);
-            keyToIdMap.put("Renata", 888);
-            keyToIdMap.put("Renekton", 58);
-            keyToIdMap.put("Rengar", 107);
-            keyToIdMap.put("Riven", 92);
-            keyToIdMap.put("Rumble", 68);
-            keyToIdMap.put("Ryze", 13);
-            keyToIdMap.put("Samira", 360);
-            keyToIdMap.put("Sejuani", 113);
-            keyToIdMap.put("Senna", 235);
-            keyToIdMap.put("Seraphine", 147);
-            keyToIdMap.put("Sett", 875);
-            keyToIdMap.put("Shaco", 35);
-            keyToIdMap.put("Shen", 98);
-            keyToIdMap.put("Shyvana", 102);
-            keyToIdMap.put("Singed", 27);
-            keyToIdMap.put("Sion", 14);
-            keyToIdMap.put("Sivir", 15);
-            keyToIdMap.put("Skarner", 72);
-            keyToIdMap.put("Sona", 37);
-            keyToIdMap.put("Soraka", 16);
-            keyToIdMap.put("Swain", 50);
-            keyToIdMap.put("Sylas", 517);
-            keyToIdMap.put("Syndra", 134);
-            keyToIdMap.put("TahmKench", 223);
-            keyToIdMap.put("Taliyah", 163);
-            keyToIdMap.put("Talon", 91);
-            keyToIdMap.put("Taric", 44);
-            keyToIdMap.put("Teemo", 17);
-            keyToIdMap.put("Thresh", 412);
-            keyToIdMap.put("Tristana", 18);
-            keyToIdMap.put("Trundle", 48);
-            keyToIdMap.put("Tryndamere", 23);
-            keyToIdMap.put("TwistedFate", 4);
-            keyToIdMap.put("Twitch", 29);
-            keyToIdMap.put("Udyr", 77);
-            keyToIdMap.put("Urgot", 6);
-            keyToIdMap.put("Varus", 110);
-            keyToIdMap.put("Vayne", 67);
-            keyToIdMap.put("Veigar", 45);
-            keyToIdMap.put("Velkoz", 161);
-            keyToIdMap.put("Vex", 711);
-            keyToIdMap.put("Vi", 254);
-            keyToIdMap.put("Viego", 234);
-            keyToIdMap.put("Viktor", 112);
-            keyToIdMap.put("Vladimir", 8);
-            keyToIdMap.put("Volibear", 106);
-            keyToIdMap.put("Warwick", 19);
-            keyToIdMap.put("Wukong", 62);
-            keyToIdMap.put("Xayah", 498);
-            keyToIdMap.put("Xerath", 101);
-            keyToIdMap.put("XinZhao", 5);
-            keyToIdMap.put("Yasuo", 157);
-            keyToIdMap.put("Yone", 777);
-            keyToIdMap.put("Yorick", 83);
-            keyToIdMap.put("Yuumi", 350);
-            keyToIdMap.put("Zac", 154);
-            keyToIdMap.put("Zed", 238);
-            keyToIdMap.put("Zeri", 221);
-            keyToIdMap.put("Ziggs", 115);
-            keyToIdMap.put("Zilean", 26);
-            keyToIdMap.put("Zoe", 142);
-            keyToIdMap.put("Zyra", 143);
-            
-            return keyToIdMap.get(key);
+            return ChampionCatalog.getInstance().findIdByKey(key);
         }
         
         /**
@@ -564,246 +416,18 @@ public class AutoAcceptConfig {
          */
         public void ensureChampionId() {
             if (this.championId == null && this.key != null && !this.key.trim().isEmpty()) {
-                try {
-                    this.championId = getChampionIdByKey(this.key.trim());
-                    if (this.championId != null) {
-                        logger.debug("Auto-resolved championId {} for key {}", this.championId, this.key);
-                    } else {
-                        logger.warn("Failed to resolve championId for key: {} - trying fallback methods", this.key);
-                        // 尝试备用方法解析championId
-                        this.championId = tryFallbackChampionIdResolution(this.key.trim());
-                        if (this.championId != null) {
-                            logger.info("Successfully resolved championId {} for key {} using fallback method", this.championId, this.key);
-                        } else {
-                            logger.error("All methods failed to resolve championId for key: {}", this.key);
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.error("Error resolving championId for key: {}", this.key, e);
-                    // 即使出现异常，也尝试备用方法
-                    try {
-                        this.championId = tryFallbackChampionIdResolution(this.key.trim());
-                        if (this.championId != null) {
-                            logger.info("Fallback method succeeded for key {} after exception", this.key);
-                        }
-                    } catch (Exception fallbackEx) {
-                        logger.error("Fallback method also failed for key: {}", this.key, fallbackEx);
-                    }
+                // 目录查找已包含忽略大小写和标点的匹配
+                this.championId = getChampionIdByKey(this.key.trim());
+                if (this.championId != null) {
+                    logger.debug("Auto-resolved championId {} for key {}", this.championId, this.key);
+                } else {
+                    logger.error("Failed to resolve championId for key: {}", this.key);
                 }
             } else if (this.championId == null) {
                 logger.warn("Cannot ensure championId - key is null or empty: '{}'", this.key);
             }
         }
         
-        /**
-         * 备用的championId解析方法
-         */
-        private static Integer tryFallbackChampionIdResolution(String key) {
-            if (key == null || key.trim().isEmpty()) {
-                return null;
-            }
-            
-            // 尝试忽略大小写匹配
-            Map<String, Integer> keyToIdMap = getFallbackChampionMap();
-            
-            // 第一次尝试：完全匹配
-            Integer championId = keyToIdMap.get(key);
-            if (championId != null) {
-                return championId;
-            }
-            
-            // 第二次尝试：忽略大小写匹配
-            for (Map.Entry<String, Integer> entry : keyToIdMap.entrySet()) {
-                if (entry.getKey().equalsIgnoreCase(key)) {
-                    return entry.getValue();
-                }
-            }
-            
-            // 第三次尝试：移除特殊字符和空格后匹配
-            String cleanKey = key.replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
-            for (Map.Entry<String, Integer> entry : keyToIdMap.entrySet()) {
-                String cleanEntryKey = entry.getKey().replaceAll("[^a-zA-Z0-9]", "").toLowerCase();
-                if (cleanEntryKey.equals(cleanKey)) {
-                    return entry.getValue();
-                }
-            }
-            
-            return null;
-        }
-        
-        /**
-         * 获取完整的英雄ID映射表（包含更多英雄和别名）
-         */
-        private static Map<String, Integer> getFallbackChampionMap() {
-            Map<String, Integer> keyToIdMap = new HashMap<>();
-            
-            // 添加所有英雄的标准映射
-            keyToIdMap.put("Aatrox", 266);
-            keyToIdMap.put("Ahri", 103);
-            keyToIdMap.put("Akali", 84);
-            keyToIdMap.put("Akshan", 166);
-            keyToIdMap.put("Alistar", 12);
-            keyToIdMap.put("Ammu", 32);
-            keyToIdMap.put("Amumu", 32); // 阿木木的另一种拼写
-            keyToIdMap.put("Anivia", 34);
-            keyToIdMap.put("Annie", 1);
-            keyToIdMap.put("Aphelios", 523);
-            keyToIdMap.put("Ashe", 22);
-            keyToIdMap.put("AurelionSol", 136);
-            keyToIdMap.put("Azir", 268);
-            keyToIdMap.put("Bard", 432);
-            keyToIdMap.put("Belveth", 200);
-            keyToIdMap.put("Blitzcrank", 53);
-            keyToIdMap.put("Brand", 63);
-            keyToIdMap.put("Braum", 201);
-            keyToIdMap.put("Caitlyn", 51);
-            keyToIdMap.put("Camille", 164);
-            keyToIdMap.put("Cassiopeia", 69);
-            keyToIdMap.put("Chogath", 31);
-            keyToIdMap.put("Corki", 42);
-            keyToIdMap.put("Darius", 122);
-            keyToIdMap.put("Diana", 131);
-            keyToIdMap.put("DrMundo", 36);
-            keyToIdMap.put("Draven", 119);
-            keyToIdMap.put("Ekko", 245);
-            keyToIdMap.put("Elise", 60);
-            keyToIdMap.put("Evelynn", 28);
-            keyToIdMap.put("Ezreal", 81);
-            keyToIdMap.put("Fiddlesticks", 9);
-            keyToIdMap.put("Fiora", 114);
-            keyToIdMap.put("Fizz", 105);
-            keyToIdMap.put("Galio", 3);
-            keyToIdMap.put("Gangplank", 41);
-            keyToIdMap.put("Garen", 86);
-            keyToIdMap.put("Gnar", 150);
-            keyToIdMap.put("Gragas", 79);
-            keyToIdMap.put("Graves", 104);
-            keyToIdMap.put("Gwen", 887);
-            keyToIdMap.put("Hecarim", 120);
-            keyToIdMap.put("Heimerdinger", 74);
-            keyToIdMap.put("Illaoi", 420);
-            keyToIdMap.put("Irelia", 39);
-            keyToIdMap.put("Ivern", 427);
-            keyToIdMap.put("Janna", 40);
-            keyToIdMap.put("JarvanIV", 59);
-            keyToIdMap.put("Jax", 24);
-            keyToIdMap.put("Jayce", 126);
-            keyToIdMap.put("Jhin", 202);
-            keyToIdMap.put("Jinx", 222);
-            keyToIdMap.put("Kaisa", 145);
-            keyToIdMap.put("Kalista", 429);
-            keyToIdMap.put("Karma", 43);
-            keyToIdMap.put("Karthus", 30);
-            keyToIdMap.put("Kassadin", 38);
-            keyToIdMap.put("Katarina", 55);
-            keyToIdMap.put("Kayle", 10);
-            keyToIdMap.put("Kayn", 141);
-            keyToIdMap.put("Kennen", 85);
-            keyToIdMap.put("Khazix", 121);
-            keyToIdMap.put("Kindred", 203);
-            keyToIdMap.put("Kled", 240);
-            keyToIdMap.put("KogMaw", 96);
-            keyToIdMap.put("Leblanc", 7);
-            keyToIdMap.put("LeeSin", 64);
-            keyToIdMap.put("Leona", 89);
-            keyToIdMap.put("Lillia", 876);
-            keyToIdMap.put("Lissandra", 127);
-            keyToIdMap.put("Lucian", 236);
-            keyToIdMap.put("Lulu", 117);
-            keyToIdMap.put("Lux", 99);
-            keyToIdMap.put("Malphite", 54);
-            keyToIdMap.put("Malzahar", 90);
-            keyToIdMap.put("Maokai", 57);
-            keyToIdMap.put("MasterYi", 11);
-            keyToIdMap.put("MissFortune", 21);
-            keyToIdMap.put("Mordekaiser", 82);
-            keyToIdMap.put("Morgana", 25);
-            keyToIdMap.put("Nami", 267);
-            keyToIdMap.put("Nasus", 75);
-            keyToIdMap.put("Nautilus", 111);
-            keyToIdMap.put("Neeko", 518);
-            keyToIdMap.put("Nidalee", 76);
-            keyToIdMap.put("Nilah", 895);
-            keyToIdMap.put("Nocturne", 56);
-            keyToIdMap.put("Nunu", 20);
-            keyToIdMap.put("Olaf", 2);
-            keyToIdMap.put("Orianna", 61);
-            keyToIdMap.put("Ornn", 516);
-            keyToIdMap.put("Pantheon", 80);
-            keyToIdMap.put("Poppy", 78);
-            keyToIdMap.put("Pyke", 555);
-            keyToIdMap.put("Qiyana", 246);
-            keyToIdMap.put("Quinn", 133);
-            keyToIdMap.put("Rakan", 497);
-            keyToIdMap.put("Rammus", 33);
-            keyToIdMap.put("RekSai", 421);
-            keyToIdMap.put("Rell", 526);
-            keyToIdMap.put("Renata", 888);
-            keyToIdMap.put("Renekton", 58);
-            keyToIdMap.put("Rengar", 107);
-            keyToIdMap.put("Riven", 92);
-            keyToIdMap.put("Rumble", 68);
-            keyToIdMap.put("Ryze", 13);
-            keyToIdMap.put("Samira", 360);
-            keyToIdMap.put("Sejuani", 113);
-            keyToIdMap.put("Senna", 235);
-            keyToIdMap.put("Seraphine", 147);
-            keyToIdMap.put("Sett", 875);
-            keyToIdMap.put("Shaco", 35);
-            keyToIdMap.put("Shen", 98);
-            keyToIdMap.put("Shyvana", 102);
-            keyToIdMap.put("Singed", 27);
-            keyToIdMap.put("Sion", 14);
-            keyToIdMap.put("Sivir", 15);
-            keyToIdMap.put("Skarner", 72);
-            keyToIdMap.put("Sona", 37);
-            keyToIdMap.put("Soraka", 16);
-            keyToIdMap.put("Swain", 50);
-            keyToIdMap.put("Sylas", 517);
-            keyToIdMap.put("Syndra", 134);
-            keyToIdMap.put("TahmKench", 223);
-            keyToIdMap.put("Taliyah", 163);
-            keyToIdMap.put("Talon", 91);
-            keyToIdMap.put("Taric", 44);
-            keyToIdMap.put("Teemo", 17);
-            keyToIdMap.put("Thresh", 412);
-            keyToIdMap.put("Tristana", 18);
-            keyToIdMap.put("Trundle", 48);
-            keyToIdMap.put("Tryndamere", 23);
-            keyToIdMap.put("TwistedFate", 4);
-            keyToIdMap.put("Twitch", 29);
-            keyToIdMap.put("Udyr", 77);
-            keyToIdMap.put("Urgot", 6);
-            keyToIdMap.put("Varus", 110);
-            keyToIdMap.put("Vayne", 67);
-            keyToIdMap.put("Veigar", 45);
-            keyToIdMap.put("Velkoz", 161);
-            keyToIdMap.put("Vex", 711);
-            keyToIdMap.put("Vi", 254);
-            keyToIdMap.put("Viego", 234);
-            keyToIdMap.put("Viktor", 112);
-            keyToIdMap.put("Vladimir", 8);
-            keyToIdMap.put("Volibear", 106);
-            keyToIdMap.put("Warwick", 19);
-            keyToIdMap.put("Wukong", 62);
-            keyToIdMap.put("Xayah", 498);
-            keyToIdMap.put("Xerath", 101);
-            keyToIdMap.put("XinZhao", 5);
-            keyToIdMap.put("Yasuo", 157);
-            keyToIdMap.put("Yone", 777);
-            keyToIdMap.put("Yorick", 83);
-            keyToIdMap.put("Yuumi", 350);
-            keyToIdMap.put("Zac", 154);
-            keyToIdMap.put("Zed", 238);
-            keyToIdMap.put("Zeri", 221);
-            keyToIdMap.put("Ziggs", 115);
-            keyToIdMap.put("Zilean", 26);
-            keyToIdMap.put("Zoe", 142);
-            keyToIdMap.put("Zyra", 143);
-            
-            return keyToIdMap;
-        }
-        
         @Override
         public String toString() {
             return nameCn + " (" + nameEn + ")";
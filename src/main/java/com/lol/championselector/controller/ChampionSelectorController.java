@@ -1,5 +1,6 @@
 package com.lol.championselector.controller;
 
+import com.lol.championselector.manager.AvatarAtlas;
 import com.lol.championselector.manager.AvatarManager;
 import com.lol.championselector.manager.ChampionDataManager;
 import com.lol.championselector.manager.ResponsiveLayoutManager;
@@ -70,7 +71,7 @@ public class ChampionSelectorController implements Initializable {
     private final ResourceManager resourceManager = ResourceManager.getInstance();
     private int currentColumns;
     private Champion selectedChampion;
-    private List<Button> championButtons;
+    private VirtualTileGrid<Champion> tileGrid;
     
     // 选择模式相关
     private boolean selectionMode = false;
@@ -85,13 +86,13 @@ public class ChampionSelectorController implements Initializable {
         this.skillsManager = new SkillsManager();
         this.layoutManager = new ResponsiveLayoutManager();
         this.languageManager = LanguageManager.getInstance();
-        this.championButtons = new ArrayList<>();
     }
     
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         logger.info("Initializing ChampionSelectorController");
         
+        setupTileGrid();
         setupSearchDebounce();
         setupLoadingIndicator();
         setupFilterButtons();
@@ -146,6 +147,15 @@ public class ChampionSelectorController implements Initializable {
         }
     }
     
+    private void setupTileGrid() {
+        tileGrid = new VirtualTileGrid<>(championScrollPane, championGrid, BUTTON_SIZE,
+                                         this::createChampionCell, this::bindChampionCell);
+        
+        // 可见头像优先解码
+        tileGrid.setOnVisibleItemsChanged(visible -> avatarManager.setVisibleChampions(
+            visible.stream().map(Champion::getKey).collect(java.util.stream.Collectors.toList())));
+    }
+    
     private void setupSearchDebounce() {
         searchTimeline = new Timeline();
         resourceManager.registerTimeline(searchTimeline);
@@ -210,14 +220,6 @@ public class ChampionSelectorController implements Initializable {
     }
     
     private void createChampionButtons(List<Champion> champions) {
-        championButtons.clear();
-        championGrid.getChildren().clear();
-        
-        for (Champion champion : champions) {
-            Button championButton = createChampionButton(champion);
-            championButtons.add(championButton);
-        }
-        
         // 计算当前窗口的最佳列数
         Scene scene = championGrid.getScene();
         if (scene != null && scene.getWidth() > 0 && !Double.isNaN(scene.getWidth())) {
@@ -232,47 +234,63 @@ public class ChampionSelectorController implements Initializable {
                         defaultDialogWidth, currentColumns);
         }
         
-        layoutManager.rearrangeChampionGrid(championGrid, 
-                                          new ArrayList<>(championButtons), 
-                                          currentColumns);
+        // 只有可见行会创建按钮并加载头像
+        tileGrid.setColumns(currentColumns);
+        tileGrid.setItems(champions);
     }
     
-    private Button createChampionButton(Champion champion) {
+    private Button createChampionCell() {
         Button button = new Button();
         button.setPrefSize(BUTTON_SIZE, BUTTON_SIZE);
         button.setMinSize(BUTTON_SIZE, BUTTON_SIZE);
         button.setMaxSize(BUTTON_SIZE, BUTTON_SIZE);
-        
-        // 设置样式
         button.getStyleClass().add("champion-button");
-        button.setStyle("-fx-background-color: #2c2c2c; -fx-border-color: #463714; -fx-border-width: 2px;");
-        
-        // 设置默认图标
-        ImageView defaultImageView = new ImageView(avatarManager.getDefaultImage());
-        defaultImageView.setFitWidth(90);
-        defaultImageView.setFitHeight(90);
-        defaultImageView.setPreserveRatio(true);
-        button.setGraphic(defaultImageView);
         
-        // 异步加载头像
-        loadAvatarAsync(champion, button);
-        
-        // 设置点击事件
-        button.setOnAction(e -> selectChampion(champion, button));
+        ImageView imageView = new ImageView(avatarManager.getDefaultImage());
+        imageView.setFitWidth(AvatarAtlas.GRID_SIZE);
+        imageView.setFitHeight(AvatarAtlas.GRID_SIZE);
+        imageView.setPreserveRatio(true);
+        button.setGraphic(imageView);
         
-        // 设置提示文本
+        // 按钮会被复用，点击时读取当前绑定的英雄
+        button.setOnAction(e -> {
+            if (button.getUserData() instanceof Champion champion) {
+                selectChampion(champion, button);
+            }
+        });
+        return button;
+    }
+    
+    /**
+     * 把复用的按钮绑定到英雄：样式、提示文本和头像
+     */
+    private void bindChampionCell(Button button, Champion champion) {
+        applyChampionCellStyle(button, champion);
         updateChampionTooltip(button, champion);
         
-        // 设置用户数据
-        button.setUserData(champion);
-        
-        return button;
+        if (button.getGraphic() instanceof ImageView imageView) {
+            imageView.setImage(avatarManager.getDefaultImage());
+        }
+        loadAvatarAsync(champion, button);
+    }
+    
+    private void applyChampionCellStyle(Button button, Champion champion) {
+        if (champion == selectedChampion) {
+            if (!button.getStyleClass().contains("selected")) {
+                button.getStyleClass().add("selected");
+            }
+            button.setStyle("-fx-background-color: #c89b3c; -fx-border-color: #463714; -fx-border-width: 2px;");
+        } else {
+            button.getStyleClass().remove("selected");
+            button.setStyle("-fx-background-color: #2c2c2c; -fx-border-color: #463714; -fx-border-width: 2px;");
+        }
     }
     
     private void loadAvatarAsync(Champion champion, Button button) {
-        avatarManager.getAvatarAsync(champion.getKey())
+        avatarManager.getAvatarAsync(champion.getKey(), AvatarAtlas.GRID_SIZE)
             .thenAccept(image -> Platform.runLater(() -> {
-                if (button.getGraphic() instanceof ImageView imageView) {
+                // 加载期间按钮可能已被复用到别的英雄
+                if (button.getUserData() == champion && button.getGraphic() instanceof ImageView imageView) {
                     imageView.setImage(image);
                 }
             }))
@@ -283,15 +301,15 @@ public class ChampionSelectorController implements Initializable {
     }
     
     private void selectChampion(Champion champion, Button button) {
-        // 清除之前选中的按钮样式
-        championButtons.forEach(btn -> btn.getStyleClass().remove("selected"));
-        
-        // 添加选中样式
-        button.getStyleClass().add("selected");
-        button.setStyle("-fx-background-color: #c89b3c; -fx-border-color: #463714; -fx-border-width: 2px;");
-        
         this.selectedChampion = champion;
         
+        // 更新已创建按钮的选中样式
+        for (Button cell : tileGrid.getActiveCells()) {
+            if (cell.getUserData() instanceof Champion cellChampion) {
+                applyChampionCellStyle(cell, cellChampion);
+            }
+        }
+        
         // 如果是选择模式，执行回调并关闭窗口
         if (selectionMode && onChampionSelected != null) {
             onChampionSelected.onChampionSelected(champion);
@@ -483,9 +501,7 @@ public class ChampionSelectorController implements Initializable {
         
         if (layoutManager.shouldRearrange(currentColumns, newColumns)) {
             currentColumns = newColumns;
-            layoutManager.rearrangeChampionGrid(championGrid, 
-                                              new ArrayList<>(championButtons), 
-                                              currentColumns);
+            tileGrid.setColumns(currentColumns);
             updateLayoutInfo();
             
             logger.debug("Layout rearranged to {} columns for window width {}", 
@@ -497,7 +513,7 @@ public class ChampionSelectorController implements Initializable {
         if (layoutInfoLabel != null) {
             Scene scene = championGrid.getScene();
             double windowWidth = scene != null ? scene.getWidth() : 800;
-            String info = layoutManager.getLayoutInfo(windowWidth, currentColumns, championButtons.size());
+            String info = layoutManager.getLayoutInfo(windowWidth, currentColumns, tileGrid.getItems().size());
             layoutInfoLabel.setText(info);
         }
     }
@@ -538,7 +554,7 @@ public class ChampionSelectorController implements Initializable {
     }
     
     public boolean isInitialized() {
-        return championButtons != null && !championButtons.isEmpty() && championGrid != null;
+        return tileGrid != null && !tileGrid.getItems().isEmpty() && championGrid != null;
     }
     
     // 类型过滤事件处理方法
@@ -669,7 +685,10 @@ public class ChampionSelectorController implements Initializable {
     }
     
     private void updateAllChampionTooltips() {
-        for (Button button : championButtons) {
+        if (tileGrid == null) {
+            return;
+        }
+        for (Button button : tileGrid.getActiveCells()) {
             Champion champion = (Champion) button.getUserData();
             if (champion != null) {
                 updateChampionTooltip(button, champion);
@@ -1,36 +1,58 @@
 package com.lol.championselector.controller;
 
 import com.lol.championselector.manager.LanguageManager;
-import javafx.application.Platform;
+import com.lol.championselector.manager.LogRingBuffer;
+import com.lol.championselector.model.LogEntry;
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
+import javafx.scene.layout.Region;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ResourceBundle;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import ch.qos.logback.classic.Level;
 
 /**
  * 日志查看器弹窗控制器
  * 提供日志查看、搜索、筛选、导出等功能
+ * 日志保存在固定容量的环形缓冲区中，由虚拟化的ListView显示；
+ * 任意线程追加的记录先进入待处理队列，每帧合并处理一次
  */
 public class LogViewerDialogController implements Initializable {
     
     private static final org.slf4j.Logger logger = LoggerFactory.getLogger(LogViewerDialogController.class);
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
+    // 缓冲区容量，超出后淘汰最旧的记录
+    static final int LOG_CAPACITY = 10_000;
+    private static final Pattern STATUS_LINE = Pattern.compile("^\\[(\\d{2}:\\d{2}:\\d{2})\\] (.*)$");
+    private static final String[] LEVEL_STYLES = {"log-debug", "log-warn", "log-error"};
     
     // UI Components
     @FXML private Label dialogTitleLabel;
@@ -45,8 +67,7 @@ public class LogViewerDialogController implements Initializable {
     @FXML private Button copyButton;
     @FXML private Button exportButton;
     @FXML private Button clearLogButton;
-    @FXML private ScrollPane logScrollPane;
-    @FXML private TextArea logTextArea;
+    @FXML private ListView<LogEntry> logListView;
     @FXML private CheckBox autoScrollCheckBox;
     @FXML private CheckBox wordWrapCheckBox;
     @FXML private Label statusLabel;
@@ -54,14 +75,23 @@ public class LogViewerDialogController implements Initializable {
     @FXML private Button okButton;
     
     // Data
-    private final ConcurrentLinkedQueue<String> logBuffer = new ConcurrentLinkedQueue<>();
-    private String allLogContent = "";
-    private String filteredLogContent = "";
-    private Pattern searchPattern = null;
+    private final LogRingBuffer logBuffer = new LogRingBuffer(LOG_CAPACITY);
+    private final ObservableList<LogEntry> visibleEntries = FXCollections.observableArrayList();
+    private final ConcurrentLinkedQueue<LogEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AnimationTimer flushTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flushPendingEntries();
+        }
+    };
+    private String searchText = "";
     private String currentLevelFilter = "All";
+    private PauseTransition statusReset;
     
     // External reference
     private TextArea externalLogTextArea;
+    private Runnable onLogsCleared;
     private LanguageManager languageManager;
     
     @Override
@@ -69,29 +99,34 @@ public class LogViewerDialogController implements Initializable {
         setupComponents();
         setupEventHandlers();
         updateLogStats();
-        optimizeScrollSpeed();
         initializeRuntimeLogLevel();
+        flushTimer.start();
     }
     
     /**
-     * 设置外部日志文本区域引用
+     * 设置外部日志文本区域引用，清空日志时一并清空
      */
     public void setExternalLogTextArea(TextArea externalLogTextArea) {
         this.externalLogTextArea = externalLogTextArea;
-        if (externalLogTextArea != null) {
-            // 同步现有日志内容
-            Platform.runLater(() -> {
-                String existingContent = externalLogTextArea.getText();
-                if (!existingContent.isEmpty()) {
-                    logTextArea.setText(existingContent);
-                    allLogContent = existingContent;
-                    updateLogStats();
-                    scrollToBottom();
-                }
-            });
+    }
+    
+    /**
+     * 载入打开弹窗之前的日志记录，需在界面线程调用
+     */
+    public void loadHistory(List<LogEntry> history) {
+        if (!history.isEmpty()) {
+            logBuffer.append(history);
+            applyFilters();
         }
     }
     
+    /**
+     * 用户清空日志后的回调（例如清空主界面保留的历史）
+     */
+    public void setOnLogsCleared(Runnable onLogsCleared) {
+        this.onLogsCleared = onLogsCleared;
+    }
+    
     /**
      * 设置语言管理器
      */
@@ -101,28 +136,67 @@ public class LogViewerDialogController implements Initializable {
     }
     
     /**
-     * 添加日志消息
+     * 添加日志消息，可在任意线程调用
      */
     public void appendLogMessage(String message) {
-        Platform.runLater(() -> {
-            String timestamp = LocalDateTime.now().format(TIME_FORMATTER);
-            String formattedMessage = String.format("[%s] %s\n", timestamp, message);
-            
-            logBuffer.offer(formattedMessage);
-            allLogContent += formattedMessage;
-            
-            applyFilters();
-            updateLogStats();
-            
-            if (autoScrollCheckBox.isSelected()) {
-                scrollToBottom();
-            }
-        });
+        appendLogEntry(new LogEntry(System.currentTimeMillis(), "INFO", null, message));
+    }
+    
+    /**
+     * 添加结构化日志记录，可在任意线程调用；下一帧统一显示
+     */
+    public void appendLogEntry(LogEntry entry) {
+        pendingEntries.offer(entry);
+        // 弹窗不刷新时（如最小化）待处理队列也不会超过缓冲区容量
+        if (pendingCount.incrementAndGet() > LOG_CAPACITY && pendingEntries.poll() != null) {
+            pendingCount.decrementAndGet();
+        }
+    }
+    
+    /**
+     * 停止逐帧刷新，弹窗关闭后调用
+     */
+    public void dispose() {
+        flushTimer.stop();
+        if (statusReset != null) {
+            statusReset.stop();
+        }
+        pendingEntries.clear();
+        pendingCount.set(0);
+    }
+    
+    private void flushPendingEntries() {
+        if (pendingCount.get() == 0) {
+            return;
+        }
+        
+        List<LogEntry> batch = new ArrayList<>();
+        LogEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        LogRingBuffer.Delta delta = logBuffer.append(batch);
+        if (delta.getRemovedFromHead() > 0) {
+            visibleEntries.remove(0, Math.min(delta.getRemovedFromHead(), visibleEntries.size()));
+        }
+        visibleEntries.addAll(delta.getAppended());
+        updateLogStats();
+        
+        if (!delta.getAppended().isEmpty() && autoScrollCheckBox.isSelected()) {
+            scrollToBottom();
+        }
     }
     
     private void setupComponents() {
-        // 设置文本区域属性
-        logTextArea.setEditable(false);
+        // 设置列表属性
+        logListView.setItems(visibleEntries);
+        logListView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        logListView.setCellFactory(listView -> new LogEntryCell());
         wordWrapCheckBox.setSelected(false);
         autoScrollCheckBox.setSelected(true);
         
@@ -145,48 +219,40 @@ public class LogViewerDialogController implements Initializable {
     
     private void setupEventHandlers() {
         // 监听自动换行复选框
-        wordWrapCheckBox.selectedProperty().addListener((obs, oldVal, newVal) -> {
-            logTextArea.setWrapText(newVal);
-        });
+        wordWrapCheckBox.selectedProperty().addListener((obs, oldVal, newVal) -> logListView.refresh());
         
         // 监听搜索文本变化
         searchTextField.textProperty().addListener((obs, oldText, newText) -> {
-            if (newText.trim().isEmpty()) {
-                searchPattern = null;
+            if (newText.trim().isEmpty() && !searchText.isEmpty()) {
+                searchText = "";
                 applyFilters();
             }
         });
     }
     
-    private void optimizeScrollSpeed() {
-        if (logScrollPane != null) {
-            logger.debug("Setting up scroll speed optimization for log viewer");
-            
-            // Set faster scroll speed with fixed pixel increment
-            logScrollPane.setOnScroll(event -> {
-                if (event.getDeltaY() != 0) {
-                    // Use fixed pixel increment for more predictable scrolling
-                    double scrollPixels = event.getDeltaY() > 0 ? -120 : 120; // 120 pixels per scroll
-                    double contentHeight = logScrollPane.getContent().getBoundsInLocal().getHeight();
-                    double viewportHeight = logScrollPane.getViewportBounds().getHeight();
-                    
-                    if (contentHeight > viewportHeight) {
-                        double currentVvalue = logScrollPane.getVvalue();
-                        double scrollableHeight = contentHeight - viewportHeight;
-                        double scrollAmount = scrollPixels / scrollableHeight;
-                        double newVvalue = currentVvalue + scrollAmount;
-                        
-                        // Clamp to valid range [0, 1]
-                        newVvalue = Math.max(0, Math.min(1, newVvalue));
-                        
-                        logScrollPane.setVvalue(newVvalue);
-                    }
-                    
-                    event.consume();
-                }
-            });
+    /**
+     * 按级别着色，自动换行时宽度跟随列表
+     */
+    private final class LogEntryCell extends ListCell<LogEntry> {
+        @Override
+        protected void updateItem(LogEntry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            getStyleClass().removeAll(LEVEL_STYLES);
+            if (empty || entry == null) {
+                setText(null);
+                return;
+            }
             
-            logger.debug("Scroll speed optimization configured for log viewer");
+            setText(entry.format());
+            boolean wrap = wordWrapCheckBox.isSelected();
+            setWrapText(wrap);
+            setPrefWidth(wrap ? Math.max(0, logListView.getWidth() - 24) : Region.USE_COMPUTED_SIZE);
+            switch (entry.getLevel()) {
+                case "DEBUG", "TRACE" -> getStyleClass().add("log-debug");
+                case "WARN" -> getStyleClass().add("log-warn");
+                case "ERROR" -> getStyleClass().add("log-error");
+                default -> { }
+            }
         }
     }
     
@@ -198,27 +264,14 @@ public class LogViewerDialogController implements Initializable {
     
     @FXML
     private void onSearchClicked() {
-        String searchText = searchTextField.getText().trim();
-        if (searchText.isEmpty()) {
-            searchPattern = null;
-        } else {
-            try {
-                searchPattern = Pattern.compile(Pattern.quote(searchText), Pattern.CASE_INSENSITIVE);
-            } catch (Exception e) {
-                logger.warn("Invalid search pattern: {}", searchText, e);
-                showAlert(
-                    languageManager != null ? languageManager.getString("dialog.logViewer.searchError") : "搜索错误",
-                    languageManager != null ? languageManager.getString("dialog.logViewer.searchErrorMessage") : "无效的搜索内容");
-                return;
-            }
-        }
+        searchText = searchTextField.getText().trim();
         applyFilters();
     }
     
     @FXML
     private void onClearSearchClicked() {
         searchTextField.clear();
-        searchPattern = null;
+        searchText = "";
         applyFilters();
     }
     
@@ -233,26 +286,16 @@ public class LogViewerDialogController implements Initializable {
     
     @FXML
     private void onCopyClicked() {
-        String selectedText = logTextArea.getSelectedText();
-        if (selectedText.isEmpty()) {
-            selectedText = logTextArea.getText();
-        }
+        List<LogEntry> selected = logListView.getSelectionModel().getSelectedItems();
+        String text = joinLines(selected.isEmpty() ? visibleEntries : selected);
         
-        if (!selectedText.isEmpty()) {
+        if (!text.isEmpty()) {
             ClipboardContent content = new ClipboardContent();
-            content.putString(selectedText);
+            content.putString(text);
             Clipboard.getSystemClipboard().setContent(content);
             
-            statusLabel.setText(languageManager != null ? languageManager.getString("dialog.logViewer.copiedToClipboard") : "已复制到剪贴板");
             // 3秒后恢复状态文本
-            Platform.runLater(() -> {
-                try {
-                    Thread.sleep(3000);
-                    Platform.runLater(() -> statusLabel.setText(languageManager != null ? languageManager.getString("dialog.logViewer.realTimeDisplay") : "实时显示"));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            });
+            showTransientStatus(languageManager != null ? languageManager.getString("dialog.logViewer.copiedToClipboard") : "已复制到剪贴板", 3);
         }
     }
     
@@ -269,19 +312,13 @@ public class LogViewerDialogController implements Initializable {
         File file = fileChooser.showSaveDialog(stage);
         
         if (file != null) {
-            try (FileWriter writer = new FileWriter(file)) {
-                writer.write(filteredLogContent.isEmpty() ? allLogContent : filteredLogContent);
-                statusLabel.setText((languageManager != null ? languageManager.getString("dialog.logViewer.logExported") : "日志已导出至: ") + file.getName());
-                
+            try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                for (LogEntry entry : visibleEntries) {
+                    writer.write(entry.format());
+                    writer.newLine();
+                }
                 // 3秒后恢复状态文本
-                Platform.runLater(() -> {
-                    try {
-                        Thread.sleep(3000);
-                        Platform.runLater(() -> statusLabel.setText(languageManager != null ? languageManager.getString("dialog.logViewer.realTimeDisplay") : "实时显示"));
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                });
+                showTransientStatus((languageManager != null ? languageManager.getString("dialog.logViewer.logExported") : "日志已导出至: ") + file.getName(), 3);
             } catch (IOException e) {
                 logger.error("Failed to export log", e);
                 showAlert(
@@ -319,25 +356,10 @@ public class LogViewerDialogController implements Initializable {
     
     @FXML
     private void onRefreshClicked() {
-        if (externalLogTextArea != null) {
-            String externalContent = externalLogTextArea.getText();
-            if (!externalContent.equals(allLogContent)) {
-                allLogContent = externalContent;
-                applyFilters();
-                updateLogStats();
-                statusLabel.setText(languageManager != null ? languageManager.getString("dialog.logViewer.refreshed") : "已刷新");
-                
-                // 2秒后恢复状态文本
-                Platform.runLater(() -> {
-                    try {
-                        Thread.sleep(2000);
-                        Platform.runLater(() -> statusLabel.setText(languageManager != null ? languageManager.getString("dialog.logViewer.realTimeDisplay") : "实时显示"));
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                });
-            }
-        }
+        flushPendingEntries();
+        applyFilters();
+        // 2秒后恢复状态文本
+        showTransientStatus(languageManager != null ? languageManager.getString("dialog.logViewer.refreshed") : "已刷新", 2);
     }
     
     @FXML
@@ -353,51 +375,35 @@ public class LogViewerDialogController implements Initializable {
             String message = languageManager != null ? 
                 languageManager.getString("dialog.logViewer.logLevelChanged") + " " + selectedLevel :
                 "日志级别已设置为: " + selectedLevel;
-            statusLabel.setText(message);
             
             // 3秒后恢复状态文本
-            Platform.runLater(() -> {
-                try {
-                    Thread.sleep(3000);
-                    Platform.runLater(() -> statusLabel.setText(languageManager != null ? 
-                        languageManager.getString("dialog.logViewer.realTimeDisplay") : "实时显示"));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            });
+            showTransientStatus(message, 3);
+        }
+    }
+    
+    /**
+     * 显示一段时间后恢复为"实时显示"，不占用界面线程
+     */
+    private void showTransientStatus(String message, double seconds) {
+        statusLabel.setText(message);
+        if (statusReset != null) {
+            statusReset.stop();
         }
+        statusReset = new PauseTransition(Duration.seconds(seconds));
+        statusReset.setOnFinished(e -> statusLabel.setText(languageManager != null ? 
+            languageManager.getString("dialog.logViewer.realTimeDisplay") : "实时显示"));
+        statusReset.play();
     }
     
+    /**
+     * 按当前级别和搜索条件重建可见列表；新追加的记录由flushPendingEntries增量筛选
+     */
     private void applyFilters() {
-        String content = allLogContent;
-        
-        // 应用日志级别过滤
         String allLevelsText = languageManager != null ? languageManager.getString("dialog.logViewer.allLevels") : "全部";
-        if (!allLevelsText.equals(currentLevelFilter)) {
-            StringBuilder filtered = new StringBuilder();
-            String[] lines = content.split("\n");
-            for (String line : lines) {
-                if (line.contains(currentLevelFilter)) {
-                    filtered.append(line).append("\n");
-                }
-            }
-            content = filtered.toString();
-        }
-        
-        // 应用搜索过滤
-        if (searchPattern != null) {
-            StringBuilder filtered = new StringBuilder();
-            String[] lines = content.split("\n");
-            for (String line : lines) {
-                if (searchPattern.matcher(line).find()) {
-                    filtered.append(line).append("\n");
-                }
-            }
-            content = filtered.toString();
-        }
+        String level = allLevelsText.equals(currentLevelFilter) || "All".equals(currentLevelFilter) ? null : currentLevelFilter;
         
-        filteredLogContent = content;
-        logTextArea.setText(content);
+        visibleEntries.setAll(logBuffer.setFilter(LogRingBuffer.filterOf(level, searchText)));
+        updateLogStats();
         
         if (autoScrollCheckBox.isSelected()) {
             scrollToBottom();
@@ -405,40 +411,71 @@ public class LogViewerDialogController implements Initializable {
     }
     
     private void clearAllLogs() {
+        pendingEntries.clear();
+        pendingCount.set(0);
         logBuffer.clear();
-        allLogContent = "";
-        filteredLogContent = "";
-        logTextArea.clear();
+        visibleEntries.clear();
         
         // 同时清空外部日志区域
         if (externalLogTextArea != null) {
             externalLogTextArea.clear();
         }
+        if (onLogsCleared != null) {
+            onLogsCleared.run();
+        }
         
         updateLogStats();
         statusLabel.setText(languageManager != null ? languageManager.getString("dialog.logViewer.logCleared") : "日志已清空");
     }
     
     private void scrollToBottom() {
-        Platform.runLater(() -> {
-            logTextArea.setScrollTop(Double.MAX_VALUE);
-            logScrollPane.setVvalue(1.0);
-        });
+        if (!visibleEntries.isEmpty()) {
+            logListView.scrollTo(visibleEntries.size() - 1);
+        }
     }
     
     private void updateLogStats() {
-        String content = filteredLogContent.isEmpty() ? allLogContent : filteredLogContent;
-        int lineCount = content.isEmpty() ? 0 : content.split("\n").length;
+        int shown = logBuffer.getVisibleSize();
+        int total = logBuffer.size();
         
-        String allLevelsText = languageManager != null ? languageManager.getString("dialog.logViewer.allLevels") : "全部";
-        if (searchPattern != null || !allLevelsText.equals(currentLevelFilter)) {
-            int totalLines = allLogContent.isEmpty() ? 0 : allLogContent.split("\n").length;
+        if (shown != total) {
             String displayFormat = languageManager != null ? languageManager.getString("dialog.logViewer.displayEntries") : "显示 %d 条，共 %d 条日志记录";
-            logStatsLabel.setText(String.format(displayFormat, lineCount, totalLines));
+            logStatsLabel.setText(String.format(displayFormat, shown, total));
         } else {
             String totalFormat = languageManager != null ? languageManager.getString("dialog.logViewer.totalEntries") : "共 %d 条日志记录";
-            logStatsLabel.setText(String.format(totalFormat, lineCount));
+            logStatsLabel.setText(String.format(totalFormat, total));
+        }
+    }
+    
+    private static String joinLines(List<LogEntry> entries) {
+        StringBuilder text = new StringBuilder();
+        for (LogEntry entry : entries) {
+            text.append(entry.format()).append('\n');
+        }
+        return text.toString();
+    }
+    
+    /**
+     * 把主界面状态区的"[HH:mm:ss] 消息"文本转换为日志记录
+     */
+    public static List<LogEntry> parseStatusLines(String content) {
+        List<LogEntry> entries = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        for (String line : content.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Matcher matcher = STATUS_LINE.matcher(line);
+            if (matcher.matches()) {
+                long timestamp = today.atTime(LocalTime.parse(matcher.group(1)))
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                entries.add(new LogEntry(timestamp, "INFO", null, matcher.group(2)));
+            } else {
+                entries.add(new LogEntry(now, "INFO", null, line));
+            }
         }
+        return entries;
     }
     
     private void updateLanguage() {
@@ -23,6 +23,7 @@ import java.util.ResourceBundle;
 
 public class SkillDetailsController implements Initializable {
     private static final Logger logger = LoggerFactory.getLogger(SkillDetailsController.class);
+    private static final int SKILL_ICON_SIZE = 32;
     
     @FXML private Label championNameLabel;
     @FXML private VBox skillsContainer;
@@ -144,8 +145,8 @@ public class SkillDetailsController implements Initializable {
         
         // Skill icon
         ImageView skillIcon = new ImageView();
-        skillIcon.setFitWidth(32);
-        skillIcon.setFitHeight(32);
+        skillIcon.setFitWidth(SKILL_ICON_SIZE);
+        skillIcon.setFitHeight(SKILL_ICON_SIZE);
         skillIcon.setPreserveRatio(true);
         skillIcon.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.3), 3, 0, 0, 1);");
         
@@ -270,14 +271,14 @@ public class SkillDetailsController implements Initializable {
         
         if (iconFileName != null) {
             if (isPassive) {
-                skillIconManager.getPassiveIconAsync(iconFileName, championKey)
+                skillIconManager.getPassiveIconAsync(iconFileName, championKey, SKILL_ICON_SIZE)
                     .thenAccept(image -> Platform.runLater(() -> imageView.setImage(image)))
                     .exceptionally(throwable -> {
                         logger.warn("Failed to load passive icon for {}: {}", skill.getName(), throwable.getMessage());
                         return null;
                     });
             } else {
-                skillIconManager.getSkillIconAsync(iconFileName, championKey)
+                skillIconManager.getSkillIconAsync(iconFileName, championKey, SKILL_ICON_SIZE)
                     .thenAccept(image -> Platform.runLater(() -> imageView.setImage(image)))
                     .exceptionally(throwable -> {
                         logger.warn("Failed to load skill icon for {}: {}", skill.getName(), throwable.getMessage());
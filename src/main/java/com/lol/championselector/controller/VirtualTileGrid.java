@@ -0,0 +1,230 @@
+package com.lol.championselector.controller;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 虚拟化的网格：只为可见行（加少量预留行）创建并绑定按钮，滚动和过滤时复用已有按钮。
+ * 未显示的行用GridPane的上下内边距占位，保持滚动条高度与完整列表一致。
+ * 行高取自实际布局后的按钮高度，按钮尚未布局时使用构造时给出的估计值
+ */
+public class VirtualTileGrid<T> {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualTileGrid.class);
+
+    private static final int OVERSCAN_ROWS = 2;
+    private static final double FALLBACK_VIEWPORT_HEIGHT = 600;
+
+    private final ScrollPane scrollPane;
+    private final GridPane grid;
+    private final double estimatedCellHeight;
+    private final Insets baseInsets;
+    private final Supplier<Button> cellFactory;
+    private final BiConsumer<Button, T> binder;
+    private final List<Button> activeCells = new ArrayList<>();
+    private final Deque<Button> spareCells = new ArrayDeque<>();
+
+    private List<T> items = List.of();
+    private int columns = 1;
+    private int firstRow = -1;
+    private int rowCount = -1;
+    private double measuredCellHeight = -1;
+    private Consumer<List<T>> onVisibleItemsChanged;
+
+    /**
+     * @param estimatedCellHeight 按钮布局前用于计算行高的估计值
+     * @param cellFactory         创建新的空按钮
+     * @param binder              把按钮绑定到某个条目（按钮被复用时会再次调用）
+     */
+    public VirtualTileGrid(ScrollPane scrollPane, GridPane grid, double estimatedCellHeight,
+                           Supplier<Button> cellFactory, BiConsumer<Button, T> binder) {
+        this.scrollPane = scrollPane;
+        this.grid = grid;
+        this.estimatedCellHeight = estimatedCellHeight;
+        this.baseInsets = grid.getPadding() != null ? grid.getPadding() : Insets.EMPTY;
+        this.cellFactory = cellFactory;
+        this.binder = binder;
+
+        scrollPane.vvalueProperty().addListener((obs, oldVal, newVal) -> refresh(false));
+        scrollPane.viewportBoundsProperty().addListener((obs, oldVal, newVal) -> refresh(false));
+    }
+
+    /**
+     * 替换显示的条目（搜索/过滤），滚动回顶部
+     */
+    public void setItems(List<T> newItems) {
+        this.items = List.copyOf(newItems);
+        scrollPane.setVvalue(0);
+        refresh(true);
+    }
+
+    public void setColumns(int newColumns) {
+        if (newColumns <= 0 || newColumns == columns) {
+            return;
+        }
+        this.columns = newColumns;
+
+        grid.getColumnConstraints().clear();
+        for (int i = 0; i < newColumns; i++) {
+            ColumnConstraints constraints = new ColumnConstraints();
+            constraints.setHgrow(Priority.ALWAYS);
+            constraints.setPercentWidth(100.0 / newColumns);
+            constraints.setFillWidth(true);
+            grid.getColumnConstraints().add(constraints);
+        }
+        refresh(true);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * 当前已创建并绑定的按钮
+     */
+    public List<Button> getActiveCells() {
+        return Collections.unmodifiableList(activeCells);
+    }
+
+    /**
+     * 当前视口内的条目（不含预留行）
+     */
+    public List<T> getVisibleItems() {
+        int[] range = visibleRows(0);
+        int from = Math.min(items.size(), range[0] * columns);
+        int to = Math.min(items.size(), range[1] * columns);
+        return items.subList(from, to);
+    }
+
+    public void setOnVisibleItemsChanged(Consumer<List<T>> listener) {
+        this.onVisibleItemsChanged = listener;
+    }
+
+    /**
+     * 重新绑定所有已创建的按钮，例如选中项或语言变化后
+     */
+    public void rebind() {
+        for (Button cell : activeCells) {
+            @SuppressWarnings("unchecked")
+            T item = (T) cell.getUserData();
+            if (item != null) {
+                binder.accept(cell, item);
+            }
+        }
+    }
+
+    private void refresh(boolean force) {
+        int[] range = visibleRows(OVERSCAN_ROWS);
+        int newFirstRow = range[0];
+        int newRowCount = range[1] - range[0];
+        if (!force && newFirstRow == firstRow && newRowCount == rowCount) {
+            return;
+        }
+        firstRow = newFirstRow;
+        rowCount = newRowCount;
+
+        int from = Math.min(items.size(), newFirstRow * columns);
+        int to = Math.min(items.size(), (newFirstRow + newRowCount) * columns);
+        int needed = to - from;
+
+        // 多余的按钮回收，不足时优先复用回收的按钮
+        while (activeCells.size() > needed) {
+            Button cell = activeCells.remove(activeCells.size() - 1);
+            cell.setUserData(null);
+            spareCells.push(cell);
+        }
+        while (activeCells.size() < needed) {
+            activeCells.add(spareCells.isEmpty() ? createCell() : spareCells.pop());
+        }
+
+        for (int i = 0; i < needed; i++) {
+            Button cell = activeCells.get(i);
+            T item = items.get(from + i);
+            if (cell.getUserData() != item) {
+                cell.setUserData(item);
+                binder.accept(cell, item);
+            }
+            GridPane.setConstraints(cell, i % columns, i / columns);
+        }
+        grid.getChildren().setAll(activeCells);
+
+        // 用内边距为未创建的行占位
+        int totalRows = (items.size() + columns - 1) / columns;
+        int materializedRows = (needed + columns - 1) / columns;
+        double rowHeight = rowHeight(measuredCellHeight, estimatedCellHeight, grid.getVgap());
+        int rowsBelow = Math.max(0, totalRows - newFirstRow - materializedRows);
+        grid.setPadding(new Insets(baseInsets.getTop() + newFirstRow * rowHeight, baseInsets.getRight(),
+                                   baseInsets.getBottom() + rowsBelow * rowHeight, baseInsets.getLeft()));
+
+        logger.debug("Materialized rows {}-{} of {} ({} cells, {} spare)",
+                     newFirstRow, newFirstRow + materializedRows, totalRows, needed, spareCells.size());
+
+        if (onVisibleItemsChanged != null) {
+            onVisibleItemsChanged.accept(getVisibleItems());
+        }
+    }
+
+    private Button createCell() {
+        Button cell = cellFactory.get();
+        cell.heightProperty().addListener((obs, oldHeight, newHeight) -> onCellHeightChanged(newHeight.doubleValue()));
+        return cell;
+    }
+
+    /**
+     * 按钮布局完成后用实际高度重新计算占位和可见行
+     */
+    private void onCellHeightChanged(double height) {
+        if (height > 0 && Math.abs(height - measuredCellHeight) > 0.5) {
+            measuredCellHeight = height;
+            refresh(true);
+        }
+    }
+
+    static double rowHeight(double measuredCellHeight, double estimatedCellHeight, double vgap) {
+        return (measuredCellHeight > 0 ? measuredCellHeight : estimatedCellHeight) + vgap;
+    }
+
+    /**
+     * 视口覆盖的行区间 [first, end)，两端各多取overscan行
+     */
+    private int[] visibleRows(int overscan) {
+        double viewportHeight = scrollPane.getViewportBounds().getHeight();
+        if (viewportHeight <= 0) {
+            viewportHeight = scrollPane.getPrefHeight() > 0 ? scrollPane.getPrefHeight() : FALLBACK_VIEWPORT_HEIGHT;
+        }
+        return rowRange(items.size(), columns, rowHeight(measuredCellHeight, estimatedCellHeight, grid.getVgap()),
+                        grid.getVgap(),
+                        baseInsets.getTop(), baseInsets.getBottom(), viewportHeight, scrollPane.getVvalue(), overscan);
+    }
+
+    static int[] rowRange(int itemCount, int columns, double rowHeight, double vgap, double paddingTop,
+                          double paddingBottom, double viewportHeight, double vvalue, int overscan) {
+        int totalRows = (itemCount + columns - 1) / columns;
+        double contentHeight = paddingTop + paddingBottom + Math.max(0, totalRows * rowHeight - vgap);
+        double scrollTop = Math.max(0, contentHeight - viewportHeight) * vvalue;
+        int first = (int) Math.floor(Math.max(0, scrollTop - paddingTop) / rowHeight);
+        int last = (int) Math.ceil((scrollTop + viewportHeight - paddingTop) / rowHeight);
+
+        first = Math.max(0, first - overscan);
+        last = Math.min(totalRows, last + overscan);
+        return new int[]{first, Math.max(first, last)};
+    }
+}
@@ -0,0 +1,51 @@
+package com.lol.championselector.lcu;
+
+/**
+ * Typed change in the champion select session, derived by {@link ChampSelectSessionDiffer}
+ */
+public class ChampSelectEvent {
+
+    public enum Type {
+        SESSION_STARTED,
+        PHASE_CHANGED,
+        ACTION_STARTED,
+        ACTION_COMPLETED,
+        CHAMPION_HOVERED,
+        BAN_LOCKED,
+        PICK_LOCKED,
+        POSITION_ASSIGNED
+    }
+
+    private final Type type;
+    private final int actionId;
+    private final int actorCellId;
+    private final String actionType;
+    private final int championId;
+    private final boolean localPlayer;
+    private final String detail;
+
+    public ChampSelectEvent(Type type, int actionId, int actorCellId, String actionType,
+                            int championId, boolean localPlayer, String detail) {
+        this.type = type;
+        this.actionId = actionId;
+        this.actorCellId = actorCellId;
+        this.actionType = actionType;
+        this.championId = championId;
+        this.localPlayer = localPlayer;
+        this.detail = detail;
+    }
+
+    public Type getType() { return type; }
+    public int getActionId() { return actionId; }
+    public int getActorCellId() { return actorCellId; }
+    public String getActionType() { return actionType; }
+    public int getChampionId() { return championId; }
+    public boolean isLocalPlayer() { return localPlayer; }
+    public String getDetail() { return detail; }
+
+    @Override
+    public String toString() {
+        return String.format("ChampSelectEvent{type=%s, action=%d, actor=%d, actionType=%s, champion=%d, local=%s, detail=%s}",
+                             type, actionId, actorCellId, actionType, championId, localPlayer, detail);
+    }
+}
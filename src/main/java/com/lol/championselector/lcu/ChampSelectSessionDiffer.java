@@ -0,0 +1,259 @@
+package com.lol.championselector.lcu;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session delta engine for champion select.
+ * Fingerprints only the semantically relevant parts of a session (actions, bans, picks,
+ * hovers, positions, timer phase) so timer ticks are ignored, and turns real changes
+ * into typed {@link ChampSelectEvent}s. Not thread-safe; callers serialize updates.
+ */
+public class ChampSelectSessionDiffer {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final class ActionState {
+        final int actorCellId;
+        final String type;
+        final int championId;
+        final boolean inProgress;
+        final boolean completed;
+
+        ActionState(int actorCellId, String type, int championId, boolean inProgress, boolean completed) {
+            this.actorCellId = actorCellId;
+            this.type = type;
+            this.championId = championId;
+            this.inProgress = inProgress;
+            this.completed = completed;
+        }
+    }
+
+    private final Map<Integer, ActionState> actionStates = new HashMap<>();
+    private final Map<Integer, Integer> hoverIntents = new HashMap<>();
+    private final Map<Integer, String> assignedPositions = new HashMap<>();
+    private String sessionId;
+    private String timerPhase;
+    private long lastFingerprint;
+    private boolean hasSession = false;
+
+    /**
+     * Apply a session snapshot.
+     *
+     * @return null when nothing relevant changed, otherwise the typed changes (possibly empty,
+     *         e.g. when only the bans summary moved)
+     */
+    public List<ChampSelectEvent> update(JsonNode session) {
+        if (session == null || session.isMissingNode()) {
+            return null;
+        }
+
+        long fingerprint = fingerprint(session);
+        if (hasSession && fingerprint == lastFingerprint) {
+            return null;
+        }
+
+        List<ChampSelectEvent> events = new ArrayList<>();
+        String newSessionId = sessionIdOf(session);
+        if (!hasSession || !newSessionId.equals(sessionId)) {
+            actionStates.clear();
+            hoverIntents.clear();
+            assignedPositions.clear();
+            timerPhase = null;
+            sessionId = newSessionId;
+            events.add(new ChampSelectEvent(ChampSelectEvent.Type.SESSION_STARTED, -1, -1, null, 0, false, newSessionId));
+        }
+
+        hasSession = true;
+        lastFingerprint = fingerprint;
+
+        int localCellId = session.path("localPlayerCellId").asInt(-1);
+        diffTimerPhase(session, events);
+        diffActions(session, localCellId, events);
+        diffTeam(session.path("myTeam"), localCellId, events);
+        return events;
+    }
+
+    public void reset() {
+        actionStates.clear();
+        hoverIntents.clear();
+        assignedPositions.clear();
+        sessionId = null;
+        timerPhase = null;
+        lastFingerprint = 0;
+        hasSession = false;
+    }
+
+    public long getLastFingerprint() {
+        return lastFingerprint;
+    }
+
+    /**
+     * Hash over the fields that drive ban/pick decisions; timer countdowns are excluded
+     */
+    public static long fingerprint(JsonNode session) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, session.path("localPlayerCellId").asInt(-1));
+        hash = mix(hash, session.path("timer").path("phase").asText("").hashCode());
+
+        JsonNode actions = session.path("actions");
+        if (actions.isArray()) {
+            for (JsonNode group : actions) {
+                hash = mix(hash, -1);
+                if (!group.isArray()) {
+                    continue;
+                }
+                for (JsonNode action : group) {
+                    hash = mix(hash, action.path("id").asInt());
+                    hash = mix(hash, action.path("actorCellId").asInt());
+                    hash = mix(hash, action.path("type").asText("").hashCode());
+                    hash = mix(hash, action.path("championId").asInt(0));
+                    hash = mix(hash, action.path("isInProgress").asBoolean(false) ? 1 : 0);
+                    hash = mix(hash, action.path("completed").asBoolean(false) ? 1 : 0);
+                }
+            }
+        }
+
+        JsonNode bans = session.path("bans");
+        if (bans.isArray()) {
+            hash = mixBans(hash, bans);
+        } else if (bans.isObject()) {
+            hash = mixBans(hash, bans.path("myTeamBans"));
+            hash = mixBans(hash, bans.path("theirTeamBans"));
+        }
+
+        hash = mixTeam(hash, session.path("myTeam"));
+        hash = mixTeam(hash, session.path("theirTeam"));
+        return hash;
+    }
+
+    private void diffTimerPhase(JsonNode session, List<ChampSelectEvent> events) {
+        String phase = session.path("timer").path("phase").asText("");
+        if (!phase.equals(timerPhase)) {
+            timerPhase = phase;
+            events.add(new ChampSelectEvent(ChampSelectEvent.Type.PHASE_CHANGED, -1, -1, null, 0, false, phase));
+        }
+    }
+
+    private void diffActions(JsonNode session, int localCellId, List<ChampSelectEvent> events) {
+        JsonNode actions = session.path("actions");
+        if (!actions.isArray()) {
+            return;
+        }
+
+        for (JsonNode group : actions) {
+            if (!group.isArray()) {
+                continue;
+            }
+            for (JsonNode action : group) {
+                int actionId = action.path("id").asInt();
+                ActionState current = new ActionState(
+                    action.path("actorCellId").asInt(),
+                    action.path("type").asText(""),
+                    action.path("championId").asInt(0),
+                    action.path("isInProgress").asBoolean(false),
+                    action.path("completed").asBoolean(false));
+                ActionState previous = actionStates.put(actionId, current);
+                emitActionEvents(actionId, previous, current, current.actorCellId == localCellId, events);
+            }
+        }
+    }
+
+    private void emitActionEvents(int actionId, ActionState previous, ActionState current,
+                                  boolean local, List<ChampSelectEvent> events) {
+        boolean wasInProgress = previous != null && previous.inProgress;
+        boolean wasCompleted = previous != null && previous.completed;
+        int previousChampion = previous != null ? previous.championId : 0;
+
+        if (current.inProgress && !wasInProgress && !current.completed) {
+            events.add(actionEvent(ChampSelectEvent.Type.ACTION_STARTED, actionId, current, local));
+        }
+
+        if (!current.completed && current.championId != 0 && current.championId != previousChampion) {
+            events.add(actionEvent(ChampSelectEvent.Type.CHAMPION_HOVERED, actionId, current, local));
+        }
+
+        if (current.completed && !wasCompleted) {
+            events.add(actionEvent(ChampSelectEvent.Type.ACTION_COMPLETED, actionId, current, local));
+            if (current.championId != 0) {
+                if ("ban".equals(current.type)) {
+                    events.add(actionEvent(ChampSelectEvent.Type.BAN_LOCKED, actionId, current, local));
+                } else if ("pick".equals(current.type)) {
+                    events.add(actionEvent(ChampSelectEvent.Type.PICK_LOCKED, actionId, current, local));
+                }
+            }
+        }
+    }
+
+    private void diffTeam(JsonNode team, int localCellId, List<ChampSelectEvent> events) {
+        if (!team.isArray()) {
+            return;
+        }
+
+        for (JsonNode member : team) {
+            int cellId = member.path("cellId").asInt(-1);
+            if (cellId < 0) {
+                continue;
+            }
+            boolean local = cellId == localCellId;
+
+            int intent = member.path("championPickIntent").asInt(0);
+            Integer previousIntent = hoverIntents.put(cellId, intent);
+            if (intent != 0 && (previousIntent == null || previousIntent != intent)) {
+                events.add(new ChampSelectEvent(ChampSelectEvent.Type.CHAMPION_HOVERED, -1, cellId, "intent", intent, local, null));
+            }
+
+            String position = member.path("assignedPosition").asText("");
+            String previousPosition = assignedPositions.put(cellId, position);
+            if (!position.isEmpty() && !position.equals(previousPosition)) {
+                events.add(new ChampSelectEvent(ChampSelectEvent.Type.POSITION_ASSIGNED, -1, cellId, null, 0, local, position));
+            }
+        }
+    }
+
+    private static ChampSelectEvent actionEvent(ChampSelectEvent.Type type, int actionId, ActionState state, boolean local) {
+        return new ChampSelectEvent(type, actionId, state.actorCellId, state.type, state.championId, local, null);
+    }
+
+    private static String sessionIdOf(JsonNode session) {
+        String gameId = session.path("gameId").asText("");
+        if (!gameId.isEmpty() && !"0".equals(gameId)) {
+            return gameId;
+        }
+        return session.path("chatDetails").path("chatRoomName").asText("");
+    }
+
+    private static long mixBans(long hash, JsonNode bans) {
+        if (!bans.isArray()) {
+            return hash;
+        }
+        hash = mix(hash, -2);
+        for (JsonNode ban : bans) {
+            hash = mix(hash, ban.isObject() ? ban.path("championId").asInt(0) : ban.asInt(0));
+        }
+        return hash;
+    }
+
+    private static long mixTeam(long hash, JsonNode team) {
+        if (!team.isArray()) {
+            return hash;
+        }
+        hash = mix(hash, -3);
+        for (JsonNode member : team) {
+            hash = mix(hash, member.path("cellId").asInt(-1));
+            hash = mix(hash, member.path("championId").asInt(0));
+            hash = mix(hash, member.path("championPickIntent").asInt(0));
+            hash = mix(hash, member.path("assignedPosition").asText("").hashCode());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
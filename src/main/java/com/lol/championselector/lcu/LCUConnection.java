@@ -1,7 +1,9 @@
 package com.lol.championselector.lcu;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,26 +11,58 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LCUConnection {
     private static final Logger logger = LoggerFactory.getLogger(LCUConnection.class);
     
+    // Keep-alive tuning: a few idle sockets cover the monitor polls plus parallel ban/pick calls
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_DURATION_SECONDS = 60;
+    private static final int TLS_SESSION_CACHE_SIZE = 16;
+    private static final int TLS_SESSION_TIMEOUT_SECONDS = 3600;
+    // Consecutive transport failures before falling back to one connection per request
+    private static final int MAX_KEEP_ALIVE_FAILURES = 3;
+    
     private final String baseUrl;
     private final String authToken;
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ObjectReader treeReader;
+    private final Map<Class<?>, ObjectReader> typedReaders = new ConcurrentHashMap<>();
+    private final LCURequestExecutor requestExecutor;
     private volatile boolean isConnected = false;
     private volatile boolean isShuttingDown = false;
+    private volatile boolean keepAliveEnabled = true;
+    private final AtomicInteger keepAliveFailures = new AtomicInteger(0);
     
     public LCUConnection(int port, String password) {
-        this.baseUrl = "https://127.0.0.1:" + port;
+        this(port, password, LCURequestExecutor.getDefault());
+    }
+    
+    public LCUConnection(int port, String password, LCURequestExecutor requestExecutor) {
+        this("https://127.0.0.1:" + port, password, requestExecutor);
+    }
+    
+    LCUConnection(String baseUrl, String password) {
+        this(baseUrl, password, LCURequestExecutor.getDefault());
+    }
+    
+    LCUConnection(String baseUrl, String password, LCURequestExecutor requestExecutor) {
+        this.baseUrl = baseUrl;
+        this.requestExecutor = requestExecutor;
         this.authToken = "Basic " + Base64.getEncoder()
             .encodeToString(("riot:" + password).getBytes());
         this.objectMapper = new ObjectMapper();
+        this.treeReader = objectMapper.reader();
         this.httpClient = createHttpClient();
     }
     
@@ -50,8 +84,11 @@ public class LCUConnection {
                 }
             };
             
-            SSLContext sslContext = SSLContext.getInstance("SSL");
+            SSLContext sslContext = SSLContext.getInstance("TLS");
             sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
+            // Cache sessions so new sockets resume TLS instead of doing a full handshake
+            sslContext.getClientSessionContext().setSessionCacheSize(TLS_SESSION_CACHE_SIZE);
+            sslContext.getClientSessionContext().setSessionTimeout(TLS_SESSION_TIMEOUT_SECONDS);
             
             return new OkHttpClient.Builder()
                 .sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0])
@@ -59,7 +96,8 @@ public class LCUConnection {
                 .connectTimeout(3, TimeUnit.SECONDS) // Reduced timeout
                 .readTimeout(8, TimeUnit.SECONDS)   // Reduced timeout
                 .writeTimeout(5, TimeUnit.SECONDS)  // Add write timeout
-                .connectionPool(new okhttp3.ConnectionPool(5, 5, TimeUnit.MINUTES)) // Limited connection pool
+                .connectionPool(new okhttp3.ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_SECONDS, TimeUnit.SECONDS))
+                .eventListenerFactory(call -> new KeepAliveTracker())
                 .addInterceptor(chain -> {
                     if (isShuttingDown) {
                         throw new java.io.IOException("Connection is shutting down");
@@ -67,9 +105,13 @@ public class LCUConnection {
                     
                     Request original = chain.request();
                     Request.Builder requestBuilder = original.newBuilder()
-                        .addHeader("Authorization", authToken)
-                        .addHeader("Content-Type", "application/json")
-                        .addHeader("Connection", "close"); // Prevent connection reuse issues
+                        .addHeader("Authorization", authToken);
+                    if (original.header("Upgrade") == null) {
+                        requestBuilder.addHeader("Content-Type", "application/json");
+                        if (!keepAliveEnabled) {
+                            requestBuilder.addHeader("Connection", "close"); // Client misbehaved with reused connections
+                        }
+                    }
                     return chain.proceed(requestBuilder.build());
                 })
                 .build();
@@ -86,10 +128,11 @@ public class LCUConnection {
                     .get()
                     .build();
                 
+                // With keep-alive the socket used here stays pooled, so the first ban/pick reuses a warm connection
                 try (Response response = httpClient.newCall(request).execute()) {
                     isConnected = response.isSuccessful();
                     if (isConnected) {
-                        logger.info("Successfully connected to LCU at {}", baseUrl);
+                        logger.info("Successfully connected to LCU at {} (keep-alive: {})", baseUrl, keepAliveEnabled);
                     } else {
                         logger.warn("Failed to connect to LCU: HTTP {}", response.code());
                     }
@@ -100,117 +143,258 @@ public class LCUConnection {
                 logger.error("Connection test failed", e);
                 return false;
             }
-        });
+        }, requestExecutor.executor(LCURequestExecutor.Lane.QUERY));
     }
     
     public CompletableFuture<JsonNode> get(String endpoint) {
-        return makeRequest("GET", endpoint, null);
+        return makeRequest("GET", endpoint, null, LCURequestExecutor.Lane.QUERY);
+    }
+    
+    /**
+     * GET on an explicit lane, for reads that sit on the ban/pick critical path
+     */
+    public CompletableFuture<JsonNode> get(String endpoint, LCURequestExecutor.Lane lane) {
+        return makeRequest("GET", endpoint, null, lane);
     }
     
     public CompletableFuture<JsonNode> post(String endpoint, Object body) {
-        return makeRequest("POST", endpoint, body);
+        return makeRequest("POST", endpoint, body, LCURequestExecutor.Lane.ACTION);
     }
     
     public CompletableFuture<JsonNode> put(String endpoint, Object body) {
-        return makeRequest("PUT", endpoint, body);
+        return makeRequest("PUT", endpoint, body, LCURequestExecutor.Lane.ACTION);
     }
     
     public CompletableFuture<JsonNode> patch(String endpoint, Object body) {
-        return makeRequest("PATCH", endpoint, body);
+        return makeRequest("PATCH", endpoint, body, LCURequestExecutor.Lane.ACTION);
     }
     
-    private CompletableFuture<JsonNode> makeRequest(String method, String endpoint, Object body) {
+    /**
+     * GET decoded straight from the response stream into a pre-bound type.
+     * Completes with null when the request fails or the body cannot be decoded.
+     */
+    public <T> CompletableFuture<T> get(String endpoint, Class<T> type) {
+        if (isShuttingDown) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        try {
+            return CompletableFuture.supplyAsync(() -> executeTypedRequest(endpoint, type),
+                requestExecutor.executor(LCURequestExecutor.Lane.QUERY));
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            logger.debug("LCU QUERY lane saturated, dropping GET {}", endpoint);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    private CompletableFuture<JsonNode> makeRequest(String method, String endpoint, Object body,
+                                                    LCURequestExecutor.Lane lane) {
         if (isShuttingDown) {
             return CompletableFuture.completedFuture(objectMapper.createObjectNode().put("error", "Connection is shutting down"));
         }
         
-        return CompletableFuture.supplyAsync(() -> {
+        try {
+            return CompletableFuture.supplyAsync(() -> executeRequest(method, endpoint, body),
+                requestExecutor.executor(lane));
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            logger.debug("LCU {} lane saturated, dropping {} {}", lane, method, endpoint);
+            return CompletableFuture.completedFuture(objectMapper.createObjectNode().put("error", "busy"));
+        }
+    }
+    
+    private JsonNode executeRequest(String method, String endpoint, Object body) {
+        if (isShuttingDown) {
+            return objectMapper.createObjectNode().put("error", "Connection is shutting down");
+        }
+        
+        try (Response response = httpClient.newCall(buildRequest(method, endpoint, body)).execute()) {
             if (isShuttingDown) {
                 return objectMapper.createObjectNode().put("error", "Connection is shutting down");
             }
             
-            try {
-                Request.Builder requestBuilder = new Request.Builder()
-                    .url(baseUrl + endpoint);
-                
-                RequestBody requestBody = null;
-                if (body != null) {
-                    String json = objectMapper.writeValueAsString(body);
-                    requestBody = RequestBody.create(json, MediaType.get("application/json"));
+            ResponseBody responseBody = response.body();
+            
+            if (response.isSuccessful()) {
+                JsonNode result;
+                try {
+                    // Decode straight from the byte stream, no intermediate String
+                    result = responseBody != null ? treeReader.readTree(responseBody.byteStream()) : null;
+                } catch (JsonProcessingException parseException) {
+                    logger.warn("Failed to parse JSON response for {} {}: {}", method, endpoint, parseException.getMessage());
+                    return objectMapper.createObjectNode().put("error", "Invalid JSON response");
                 }
                 
-                switch (method.toUpperCase()) {
-                    case "GET":
-                        requestBuilder.get();
-                        break;
-                    case "POST":
-                        requestBuilder.post(requestBody != null ? requestBody : 
-                            RequestBody.create("", MediaType.get("application/json")));
-                        break;
-                    case "PUT":
-                        requestBuilder.put(requestBody != null ? requestBody : 
-                            RequestBody.create("", MediaType.get("application/json")));
-                        break;
-                    case "PATCH":
-                        requestBuilder.patch(requestBody != null ? requestBody : 
-                            RequestBody.create("", MediaType.get("application/json")));
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+                if (result == null || result.isMissingNode()) {
+                    // 返回成功的空对象（某些操作可能没有响应体）
+                    return objectMapper.createObjectNode().put("success", true);
                 }
                 
-                Request request = requestBuilder.build();
-                
-                try (Response response = httpClient.newCall(request).execute()) {
-                    if (isShuttingDown) {
-                        return objectMapper.createObjectNode().put("error", "Connection is shutting down");
-                    }
-                    
-                    String responseBodyString = "";
-                    if (response.body() != null) {
-                        responseBodyString = response.body().string();
-                    }
-                    
-                    if (response.isSuccessful()) {
-                        logger.debug("Request successful: {} {} - HTTP {} - Response: {}", 
-                                   method, endpoint, response.code(), 
-                                   responseBodyString.length() > 300 ? responseBodyString.substring(0, 300) + "..." : responseBodyString);
-                        
-                        if (!responseBodyString.isEmpty()) {
-                            try {
-                                return objectMapper.readTree(responseBodyString);
-                            } catch (Exception parseException) {
-                                logger.warn("Failed to parse JSON response for {} {}: {}", method, endpoint, parseException.getMessage());
-                                return objectMapper.createObjectNode().put("error", "Invalid JSON response");
-                            }
-                        } else {
-                            // 返回成功的空对象（某些操作可能没有响应体）
-                            return objectMapper.createObjectNode().put("success", true);
-                        }
-                    } else {
-                        logger.error("Request failed: {} {} - HTTP {} - Response: {}", 
-                                   method, endpoint, response.code(), 
-                                   responseBodyString.length() > 200 ? responseBodyString.substring(0, 200) + "..." : responseBodyString);
-                        return objectMapper.createObjectNode().put("error", true).put("status", response.code());
-                    }
-                }
-            } catch (java.net.SocketTimeoutException e) {
-                if (!isShuttingDown) {
-                    logger.debug("Request timeout: {} {} - {}", method, endpoint, e.getMessage());
-                }
-                return objectMapper.createObjectNode().put("error", "timeout");
-            } catch (java.io.IOException e) {
-                if (!isShuttingDown) {
-                    logger.debug("IO error for request: {} {} - {}", method, endpoint, e.getMessage());
+                if (logger.isDebugEnabled()) {
+                    String preview = result.toString();
+                    logger.debug("Request successful: {} {} - HTTP {} - Response: {}", 
+                               method, endpoint, response.code(), 
+                               preview.length() > 300 ? preview.substring(0, 300) + "..." : preview);
                 }
-                return objectMapper.createObjectNode().put("error", "io_error");
-            } catch (Exception e) {
-                if (!isShuttingDown) {
-                    logger.error("Request failed: {} {} - {}", method, endpoint, e.getMessage());
-                }
-                return objectMapper.createObjectNode().put("error", "exception");
+                return result;
+            } else {
+                String responseBodyString = responseBody != null ? responseBody.string() : "";
+                logger.error("Request failed: {} {} - HTTP {} - Response: {}", 
+                           method, endpoint, response.code(), 
+                           responseBodyString.length() > 200 ? responseBodyString.substring(0, 200) + "..." : responseBodyString);
+                return objectMapper.createObjectNode().put("error", true).put("status", response.code());
+            }
+        } catch (java.net.SocketTimeoutException e) {
+            if (!isShuttingDown) {
+                logger.debug("Request timeout: {} {} - {}", method, endpoint, e.getMessage());
             }
-        });
+            return objectMapper.createObjectNode().put("error", "timeout");
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize request body: {} {} - {}", method, endpoint, e.getMessage());
+            return objectMapper.createObjectNode().put("error", "exception");
+        } catch (java.io.IOException e) {
+            if (!isShuttingDown) {
+                logger.debug("IO error for request: {} {} - {}", method, endpoint, e.getMessage());
+            }
+            return objectMapper.createObjectNode().put("error", "io_error");
+        } catch (Exception e) {
+            if (!isShuttingDown) {
+                logger.error("Request failed: {} {} - {}", method, endpoint, e.getMessage());
+            }
+            return objectMapper.createObjectNode().put("error", "exception");
+        }
+    }
+    
+    private <T> T executeTypedRequest(String endpoint, Class<T> type) {
+        if (isShuttingDown) {
+            return null;
+        }
+        
+        try (Response response = httpClient.newCall(buildRequest("GET", endpoint, null)).execute()) {
+            ResponseBody responseBody = response.body();
+            if (!response.isSuccessful() || responseBody == null || isShuttingDown) {
+                logger.debug("Typed request failed: GET {} - HTTP {}", endpoint, response.code());
+                return null;
+            }
+            
+            ObjectReader reader = typedReaders.computeIfAbsent(type, objectMapper::readerFor);
+            try {
+                return reader.readValue(responseBody.byteStream());
+            } catch (JsonProcessingException parseException) {
+                logger.warn("Failed to decode {} from GET {}: {}", type.getSimpleName(), endpoint, parseException.getMessage());
+                return null;
+            }
+        } catch (java.io.IOException e) {
+            if (!isShuttingDown) {
+                logger.debug("IO error for request: GET {} - {}", endpoint, e.getMessage());
+            }
+            return null;
+        }
+    }
+    
+    private Request buildRequest(String method, String endpoint, Object body) throws JsonProcessingException {
+        Request.Builder requestBuilder = new Request.Builder()
+            .url(baseUrl + endpoint);
+        
+        RequestBody requestBody = null;
+        if (body != null) {
+            String json = objectMapper.writeValueAsString(body);
+            requestBody = RequestBody.create(json, MediaType.get("application/json"));
+        }
+        
+        switch (method.toUpperCase()) {
+            case "GET":
+                requestBuilder.get();
+                break;
+            case "POST":
+                requestBuilder.post(requestBody != null ? requestBody : 
+                    RequestBody.create("", MediaType.get("application/json")));
+                break;
+            case "PUT":
+                requestBuilder.put(requestBody != null ? requestBody : 
+                    RequestBody.create("", MediaType.get("application/json")));
+                break;
+            case "PATCH":
+                requestBuilder.patch(requestBody != null ? requestBody : 
+                    RequestBody.create("", MediaType.get("application/json")));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+        
+        return requestBuilder.build();
+    }
+    
+    /**
+     * Per-call listener that only reports calls which went over a pooled socket.
+     * Fresh connections failing (e.g. connection refused while the client restarts) say nothing about keep-alive.
+     */
+    private final class KeepAliveTracker extends EventListener {
+        private boolean connecting;
+        private boolean usedPooledConnection;
+        
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connecting = true;
+        }
+        
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                                  Protocol protocol, java.io.IOException ioe) {
+            connecting = false;
+        }
+        
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            if (!connecting) {
+                usedPooledConnection = true;
+            }
+            connecting = false;
+        }
+        
+        @Override
+        public void callEnd(Call call) {
+            if (usedPooledConnection) {
+                keepAliveFailures.set(0);
+            }
+        }
+        
+        @Override
+        public void callFailed(Call call, java.io.IOException ioe) {
+            if (usedPooledConnection && !isShuttingDown && !(ioe instanceof java.net.SocketTimeoutException)) {
+                onTransportFailure();
+            }
+        }
+    }
+    
+    /**
+     * Track broken reused connections; after repeated failures stop reusing sockets for this client
+     */
+    private void onTransportFailure() {
+        if (!keepAliveEnabled) {
+            return;
+        }
+        
+        int failures = keepAliveFailures.incrementAndGet();
+        if (failures >= MAX_KEEP_ALIVE_FAILURES) {
+            keepAliveEnabled = false;
+            httpClient.connectionPool().evictAll();
+            logger.warn("LCU dropped {} consecutive keep-alive requests, falling back to close-per-request", failures);
+        }
+    }
+    
+    public boolean isKeepAliveEnabled() {
+        return keepAliveEnabled;
+    }
+    
+    /**
+     * Open the client's WAMP WebSocket on the same port and credentials as the REST API
+     */
+    public WebSocket openWebSocket(WebSocketListener listener) {
+        Request request = new Request.Builder()
+            .url(baseUrl.replaceFirst("^http", "ws") + "/")
+            .header("Sec-WebSocket-Protocol", "wamp")
+            .build();
+        return httpClient.newWebSocket(request, listener);
     }
     
     public boolean isConnected() {
@@ -0,0 +1,300 @@
+package com.lol.championselector.lcu;
+
+import com.lol.championselector.manager.ResourceManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * LCU连接生命周期管理：发现 → 连接 → 监控 → 断开 → 退避重试。
+ * 等待期间轮询lockfile变化，客户端一启动即连接；连接后监听进程退出和端口存活
+ */
+public class LCUConnectionSupervisor {
+    private static final Logger logger = LoggerFactory.getLogger(LCUConnectionSupervisor.class);
+
+    private static final long DEFAULT_INITIAL_BACKOFF_MS = 1000;
+    private static final long DEFAULT_MAX_BACKOFF_MS = 30000;
+    private static final long DEFAULT_LIVENESS_INTERVAL_MS = 5000;
+    private static final long LOCKFILE_POLL_INTERVAL_MS = 500;
+    private static final double JITTER = 0.2;
+
+    public enum State {
+        STOPPED,     // 未启动或已手动断开
+        CONNECTING,  // 正在发现客户端并连接
+        CONNECTED,   // 已连接并在监控
+        LOST,        // 连接丢失（客户端退出）
+        WAITING,     // 退避等待下一次尝试
+        FAILED       // 连接失败且未启用自动重连
+    }
+
+    private final LCUMonitor monitor;
+    private final long initialBackoffMs;
+    private final long livenessIntervalMs;
+    private final ScheduledExecutorService timer;
+    // 探测进程和端口会阻塞，在I/O线程池上串行执行
+    private final ExecutorService serial;
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile State state = State.STOPPED;
+    private volatile boolean autoReconnect = true;
+    private volatile long maxBackoffMs;
+    private long currentBackoffMs;
+    private long nextAttemptAt;
+    private long lastLockfileStamp;
+    private ScheduledFuture<?> pendingTask;
+    private LCUDetector.LCUInfo connectedInfo;
+    private long generation = 0; // 每次启动/停止递增，丢弃过期的回调
+
+    public LCUConnectionSupervisor(LCUMonitor monitor) {
+        this(monitor, DEFAULT_INITIAL_BACKOFF_MS, DEFAULT_MAX_BACKOFF_MS, DEFAULT_LIVENESS_INTERVAL_MS);
+    }
+
+    LCUConnectionSupervisor(LCUMonitor monitor, long initialBackoffMs, long maxBackoffMs, long livenessIntervalMs) {
+        this.monitor = monitor;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.livenessIntervalMs = livenessIntervalMs;
+        this.currentBackoffMs = initialBackoffMs;
+        ResourceManager resources = ResourceManager.getInstance();
+        this.timer = resources.getSharedScheduler();
+        this.serial = resources.newSerialExecutor(ResourceManager.Role.IO);
+    }
+
+    /**
+     * 开始连接；已连接或正在连接时忽略
+     */
+    public void start() {
+        serial.execute(() -> {
+            if (state == State.CONNECTED || state == State.CONNECTING) {
+                return;
+            }
+            currentBackoffMs = initialBackoffMs;
+            attempt(generation);
+        });
+    }
+
+    /**
+     * 停止监控并断开连接，不再自动重连
+     */
+    public void stop() {
+        serial.execute(() -> {
+            generation++;
+            cancelPending();
+            connectedInfo = null;
+            if (state == State.CONNECTED) {
+                monitor.disconnect();
+            }
+            transition(State.STOPPED);
+        });
+    }
+
+    public void setAutoReconnect(boolean autoReconnect) {
+        this.autoReconnect = autoReconnect;
+        if (!autoReconnect) {
+            serial.execute(() -> {
+                if (state == State.WAITING) {
+                    generation++;
+                    cancelPending();
+                    transition(State.STOPPED);
+                }
+            });
+        }
+    }
+
+    /**
+     * 退避上限（秒），对应配置中的重连间隔
+     */
+    public void setMaxBackoffSeconds(int seconds) {
+        this.maxBackoffMs = Math.max(initialBackoffMs, TimeUnit.SECONDS.toMillis(seconds));
+    }
+
+    public void addStateListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 当前退避间隔（毫秒）
+     */
+    public long getCurrentBackoffMillis() {
+        return currentBackoffMs;
+    }
+
+    public void shutdown() {
+        stop();
+        serial.shutdown();
+        try {
+            if (!serial.awaitTermination(2, TimeUnit.SECONDS)) {
+                serial.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            serial.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 以下方法只在串行执行器上运行（同一时刻只有一个）
+
+    private void attempt(long gen) {
+        if (gen != generation) {
+            return;
+        }
+        cancelPending();
+        transition(State.CONNECTING);
+        lastLockfileStamp = LCUDetector.lockfileStamp();
+
+        Optional<LCUDetector.LCUInfo> info = LCUDetector.detectNow();
+        if (info.isEmpty()) {
+            onAttemptFailed(gen);
+            return;
+        }
+
+        monitor.connect(info.get())
+            .exceptionally(throwable -> {
+                logger.debug("LCU connect attempt failed", throwable);
+                return false;
+            })
+            .thenAccept(connected -> execute(() -> {
+                if (gen != generation) {
+                    return;
+                }
+                if (connected) {
+                    onConnected(gen, info.get());
+                } else {
+                    onAttemptFailed(gen);
+                }
+            }));
+    }
+
+    private void onConnected(long gen, LCUDetector.LCUInfo info) {
+        connectedInfo = info;
+        currentBackoffMs = initialBackoffMs;
+        monitor.startMonitoring();
+        transition(State.CONNECTED);
+        logger.info("Supervisor connected to LCU on port {}", info.getPort());
+
+        // 客户端进程退出时立即感知
+        if (info.getPid() > 0) {
+            ProcessHandle.of(info.getPid()).ifPresent(handle ->
+                handle.onExit().thenRun(() -> execute(() -> onConnectionLost(gen, "process exited"))));
+        }
+        scheduleLivenessCheck(gen);
+    }
+
+    private void scheduleLivenessCheck(long gen) {
+        pendingTask = timer.schedule(() -> execute(() -> {
+            LCUDetector.LCUInfo info = connectedInfo;
+            if (gen != generation || state != State.CONNECTED || info == null) {
+                return;
+            }
+            if (LCUDetector.isAlive(info)) {
+                scheduleLivenessCheck(gen);
+            } else {
+                onConnectionLost(gen, "port stopped answering");
+            }
+        }), livenessIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void onConnectionLost(long gen, String reason) {
+        if (gen != generation || state != State.CONNECTED) {
+            return;
+        }
+        logger.info("LCU connection lost: {}", reason);
+        generation++;
+        cancelPending();
+        connectedInfo = null;
+        LCUDetector.invalidateCache();
+        monitor.disconnect();
+        transition(State.LOST);
+
+        if (autoReconnect) {
+            currentBackoffMs = initialBackoffMs;
+            waitForNextAttempt(generation);
+        } else {
+            transition(State.STOPPED);
+        }
+    }
+
+    private void onAttemptFailed(long gen) {
+        if (!autoReconnect) {
+            transition(State.FAILED);
+            return;
+        }
+        waitForNextAttempt(gen);
+        currentBackoffMs = Math.min(maxBackoffMs, currentBackoffMs * 2);
+    }
+
+    /**
+     * 退避等待，期间快速轮询lockfile，写入新lockfile时立即尝试
+     */
+    private void waitForNextAttempt(long gen) {
+        long delay = withJitter(currentBackoffMs);
+        nextAttemptAt = System.currentTimeMillis() + delay;
+        transition(State.WAITING);
+        logger.debug("Next LCU connect attempt in {} ms", delay);
+        scheduleWaitTick(gen);
+    }
+
+    private void scheduleWaitTick(long gen) {
+        long untilAttempt = Math.max(0, nextAttemptAt - System.currentTimeMillis());
+        pendingTask = timer.schedule(() -> execute(() -> {
+            if (gen != generation || state != State.WAITING) {
+                return;
+            }
+            if (System.currentTimeMillis() >= nextAttemptAt || LCUDetector.lockfileStamp() > lastLockfileStamp) {
+                attempt(gen);
+            } else {
+                scheduleWaitTick(gen);
+            }
+        }), Math.min(LOCKFILE_POLL_INTERVAL_MS, untilAttempt), TimeUnit.MILLISECONDS);
+    }
+
+    private long withJitter(long delayMs) {
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Math.max(1, (long) (delayMs * factor));
+    }
+
+    private void cancelPending() {
+        if (pendingTask != null) {
+            pendingTask.cancel(false);
+            pendingTask = null;
+        }
+    }
+
+    private void transition(State newState) {
+        if (state == newState) {
+            return;
+        }
+        logger.debug("LCU supervisor state: {} -> {}", state, newState);
+        state = newState;
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(newState);
+            } catch (Exception e) {
+                logger.warn("Error in supervisor state listener", e);
+            }
+        }
+    }
+
+    private void execute(Runnable task) {
+        if (!serial.isShutdown()) {
+            CompletableFuture.runAsync(task, serial).exceptionally(throwable -> {
+                logger.warn("Error in LCU supervisor", throwable);
+                return null;
+            });
+        }
+    }
+}
@@ -1,29 +1,73 @@
 package com.lol.championselector.lcu;
 
+import com.lol.championselector.manager.ResourceManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * LCU发现：优先读取客户端lockfile，其次通过ProcessHandle枚举进程，
+ * 结果缓存到端口不再响应为止；wmic仅作为Windows上的最后手段
+ */
 public class LCUDetector {
     private static final Logger logger = LoggerFactory.getLogger(LCUDetector.class);
     
     private static final String LEAGUE_PROCESS = "LeagueClientUx.exe";
+    private static final String LEAGUE_PROCESS_NAME = "LeagueClientUx";
+    private static final String LOCKFILE_NAME = "lockfile";
     private static final Pattern PORT_PATTERN = Pattern.compile("--app-port=(\\d+)");
     private static final Pattern PASSWORD_PATTERN = Pattern.compile("--remoting-auth-token=([\\w-]+)");
+    private static final Pattern INSTALL_DIR_PATTERN = Pattern.compile("--install-directory=\"?([^\"]+?)\"?(\\s--|$)");
+    private static final int PORT_PROBE_TIMEOUT_MS = 300;
+    
+    // 常见安装目录（国服与外服）
+    private static final List<String> DEFAULT_LOCKFILE_LOCATIONS = List.of(
+        "C:\\Riot Games\\League of Legends\\lockfile",
+        "D:\\Riot Games\\League of Legends\\lockfile",
+        "C:\\Program Files\\腾讯游戏\\英雄联盟\\LeagueClient\\lockfile",
+        "D:\\Program Files\\腾讯游戏\\英雄联盟\\LeagueClient\\lockfile",
+        "C:\\腾讯游戏\\英雄联盟\\LeagueClient\\lockfile",
+        "D:\\腾讯游戏\\英雄联盟\\LeagueClient\\lockfile",
+        "D:\\WeGameApps\\英雄联盟\\LeagueClient\\lockfile",
+        "E:\\WeGameApps\\英雄联盟\\LeagueClient\\lockfile"
+    );
+    
+    private static volatile List<Path> lockfileCandidates;
+    private static volatile LCUInfo cachedInfo;
+    private static volatile Path lastLockfile;
     
     public static class LCUInfo {
         private final int port;
         private final String password;
+        private final String protocol;
+        private final long pid; // -1 when unknown
         
         public LCUInfo(int port, String password) {
+            this(port, password, "https", -1);
+        }
+        
+        public LCUInfo(int port, String password, String protocol, long pid) {
             this.port = port;
             this.password = password;
+            this.protocol = protocol;
+            this.pid = pid;
         }
         
         public int getPort() {
@@ -34,48 +78,223 @@ public class LCUDetector {
             return password;
         }
         
+        public String getProtocol() {
+            return protocol;
+        }
+        
+        public long getPid() {
+            return pid;
+        }
+        
         @Override
         public String toString() {
-            return "LCUInfo{port=" + port + ", password=" + password.substring(0, 8) + "...}";
+            return "LCUInfo{port=" + port + ", password=" + password.substring(0, Math.min(8, password.length())) + "...}";
         }
     }
     
     public static CompletableFuture<Optional<LCUInfo>> detectLCU() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                logger.debug("Detecting League Client process...");
-                
-                // 使用wmic命令获取进程信息
-                Process process = new ProcessBuilder(
-                    "wmic", "process", "where", 
-                    "name='" + LEAGUE_PROCESS + "'", 
-                    "get", "commandline", "/format:value"
-                ).start();
-                
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream(), "GBK"))) {
-                    
-                    StringBuilder output = new StringBuilder();
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        output.append(line).append("\n");
-                    }
-                    
-                    process.waitFor();
-                    String commandLine = output.toString();
-                    
-                    if (commandLine.contains(LEAGUE_PROCESS)) {
-                        return parseLCUInfo(commandLine);
-                    } else {
-                        logger.warn("League Client process not found");
-                        return Optional.empty();
-                    }
+        // 进程扫描会阻塞，不占用ForkJoinPool.commonPool
+        return CompletableFuture.supplyAsync(LCUDetector::detectNow, ResourceManager.getInstance().getExecutor(ResourceManager.Role.IO));
+    }
+    
+    /**
+     * 丢弃缓存的连接信息，下次检测时重新发现（例如认证失败后）
+     */
+    public static void invalidateCache() {
+        cachedInfo = null;
+    }
+    
+    /**
+     * 覆盖lockfile搜索路径，供测试使用
+     */
+    static void setLockfileCandidates(List<Path> candidates) {
+        lockfileCandidates = candidates != null ? List.copyOf(candidates) : null;
+        lastLockfile = null;
+        cachedInfo = null;
+    }
+    
+    static Optional<LCUInfo> detectNow() {
+        LCUInfo cached = cachedInfo;
+        if (cached != null) {
+            if (isPortAnswering(cached.getPort())) {
+                logger.debug("Using cached LCU info: {}", cached);
+                return Optional.of(cached);
+            }
+            logger.info("Cached LCU port {} stopped answering, rediscovering", cached.getPort());
+            cachedInfo = null;
+        }
+        
+        logger.debug("Detecting League Client...");
+        Optional<LCUInfo> info = readLockfiles();
+        if (info.isEmpty()) {
+            info = scanProcesses();
+        }
+        if (info.isEmpty() && isWindows()) {
+            info = detectWithWmic();
+        }
+        
+        if (info.isPresent()) {
+            cachedInfo = info.get();
+        } else {
+            logger.warn("League Client process not found");
+        }
+        return info;
+    }
+    
+    private static Optional<LCUInfo> readLockfiles() {
+        // 上次成功的lockfile优先
+        Path last = lastLockfile;
+        if (last != null) {
+            Optional<LCUInfo> info = readLockfile(last);
+            if (info.isPresent()) {
+                return info;
+            }
+        }
+        
+        for (Path candidate : getLockfileCandidates()) {
+            if (candidate.equals(last)) {
+                continue;
+            }
+            Optional<LCUInfo> info = readLockfile(candidate);
+            if (info.isPresent()) {
+                return info;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static List<Path> getLockfileCandidates() {
+        List<Path> candidates = lockfileCandidates;
+        if (candidates == null) {
+            candidates = new ArrayList<>();
+            for (String location : DEFAULT_LOCKFILE_LOCATIONS) {
+                try {
+                    candidates.add(Paths.get(location));
+                } catch (InvalidPathException e) {
+                    // 非Windows或文件名编码不支持中文路径
+                    logger.debug("Skipping lockfile location {}", location);
                 }
-            } catch (Exception e) {
-                logger.error("Failed to detect League Client", e);
+            }
+            lockfileCandidates = candidates;
+        }
+        return candidates;
+    }
+    
+    /**
+     * 解析lockfile，格式为 name:pid:port:password:protocol
+     */
+    static Optional<LCUInfo> readLockfile(Path lockfile) {
+        if (!Files.isRegularFile(lockfile)) {
+            return Optional.empty();
+        }
+        
+        try {
+            String content = Files.readString(lockfile, StandardCharsets.UTF_8).trim();
+            String[] parts = content.split(":");
+            if (parts.length < 5) {
+                logger.warn("Malformed lockfile {}: {} fields", lockfile, parts.length);
                 return Optional.empty();
             }
-        });
+            
+            int port = Integer.parseInt(parts[2]);
+            LCUInfo info = new LCUInfo(port, parts[3], parts[4], Long.parseLong(parts[1]));
+            if (!isPortAnswering(port)) {
+                // 客户端异常退出时lockfile可能残留
+                logger.debug("Ignoring stale lockfile {} (port {} not answering)", lockfile, port);
+                return Optional.empty();
+            }
+            
+            lastLockfile = lockfile;
+            logger.info("Detected LCU from lockfile {}: {}", lockfile, info);
+            return Optional.of(info);
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Failed to read lockfile {}", lockfile, e);
+            return Optional.empty();
+        }
+    }
+    
+    private static Optional<LCUInfo> scanProcesses() {
+        List<ProcessHandle> clients = findClientProcesses();
+        for (ProcessHandle handle : clients) {
+            ProcessHandle.Info processInfo = handle.info();
+            
+            // Windows上通常只能拿到可执行文件路径，lockfile位于同一目录
+            Optional<String> executable = processInfo.command();
+            if (executable.isPresent()) {
+                Optional<LCUInfo> info = readLockfileNextTo(executable.get());
+                if (info.isPresent()) {
+                    return info;
+                }
+            }
+            
+            Optional<String> commandLine = processInfo.commandLine();
+            if (commandLine.isPresent()) {
+                Optional<LCUInfo> info = parseLCUInfo(commandLine.get());
+                if (info.isPresent()) {
+                    return info;
+                }
+
+                Matcher installDir = INSTALL_DIR_PATTERN.matcher(commandLine.get());
+                if (installDir.find()) {
+                    info = readLockfileNextTo(installDir.group(1) + "/" + LOCKFILE_NAME);
+                    if (info.isPresent()) {
+                        return info;
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<LCUInfo> readLockfileNextTo(String file) {
+        try {
+            Path parent = Paths.get(file).getParent();
+            return parent != null ? readLockfile(parent.resolve(LOCKFILE_NAME)) : Optional.empty();
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+    }
+    
+    private static List<ProcessHandle> findClientProcesses() {
+        List<ProcessHandle> clients = new ArrayList<>();
+        try {
+            ProcessHandle.allProcesses()
+                .filter(handle -> handle.info().command()
+                    .map(command -> command.contains(LEAGUE_PROCESS_NAME))
+                    .orElse(false))
+                .forEach(clients::add);
+        } catch (SecurityException | UnsupportedOperationException e) {
+            logger.debug("Process enumeration not available", e);
+        }
+        return clients;
+    }
+    
+    private static Optional<LCUInfo> detectWithWmic() {
+        try {
+            logger.debug("Falling back to wmic for League Client detection");
+            Process process = new ProcessBuilder(
+                "wmic", "process", "where",
+                "name='" + LEAGUE_PROCESS + "'",
+                "get", "commandline", "/format:value"
+            ).start();
+            
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), "GBK"))) {
+
+                StringBuilder output = new StringBuilder();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append("\n");
+                }
+
+                process.waitFor();
+                String commandLine = output.toString();
+                return commandLine.contains(LEAGUE_PROCESS) ? parseLCUInfo(commandLine) : Optional.empty();
+            }
+        } catch (Exception e) {
+            logger.debug("wmic detection failed", e);
+            return Optional.empty();
+        }
     }
     
     private static Optional<LCUInfo> parseLCUInfo(String commandLine) {
@@ -86,12 +305,12 @@ public class LCUDetector {
             if (portMatcher.find() && passwordMatcher.find()) {
                 int port = Integer.parseInt(portMatcher.group(1));
                 String password = passwordMatcher.group(1);
-                
+
                 LCUInfo info = new LCUInfo(port, password);
                 logger.info("Detected LCU: {}", info);
                 return Optional.of(info);
             } else {
-                logger.warn("Could not parse LCU connection info from command line");
+                logger.debug("Could not parse LCU connection info from command line");
                 return Optional.empty();
             }
         } catch (Exception e) {
@@ -100,30 +319,50 @@ public class LCUDetector {
         }
     }
     
-    public static CompletableFuture<Boolean> isLeagueClientRunning() {
-        return CompletableFuture.supplyAsync(() -> {
+    /**
+     * lockfile的最新修改时间（不存在时为0），只做文件检查，用于等待客户端启动时的快速轮询
+     */
+    static long lockfileStamp() {
+        long stamp = 0;
+        for (Path candidate : getLockfileCandidates()) {
             try {
-                Process process = new ProcessBuilder(
-                    "tasklist", "/FI", "IMAGENAME eq " + LEAGUE_PROCESS
-                ).start();
-                
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream(), "GBK"))) {
-                    
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.contains(LEAGUE_PROCESS)) {
-                            return true;
-                        }
-                    }
-                    
-                    process.waitFor();
-                    return false;
+                if (Files.isRegularFile(candidate)) {
+                    stamp = Math.max(stamp, Files.getLastModifiedTime(candidate).toMillis());
                 }
-            } catch (Exception e) {
-                logger.error("Failed to check if League Client is running", e);
-                return false;
+            } catch (IOException e) {
+                // 客户端可能正在写入，下一次轮询再检查
+            }
+        }
+        return stamp;
+    }
+    
+    /**
+     * 已发现的客户端是否仍在响应
+     */
+    static boolean isAlive(LCUInfo info) {
+        return isPortAnswering(info.getPort());
+    }
+    
+    private static boolean isPortAnswering(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", port), PORT_PROBE_TIMEOUT_MS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win");
+    }
+    
+    public static CompletableFuture<Boolean> isLeagueClientRunning() {
+        return CompletableFuture.supplyAsync(() -> {
+            LCUInfo cached = cachedInfo;
+            if (cached != null && isPortAnswering(cached.getPort())) {
+                return true;
             }
-        });
+            return !findClientProcesses().isEmpty();
+        }, ResourceManager.getInstance().getExecutor(ResourceManager.Role.IO));
     }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.lol.championselector.lcu;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Push-based event feed over the League Client's WAMP WebSocket.
+ * Subscribes to OnJsonApiEvent topics for individual endpoints and dispatches
+ * the pushed payloads, so callers no longer have to poll those endpoints.
+ */
+public class LCUEventStream {
+    private static final Logger logger = LoggerFactory.getLogger(LCUEventStream.class);
+
+    // WAMP 1.0 message type codes used by the LCU
+    private static final int WAMP_SUBSCRIBE = 5;
+    private static final int WAMP_EVENT = 8;
+
+    private static final String JSON_API_EVENT_PREFIX = "OnJsonApiEvent";
+    private static final int NORMAL_CLOSURE = 1000;
+
+    private final LCUConnection connection;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Consumer<LCUEvent>> handlers = new ConcurrentHashMap<>();
+
+    private volatile WebSocket webSocket;
+    private volatile boolean isOpen = false;
+    private volatile boolean isClosed = false;
+    private Consumer<Boolean> onStateChanged;
+
+    /**
+     * A single JSON API event pushed by the client
+     */
+    public static class LCUEvent {
+        private final String uri;
+        private final String eventType;
+        private final JsonNode data;
+
+        public LCUEvent(String uri, String eventType, JsonNode data) {
+            this.uri = uri;
+            this.eventType = eventType;
+            this.data = data;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public String getEventType() {
+            return eventType;
+        }
+
+        public JsonNode getData() {
+            return data;
+        }
+
+        public boolean isDelete() {
+            return "Delete".equals(eventType);
+        }
+
+        @Override
+        public String toString() {
+            return "LCUEvent{uri=" + uri + ", eventType=" + eventType + "}";
+        }
+    }
+
+    public LCUEventStream(LCUConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Register a handler for an endpoint, e.g. "/lol-gameflow/v1/gameflow-phase".
+     * Handlers must be registered before {@link #start()}.
+     */
+    public void subscribe(String uri, Consumer<LCUEvent> handler) {
+        handlers.put(uri, handler);
+    }
+
+    public void start() {
+        if (isClosed || webSocket != null) {
+            return;
+        }
+
+        logger.debug("Opening LCU event stream for {} endpoints", handlers.size());
+        webSocket = connection.openWebSocket(new Listener());
+    }
+
+    public void close() {
+        isClosed = true;
+        WebSocket socket = webSocket;
+        webSocket = null;
+        if (socket != null) {
+            socket.close(NORMAL_CLOSURE, null);
+        }
+        updateState(false);
+    }
+
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    public void setOnStateChanged(Consumer<Boolean> onStateChanged) {
+        this.onStateChanged = onStateChanged;
+    }
+
+    /**
+     * Build the WAMP topic name the client uses for an endpoint
+     */
+    static String topicFor(String uri) {
+        return JSON_API_EVENT_PREFIX + uri.replace('/', '_');
+    }
+
+    void handleMessage(String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        try {
+            JsonNode message = objectMapper.readTree(text);
+            if (!message.isArray() || message.size() < 3 || message.get(0).asInt() != WAMP_EVENT) {
+                return;
+            }
+
+            JsonNode payload = message.get(2);
+            String uri = payload.path("uri").asText("");
+            Consumer<LCUEvent> handler = handlers.get(uri);
+            if (handler == null) {
+                return;
+            }
+
+            LCUEvent event = new LCUEvent(uri, payload.path("eventType").asText(""), payload.get("data"));
+            logger.debug("Received LCU event: {}", event);
+            handler.accept(event);
+        } catch (Exception e) {
+            logger.warn("Failed to handle LCU event frame: {}", e.getMessage());
+        }
+    }
+
+    private void updateState(boolean open) {
+        if (isOpen == open) {
+            return;
+        }
+
+        isOpen = open;
+        if (onStateChanged != null) {
+            try {
+                onStateChanged.accept(open);
+            } catch (Exception e) {
+                logger.error("Error in event stream state callback", e);
+            }
+        }
+    }
+
+    private class Listener extends WebSocketListener {
+        @Override
+        public void onOpen(WebSocket socket, Response response) {
+            for (String uri : handlers.keySet()) {
+                socket.send("[" + WAMP_SUBSCRIBE + ", \"" + topicFor(uri) + "\"]");
+            }
+            logger.info("LCU event stream opened, subscribed to {} endpoints", handlers.size());
+            updateState(true);
+        }
+
+        @Override
+        public void onMessage(WebSocket socket, String text) {
+            handleMessage(text);
+        }
+
+        @Override
+        public void onClosing(WebSocket socket, int code, String reason) {
+            socket.close(NORMAL_CLOSURE, null);
+        }
+
+        @Override
+        public void onClosed(WebSocket socket, int code, String reason) {
+            logger.info("LCU event stream closed: {} {}", code, reason);
+            webSocket = null;
+            updateState(false);
+        }
+
+        @Override
+        public void onFailure(WebSocket socket, Throwable t, Response response) {
+            if (!isClosed) {
+                logger.debug("LCU event stream failure: {}", t.getMessage());
+            }
+            webSocket = null;
+            updateState(false);
+        }
+    }
+}
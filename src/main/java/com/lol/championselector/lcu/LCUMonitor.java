@@ -1,16 +1,17 @@
 package com.lol.championselector.lcu;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.lol.championselector.manager.ResourceManager;
+import com.lol.championselector.model.ChampionIdSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.List;
 
 public class LCUMonitor {
     private static final Logger logger = LoggerFactory.getLogger(LCUMonitor.class);
@@ -21,16 +22,33 @@ public class LCUMonitor {
     private static final long READY_CHECK_INTERVAL = 300; // 300ms during ready check
     private static final long CHAMP_SELECT_INTERVAL = 500; // 500ms during champion select
     private static final long IDLE_INTERVAL = 5000; // 5 seconds when idle
+    private static final long EVENT_STREAM_RETRY_INTERVAL = 3000; // 3 seconds between WebSocket reconnects
+    private static final long DEFAULT_SESSION_STALENESS_MS = 500; // matches the champ select poll interval
+    
+    // Endpoints delivered through the push event stream
+    private static final String GAMEFLOW_PHASE_URI = "/lol-gameflow/v1/gameflow-phase";
+    private static final String READY_CHECK_URI = "/lol-matchmaking/v1/ready-check";
+    private static final String CHAMP_SELECT_SESSION_URI = "/lol-champ-select/v1/session";
     
     private LCUConnection connection;
-    private ScheduledExecutorService scheduler;
+    private LCUEventStream eventStream;
+    private volatile boolean eventStreamEnabled = true;
+    private final ScheduledExecutorService scheduler;
     private boolean isMonitoring = false;
     private volatile boolean isShuttingDown = false;
     
-    private GamePhase currentPhase = GamePhase.NONE;
-    private boolean isInReadyCheck = false;
+    private volatile GamePhase currentPhase = GamePhase.NONE;
+    private volatile boolean isInReadyCheck = false;
     private String currentMatchId = null;
-    private String lastChampSelectSession = null;
+    private final ChampSelectSessionDiffer sessionDiffer = new ChampSelectSessionDiffer();
+    private boolean hasChampSelectSession = false;
+    
+    // Shared champ select session snapshot, refreshed by polls and push events
+    private final Object sessionLock = new Object();
+    private volatile SessionSnapshot sessionSnapshot;
+    private CompletableFuture<JsonNode> inFlightSessionFetch;
+    private long sessionVersion = 0;
+    private volatile long sessionStalenessMs = DEFAULT_SESSION_STALENESS_MS;
     
     // Smart polling management
     private long lastPhaseChangeTime = System.currentTimeMillis();
@@ -42,32 +60,54 @@ public class LCUMonitor {
     private Consumer<Boolean> onReadyCheckChanged;
     private Consumer<Boolean> onConnectionChanged;
     private Consumer<JsonNode> onChampSelectSessionChanged;
+    private Consumer<ChampSelectEvent> onChampSelectEvent;
+    
+    // 订阅者（弹窗抑制等），与上面的单一回调共用同一次轮询/推送
+    private final List<Consumer<GamePhase>> phaseListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Boolean>> readyCheckListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ChampSelectEvent>> champSelectEventListeners = new CopyOnWriteArrayList<>();
     
     public LCUMonitor() {
-        this.scheduler = Executors.newScheduledThreadPool(2, r -> {
-            Thread t = new Thread(r, "LCUMonitor-" + System.currentTimeMillis());
-            t.setDaemon(true); // Set as daemon thread to prevent hanging shutdown
-            return t;
-        });
+        // Poll ticks only issue async requests, so they run on the shared timer wheel
+        this.scheduler = ResourceManager.getInstance().getSharedScheduler();
+    }
+    
+    LCUMonitor(LCUConnection connection) {
+        this();
+        this.connection = connection;
     }
     
     public CompletableFuture<Boolean> connect() {
         return LCUDetector.detectLCU()
-            .thenCompose(lcuInfoOpt -> {
-                if (lcuInfoOpt.isPresent()) {
-                    LCUDetector.LCUInfo info = lcuInfoOpt.get();
-                    this.connection = new LCUConnection(info.getPort(), info.getPassword());
-                    return this.connection.testConnection();
-                } else {
-                    return CompletableFuture.completedFuture(false);
-                }
-            })
-            .thenApply(connected -> {
-                if (connected && onConnectionChanged != null) {
-                    onConnectionChanged.accept(true);
-                }
-                return connected;
-            });
+            .thenCompose(lcuInfoOpt -> lcuInfoOpt.isPresent()
+                ? connect(lcuInfoOpt.get())
+                : CompletableFuture.completedFuture(onConnectResult(false)));
+    }
+    
+    /**
+     * 使用调用方已检测到的客户端信息连接，不再重复读取lockfile
+     */
+    public CompletableFuture<Boolean> connect(LCUDetector.LCUInfo info) {
+        closeEventStream();
+        if (this.connection != null) {
+            this.connection.shutdown();
+        }
+        // lockfile中记录了客户端使用的协议
+        this.connection = "http".equalsIgnoreCase(info.getProtocol())
+            ? new LCUConnection("http://127.0.0.1:" + info.getPort(), info.getPassword())
+            : new LCUConnection(info.getPort(), info.getPassword());
+        return this.connection.testConnection().thenApply(this::onConnectResult);
+    }
+    
+    private boolean onConnectResult(boolean connected) {
+        if (!connected) {
+            // 端口仍在但认证失败时（客户端重启）重新读取lockfile
+            LCUDetector.invalidateCache();
+        }
+        if (connected && onConnectionChanged != null) {
+            onConnectionChanged.accept(true);
+        }
+        return connected;
     }
     
     public void startMonitoring() {
@@ -87,13 +127,117 @@ public class LCUMonitor {
         
         // 监控英雄选择 - 仅在CHAMP_SELECT阶段运行
         scheduleChampSelectMonitoring();
+        
+        // 推送事件流 - 连接后轮询仅作为断线时的后备
+        startEventStream();
     }
     
     public void stopMonitoring() {
         isMonitoring = false;
+        closeEventStream();
         logger.info("Stopped LCU monitoring");
     }
     
+    /**
+     * 断开当前连接（客户端退出或用户断开），重置状态并通知连接变化
+     */
+    public void disconnect() {
+        stopMonitoring();
+        LCUConnection current = connection;
+        if (current != null) {
+            current.shutdown();
+        }
+        applyGamePhase(GamePhase.NONE);
+        isInReadyCheck = false;
+        consecutiveFailures = 0;
+        
+        if (onConnectionChanged != null) {
+            onConnectionChanged.accept(false);
+        }
+    }
+    
+    /**
+     * Enable or disable the push event stream; polling is used whenever it is disabled or down
+     */
+    public void setEventStreamEnabled(boolean enabled) {
+        this.eventStreamEnabled = enabled;
+        if (!enabled) {
+            closeEventStream();
+        } else if (isMonitoring) {
+            startEventStream();
+        }
+    }
+    
+    /**
+     * Whether state is currently being pushed over the WebSocket instead of polled
+     */
+    public boolean isEventStreamActive() {
+        LCUEventStream stream = eventStream;
+        return stream != null && stream.isOpen();
+    }
+    
+    private synchronized void startEventStream() {
+        if (!eventStreamEnabled || !isMonitoring || isShuttingDown || connection == null || eventStream != null) {
+            return;
+        }
+        
+        LCUEventStream stream = new LCUEventStream(connection);
+        stream.subscribe(GAMEFLOW_PHASE_URI, event -> {
+            if (!event.isDelete() && event.getData() != null && event.getData().isTextual()) {
+                applyGamePhase(GamePhase.fromLcuName(event.getData().asText()));
+            }
+        });
+        stream.subscribe(READY_CHECK_URI, event -> {
+            if (event.isDelete()) {
+                applyReadyCheckState(false);
+            } else if (event.getData() != null) {
+                applyReadyCheckState("InProgress".equals(event.getData().path("state").asText("")));
+            }
+        });
+        stream.subscribe(CHAMP_SELECT_SESSION_URI, event -> {
+            if (event.isDelete()) {
+                resetChampSelectState();
+            } else if (event.getData() != null && currentPhase == GamePhase.CHAMP_SELECT) {
+                updateSessionSnapshot(event.getData());
+                applyChampSelectSession(event.getData());
+            }
+        });
+        stream.setOnStateChanged(open -> {
+            if (open) {
+                logger.info("LCU event stream active, polling reduced to fallback");
+                // Events only report changes, so resync the current state once
+                checkGamePhase();
+            } else {
+                onEventStreamLost(stream);
+            }
+        });
+        
+        eventStream = stream;
+        stream.start();
+    }
+    
+    private synchronized void onEventStreamLost(LCUEventStream stream) {
+        if (eventStream != stream) {
+            return;
+        }
+        
+        eventStream = null;
+        if (!isMonitoring || isShuttingDown || !eventStreamEnabled) {
+            return;
+        }
+        
+        logger.info("LCU event stream lost, falling back to polling");
+        scheduler.schedule(this::startEventStream, EVENT_STREAM_RETRY_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+    
+    private synchronized void closeEventStream() {
+        LCUEventStream stream = eventStream;
+        eventStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+    
     private void scheduleSmartPhaseCheck() {
         if (!isMonitoring || isShuttingDown) {
             return;
@@ -104,7 +248,9 @@ public class LCUMonitor {
                 return;
             }
             
-            checkGamePhase();
+            if (!isEventStreamActive()) {
+                checkGamePhase();
+            }
             
             // Adjust interval based on current phase and recent activity
             long interval = calculatePhaseCheckInterval();
@@ -125,7 +271,9 @@ public class LCUMonitor {
             }
             
             if (currentPhase == GamePhase.READY_CHECK) {
-                checkReadyCheck();
+                if (!isEventStreamActive()) {
+                    checkReadyCheck();
+                }
                 // Continue monitoring during ready check
                 scheduleReadyCheckMonitoring();
             } else {
@@ -146,7 +294,9 @@ public class LCUMonitor {
             }
             
             if (currentPhase == GamePhase.CHAMP_SELECT) {
-                checkChampSelect();
+                if (!isEventStreamActive()) {
+                    checkChampSelect();
+                }
                 // Continue monitoring during champion select
                 scheduleChampSelectMonitoring();
             } else {
@@ -164,6 +314,11 @@ public class LCUMonitor {
             return IDLE_INTERVAL;
         }
         
+        // Phase changes are pushed while the event stream is up
+        if (isEventStreamActive()) {
+            return IDLE_INTERVAL;
+        }
+        
         // Use faster polling during active phases
         if (currentPhase == GamePhase.READY_CHECK || currentPhase == GamePhase.CHAMP_SELECT) {
             return PHASE_CHECK_INTERVAL_ACTIVE;
@@ -183,32 +338,15 @@ public class LCUMonitor {
             return;
         }
         
-        connection.get("/lol-gameflow/v1/gameflow-phase")
-            .thenAccept(response -> {
+        connection.get(GAMEFLOW_PHASE_URI, String.class)
+            .thenAccept(phaseName -> {
                 if (isShuttingDown) {
                     return;
                 }
                 
-                if (response != null && response.isTextual()) {
-                    GamePhase newPhase = GamePhase.fromLcuName(response.asText());
-                    if (newPhase != currentPhase) {
-                        GamePhase oldPhase = currentPhase;
-                        currentPhase = newPhase;
-                        lastPhaseChangeTime = System.currentTimeMillis();
-                        consecutiveFailures = 0; // Reset failure count on success
-                        
-                        logger.info("Game phase changed: {} -> {} (smart polling adjusted)", oldPhase, newPhase);
-                        
-                        if (onPhaseChanged != null) {
-                            try {
-                                onPhaseChanged.accept(newPhase);
-                            } catch (Exception e) {
-                                logger.error("Error in phase change callback", e);
-                            }
-                        }
-                    } else {
-                        consecutiveFailures = 0; // Reset on successful response
-                    }
+                if (phaseName != null) {
+                    consecutiveFailures = 0; // Reset failure count on success
+                    applyGamePhase(GamePhase.fromLcuName(phaseName));
                 } else {
                     consecutiveFailures++;
                     if (consecutiveFailures <= MAX_CONSECUTIVE_FAILURES) {
@@ -229,34 +367,52 @@ public class LCUMonitor {
             });
     }
     
+    synchronized void applyGamePhase(GamePhase newPhase) {
+        if (newPhase == currentPhase || isShuttingDown) {
+            return;
+        }
+        
+        GamePhase oldPhase = currentPhase;
+        currentPhase = newPhase;
+        lastPhaseChangeTime = System.currentTimeMillis();
+        
+        logger.info("Game phase changed: {} -> {} (smart polling adjusted)", oldPhase, newPhase);
+        
+        if (newPhase != GamePhase.CHAMP_SELECT) {
+            resetChampSelectState();
+        }
+        
+        if (onPhaseChanged != null) {
+            try {
+                onPhaseChanged.accept(newPhase);
+            } catch (Exception e) {
+                logger.error("Error in phase change callback", e);
+            }
+        }
+        notifyListeners(phaseListeners, newPhase, "phase change");
+        
+        // Pushed events only carry changes, so fetch the initial state of the new phase once
+        if (isEventStreamActive()) {
+            if (newPhase == GamePhase.READY_CHECK) {
+                checkReadyCheck();
+            } else if (newPhase == GamePhase.CHAMP_SELECT) {
+                checkChampSelect();
+            }
+        }
+    }
+    
     private void checkReadyCheck() {
         if (!isMonitoring || connection == null || currentPhase != GamePhase.READY_CHECK || isShuttingDown) {
             return;
         }
         
-        connection.get("/lol-matchmaking/v1/ready-check")
-            .thenAccept(response -> {
+        connection.get(READY_CHECK_URI, ReadyCheck.class)
+            .thenAccept(readyCheck -> {
                 if (isShuttingDown) {
                     return;
                 }
                 
-                if (response != null && !response.isMissingNode()) {
-                    String state = response.path("state").asText("");
-                    boolean inReadyCheck = "InProgress".equals(state);
-                    
-                    if (inReadyCheck != isInReadyCheck) {
-                        isInReadyCheck = inReadyCheck;
-                        logger.debug("Ready check state changed: {}", inReadyCheck);
-                        
-                        if (onReadyCheckChanged != null) {
-                            try {
-                                onReadyCheckChanged.accept(inReadyCheck);
-                            } catch (Exception e) {
-                                logger.error("Error in ready check callback", e);
-                            }
-                        }
-                    }
-                }
+                applyReadyCheckState(readyCheck != null && readyCheck.isInProgress());
             })
             .exceptionally(throwable -> {
                 if (!isShuttingDown) {
@@ -266,6 +422,24 @@ public class LCUMonitor {
             });
     }
     
+    private synchronized void applyReadyCheckState(boolean inReadyCheck) {
+        if (inReadyCheck == isInReadyCheck || isShuttingDown) {
+            return;
+        }
+        
+        isInReadyCheck = inReadyCheck;
+        logger.debug("Ready check state changed: {}", inReadyCheck);
+        
+        if (onReadyCheckChanged != null) {
+            try {
+                onReadyCheckChanged.accept(inReadyCheck);
+            } catch (Exception e) {
+                logger.error("Error in ready check callback", e);
+            }
+        }
+        notifyListeners(readyCheckListeners, inReadyCheck, "ready check");
+    }
+    
     private void checkChampSelect() {
         if (!isMonitoring || connection == null || isShuttingDown) {
             return;
@@ -273,35 +447,18 @@ public class LCUMonitor {
         
         if (currentPhase != GamePhase.CHAMP_SELECT) {
             // 如果离开了英雄选择阶段，重置相关状态
-            if (currentMatchId != null || lastChampSelectSession != null) {
-                currentMatchId = null;
-                lastChampSelectSession = null;
-                logger.debug("Reset champion select state as we left the phase");
-            }
+            resetChampSelectState();
             return;
         }
         
-        connection.get("/lol-champ-select/v1/session")
+        fetchChampSelectSession()
             .thenAccept(response -> {
                 if (isShuttingDown) {
                     return;
                 }
                 
-                if (response != null && !response.isMissingNode()) {
-                    // 检查session是否真正发生了变化，减少不必要的处理
-                    String currentSessionHash = response.toString();
-                    if (!currentSessionHash.equals(lastChampSelectSession)) {
-                        logger.debug("Champion select session changed, triggering callback");
-                        lastChampSelectSession = currentSessionHash;
-                        
-                        if (onChampSelectSessionChanged != null) {
-                            try {
-                                onChampSelectSessionChanged.accept(response);
-                            } catch (Exception e) {
-                                logger.error("Error in champion select callback", e);
-                            }
-                        }
-                    }
+                if (response != null) {
+                    applyChampSelectSession(response);
                 }
             })
             .exceptionally(throwable -> {
@@ -312,6 +469,63 @@ public class LCUMonitor {
             });
     }
     
+    synchronized void applyChampSelectSession(JsonNode session) {
+        if (isShuttingDown) {
+            return;
+        }
+        
+        // 只比较语义相关字段的指纹，计时器跳动不会触发回调
+        List<ChampSelectEvent> events = sessionDiffer.update(session);
+        if (events == null) {
+            return;
+        }
+        
+        hasChampSelectSession = true;
+        logger.debug("Champion select session changed ({} events), triggering callback", events.size());
+        
+        for (ChampSelectEvent event : events) {
+            if (onChampSelectEvent != null) {
+                try {
+                    onChampSelectEvent.accept(event);
+                } catch (Exception e) {
+                    logger.error("Error in champion select event callback", e);
+                }
+            }
+            notifyListeners(champSelectEventListeners, event, "champion select event");
+        }
+        
+        if (onChampSelectSessionChanged != null) {
+            try {
+                onChampSelectSessionChanged.accept(session);
+            } catch (Exception e) {
+                logger.error("Error in champion select callback", e);
+            }
+        }
+    }
+    
+    private static <T> void notifyListeners(List<Consumer<T>> listeners, T value, String what) {
+        for (Consumer<T> listener : listeners) {
+            try {
+                listener.accept(value);
+            } catch (Exception e) {
+                logger.error("Error in {} listener", what, e);
+            }
+        }
+    }
+    
+    private synchronized void resetChampSelectState() {
+        synchronized (sessionLock) {
+            sessionSnapshot = null;
+        }
+        
+        if (currentMatchId != null || hasChampSelectSession) {
+            currentMatchId = null;
+            hasChampSelectSession = false;
+            sessionDiffer.reset();
+            logger.debug("Reset champion select state as we left the phase");
+        }
+    }
+    
     public CompletableFuture<Boolean> acceptReadyCheck() {
         if (connection == null) {
             return CompletableFuture.completedFuture(false);
@@ -465,18 +679,97 @@ public class LCUMonitor {
     }
     
     /**
-     * 获取当前英雄选择会话的详细信息，包括计时器
+     * 获取当前英雄选择会话的详细信息，包括计时器。
+     * 优先返回共享快照，快照过期时发起一次请求，并发调用共享同一个请求。
      */
     public CompletableFuture<JsonNode> getChampSelectSessionDetails() {
+        return getChampSelectSessionDetails(sessionStalenessMs);
+    }
+    
+    /**
+     * 获取会话，快照年龄不超过maxAgeMs时直接返回快照
+     */
+    public CompletableFuture<JsonNode> getChampSelectSessionDetails(long maxAgeMs) {
         if (connection == null) {
             return CompletableFuture.completedFuture(null);
         }
         
-        return connection.get("/lol-champ-select/v1/session")
-            .exceptionally(throwable -> {
-                logger.debug("Failed to get champ select session details", throwable);
-                return null;
+        SessionSnapshot snapshot = sessionSnapshot;
+        if (snapshot != null && (isEventStreamActive() || snapshot.ageMillis() < maxAgeMs)) {
+            return CompletableFuture.completedFuture(snapshot.session);
+        }
+        
+        return fetchChampSelectSession();
+    }
+    
+    /**
+     * 最长可接受的快照年龄（毫秒），超过后访问器会重新请求
+     */
+    public void setSessionStalenessMillis(long stalenessMs) {
+        this.sessionStalenessMs = Math.max(0, stalenessMs);
+    }
+    
+    /**
+     * 快照版本号，每次收到新的session时递增
+     */
+    public long getSessionSnapshotVersion() {
+        synchronized (sessionLock) {
+            return sessionVersion;
+        }
+    }
+    
+    private CompletableFuture<JsonNode> fetchChampSelectSession() {
+        synchronized (sessionLock) {
+            if (inFlightSessionFetch != null) {
+                return inFlightSessionFetch;
+            }
+            
+            CompletableFuture<JsonNode> fetch = connection.get(CHAMP_SELECT_SESSION_URI)
+                .thenApply(session -> {
+                    if (session == null || session.isMissingNode() || session.has("error")) {
+                        return null;
+                    }
+                    updateSessionSnapshot(session);
+                    return session;
+                })
+                .exceptionally(throwable -> {
+                    logger.debug("Failed to get champ select session details", throwable);
+                    return null;
+                });
+            
+            inFlightSessionFetch = fetch;
+            fetch.whenComplete((session, throwable) -> {
+                synchronized (sessionLock) {
+                    if (inFlightSessionFetch == fetch) {
+                        inFlightSessionFetch = null;
+                    }
+                }
             });
+            return fetch;
+        }
+    }
+    
+    private void updateSessionSnapshot(JsonNode session) {
+        synchronized (sessionLock) {
+            sessionVersion++;
+            sessionSnapshot = new SessionSnapshot(session, sessionVersion, System.nanoTime());
+        }
+    }
+    
+    private static final class SessionSnapshot {
+        final JsonNode session;
+        final long version;
+        final long receivedAtNanos;
+        
+        SessionSnapshot(JsonNode session, long version, long receivedAtNanos) {
+            this.session = session;
+            this.version = version;
+            this.receivedAtNanos = receivedAtNanos;
+        }
+        
+        long ageMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - receivedAtNanos);
+        }
     }
     
     /**
@@ -530,8 +823,12 @@ public class LCUMonitor {
                 long totalTimeInPhase = timer.path("totalTimeInPhase").asLong(0);
                 long adjustedTimeLeftInPhase = timer.path("adjustedTimeLeftInPhase").asLong(0);
                 
-                // 如果adjustedTimeLeftInPhase可用，使用它；否则计算剩余时间
+                // 如果adjustedTimeLeftInPhase可用，使用它（扣除快照的年龄）；否则计算剩余时间
                 if (adjustedTimeLeftInPhase > 0) {
+                    SessionSnapshot snapshot = sessionSnapshot;
+                    if (snapshot != null && snapshot.session == session) {
+                        adjustedTimeLeftInPhase = Math.max(0, adjustedTimeLeftInPhase - snapshot.ageMillis());
+                    }
                     return (int) (adjustedTimeLeftInPhase / 1000); // 转换为秒
                 }
                 
@@ -549,10 +846,10 @@ public class LCUMonitor {
     /**
      * 获取已被ban的英雄ID集合
      */
-    public CompletableFuture<Set<Integer>> getBannedChampions() {
+    public CompletableFuture<ChampionIdSet> getBannedChampions() {
         return getChampSelectSessionDetails()
             .thenApply(session -> {
-                Set<Integer> bannedChampions = new HashSet<>();
+                ChampionIdSet bannedChampions = new ChampionIdSet();
                 
                 if (session == null || session.isMissingNode()) {
                     logger.debug("getBannedChampions: session is null or missing");
@@ -633,10 +930,10 @@ public class LCUMonitor {
     /**
      * 获取已被pick的英雄ID集合
      */
-    public CompletableFuture<Set<Integer>> getPickedChampions() {
+    public CompletableFuture<ChampionIdSet> getPickedChampions() {
         return getChampSelectSessionDetails()
             .thenApply(session -> {
-                Set<Integer> pickedChampions = new HashSet<>();
+                ChampionIdSet pickedChampions = new ChampionIdSet();
                 
                 if (session == null || session.isMissingNode()) {
                     return pickedChampions;
@@ -709,30 +1006,50 @@ public class LCUMonitor {
         this.onChampSelectSessionChanged = onChampSelectSessionChanged;
     }
     
+    /**
+     * Typed per-change events (action started, ban locked, ...) derived from session deltas
+     */
+    public void setOnChampSelectEvent(Consumer<ChampSelectEvent> onChampSelectEvent) {
+        this.onChampSelectEvent = onChampSelectEvent;
+    }
+    
+    public void addPhaseListener(Consumer<GamePhase> listener) {
+        phaseListeners.add(listener);
+    }
+    
+    public void removePhaseListener(Consumer<GamePhase> listener) {
+        phaseListeners.remove(listener);
+    }
+    
+    /**
+     * Ready check transitions (true when one starts, false when it ends), only fired on change
+     */
+    public void addReadyCheckListener(Consumer<Boolean> listener) {
+        readyCheckListeners.add(listener);
+    }
+    
+    public void removeReadyCheckListener(Consumer<Boolean> listener) {
+        readyCheckListeners.remove(listener);
+    }
+    
+    /**
+     * Subscribe to the same typed champ select events as {@link #setOnChampSelectEvent}
+     * without replacing the primary callback
+     */
+    public void addChampSelectEventListener(Consumer<ChampSelectEvent> listener) {
+        champSelectEventListeners.add(listener);
+    }
+    
+    public void removeChampSelectEventListener(Consumer<ChampSelectEvent> listener) {
+        champSelectEventListeners.remove(listener);
+    }
+    
     public void shutdown() {
         logger.info("Shutting down LCU Monitor...");
         isShuttingDown = true;
         stopMonitoring();
-        
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                // Wait a bit longer for smart polling threads to finish
-                if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
-                    logger.warn("LCU Monitor scheduler did not terminate gracefully, forcing shutdown");
-                    scheduler.shutdownNow();
-                    
-                    // Wait a bit more for forced shutdown
-                    if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                        logger.error("LCU Monitor scheduler could not be stopped");
-                    }
-                }
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted while shutting down LCU Monitor scheduler");
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
+        closeEventStream();
+        // The timer is shared: pending poll ticks see isShuttingDown and return without rescheduling
         
         if (connection != null) {
             try {
@@ -745,8 +1062,7 @@ public class LCUMonitor {
         // Reset state
         currentPhase = GamePhase.NONE;
         isInReadyCheck = false;
-        currentMatchId = null;
-        lastChampSelectSession = null;
+        resetChampSelectState();
         consecutiveFailures = 0;
         
         logger.info("LCU Monitor shut down successfully");
@@ -768,10 +1084,10 @@ public class LCUMonitor {
      * Get teammate hover (prepick) champions
      * Returns a set of champion IDs that teammates have hovered but not locked in
      */
-    public CompletableFuture<Set<Integer>> getTeammateHoveredChampions() {
+    public CompletableFuture<ChampionIdSet> getTeammateHoveredChampions() {
         return getChampSelectSessionDetails()
             .thenApply(session -> {
-                Set<Integer> hoveredChampions = new HashSet<>();
+                ChampionIdSet hoveredChampions = new ChampionIdSet();
                 
                 if (session == null || session.isMissingNode()) {
                     logger.debug("getTeammateHoveredChampions: session is null or missing");
@@ -806,7 +1122,7 @@ public class LCUMonitor {
             })
             .exceptionally(throwable -> {
                 logger.error("Failed to get teammate hovered champions", throwable);
-                return new HashSet<>();
+                return new ChampionIdSet();
             });
     }
     
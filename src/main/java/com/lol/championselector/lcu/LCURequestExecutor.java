@@ -0,0 +1,133 @@
+package com.lol.championselector.lcu;
+
+import com.lol.championselector.manager.ResourceManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execution lanes for blocking LCU requests.
+ * Actions (ready-check accept, ban/pick PATCH) run on their own threads so that
+ * background GETs can never starve them, and neither lane touches ForkJoinPool.commonPool.
+ * The default instance runs on ResourceManager's LCU_ACTION and LCU_QUERY pools.
+ */
+public class LCURequestExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(LCURequestExecutor.class);
+
+    private static final int ACTION_THREADS = 2;
+    private static final int QUERY_THREADS = 3;
+    private static final int QUERY_QUEUE_CAPACITY = 64;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static volatile LCURequestExecutor defaultInstance;
+
+    public enum Lane {
+        /** State-changing calls on the champ-select critical path */
+        ACTION,
+        /** Polling and lookup GETs */
+        QUERY
+    }
+
+    private final ExecutorService actionLane;
+    private final ExecutorService queryLane;
+    private final boolean ownsLanes;
+
+    public LCURequestExecutor() {
+        this(ACTION_THREADS, QUERY_THREADS, QUERY_QUEUE_CAPACITY);
+    }
+
+    public LCURequestExecutor(int actionThreads, int queryThreads, int queryQueueCapacity) {
+        // Actions are rare and must never be dropped, so their queue is unbounded
+        this(createLane("LCU-Action", actionThreads, new LinkedBlockingQueue<>(), Thread.MAX_PRIORITY),
+             createLane("LCU-Query", queryThreads, new ArrayBlockingQueue<>(queryQueueCapacity), Thread.NORM_PRIORITY),
+             true);
+    }
+
+    private LCURequestExecutor(ExecutorService actionLane, ExecutorService queryLane, boolean ownsLanes) {
+        this.actionLane = actionLane;
+        this.queryLane = queryLane;
+        this.ownsLanes = ownsLanes;
+    }
+
+    /**
+     * Shared lanes used by every LCUConnection unless one is supplied explicitly
+     */
+    public static LCURequestExecutor getDefault() {
+        if (defaultInstance == null) {
+            synchronized (LCURequestExecutor.class) {
+                if (defaultInstance == null) {
+                    ResourceManager resources = ResourceManager.getInstance();
+                    defaultInstance = new LCURequestExecutor(
+                        resources.getExecutor(ResourceManager.Role.LCU_ACTION),
+                        resources.getExecutor(ResourceManager.Role.LCU_QUERY), false);
+                }
+            }
+        }
+        return defaultInstance;
+    }
+
+    public Executor executor(Lane lane) {
+        return lane == Lane.ACTION ? actionLane : queryLane;
+    }
+
+    public int getQueuedCount(Lane lane) {
+        ExecutorService executor = lane == Lane.ACTION ? actionLane : queryLane;
+        return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getQueue().size() : 0;
+    }
+
+    public int getActiveCount(Lane lane) {
+        ExecutorService executor = lane == Lane.ACTION ? actionLane : queryLane;
+        return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getActiveCount() : 0;
+    }
+
+    /**
+     * Stop lanes created by this instance; shared lanes are shut down by ResourceManager
+     */
+    public void shutdown() {
+        if (!ownsLanes) {
+            return;
+        }
+        actionLane.shutdown();
+        queryLane.shutdown();
+        try {
+            if (!actionLane.awaitTermination(3, TimeUnit.SECONDS)) {
+                actionLane.shutdownNow();
+            }
+            if (!queryLane.awaitTermination(3, TimeUnit.SECONDS)) {
+                queryLane.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            actionLane.shutdownNow();
+            queryLane.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadPoolExecutor createLane(String namePrefix, int threads,
+                                                 BlockingQueue<Runnable> queue, int priority) {
+        AtomicInteger counter = new AtomicInteger(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads,
+            KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            queue,
+            r -> {
+                Thread t = new Thread(r, namePrefix + "-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                t.setPriority(priority);
+                t.setUncaughtExceptionHandler((thread, ex) ->
+                    logger.error("Uncaught exception in thread: {}", thread.getName(), ex));
+                return t;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package com.lol.championselector.lcu;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Typed view of /lol-matchmaking/v1/ready-check
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ReadyCheck {
+    private String state;
+    private String playerResponse;
+    private double timer;
+
+    public ReadyCheck() {}
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getPlayerResponse() {
+        return playerResponse;
+    }
+
+    public void setPlayerResponse(String playerResponse) {
+        this.playerResponse = playerResponse;
+    }
+
+    public double getTimer() {
+        return timer;
+    }
+
+    public void setTimer(double timer) {
+        this.timer = timer;
+    }
+
+    public boolean isInProgress() {
+        return "InProgress".equals(state);
+    }
+}
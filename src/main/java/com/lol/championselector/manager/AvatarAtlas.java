@@ -0,0 +1,333 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.model.Champion;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 英雄头像图集：首次运行时把所有内置头像按界面实际显示尺寸缩放、解码成预乘BGRA像素，
+ * 写入一个文件；之后通过内存映射读取，每个头像是映射缓冲区上的PixelBuffer视图，无需再解码PNG
+ */
+public class AvatarAtlas {
+    private static final Logger logger = LoggerFactory.getLogger(AvatarAtlas.class);
+
+    /** 英雄选择网格中的头像尺寸 */
+    public static final int GRID_SIZE = 90;
+    /** Ban/Pick队列预览中的头像尺寸 */
+    public static final int QUEUE_SIZE = 24;
+
+    static final int[] TILE_SIZES = {GRID_SIZE, QUEUE_SIZE};
+    private static final int MAGIC = 0x4C4F4C41; // "LOLA"
+    private static final int FORMAT_VERSION = 1;
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final String RESOURCE_TEMPLATE = "/champion/avatars/%s.png";
+
+    private static final AvatarAtlas INSTANCE = new AvatarAtlas(
+        Paths.get(System.getProperty("user.home"), ".lol-helper", "avatar-cache"));
+
+    private final Path directory;
+    private final Map<String, Image> views = new ConcurrentHashMap<>();
+    private volatile Map<String, Integer> offsets = Map.of();
+    private volatile ByteBuffer pixels;
+    private CompletableFuture<Boolean> loadFuture;
+
+    AvatarAtlas(Path directory) {
+        this.directory = directory;
+    }
+
+    public static AvatarAtlas getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 在后台打开图集，文件不存在或与内置头像不一致时重新生成；重复调用返回同一个任务
+     */
+    public synchronized CompletableFuture<Boolean> loadAsync() {
+        if (loadFuture == null) {
+            loadFuture = CompletableFuture.supplyAsync(() -> {
+                ChampionCatalog catalog = ChampionCatalog.getInstance();
+                List<String> keys = catalog.getChampions().stream()
+                    .map(Champion::getKey)
+                    .collect(Collectors.toList());
+                return load(keys, AvatarAtlas::openResource, resourceFingerprint(catalog.getVersion(), keys));
+            }, ResourceManager.getInstance().getExecutor(ResourceManager.Role.DECODE));
+        }
+        return loadFuture;
+    }
+
+    public boolean isReady() {
+        return pixels != null;
+    }
+
+    /**
+     * 返回映射内存上的头像视图；图集未就绪或没有该尺寸时返回null，调用方应回退到PNG解码
+     */
+    public Image getImage(String championKey, int size) {
+        if (pixels == null || championKey == null) {
+            return null;
+        }
+        String tileKey = tileKey(championKey, size);
+        Image cached = views.get(tileKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ByteBuffer tile = getTile(championKey, size);
+        if (tile == null) {
+            return null;
+        }
+        PixelBuffer<ByteBuffer> buffer = new PixelBuffer<>(size, size, tile, PixelFormat.getByteBgraPreInstance());
+        return views.computeIfAbsent(tileKey, k -> new WritableImage(buffer));
+    }
+
+    /**
+     * 某个头像的预乘BGRA像素（只读切片）
+     */
+    ByteBuffer getTile(String championKey, int size) {
+        ByteBuffer mapped = pixels;
+        Integer offset = offsets.get(tileKey(championKey, size));
+        if (mapped == null || offset == null) {
+            return null;
+        }
+        return mapped.slice(offset, size * size * BYTES_PER_PIXEL);
+    }
+
+    /**
+     * @param sourceFingerprint 头像来源的指纹，来源内容变化时必须随之变化
+     */
+    synchronized boolean load(Collection<String> championKeys, Function<String, InputStream> source,
+                              long sourceFingerprint) {
+        long stamp = stampOf(championKeys, sourceFingerprint);
+        // 文件名带内容戳，重新生成时不会覆盖仍被映射的旧文件（Windows上无法替换）
+        Path atlasFile = directory.resolve(String.format("avatars-%016x.atlas", stamp));
+        try {
+            if (!open(atlasFile, stamp)) {
+                long started = System.nanoTime();
+                build(atlasFile, championKeys, source, stamp);
+                deleteOutdated(atlasFile);
+                if (!open(atlasFile, stamp)) {
+                    logger.warn("Avatar atlas {} unreadable after rebuild", atlasFile);
+                    return false;
+                }
+                logger.info("Built avatar atlas with {} tiles in {} ms", offsets.size(),
+                            (System.nanoTime() - started) / 1_000_000);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to prepare avatar atlas in {}: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 映射已有的图集文件，格式或内容戳不匹配时返回false
+     */
+    private boolean open(Path atlasFile, long expectedStamp) throws IOException {
+        if (!Files.isRegularFile(atlasFile)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(atlasFile, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.remaining() < 20 || mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION
+                    || mapped.getLong() != expectedStamp) {
+                logger.debug("Avatar atlas {} is outdated", atlasFile);
+                return false;
+            }
+
+            int count = mapped.getInt();
+            Map<String, Integer> index = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[mapped.getShort()];
+                mapped.get(key);
+                int size = mapped.getShort();
+                int offset = mapped.getInt();
+                if (offset < 0 || (long) offset + (long) size * size * BYTES_PER_PIXEL > mapped.capacity()) {
+                    logger.warn("Avatar atlas {} is truncated", atlasFile);
+                    return false;
+                }
+                index.put(tileKey(new String(key, StandardCharsets.UTF_8), size), offset);
+            }
+
+            views.clear();
+            offsets = index;
+            pixels = mapped;
+            logger.debug("Mapped avatar atlas {} ({} tiles, {} KB)", atlasFile, count, mapped.capacity() / 1024);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Corrupt avatar atlas {}: {}", atlasFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private void build(Path atlasFile, Collection<String> championKeys, Function<String, InputStream> source,
+                       long stamp) throws IOException {
+        List<String> keys = new ArrayList<>();
+        List<byte[]> tiles = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+
+        for (String championKey : new TreeSet<>(championKeys)) {
+            BufferedImage original = decode(championKey, source);
+            if (original == null) {
+                continue;
+            }
+            for (int size : TILE_SIZES) {
+                keys.add(championKey);
+                sizes.add(size);
+                tiles.add(toBgraPre(ThumbnailCache.scale(original, size, size)));
+            }
+        }
+
+        int headerSize = 20;
+        for (String key : keys) {
+            headerSize += 2 + key.getBytes(StandardCharsets.UTF_8).length + 2 + 4;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerSize);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(stamp).putInt(keys.size());
+        int offset = headerSize;
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i).getBytes(StandardCharsets.UTF_8);
+            header.putShort((short) key.length).put(key).putShort(sizes.get(i).shortValue()).putInt(offset);
+            offset += tiles.get(i).length;
+        }
+        header.flip();
+
+        // 先写临时文件再替换，避免半写入的图集被映射
+        Files.createDirectories(directory);
+        Path temp = atlasFile.resolveSibling(atlasFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.write(header);
+            for (byte[] tile : tiles) {
+                ByteBuffer buffer = ByteBuffer.wrap(tile);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+        Files.move(temp, atlasFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void deleteOutdated(Path current) {
+        try (DirectoryStream<Path> atlases = Files.newDirectoryStream(directory, "avatars-*.atlas")) {
+            for (Path atlas : atlases) {
+                if (!atlas.equals(current)) {
+                    try {
+                        Files.deleteIfExists(atlas);
+                    } catch (IOException e) {
+                        // 可能仍被映射，下次启动再清理
+                        logger.debug("Could not delete outdated avatar atlas {}", atlas);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to list avatar atlases in {}", directory, e);
+        }
+    }
+
+    private static BufferedImage decode(String championKey, Function<String, InputStream> source) {
+        try (InputStream in = source.apply(championKey)) {
+            return in != null ? ImageIO.read(in) : null;
+        } catch (IOException e) {
+            logger.debug("Skipping avatar {} in atlas: {}", championKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] toBgraPre(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+        byte[] bgra = new byte[argb.length * BYTES_PER_PIXEL];
+        for (int i = 0, j = 0; i < argb.length; i++) {
+            int pixel = argb[i];
+            int alpha = pixel >>> 24;
+            bgra[j++] = (byte) premultiply(pixel & 0xFF, alpha);
+            bgra[j++] = (byte) premultiply((pixel >> 8) & 0xFF, alpha);
+            bgra[j++] = (byte) premultiply((pixel >> 16) & 0xFF, alpha);
+            bgra[j++] = (byte) alpha;
+        }
+        return bgra;
+    }
+
+    private static int premultiply(int channel, int alpha) {
+        return alpha == 0xFF ? channel : (channel * alpha + 127) / 255;
+    }
+
+    /**
+     * 内容戳：英雄列表、图块尺寸或头像来源变化时重新生成图集
+     */
+    private static long stampOf(Collection<String> championKeys, long sourceFingerprint) {
+        long hash = 1125899906842597L + sourceFingerprint;
+        for (String key : new TreeSet<>(championKeys)) {
+            hash = 31 * hash + key.hashCode();
+        }
+        for (int size : TILE_SIZES) {
+            hash = 31 * hash + size;
+        }
+        return hash;
+    }
+
+    /**
+     * 内置头像的指纹：英雄数据版本加上每个PNG的字节数，只读取资源的元数据，不打开内容
+     */
+    static long resourceFingerprint(String catalogVersion, Collection<String> championKeys) {
+        long hash = catalogVersion != null ? catalogVersion.hashCode() : 0;
+        for (String key : new TreeSet<>(championKeys)) {
+            URL url = AvatarAtlas.class.getResource(String.format(RESOURCE_TEMPLATE, key));
+            long length = -1;
+            if (url != null) {
+                try {
+                    // file:连接取长度时会打开文件，开发环境下直接读文件大小
+                    length = "file".equals(url.getProtocol())
+                        ? Files.size(Paths.get(url.toURI()))
+                        : url.openConnection().getContentLengthLong();
+                } catch (IOException | URISyntaxException e) {
+                    logger.debug("Cannot read size of avatar {}: {}", key, e.getMessage());
+                }
+            }
+            hash = 31 * hash + length;
+        }
+        return hash;
+    }
+
+    private static InputStream openResource(String championKey) {
+        return AvatarAtlas.class.getResourceAsStream(String.format(RESOURCE_TEMPLATE, championKey));
+    }
+
+    private static String tileKey(String championKey, int size) {
+        return championKey + "@" + size;
+    }
+}
@@ -1,48 +1,93 @@
 package com.lol.championselector.manager;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.lol.championselector.config.ChampionVersionMapping;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 public class AvatarManager {
     private static final Logger logger = LoggerFactory.getLogger(AvatarManager.class);
     
     // Enhanced cache configuration with memory limits
-    private static final int MEMORY_CACHE_SIZE = 150; // Reduced from 200
     private static final long MAX_MEMORY_USAGE_MB = 64; // 64MB memory limit
     private static final Duration CACHE_EXPIRE_TIME = Duration.ofHours(12); // Reduced from 24h
-    private static final Duration CACHE_REFRESH_TIME = Duration.ofMinutes(30); // Auto-refresh interval
+    static final int DECODE_THREADS = ResourceManager.DECODE_THREADS;
+    private static final int DOWNLOAD_THREADS = 2;
+    private static final int FULL_SIZE = 0;
     private static final String DDRAGON_URL_TEMPLATE = 
         "https://ddragon.leagueoflegends.com/cdn/%s/img/champion/%s.png";
     
-    private final Cache<String, Image> memoryCache;
+    // 按“英雄@尺寸”缓存，同一尺寸的并发请求共享一次加载（single-flight），失败结果（null）不进入缓存
+    private final AsyncLoadingCache<String, Image> memoryCache;
     private final OkHttpClient httpClient;
     private final Path cacheDirectory;
+    private final BoundedExecutor decodeExecutor;
     private final ExecutorService downloadExecutor;
+    private final AvatarAtlas atlas;
+    private final ThumbnailCache thumbnails;
+    private final BiFunction<String, Integer, Image> resourceDecoder;
     private Image defaultImage;
     private volatile boolean isShuttingDown = false;
     
+    // 解码优先级：当前可见的头像先解码
+    private volatile Set<String> visibleChampions = Set.of();
+    private final Map<String, DecodeTask> pendingDecodes = new ConcurrentHashMap<>();
+    private final AtomicLong decodeSequence = new AtomicLong();
+    
     // Cache statistics
-    private long totalCacheHits = 0;
-    private long totalCacheMisses = 0;
-    private long lastCacheCleanupTime = System.currentTimeMillis();
+    private final LongAdder atlasHits = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final AtomicLong lastCacheCleanupTime = new AtomicLong(System.currentTimeMillis());
     
     public AvatarManager() {
+        this(Paths.get(System.getProperty("user.home"), ".lol-helper", "avatar-cache"),
+             AvatarAtlas.getInstance(), null);
+        atlas.loadAsync();
+    }
+    
+    /**
+     * @param resourceDecoder 解码内置头像（英雄key, 显示尺寸 → 图片），为null时读取JAR资源
+     */
+    AvatarManager(Path cacheDirectory, AvatarAtlas atlas, BiFunction<String, Integer, Image> resourceDecoder) {
+        this.cacheDirectory = cacheDirectory;
+        this.atlas = atlas;
+        this.thumbnails = new ThumbnailCache(cacheDirectory.resolve("thumbs"));
+        this.resourceDecoder = resourceDecoder != null ? resourceDecoder : this::decodeResource;
+        
+        // 解码队列按可见性排序，线程来自共享的解码线程池
+        ResourceManager resources = ResourceManager.getInstance();
+        this.decodeExecutor = new BoundedExecutor(resources.getExecutor(ResourceManager.Role.DECODE),
+                                                  DECODE_THREADS, new PriorityBlockingQueue<>());
+        this.downloadExecutor = resources.newBoundedExecutor(ResourceManager.Role.IO, DOWNLOAD_THREADS);
+        
         this.memoryCache = Caffeine.newBuilder()
             .maximumWeight(MAX_MEMORY_USAGE_MB * 1024 * 1024) // Convert MB to bytes, use weight-based eviction
             .weigher((String key, Image image) -> {
@@ -56,7 +101,7 @@ public class AvatarManager {
             .removalListener((key, value, cause) -> {
                 logger.debug("Cache entry removed: {} (cause: {})", key, cause);
             })
-            .build();
+            .buildAsync((key, executor) -> loadAvatar(key));
         
         this.httpClient = new OkHttpClient.Builder()
             .connectionPool(new ConnectionPool(5, 5, TimeUnit.MINUTES)) // Reduced pool size
@@ -65,16 +110,9 @@ public class AvatarManager {
             .writeTimeout(8, TimeUnit.SECONDS)
             .retryOnConnectionFailure(false) // Disable automatic retry to prevent hanging
             .build();
-            
-        // Use user directory for cache to work in packaged applications
-        this.cacheDirectory = Paths.get(System.getProperty("user.home"), ".lol-helper", "avatar-cache");
-        this.downloadExecutor = ForkJoinPool.commonPool();
         
         initializeCacheDirectory();
         loadDefaultImage();
-        
-        // Schedule periodic cache cleanup
-        schedulePeriodicCleanup();
     }
     
     private void initializeCacheDirectory() {
@@ -94,83 +132,206 @@ public class AvatarManager {
                 defaultImage = new Image("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
             }
         } catch (Exception e) {
-            logger.warn("Failed to load default image, creating empty image", e);
-            defaultImage = new Image("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+            // 图形系统未初始化时无法解码，退回到1x1空白图
+            logger.warn("Failed to load default image, creating empty image: {}", e.getMessage());
+            defaultImage = new WritableImage(1, 1);
         }
     }
     
-    public CompletableFuture<Image> getAvatarAsync(String championKey) {
+    /**
+     * 按显示尺寸获取头像：图集就绪时直接返回映射内存上的视图，否则加载该尺寸的缩略图
+     */
+    public CompletableFuture<Image> getAvatarAsync(String championKey, int size) {
         if (isShuttingDown) {
             return CompletableFuture.completedFuture(getDefaultImage());
         }
         
-        // Check memory cache first
-        Image cached = memoryCache.getIfPresent(championKey);
-        if (cached != null) {
-            totalCacheHits++;
-            return CompletableFuture.completedFuture(cached);
+        Image tile = atlas.getImage(championKey, size);
+        if (tile != null) {
+            atlasHits.increment();
+            return CompletableFuture.completedFuture(tile);
         }
         
-        totalCacheMisses++;
-        
         // Perform periodic cache maintenance
         performPeriodicMaintenance();
         
-        // First try to load from JAR resources (highest priority)
-        try {
-            String resourcePath = "/champion/avatars/" + championKey + ".png";
-            var resourceStream = getClass().getResourceAsStream(resourcePath);
-            if (resourceStream != null) {
-                Image image = new Image(resourceStream);
-                if (!image.isError() && !isShuttingDown) {
-                    memoryCache.put(championKey, image);
-                    logger.debug("Loaded avatar from JAR resources: {}", championKey);
-                    return CompletableFuture.completedFuture(image);
+        return memoryCache.get(cacheKey(championKey, size))
+            .handle((image, throwable) -> {
+                if (throwable != null) {
+                    logger.debug("Failed to load avatar for {}: {}", championKey, throwable.getMessage());
+                }
+                return image != null ? image : getDefaultImage();
+            });
+    }
+    
+    /**
+     * 原始尺寸的头像
+     */
+    public CompletableFuture<Image> getAvatarAsync(String championKey) {
+        return getAvatarAsync(championKey, FULL_SIZE);
+    }
+    
+    /**
+     * 设置当前可见的英雄，排队中的对应解码任务会被提前
+     */
+    public void setVisibleChampions(Collection<String> championKeys) {
+        Set<String> visible = Set.copyOf(championKeys);
+        visibleChampions = visible;
+        
+        for (DecodeTask task : pendingDecodes.values()) {
+            if (!task.visible && visible.contains(task.championKey) && decodeExecutor.remove(task)) {
+                task.visible = true;
+                try {
+                    decodeExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.result.complete(null);
                 }
-                resourceStream.close();
             }
-        } catch (Exception e) {
-            logger.debug("Failed to load avatar from JAR resources for {}: {}", championKey, e.getMessage());
+        }
+    }
+    
+    /**
+     * 缓存加载器：磁盘缩略图 → JAR资源 → 本地文件缓存 → 网络下载，失败时返回null（不缓存）
+     */
+    private CompletableFuture<Image> loadAvatar(String cacheKey) {
+        long started = System.nanoTime();
+        int separator = cacheKey.lastIndexOf('@');
+        String championKey = cacheKey.substring(0, separator);
+        int size = Integer.parseInt(cacheKey.substring(separator + 1));
+        
+        CompletableFuture<Image> result;
+        long fingerprint = size != FULL_SIZE ? sourceFingerprint(championKey) : ThumbnailCache.NO_SOURCE;
+        if (thumbnails.exists(championKey, size, fingerprint)) {
+            result = decodeAsync(cacheKey, championKey, () -> thumbnails.readExisting(championKey, size, fingerprint))
+                .thenCompose(image -> image != null ? CompletableFuture.completedFuture(image)
+                                                    : loadFromSource(cacheKey, championKey, size));
+        } else {
+            result = loadFromSource(cacheKey, championKey, size);
         }
         
-        // Then try local file cache
+        return result.whenComplete((image, throwable) -> {
+            loadCount.increment();
+            totalLoadNanos.add(System.nanoTime() - started);
+            if (image == null) {
+                loadFailures.increment();
+            }
+        });
+    }
+    
+    private CompletableFuture<Image> loadFromSource(String cacheKey, String championKey, int size) {
+        if (getClass().getResource(resourcePath(championKey)) != null) {
+            return decodeAsync(cacheKey, championKey, () -> resourceDecoder.apply(championKey, size))
+                .thenCompose(image -> image != null ? CompletableFuture.completedFuture(image)
+                                                    : loadFromCacheOrNetwork(cacheKey, championKey, size));
+        }
+        return loadFromCacheOrNetwork(cacheKey, championKey, size);
+    }
+    
+    private CompletableFuture<Image> loadFromCacheOrNetwork(String cacheKey, String championKey, int size) {
         Path localFile = getCachePath(championKey);
         if (Files.exists(localFile)) {
-            return CompletableFuture.supplyAsync(() -> {
-                if (isShuttingDown) {
-                    return getDefaultImage();
-                }
-                
+            return decodeAsync(cacheKey, championKey, () -> {
                 try {
-                    Image image = new Image(localFile.toUri().toString());
-                    if (!image.isError()) {
-                        // Only cache if not shutting down and image is valid
-                        if (!isShuttingDown) {
-                            memoryCache.put(championKey, image);
-                        }
-                        logger.debug("Loaded avatar from local cache: {}", championKey);
-                        return image;
+                    Image image = decodeBytes(championKey, size, ThumbnailCache.fingerprint(localFile),
+                                              Files.readAllBytes(localFile));
+                    if (image == null) {
+                        logger.warn("Failed to load cached image for {}", championKey);
                     }
-                } catch (Exception e) {
+                    return image;
+                } catch (IOException e) {
                     logger.warn("Failed to load cached image for {}: {}", championKey, e.getMessage());
+                    return null;
                 }
-                return getDefaultImage();
-            }, downloadExecutor);
+            });
         }
         
         // Finally try to download from network (fallback)
         logger.debug("Avatar not found in JAR or cache, downloading: {}", championKey);
-        return downloadAvatarAsync(championKey);
+        return downloadAvatarAsync(championKey)
+            .thenCompose(data -> data != null
+                ? decodeAsync(cacheKey, championKey, () -> decodeBytes(championKey, size,
+                                                                        ThumbnailCache.fingerprint(localFile), data))
+                : CompletableFuture.completedFuture(null));
     }
     
-    private CompletableFuture<Image> downloadAvatarAsync(String championKey) {
+    private CompletableFuture<Image> decodeAsync(String cacheKey, String championKey, Supplier<Image> decoder) {
         if (isShuttingDown) {
-            return CompletableFuture.completedFuture(getDefaultImage());
+            return CompletableFuture.completedFuture(null);
+        }
+        DecodeTask task = new DecodeTask(championKey, decoder, visibleChampions.contains(championKey),
+                                         decodeSequence.incrementAndGet());
+        pendingDecodes.put(cacheKey, task);
+        task.result.whenComplete((image, throwable) -> pendingDecodes.remove(cacheKey, task));
+        try {
+            decodeExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.result.complete(null);
+        }
+        return task.result;
+    }
+    
+    /**
+     * 原图按尺寸解码：有显示尺寸时生成并持久化缩略图，只分配显示所需的像素
+     */
+    private Image decodeBytes(String championKey, int size, long sourceFingerprint, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (size != FULL_SIZE) {
+            return thumbnails.create(championKey, size, sourceFingerprint, data);
+        }
+        Image image = new Image(new ByteArrayInputStream(data));
+        return image.isError() ? null : image;
+    }
+    
+    private Image decodeResource(String championKey, int size) {
+        try (InputStream stream = AvatarManager.class.getResourceAsStream(resourcePath(championKey))) {
+            if (stream == null) {
+                return null;
+            }
+            long fingerprint = ThumbnailCache.fingerprint(AvatarManager.class.getResource(resourcePath(championKey)));
+            Image image = decodeBytes(championKey, size, fingerprint, stream.readAllBytes());
+            if (image != null) {
+                logger.debug("Loaded avatar from JAR resources: {}@{}", championKey, size);
+            }
+            return image;
+        } catch (IOException e) {
+            logger.debug("Failed to load avatar from JAR resources for {}: {}", championKey, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 按加载顺序确定原图来源（JAR资源优先，其次本地文件缓存）的指纹，用于匹配磁盘缩略图
+     */
+    private long sourceFingerprint(String championKey) {
+        URL resource = getClass().getResource(resourcePath(championKey));
+        if (resource != null) {
+            return ThumbnailCache.fingerprint(resource);
+        }
+        Path localFile = getCachePath(championKey);
+        return Files.exists(localFile) ? ThumbnailCache.fingerprint(localFile) : ThumbnailCache.NO_SOURCE;
+    }
+    
+    private static String resourcePath(String championKey) {
+        return "/champion/avatars/" + championKey + ".png";
+    }
+    
+    private static String cacheKey(String championKey, int size) {
+        return championKey + "@" + size;
+    }
+    
+    /**
+     * 下载原图并保存到本地文件缓存，失败时返回null
+     */
+    private CompletableFuture<byte[]> downloadAvatarAsync(String championKey) {
+        if (isShuttingDown) {
+            return CompletableFuture.completedFuture(null);
         }
         
         return CompletableFuture.supplyAsync(() -> {
             if (isShuttingDown) {
-                return getDefaultImage();
+                return null;
             }
             
             try {
@@ -183,25 +344,25 @@ public class AvatarManager {
                 
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (isShuttingDown) {
-                        return getDefaultImage();
+                        return null;
                     }
                     
                     if (!response.isSuccessful()) {
                         logger.warn("Failed to download avatar for {}: HTTP {}", championKey, response.code());
-                        return getDefaultImage();
+                        return null;
                     }
                     
                     ResponseBody responseBody = response.body();
                     if (responseBody == null) {
                         logger.warn("Empty response body for avatar: {}", championKey);
-                        return getDefaultImage();
+                        return null;
                     }
                     
                     // Check content length to avoid downloading huge files
                     long contentLength = responseBody.contentLength();
                     if (contentLength > 5 * 1024 * 1024) { // 5MB limit
                         logger.warn("Avatar file too large for {}: {} bytes", championKey, contentLength);
-                        return getDefaultImage();
+                        return null;
                     }
                     
                     byte[] imageData = responseBody.bytes();
@@ -209,33 +370,21 @@ public class AvatarManager {
                     if (!isShuttingDown) {
                         saveToLocalCache(championKey, imageData);
                     }
-                    
-                    ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData);
-                    Image image = new Image(inputStream);
-                    
-                    if (!image.isError() && !isShuttingDown) {
-                        memoryCache.put(championKey, image);
-                        return image;
-                    } else if (image.isError()) {
-                        logger.warn("Image error for {}: {}", championKey, image.getException());
-                        return getDefaultImage();
-                    }
-                    
-                    return getDefaultImage();
+                    return imageData;
                 }
             } catch (java.net.SocketTimeoutException e) {
                 logger.debug("Timeout downloading avatar for: {} - {}", championKey, e.getMessage());
-                return getDefaultImage();
+                return null;
             } catch (java.io.IOException e) {
                 if (!isShuttingDown) {
                     logger.debug("IO error downloading avatar for: {} - {}", championKey, e.getMessage());
                 }
-                return getDefaultImage();
+                return null;
             } catch (Exception e) {
                 if (!isShuttingDown) {
                     logger.warn("Failed to download avatar for: {}", championKey, e);
                 }
-                return getDefaultImage();
+                return null;
             }
         }, downloadExecutor);
     }
@@ -264,47 +413,43 @@ public class AvatarManager {
     }
     
     public void clearCache() {
-        memoryCache.invalidateAll();
-        totalCacheHits = 0;
-        totalCacheMisses = 0;
+        memoryCache.synchronous().invalidateAll();
         logger.info("Avatar cache cleared");
     }
     
     private void performPeriodicMaintenance() {
         long currentTime = System.currentTimeMillis();
-        if (currentTime - lastCacheCleanupTime > 300000) { // 5 minutes
-            lastCacheCleanupTime = currentTime;
+        long lastCleanup = lastCacheCleanupTime.get();
+        if (currentTime - lastCleanup > 300000 // 5 minutes
+                && lastCacheCleanupTime.compareAndSet(lastCleanup, currentTime)) {
             
             // Clean up cache statistics and log status
-            memoryCache.cleanUp();
-            
-            long totalRequests = totalCacheHits + totalCacheMisses;
-            if (totalRequests > 0) {
-                double hitRate = (double) totalCacheHits / totalRequests * 100;
-                logger.debug("Avatar cache stats - Size: {}, Hit rate: {:.1f}%, Memory usage: ~{}MB", 
-                           memoryCache.estimatedSize(), hitRate, estimateMemoryUsage() / (1024 * 1024));
-            }
+            memoryCache.synchronous().cleanUp();
+            logger.debug("Avatar cache stats: {}", getCacheStats());
         }
     }
     
-    private void schedulePeriodicCleanup() {
-        // This would ideally use a ScheduledExecutorService, but for simplicity
-        // we'll rely on the periodic maintenance during normal operations
-    }
-    
     private long estimateMemoryUsage() {
-        // Rough estimation of memory usage
-        return memoryCache.estimatedSize() * 50 * 1024; // Assume ~50KB per image
+        // 先处理挂起的写入，权重才包含刚加载完成的图片
+        memoryCache.synchronous().cleanUp();
+        return memoryCache.synchronous().policy().eviction()
+            .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+            .orElse(0L);
     }
     
     public CacheStats getCacheStats() {
-        com.github.benmanes.caffeine.cache.stats.CacheStats stats = memoryCache.stats();
+        com.github.benmanes.caffeine.cache.stats.CacheStats stats = memoryCache.synchronous().stats();
+        long loads = loadCount.sum();
         return new CacheStats(
-            memoryCache.estimatedSize(),
+            memoryCache.synchronous().estimatedSize(),
             stats.hitCount(),
             stats.missCount(),
             stats.hitRate(),
-            estimateMemoryUsage()
+            estimateMemoryUsage(),
+            atlasHits.sum(),
+            loads,
+            loadFailures.sum(),
+            loads > 0 ? totalLoadNanos.sum() / loads / 1_000_000.0 : 0
         );
     }
     
@@ -314,19 +459,69 @@ public class AvatarManager {
         public final long missCount;
         public final double hitRate;
         public final long estimatedMemoryUsage;
+        public final long atlasHitCount;
+        public final long loadCount;
+        public final long loadFailureCount;
+        public final double averageLoadMillis;
         
-        public CacheStats(long size, long hitCount, long missCount, double hitRate, long estimatedMemoryUsage) {
+        public CacheStats(long size, long hitCount, long missCount, double hitRate, long estimatedMemoryUsage,
+                          long atlasHitCount, long loadCount, long loadFailureCount, double averageLoadMillis) {
             this.size = size;
             this.hitCount = hitCount;
             this.missCount = missCount;
             this.hitRate = hitRate;
             this.estimatedMemoryUsage = estimatedMemoryUsage;
+            this.atlasHitCount = atlasHitCount;
+            this.loadCount = loadCount;
+            this.loadFailureCount = loadFailureCount;
+            this.averageLoadMillis = averageLoadMillis;
         }
         
         @Override
         public String toString() {
-            return String.format("CacheStats{size=%d, hitRate=%.2f%%, memoryUsage=%dKB}", 
-                               size, hitRate * 100, estimatedMemoryUsage / 1024);
+            return String.format("CacheStats{size=%d, hitRate=%.2f%%, memoryUsage=%dKB, atlasHits=%d, loads=%d, failures=%d, avgLoad=%.1fms}", 
+                               size, hitRate * 100, estimatedMemoryUsage / 1024, atlasHitCount,
+                               loadCount, loadFailureCount, averageLoadMillis);
+        }
+    }
+    
+    /**
+     * 解码任务：可见的头像优先，其余按提交顺序
+     */
+    private final class DecodeTask implements Runnable, Comparable<DecodeTask> {
+        private final String championKey;
+        private final Supplier<Image> decoder;
+        private final long sequence;
+        private final CompletableFuture<Image> result = new CompletableFuture<>();
+        private volatile boolean visible;
+        
+        DecodeTask(String championKey, Supplier<Image> decoder, boolean visible, long sequence) {
+            this.championKey = championKey;
+            this.decoder = decoder;
+            this.visible = visible;
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public void run() {
+            if (isShuttingDown) {
+                result.complete(null);
+                return;
+            }
+            try {
+                result.complete(decoder.get());
+            } catch (Exception e) {
+                logger.warn("Failed to decode avatar for {}: {}", championKey, e.getMessage());
+                result.complete(null);
+            }
+        }
+        
+        @Override
+        public int compareTo(DecodeTask other) {
+            if (visible != other.visible) {
+                return visible ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
         }
     }
     
@@ -336,7 +531,14 @@ public class AvatarManager {
         
         try {
             // Clear memory cache to free up memory immediately
-            memoryCache.invalidateAll();
+            memoryCache.synchronous().invalidateAll();
+            
+            // 丢弃排队中的解码任务
+            for (Runnable task : decodeExecutor.shutdownNow()) {
+                ((DecodeTask) task).result.complete(null);
+            }
+            pendingDecodes.clear();
+            downloadExecutor.shutdownNow();
             
             // Cancel all pending HTTP calls
             httpClient.dispatcher().cancelAll();
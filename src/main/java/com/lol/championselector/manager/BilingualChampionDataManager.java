@@ -25,6 +25,7 @@ public class BilingualChampionDataManager {
     private final ObjectMapper objectMapper;
     private List<Champion> champions;
     private Map<String, Champion> championByKey;
+    private ChampionSearchIndex searchIndex = ChampionSearchIndex.build(List.of());
     private boolean useChineseNames = true;
     
     public BilingualChampionDataManager() {
@@ -77,6 +78,7 @@ public class BilingualChampionDataManager {
                 String nameB = useChineseNames ? b.getNameCn() : b.getNameEn();
                 return nameA.compareTo(nameB);
             });
+            searchIndex = ChampionSearchIndex.build(champions);
             
             logger.info("Loaded {} champions with bilingual data", champions.size());
             return true;
@@ -236,36 +238,7 @@ public class BilingualChampionDataManager {
      * Search champions by keyword in both languages
      */
     public List<Champion> searchChampions(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return new ArrayList<>(champions);
-        }
-        
-        String lowerKeyword = keyword.toLowerCase().trim();
-        
-        return champions.stream()
-            .filter(champion -> matchesKeyword(champion, lowerKeyword))
-            .toList();
-    }
-    
-    private boolean matchesKeyword(Champion champion, String keyword) {
-        // Check English name
-        if (champion.getNameEn().toLowerCase().contains(keyword)) {
-            return true;
-        }
-        
-        // Check Chinese name
-        if (champion.getNameCn().contains(keyword)) {
-            return true;
-        }
-        
-        // Check title
-        if (champion.getTitle().toLowerCase().contains(keyword)) {
-            return true;
-        }
-        
-        // Check keywords
-        return champion.getKeywords().stream()
-            .anyMatch(k -> k.contains(keyword));
+        return searchIndex.search(keyword);
     }
     
     public List<Champion> getAllChampions() {
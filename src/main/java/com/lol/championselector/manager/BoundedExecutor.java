@@ -0,0 +1,178 @@
+package com.lol.championselector.manager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency-limited view over a shared pool.
+ * At most maxConcurrent tasks of this view run at once; the rest wait in the view's own queue
+ * (FIFO, or a priority queue supplied by the owner). Each dispatch runs a single task and goes
+ * back through the shared pool, so views on the same pool take turns instead of one monopolizing it.
+ * With maxConcurrent = 1 the view is a serial executor: tasks run one at a time, in order, and
+ * each sees the effects of the previous one.
+ * Shutting a view down only affects this view, never the shared pool.
+ */
+public class BoundedExecutor extends AbstractExecutorService {
+    private static final Logger logger = LoggerFactory.getLogger(BoundedExecutor.class);
+
+    private final Executor delegate;
+    private final int maxConcurrent;
+    private final Queue<Runnable> queue;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Object terminationLock = new Object();
+    private volatile boolean shutdown = false;
+
+    /**
+     * @param queue pending tasks; must be thread-safe
+     */
+    public BoundedExecutor(Executor delegate, int maxConcurrent, Queue<Runnable> queue) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        this.delegate = delegate;
+        this.maxConcurrent = maxConcurrent;
+        this.queue = queue;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor view is shut down");
+        }
+        queue.offer(task);
+        try {
+            dispatch();
+        } catch (RejectedExecutionException e) {
+            queue.remove(task);
+            throw e;
+        }
+    }
+
+    /**
+     * Withdraw a task that has not started yet
+     */
+    public boolean remove(Runnable task) {
+        boolean removed = queue.remove(task);
+        if (removed) {
+            signalIfTerminated();
+        }
+        return removed;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private void dispatch() {
+        while (true) {
+            int current = running.get();
+            if (current >= maxConcurrent || queue.isEmpty()) {
+                return;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                try {
+                    delegate.execute(this::runNext);
+                } catch (RejectedExecutionException e) {
+                    running.decrementAndGet();
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private void runNext() {
+        try {
+            Runnable task = queue.poll();
+            if (task != null) {
+                task.run();
+            }
+        } catch (Exception e) {
+            logger.error("Error executing task", e);
+        } finally {
+            running.decrementAndGet();
+            try {
+                dispatch();
+            } catch (RejectedExecutionException e) {
+                // 共享线程池已关闭：剩余任务留在队列中，由所有者通过shutdownNow取回
+                logger.debug("Shared pool rejected follow-up dispatch, {} tasks left queued", queue.size());
+            }
+            signalIfTerminated();
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (shutdown && isTerminated()) {
+            synchronized (terminationLock) {
+                terminationLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Reject new tasks; queued ones still run
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        signalIfTerminated();
+    }
+
+    /**
+     * Reject new tasks and hand back the ones that have not started.
+     * Running tasks are not interrupted: they run on threads this view does not own.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>();
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            pending.add(task);
+        }
+        signalIfTerminated();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && running.get() == 0 && queue.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (terminationLock) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(terminationLock, remaining);
+            }
+            return true;
+        }
+    }
+}
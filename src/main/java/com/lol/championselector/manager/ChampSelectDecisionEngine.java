@@ -0,0 +1,878 @@
+package com.lol.championselector.manager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lol.championselector.config.AutoAcceptConfig;
+import com.lol.championselector.lcu.LCUMonitor;
+import com.lol.championselector.model.ChampionIdSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 英雄选择决策引擎 - 在串行事件循环（LCU_ACTION线程池上的串行执行器）上解析session、分析Draft、选择英雄并发出ban/pick请求，
+ * 不依赖JavaFX；UI只接收状态文本、执行结果和视图快照
+ */
+public class ChampSelectDecisionEngine {
+    private static final Logger logger = LoggerFactory.getLogger(ChampSelectDecisionEngine.class);
+
+    private static final int MAX_RETRY_COUNT = 3;
+    // 失败后重试的延迟，与英雄选择阶段的轮询间隔一致
+    private static final long RETRY_DELAY_MS = 500;
+    // 分路尚未分配时最多查询的次数，每次间隔1秒
+    private static final int POSITION_ATTEMPTS = 3;
+    // 智能延迟pick时等待敌方选择的秒数
+    private static final int STRATEGIC_DELAY_SECONDS = 3;
+    // 无法获取阶段剩余时间时按30秒计算
+    private static final int DEFAULT_REMAINING_SECONDS = 30;
+
+    /**
+     * action处理状态
+     */
+    private enum ActionStatus {
+        PROCESSING,  // 正在处理中
+        SUCCESS,     // 成功完成
+        FAILED,      // 失败，可以重试
+        RETRY_LIMIT  // 达到重试次数限制
+    }
+
+    public enum ActionType {
+        BAN,
+        PICK
+    }
+
+    /**
+     * 一次ban/pick请求的结果，供UI提示
+     */
+    public static class ActionOutcome {
+        private final ActionType type;
+        private final int actionId;
+        private final AutoAcceptConfig.ChampionInfo champion;
+        private final boolean success;
+
+        public ActionOutcome(ActionType type, int actionId, AutoAcceptConfig.ChampionInfo champion, boolean success) {
+            this.type = type;
+            this.actionId = actionId;
+            this.champion = champion;
+            this.success = success;
+        }
+
+        public ActionType getType() { return type; }
+        public int getActionId() { return actionId; }
+        public AutoAcceptConfig.ChampionInfo getChampion() { return champion; }
+        public boolean isSuccess() { return success; }
+
+        @Override
+        public String toString() {
+            return String.format("ActionOutcome{type=%s, actionId=%d, champion=%s, success=%s}", type, actionId, champion, success);
+        }
+    }
+
+    /**
+     * 英雄选择状态的不可变快照，供UI展示
+     */
+    public static class ChampSelectView {
+        private final String sessionId;
+        private final int localCellId;
+        private final String timerPhase;
+        private final int currentActionId;
+        private final String currentActionType;
+        private final ChampionIdSet bannedChampions;
+        private final ChampionIdSet pickedChampions;
+        private final ChampionIdSet teammateHoveredChampions;
+
+        public ChampSelectView(String sessionId, int localCellId, String timerPhase, int currentActionId,
+                               String currentActionType, ChampionIdSet bannedChampions,
+                               ChampionIdSet pickedChampions, ChampionIdSet teammateHoveredChampions) {
+            this.sessionId = sessionId;
+            this.localCellId = localCellId;
+            this.timerPhase = timerPhase;
+            this.currentActionId = currentActionId;
+            this.currentActionType = currentActionType;
+            this.bannedChampions = bannedChampions.toReadOnly();
+            this.pickedChampions = pickedChampions.toReadOnly();
+            this.teammateHoveredChampions = teammateHoveredChampions.toReadOnly();
+        }
+
+        public String getSessionId() { return sessionId; }
+        public int getLocalCellId() { return localCellId; }
+        public String getTimerPhase() { return timerPhase; }
+        public int getCurrentActionId() { return currentActionId; }
+        public String getCurrentActionType() { return currentActionType; }
+        public ChampionIdSet getBannedChampions() { return bannedChampions; }
+        public ChampionIdSet getPickedChampions() { return pickedChampions; }
+        public ChampionIdSet getTeammateHoveredChampions() { return teammateHoveredChampions; }
+
+        @Override
+        public String toString() {
+            return String.format("ChampSelectView{session=%s, phase=%s, action=%d(%s), banned=%d, picked=%d, hovered=%s}",
+                                sessionId, timerPhase, currentActionId, currentActionType,
+                                bannedChampions.size(), pickedChampions.size(), teammateHoveredChampions);
+        }
+    }
+
+    private final DraftPickEngine draftPickEngine;
+    private final SmartChampionSelector smartChampionSelector;
+    private final LCUMonitor lcuMonitor;
+    private final Supplier<AutoAcceptConfig.ChampionSelectConfig> configSupplier;
+    private final ExecutorService loop;
+    private final ScheduledExecutorService timer;
+    // 配置中的延迟以秒为单位；测试中缩短
+    private volatile long secondMillis = 1000;
+
+    // 只保留最新的待处理session，处理慢于推送时跳过中间状态
+    private final AtomicReference<JsonNode> pendingSession = new AtomicReference<>();
+
+    // 以下状态只在事件循环上访问（任务串行执行）
+    private final Set<Integer> processedActions = new HashSet<>();
+    private final Map<Integer, ActionStatus> actionStatusMap = new HashMap<>();
+    private final Map<Integer, Integer> actionRetryCount = new HashMap<>();
+    private String lastSessionId = null;
+    private JsonNode lastSession = null;
+    private String playerPosition = null; // 本局在ban/pick时查询到的分路
+
+    private volatile ChampSelectView latestView;
+
+    // 分路来源：已检测到的分路和用户手动选择的分路
+    private Supplier<String> detectedPosition = () -> null;
+    private Supplier<String> selectedPosition = () -> null;
+
+    // 回调函数（在事件循环上调用）
+    private Consumer<JsonNode> onNewSession;
+    private Consumer<ChampSelectView> onViewUpdated;
+    private Consumer<String> onStatus;
+    private Consumer<String> onPositionDetected;
+    private Consumer<ActionOutcome> onActionCompleted;
+
+    public ChampSelectDecisionEngine(DraftPickEngine draftPickEngine,
+                                     SmartChampionSelector smartChampionSelector,
+                                     LCUMonitor lcuMonitor,
+                                     Supplier<AutoAcceptConfig.ChampionSelectConfig> configSupplier) {
+        this.draftPickEngine = draftPickEngine;
+        this.smartChampionSelector = smartChampionSelector;
+        this.lcuMonitor = lcuMonitor;
+        this.configSupplier = configSupplier;
+        this.loop = ResourceManager.getInstance().newSerialExecutor(ResourceManager.Role.LCU_ACTION);
+        this.timer = ResourceManager.getInstance().getSharedScheduler();
+    }
+
+    /**
+     * 提交新的session，可在任意线程调用
+     */
+    public void submitSession(JsonNode session) {
+        if (session == null || session.isMissingNode()) {
+            return;
+        }
+
+        if (pendingSession.getAndSet(session) == null) {
+            post(this::drainPendingSession);
+        }
+    }
+
+    /**
+     * 离开英雄选择时清空已处理的action
+     */
+    public void reset() {
+        pendingSession.set(null);
+        post(() -> {
+            if (lastSessionId != null || !processedActions.isEmpty()) {
+                logger.debug("Clearing processed actions as we left champion select phase");
+            }
+            clearSessionState();
+            lastSessionId = null;
+            lastSession = null;
+            latestView = null;
+            draftPickEngine.resetDraftState();
+        });
+    }
+
+    /**
+     * 最近一次发布的视图快照，未进入英雄选择时为null
+     */
+    public ChampSelectView getLatestView() {
+        return latestView;
+    }
+
+    /**
+     * 设置分路来源，两个supplier都可能在事件循环上调用
+     */
+    public void setPositionSources(Supplier<String> detectedPosition, Supplier<String> selectedPosition) {
+        this.detectedPosition = detectedPosition;
+        this.selectedPosition = selectedPosition;
+    }
+
+    public void setOnNewSession(Consumer<JsonNode> callback) {
+        this.onNewSession = callback;
+    }
+
+    public void setOnViewUpdated(Consumer<ChampSelectView> callback) {
+        this.onViewUpdated = callback;
+    }
+
+    public void setOnStatus(Consumer<String> callback) {
+        this.onStatus = callback;
+    }
+
+    public void setOnPositionDetected(Consumer<String> callback) {
+        this.onPositionDetected = callback;
+    }
+
+    public void setOnActionCompleted(Consumer<ActionOutcome> callback) {
+        this.onActionCompleted = callback;
+    }
+
+    void setSecondMillis(long secondMillis) {
+        this.secondMillis = secondMillis;
+    }
+
+    public void shutdown() {
+        loop.shutdownNow();
+        try {
+            loop.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void post(Runnable task) {
+        try {
+            loop.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.error("Error in champ select decision loop", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Decision engine is shut down, dropping task");
+        }
+    }
+
+    private void drainPendingSession() {
+        JsonNode session = pendingSession.getAndSet(null);
+        if (session != null) {
+            processSession(session);
+        }
+    }
+
+    /**
+     * session不变时不会有新的推送，因此引擎自己在串行执行器上重放最近一次session
+     */
+    private void scheduleRetry() {
+        try {
+            timer.schedule(() -> post(this::retryLastSession), RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Retry timer is shut down, action will wait for the next session");
+        }
+    }
+
+    private void retryLastSession() {
+        // 已有更新的session排队时由它触发重试；已重试过的action处于PROCESSING，不会重复决策
+        if (pendingSession.get() != null || lastSession == null) {
+            return;
+        }
+        processSession(lastSession);
+    }
+
+    private void processSession(JsonNode session) {
+        lastSession = session;
+        // 获取session ID来跟踪会话变化
+        String currentSessionId = session.path("gameId").asText("");
+        if (currentSessionId.isEmpty()) {
+            currentSessionId = session.path("myTeam").toString().hashCode() + "";
+        }
+
+        // 如果是新的会话，清空已处理的actions
+        if (!currentSessionId.equals(lastSessionId)) {
+            logger.debug("New champion select session detected, clearing processed actions");
+            clearSessionState();
+            lastSessionId = currentSessionId;
+
+            if (onNewSession != null) {
+                onNewSession.accept(session);
+            }
+        }
+
+        JsonNode localPlayerCell = session.path("localPlayerCellId");
+        if (localPlayerCell.isMissingNode()) {
+            return;
+        }
+        int localCellId = localPlayerCell.asInt();
+        AutoAcceptConfig.ChampionSelectConfig config = configSupplier.get();
+
+        // 使用Draft Pick引擎增量分析session
+        DraftPickEngine.DraftAnalysis draftAnalysis = draftPickEngine.updateDraftSession(session, localCellId);
+        publishView(currentSessionId, localCellId, session, draftAnalysis);
+
+        if (draftAnalysis != null && draftAnalysis.getCurrentPlayerAction() != null) {
+            logger.debug("Draft分析结果: {}", draftAnalysis);
+            DraftPickEngine.DraftAction playerAction = draftAnalysis.getCurrentPlayerAction();
+            int actionId = playerAction.getActionId();
+
+            if (canProcessAction(actionId)) {
+                markActionProcessing(actionId); // 立即标记为处理中，防止重复
+
+                if ("ban".equals(playerAction.getType()) && config.isAutoBanEnabled()) {
+                    logger.info("增强自动Ban开始 - Action ID: {}, Draft分析: {}", actionId, draftAnalysis);
+                    for (String recommendation : draftPickEngine.getStrategicRecommendations(draftAnalysis)) {
+                        status("策略建议: " + recommendation);
+                    }
+                    executeBan(actionId);
+                } else if ("pick".equals(playerAction.getType()) && config.isAutoPickEnabled()) {
+                    logger.info("增强自动Pick开始 - Action ID: {}, Draft分析: {}", actionId, draftAnalysis);
+                    executeEnhancedPick(actionId, draftAnalysis);
+                }
+            }
+            return; // 使用了增强逻辑，直接返回
+        }
+
+        // 回退到原有逻辑（兼容性保证）
+        for (JsonNode actionGroup : session.path("actions")) {
+            for (JsonNode action : actionGroup) {
+                int actorCellId = action.path("actorCellId").asInt();
+                String type = action.path("type").asText("");
+                boolean isInProgress = action.path("isInProgress").asBoolean(false);
+                boolean completed = action.path("completed").asBoolean(false);
+                int actionId = action.path("id").asInt();
+                int championId = action.path("championId").asInt(0);
+
+                if (actorCellId == localCellId && isInProgress && !completed && canProcessAction(actionId)) {
+                    logger.debug("Processing action using legacy logic - ID: {}, Type: {}, ChampionId: {}",
+                               actionId, type, championId);
+
+                    if ("ban".equals(type) && config.isAutoBanEnabled()) {
+                        markActionProcessing(actionId);
+                        executeBan(actionId);
+                    } else if ("pick".equals(type) && config.isAutoPickEnabled() && championId == 0) {
+                        markActionProcessing(actionId);
+                        executePick(actionId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 选择ban英雄，延迟后按最新的已ban列表复核，再发出ban请求
+     */
+    private void executeBan(int actionId) {
+        AutoAcceptConfig.ChampionSelectConfig config = configSupplier.get();
+        AutoAcceptConfig.ChampionInfo banChampion = config.getBanChampion();
+        if (banChampion == null || banChampion.getChampionId() == null) {
+            status("自动Ban失败：未设置Ban英雄或英雄ID无效");
+            actionFailed(actionId, "Ban champion not set or invalid champion ID");
+            return;
+        }
+
+        withPlayerPosition(actionId, 0, () -> whenDone(lcuMonitor.getBannedChampions(), actionId, (banned, error) -> {
+            if (error != null) {
+                logger.error("Failed to get banned champions, proceeding with default ban", error);
+            }
+            AutoAcceptConfig.ChampionInfo selected = selectBanChampion(banChampion, orEmpty(banned));
+            if (selected == null) {
+                status("✗ 自动Ban失败：没有可用的英雄（所有英雄已被ban）");
+                actionFailed(actionId, "No available ban champion");
+                return;
+            }
+
+            int delaySeconds = config.getSimpleBanDelaySeconds();
+            logger.info("Using simple delay ban for action ID: {} with champion: {} (delay: {}s)", actionId, selected, delaySeconds);
+            status("简单延迟Ban：" + selected + " (" + delaySeconds + "秒后执行)");
+            later(delaySeconds, actionId, () -> whenDone(lcuMonitor.getBannedChampions(), actionId, (current, refreshError) -> {
+                // 延迟期间可能被其他人ban掉，重新选择；获取失败时沿用之前的选择
+                AutoAcceptConfig.ChampionInfo finalChampion = selected;
+                if (refreshError != null) {
+                    logger.error("Failed to get current banned champions, using previously selected champion", refreshError);
+                } else {
+                    finalChampion = selectBanChampion(selected, orEmpty(current));
+                }
+                if (finalChampion == null) {
+                    status("✗ 延迟Ban失败：所有候选英雄已被ban");
+                    actionFailed(actionId, "All candidate champions banned during delay");
+                    return;
+                }
+                submitAction(ActionType.BAN, actionId, finalChampion, "延迟Ban");
+            }));
+        }));
+    }
+
+    /**
+     * 旧逻辑的pick：按分路队列选择英雄，立即或延迟后复核再发出pick请求
+     */
+    private void executePick(int actionId) {
+        AutoAcceptConfig.ChampionSelectConfig config = configSupplier.get();
+        logger.info("[AUTO_PICK] Action {} - PositionBased: {}, Position: {}/{}, SimpleDelay: {} ({}s)",
+                   actionId, config.isUsePositionBasedSelection(), currentPosition(), selectedPosition.get(),
+                   config.isUseSimpleDelayPick(), config.getSimplePickDelaySeconds());
+
+        AutoAcceptConfig.ChampionInfo pickChampion = config.getPickChampion();
+        if (pickChampion == null) {
+            status("✗ 自动Pick失败：未设置Pick英雄");
+            actionFailed(actionId, "Pick champion not set");
+            return;
+        }
+        pickChampion.ensureChampionId();
+        if (pickChampion.getChampionId() == null) {
+            status("✗ 自动Pick失败：英雄ID无效 (" + pickChampion.getKey() + ")");
+            actionFailed(actionId, "Invalid pick champion ID");
+            return;
+        }
+
+        withPlayerPosition(actionId, 0, () -> {
+            if (!lcuMonitor.isConnected()) {
+                status("✗ 自动Pick失败：未连接到英雄联盟客户端");
+                actionFailed(actionId, "LCU not connected");
+                return;
+            }
+
+            CompletableFuture<ChampionIdSet> bannedFuture = lcuMonitor.getBannedChampions();
+            CompletableFuture<ChampionIdSet> pickedFuture = lcuMonitor.getPickedChampions();
+            whenDone(CompletableFuture.allOf(bannedFuture, pickedFuture), actionId, (ignored, error) -> {
+                AutoAcceptConfig.ChampionInfo selected = pickChampion;
+                if (error != null) {
+                    logger.error("[AUTO_PICK] Failed to get banned/picked champions for pick", error);
+                    status("⚠ 获取英雄状态失败，使用默认配置");
+                } else {
+                    selected = selectPickChampion(pickChampion, orEmpty(bannedFuture.join()), orEmpty(pickedFuture.join()));
+                    if (selected == null) {
+                        status("✗ 自动Pick失败：没有可用的英雄（所有英雄已被ban或pick）");
+                        actionFailed(actionId, "No available pick champion");
+                        return;
+                    }
+                }
+
+                AutoAcceptConfig.ChampionInfo candidate = selected;
+                int delaySeconds = config.getSimplePickDelaySeconds();
+                if (delaySeconds > 0) {
+                    status("⏰ 延迟Pick启动：" + candidate + " (将在" + delaySeconds + "秒后执行)");
+                    for (int elapsed = 1; elapsed < delaySeconds; elapsed++) {
+                        int secondsLeft = delaySeconds - elapsed;
+                        later(elapsed, actionId, () -> status("⏳ 等待Pick " + candidate.getNameCn() + " - 还有 " + secondsLeft + " 秒"));
+                    }
+                    later(delaySeconds, actionId, () -> refreshAndPick(actionId, candidate, "延迟Pick"));
+                } else {
+                    status("⚡ 立即执行Pick：" + candidate);
+                    refreshAndPick(actionId, candidate, "立即Pick");
+                }
+            });
+        });
+    }
+
+    /**
+     * 按最新的已ban/已pick列表复核候选英雄后发出pick请求
+     */
+    private void refreshAndPick(int actionId, AutoAcceptConfig.ChampionInfo candidate, String label) {
+        if (!lcuMonitor.isConnected()) {
+            status("✗ " + label + "失败：LCU连接中断");
+            actionFailed(actionId, "LCU connection lost");
+            return;
+        }
+
+        CompletableFuture<ChampionIdSet> bannedFuture = lcuMonitor.getBannedChampions();
+        CompletableFuture<ChampionIdSet> pickedFuture = lcuMonitor.getPickedChampions();
+        whenDone(CompletableFuture.allOf(bannedFuture, pickedFuture), actionId, (ignored, error) -> {
+            if (error != null) {
+                logger.error("[AUTO_PICK] Failed to get champion status for action {}", actionId, error);
+                status("✗ 获取英雄状态失败：" + messageOf(error));
+                actionFailed(actionId, "Failed to get champion status");
+                return;
+            }
+            AutoAcceptConfig.ChampionInfo finalChampion =
+                selectPickChampion(candidate, orEmpty(bannedFuture.join()), orEmpty(pickedFuture.join()));
+            if (finalChampion == null) {
+                status("✗ " + label + "失败：所有候选英雄已被ban或pick");
+                actionFailed(actionId, "All candidate champions banned or picked");
+                return;
+            }
+            status("⚡ 正在执行" + label + "：" + finalChampion);
+            submitAction(ActionType.PICK, actionId, finalChampion, label);
+        });
+    }
+
+    /**
+     * 增强的pick：必要时先等待敌方选择，再由SmartChampionSelector结合剩余时间选择英雄
+     */
+    private void executeEnhancedPick(int actionId, DraftPickEngine.DraftAnalysis analysis) {
+        if (draftPickEngine.shouldDelayPick(analysis)) {
+            logger.info("建议延迟pick以获取更多敌方信息");
+            status("智能延迟pick，等待敌方选择...");
+            later(STRATEGIC_DELAY_SECONDS, actionId, () -> selectStrategicPick(actionId, analysis));
+        } else {
+            selectStrategicPick(actionId, analysis);
+        }
+    }
+
+    private void selectStrategicPick(int actionId, DraftPickEngine.DraftAnalysis analysis) {
+        AutoAcceptConfig.ChampionSelectConfig config = configSupplier.get();
+        AutoAcceptConfig.ChampionInfo defaultPickChampion = config.getPickChampion();
+        List<AutoAcceptConfig.ChampionInfo> championQueue = championQueueForCurrentPosition(config);
+
+        whenDone(lcuMonitor.getRemainingTimeInPhase(), actionId, (seconds, error) -> {
+            int remainingSeconds = DEFAULT_REMAINING_SECONDS;
+            if (error != null) {
+                logger.warn("无法获取剩余时间，使用默认策略", error);
+            } else if (seconds != null) {
+                remainingSeconds = seconds;
+            }
+
+            SmartChampionSelector.SelectionStrategy strategy = smartChampionSelector.selectOptimalChampion(
+                analysis, defaultPickChampion, championQueue, currentPosition(), remainingSeconds);
+            logger.info("智能选择策略: {}, 剩余时间: {}秒", strategy, remainingSeconds);
+            status(String.format("智能选择策略: %s (剩余时间: %d秒)", strategy.getReason(), remainingSeconds));
+
+            if (strategy.getRecommendedChampion() == null) {
+                logger.warn("智能选择器未找到可用英雄");
+                status("❌ 智能选择失败：无可用英雄");
+                actionFailed(actionId, "No champion recommended");
+                return;
+            }
+
+            if (strategy.shouldDelay() && remainingSeconds > 10) {
+                // 剩余时间越多，延迟越久（最多5秒）
+                status("基于时间和策略，延迟pick获取更多信息...");
+                later(Math.min(5, remainingSeconds / 6), actionId, () -> pickWithStrategy(actionId, strategy));
+            } else {
+                pickWithStrategy(actionId, strategy);
+            }
+        });
+    }
+
+    private void pickWithStrategy(int actionId, SmartChampionSelector.SelectionStrategy strategy) {
+        if (!strategy.getAlternatives().isEmpty()) {
+            status("备选英雄: " + String.join(", ", strategy.getAlternatives()));
+        }
+
+        AutoAcceptConfig.ChampionInfo champion = strategy.getRecommendedChampion();
+        champion.ensureChampionId();
+        status(String.format("智能选择英雄: %s (优先级: %d)", displayName(champion), strategy.getPriority()));
+        submitAction(ActionType.PICK, actionId, champion, "智能Pick");
+    }
+
+    /**
+     * 发出ban/pick请求；结果直接在事件循环上记录，UI只收到状态文本和结果快照
+     */
+    private void submitAction(ActionType type, int actionId, AutoAcceptConfig.ChampionInfo champion, String label) {
+        Integer championId = champion.getChampionId();
+        if (championId == null) {
+            status("✗ " + label + "失败：英雄ID无效 (" + champion.getKey() + ")");
+            actionFailed(actionId, "Invalid champion ID");
+            return;
+        }
+
+        logger.info("Executing {} - Action ID: {}, Champion: {}", label, actionId, champion);
+        CompletableFuture<Boolean> request = type == ActionType.BAN
+            ? lcuMonitor.banChampion(championId, actionId)
+            : lcuMonitor.pickChampion(championId, actionId);
+        whenDone(request, actionId, (success, error) -> {
+            if (error != null) {
+                logger.error("Exception during {} for action ID: {}", label, actionId, error);
+                status("✗ " + label + "异常：" + messageOf(error));
+                actionFailed(actionId, "Action execution exception: " + messageOf(error));
+            } else if (Boolean.TRUE.equals(success)) {
+                status("✓ " + label + "成功：" + displayName(champion));
+                actionSucceeded(actionId);
+                publishOutcome(new ActionOutcome(type, actionId, champion, true));
+            } else {
+                status("✗ " + label + "失败：" + displayName(champion));
+                actionFailed(actionId, "Action execution failed");
+                publishOutcome(new ActionOutcome(type, actionId, champion, false));
+            }
+        });
+    }
+
+    /**
+     * 启用分路预设但还不知道分路时，先向客户端查询（英雄选择初期可能尚未分配）
+     */
+    private void withPlayerPosition(int actionId, int attempt, Runnable next) {
+        if (!configSupplier.get().isUsePositionBasedSelection() || !isBlank(currentPosition())) {
+            next.run();
+            return;
+        }
+        if (attempt >= POSITION_ATTEMPTS) {
+            logger.warn("Failed to get player position after {} attempts, proceeding with global config", attempt);
+            status("⚠ 无法获取分路信息，使用全局配置");
+            next.run();
+            return;
+        }
+
+        whenDone(lcuMonitor.getPlayerPosition(), actionId, (position, error) -> {
+            if (error == null && !isBlank(position)) {
+                playerPosition = position;
+                logger.info("Updated player position to: {} (attempt {})", position, attempt + 1);
+                if (onPositionDetected != null) {
+                    onPositionDetected.accept(position);
+                }
+                next.run();
+            } else {
+                logger.debug("Player position not available yet, attempt {}/{}", attempt + 1, POSITION_ATTEMPTS);
+                later(1, actionId, () -> withPlayerPosition(actionId, attempt + 1, next));
+            }
+        });
+    }
+
+    /**
+     * 根据已ban英雄列表选择可用的ban英雄；智能禁用时同时避开队友预选的英雄
+     */
+    private AutoAcceptConfig.ChampionInfo selectBanChampion(AutoAcceptConfig.ChampionInfo defaultBanChampion,
+                                                            ChampionIdSet bannedChampions) {
+        AutoAcceptConfig.ChampionSelectConfig config = configSupplier.get();
+        ChampionIdSet excludedChampions = bannedChampions.copy();
+        if (config.isSmartBanEnabled()) {
+            ChampSelectView view = latestView;
+            ChampionIdSet teammateHoveredChampions = view != null ? view.getTeammateHoveredChampions() : new ChampionIdSet();
+            if (!teammateHoveredChampions.isEmpty()) {
+                excludedChampions.addAll(teammateHoveredChampions);
+                logger.info("Smart ban enabled - excluding teammate hovered champions: {}", teammateHoveredChampions);
+                status(teammateHoveredChampions.size() == 1
+                    ? "智能禁用：避免禁用队友预选的英雄"
+                    : "智能禁用：避免禁用" + teammateHoveredChampions.size() + "个队友预选的英雄");
+            }
+        }
+
+        return selectFromPositions(config, defaultBanChampion,
+                                   positionConfig -> positionConfig.getAlternateBanChampion(excludedChampions),
+                                   championId -> !excludedChampions.contains(championId));
+    }
+
+    /**
+     * 根据已ban和已pick英雄列表选择可用的pick英雄
+     */
+    private AutoAcceptConfig.ChampionInfo selectPickChampion(AutoAcceptConfig.ChampionInfo defaultPickChampion,
+                                                             ChampionIdSet bannedChampions, ChampionIdSet pickedChampions) {
+        return selectFromPositions(configSupplier.get(), defaultPickChampion,
+                                   positionConfig -> positionConfig.getAlternatePickChampion(bannedChampions, pickedChampions),
+                                   championId -> !bannedChampions.contains(championId) && !pickedChampions.contains(championId));
+    }
+
+    /**
+     * 按优先级选择：检测到的分路队列、手动选择的分路队列、（两者都没有时）任一分路队列、默认英雄
+     */
+    private AutoAcceptConfig.ChampionInfo selectFromPositions(AutoAcceptConfig.ChampionSelectConfig config,
+                                                              AutoAcceptConfig.ChampionInfo defaultChampion,
+                                                              Function<AutoAcceptConfig.PositionConfig, AutoAcceptConfig.ChampionInfo> fromQueue,
+                                                              IntPredicate available) {
+        if (config.isUsePositionBasedSelection()) {
+            List<String> positions = new ArrayList<>();
+            String detected = currentPosition();
+            String selected = selectedPosition.get();
+            if (!isBlank(detected)) {
+                positions.add(detected);
+            }
+            if (!isBlank(selected)) {
+                positions.add(selected);
+            }
+            if (positions.isEmpty() && config.getPositionConfigs() != null) {
+                positions.addAll(config.getPositionConfigs().keySet());
+            }
+
+            for (String position : positions) {
+                AutoAcceptConfig.PositionConfig positionConfig = config.getPositionConfig(position);
+                AutoAcceptConfig.ChampionInfo champion = positionConfig != null ? fromQueue.apply(positionConfig) : null;
+                if (champion != null) {
+                    champion.ensureChampionId();
+                    if (champion.getChampionId() != null) {
+                        logger.info("Selected champion {} from position {} queue", champion, position);
+                        return champion;
+                    }
+                }
+            }
+        }
+
+        if (defaultChampion != null) {
+            defaultChampion.ensureChampionId();
+            Integer championId = defaultChampion.getChampionId();
+            if (championId != null && available.test(championId)) {
+                logger.info("Using fallback default champion {}", defaultChampion);
+                return defaultChampion;
+            }
+        }
+
+        logger.warn("No available champion found - position queues exhausted and default champion unavailable");
+        return null;
+    }
+
+    /**
+     * 智能选择使用的英雄队列：检测到的分路、手动选择的分路，最后是全局设置
+     */
+    private List<AutoAcceptConfig.ChampionInfo> championQueueForCurrentPosition(AutoAcceptConfig.ChampionSelectConfig config) {
+        if (config.isUsePositionBasedSelection()) {
+            for (String position : new String[]{currentPosition(), selectedPosition.get()}) {
+                AutoAcceptConfig.PositionConfig positionConfig = position != null ? config.getPositionConfig(position) : null;
+                if (positionConfig != null && positionConfig.getPickChampions() != null && !positionConfig.getPickChampions().isEmpty()) {
+                    return new ArrayList<>(positionConfig.getPickChampions());
+                }
+            }
+        }
+
+        List<AutoAcceptConfig.ChampionInfo> championQueue = new ArrayList<>();
+        if (config.getPickChampion() != null) {
+            championQueue.add(config.getPickChampion());
+        }
+        return championQueue;
+    }
+
+    /**
+     * 在事件循环上处理异步结果；action已结束（重置、换局）时丢弃
+     */
+    private <T> void whenDone(CompletableFuture<T> future, int actionId, BiConsumer<T, Throwable> step) {
+        future.whenComplete((value, error) -> post(() -> {
+            if (isProcessing(actionId)) {
+                step.accept(value, error);
+            }
+        }));
+    }
+
+    /**
+     * 延迟若干秒后在事件循环上继续；action已结束时丢弃
+     */
+    private void later(long seconds, int actionId, Runnable step) {
+        try {
+            timer.schedule(() -> post(() -> {
+                if (isProcessing(actionId)) {
+                    step.run();
+                }
+            }), seconds * secondMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Timer is shut down, dropping delayed step for action {}", actionId);
+        }
+    }
+
+    private String currentPosition() {
+        return playerPosition != null ? playerPosition : detectedPosition.get();
+    }
+
+    private void status(String message) {
+        if (onStatus != null) {
+            onStatus.accept(message);
+        }
+    }
+
+    private void publishOutcome(ActionOutcome outcome) {
+        logger.debug("Champ select action outcome: {}", outcome);
+        if (onActionCompleted != null) {
+            onActionCompleted.accept(outcome);
+        }
+    }
+
+    private static ChampionIdSet orEmpty(ChampionIdSet champions) {
+        return champions != null ? champions : new ChampionIdSet();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String displayName(AutoAcceptConfig.ChampionInfo champion) {
+        return champion.getNameCn() != null ? champion.getNameCn() : champion.getKey();
+    }
+
+    private static String messageOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
+    }
+
+    private void publishView(String sessionId, int localCellId, JsonNode session, DraftPickEngine.DraftAnalysis analysis) {
+        ChampionIdSet hovered = new ChampionIdSet();
+        for (JsonNode member : session.path("myTeam")) {
+            JsonNode cellIdNode = member.path("cellId");
+            if (!cellIdNode.isMissingNode() && cellIdNode.asInt() != localCellId) {
+                int championPickIntent = member.path("championPickIntent").asInt(0);
+                if (championPickIntent != 0 && member.path("championId").asInt(0) == 0) {
+                    hovered.add(championPickIntent);
+                }
+            }
+        }
+
+        DraftPickEngine.DraftAction action = analysis != null ? analysis.getCurrentPlayerAction() : null;
+        ChampSelectView view = new ChampSelectView(
+            sessionId,
+            localCellId,
+            session.path("timer").path("phase").asText(""),
+            action != null ? action.getActionId() : -1,
+            action != null ? action.getType() : null,
+            analysis != null ? analysis.getBannedChampions() : new ChampionIdSet(),
+            analysis != null ? analysis.getPickedChampions() : new ChampionIdSet(),
+            hovered);
+        latestView = view;
+
+        if (onViewUpdated != null) {
+            onViewUpdated.accept(view);
+        }
+    }
+
+    private void clearSessionState() {
+        processedActions.clear();
+        actionStatusMap.clear();
+        actionRetryCount.clear();
+        playerPosition = null;
+    }
+
+    /**
+     * 检查action是否可以处理
+     */
+    private boolean canProcessAction(int actionId) {
+        ActionStatus status = actionStatusMap.get(actionId);
+        if (status == null) {
+            return true; // 新的action可以处理
+        }
+
+        return switch (status) {
+            case PROCESSING, SUCCESS, RETRY_LIMIT -> false;
+            case FAILED -> {
+                int retryCount = actionRetryCount.getOrDefault(actionId, 0);
+                if (retryCount >= MAX_RETRY_COUNT) {
+                    actionStatusMap.put(actionId, ActionStatus.RETRY_LIMIT);
+                    logger.warn("Action {} reached maximum retry count: {}", actionId, retryCount);
+                    yield false;
+                }
+                logger.info("Action {} can be retried (attempt {} of {})", actionId, retryCount + 1, MAX_RETRY_COUNT);
+                yield true;
+            }
+        };
+    }
+
+    private void markActionProcessing(int actionId) {
+        actionStatusMap.put(actionId, ActionStatus.PROCESSING);
+        processedActions.add(actionId);
+        logger.debug("Marked action {} as PROCESSING", actionId);
+    }
+
+    private boolean isProcessing(int actionId) {
+        return actionStatusMap.get(actionId) == ActionStatus.PROCESSING;
+    }
+
+    private void actionSucceeded(int actionId) {
+        actionStatusMap.put(actionId, ActionStatus.SUCCESS);
+        actionRetryCount.remove(actionId); // 清除重试计数
+        logger.debug("Marked action {} as SUCCESS", actionId);
+    }
+
+    /**
+     * 未达重试上限时在RETRY_DELAY_MS后用最近一次session重试，期间有新的session到达时以新session为准
+     */
+    private void actionFailed(int actionId, String reason) {
+        int retryCount = actionRetryCount.getOrDefault(actionId, 0) + 1;
+        actionRetryCount.put(actionId, retryCount);
+
+        if (retryCount >= MAX_RETRY_COUNT) {
+            actionStatusMap.put(actionId, ActionStatus.RETRY_LIMIT);
+            logger.warn("Action {} failed and reached retry limit. Reason: {}", actionId, reason);
+        } else {
+            actionStatusMap.put(actionId, ActionStatus.FAILED);
+            logger.warn("Action {} failed (attempt {} of {}). Reason: {}", actionId, retryCount, MAX_RETRY_COUNT, reason);
+            scheduleRetry();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.model.Champion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 英雄目录：启动时从二进制文件 /champion/data/champions.catalog 读取一次，
+ * 按序号存放在数组中，championId、key和序号之间都是O(1)查找，供各个管理器共享。
+ * 目录文件由 ChampionCatalogTool 根据Data Dragon中英文数据生成
+ */
+public final class ChampionCatalog {
+    private static final Logger logger = LoggerFactory.getLogger(ChampionCatalog.class);
+
+    public static final String RESOURCE = "/champion/data/champions.catalog";
+
+    // 位置标记，对应LCU的 top/jungle/middle/bottom/utility
+    public static final int ROLE_TOP = 1;
+    public static final int ROLE_JUNGLE = 1 << 1;
+    public static final int ROLE_MIDDLE = 1 << 2;
+    public static final int ROLE_BOTTOM = 1 << 3;
+    public static final int ROLE_UTILITY = 1 << 4;
+
+    private static final int MAGIC = 0x4C4F4C43; // "LOLC"
+    private static final int FORMAT_VERSION = 1;
+    // 旧版本配置中保存过的错误key
+    private static final Map<String, String> KEY_ALIASES = Map.of("Ammu", "Amumu");
+
+    private final String version;
+    private final int[] ids;
+    private final Integer[] boxedIds;
+    private final String[] keys;
+    private final int[] roles;
+    private final List<Champion> champions;
+    private final int[] indexById;
+    private final Map<String, Integer> indexByKey;
+    private final Map<String, Integer> indexByNormalizedName;
+
+    private ChampionCatalog(String version, int[] ids, String[] keys, int[] roles, List<Champion> champions) {
+        this.version = version;
+        this.ids = ids;
+        this.boxedIds = Arrays.stream(ids).boxed().toArray(Integer[]::new);
+        this.keys = keys;
+        this.roles = roles;
+        this.champions = Collections.unmodifiableList(champions);
+
+        int maxId = Arrays.stream(ids).max().orElse(0);
+        this.indexById = new int[maxId + 1];
+        Arrays.fill(indexById, -1);
+        this.indexByKey = new HashMap<>(keys.length * 2);
+        this.indexByNormalizedName = new HashMap<>(keys.length * 4);
+        for (int i = 0; i < ids.length; i++) {
+            indexById[ids[i]] = i;
+            indexByKey.put(keys[i], i);
+            indexByNormalizedName.putIfAbsent(normalize(keys[i]), i);
+            indexByNormalizedName.putIfAbsent(normalize(champions.get(i).getNameEn()), i);
+        }
+    }
+
+    public static ChampionCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ChampionCatalog INSTANCE = loadBundled();
+    }
+
+    private static ChampionCatalog loadBundled() {
+        long started = System.nanoTime();
+        try (InputStream in = ChampionCatalog.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                logger.error("Champion catalog {} not found", RESOURCE);
+                return empty();
+            }
+            ChampionCatalog catalog = read(in);
+            logger.debug("Loaded champion catalog {} ({} champions) in {} us", catalog.version, catalog.size(),
+                         (System.nanoTime() - started) / 1000);
+            return catalog;
+        } catch (IOException e) {
+            logger.error("Failed to read champion catalog {}", RESOURCE, e);
+            return empty();
+        }
+    }
+
+    private static ChampionCatalog empty() {
+        return new ChampionCatalog("", new int[0], new String[0], new int[0], new ArrayList<>());
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 全部英雄（只读，按目录顺序）
+     */
+    public List<Champion> getChampions() {
+        return champions;
+    }
+
+    public Champion getChampion(int index) {
+        return champions.get(index);
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * 位置标记的组合，如 ROLE_MIDDLE | ROLE_UTILITY
+     */
+    public int getRoles(int index) {
+        return roles[index];
+    }
+
+    /**
+     * championId对应的序号，不存在时返回-1
+     */
+    public int indexOfId(int championId) {
+        return championId >= 0 && championId < indexById.length ? indexById[championId] : -1;
+    }
+
+    /**
+     * key对应的序号，不存在时返回-1；精确匹配失败时忽略大小写和标点，并接受英文名（如"Wukong"）
+     */
+    public int indexOfKey(String key) {
+        if (key == null) {
+            return -1;
+        }
+        Integer index = indexByKey.get(key);
+        if (index == null) {
+            index = indexByNormalizedName.get(normalize(key));
+        }
+        if (index == null && KEY_ALIASES.containsKey(key)) {
+            index = indexByKey.get(KEY_ALIASES.get(key));
+        }
+        return index != null ? index : -1;
+    }
+
+    /**
+     * key对应的championId，不存在时返回null；返回的Integer是共享实例，查找不分配内存
+     */
+    public Integer findIdByKey(String key) {
+        int index = indexOfKey(key);
+        return index >= 0 ? boxedIds[index] : null;
+    }
+
+    public String findKeyById(int championId) {
+        int index = indexOfId(championId);
+        return index >= 0 ? keys[index] : null;
+    }
+
+    public Champion findById(int championId) {
+        int index = indexOfId(championId);
+        return index >= 0 ? champions.get(index) : null;
+    }
+
+    public Champion findByKey(String key) {
+        int index = indexOfKey(key);
+        return index >= 0 ? champions.get(index) : null;
+    }
+
+    /**
+     * LCU位置名对应的标记，未知位置返回0
+     */
+    public static int roleOf(String position) {
+        if (position == null) {
+            return 0;
+        }
+        switch (position.toLowerCase(Locale.ROOT)) {
+            case "top": return ROLE_TOP;
+            case "jungle": return ROLE_JUNGLE;
+            case "middle": case "mid": return ROLE_MIDDLE;
+            case "bottom": case "adc": return ROLE_BOTTOM;
+            case "utility": case "support": return ROLE_UTILITY;
+            default: return 0;
+        }
+    }
+
+    /**
+     * 根据中文关键词推断常用位置
+     */
+    static int rolesFromKeywords(List<String> keywords) {
+        int result = 0;
+        if (keywords == null) {
+            return result;
+        }
+        for (String keyword : keywords) {
+            switch (keyword.toLowerCase(Locale.ROOT)) {
+                case "上单": result |= ROLE_TOP; break;
+                case "打野": result |= ROLE_JUNGLE; break;
+                case "中单": result |= ROLE_MIDDLE; break;
+                case "adc": case "下路": result |= ROLE_BOTTOM; break;
+                case "辅助": result |= ROLE_UTILITY; break;
+                default: break;
+            }
+        }
+        return result;
+    }
+
+    public static ChampionCatalog read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a champion catalog");
+        }
+        int formatVersion = in.readUnsignedShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported champion catalog format " + formatVersion);
+        }
+        String version = in.readUTF();
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        int count = in.readUnsignedShort();
+        int[] ids = new int[count];
+        String[] keys = new String[count];
+        int[] roles = new int[count];
+        List<Champion> champions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids[i] = in.readUnsignedShort();
+            keys[i] = strings[in.readUnsignedShort()];
+            String nameEn = strings[in.readUnsignedShort()];
+            String nameCn = strings[in.readUnsignedShort()];
+            String title = strings[in.readUnsignedShort()];
+            roles[i] = in.readUnsignedByte();
+            List<String> keywords = readStrings(in, strings);
+            List<String> tags = readStrings(in, strings);
+            champions.add(new Champion(keys[i], String.valueOf(ids[i]), nameEn, nameCn, keywords, title, tags));
+        }
+        return new ChampionCatalog(version, ids, keys, roles, champions);
+    }
+
+    /**
+     * 写出目录文件；字符串去重后存入字符串表，英雄记录只保存表中的序号
+     */
+    public static void write(String version, List<Champion> champions, OutputStream output) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Champion champion : champions) {
+            intern(strings, champion.getKey());
+            intern(strings, champion.getNameEn());
+            intern(strings, champion.getNameCn());
+            intern(strings, champion.getTitle());
+            listOrEmpty(champion.getKeywords()).forEach(keyword -> intern(strings, keyword));
+            listOrEmpty(champion.getTags()).forEach(tag -> intern(strings, tag));
+        }
+        if (strings.size() > 0xFFFF) {
+            throw new IOException("Too many distinct strings for champion catalog: " + strings.size());
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(version != null ? version : "");
+        out.writeInt(strings.size());
+        for (String value : strings.keySet()) {
+            out.writeUTF(value);
+        }
+
+        out.writeShort(champions.size());
+        for (Champion champion : champions) {
+            out.writeShort(Integer.parseInt(champion.getId().trim()));
+            out.writeShort(strings.get(nullToEmpty(champion.getKey())));
+            out.writeShort(strings.get(nullToEmpty(champion.getNameEn())));
+            out.writeShort(strings.get(nullToEmpty(champion.getNameCn())));
+            out.writeShort(strings.get(nullToEmpty(champion.getTitle())));
+            out.writeByte(rolesFromKeywords(champion.getKeywords()));
+            writeStrings(out, strings, listOrEmpty(champion.getKeywords()));
+            writeStrings(out, strings, listOrEmpty(champion.getTags()));
+        }
+        out.flush();
+    }
+
+    private static List<String> readStrings(DataInputStream in, String[] strings) throws IOException {
+        int count = in.readUnsignedByte();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(strings[in.readUnsignedShort()]);
+        }
+        return values;
+    }
+
+    private static void writeStrings(DataOutputStream out, Map<String, Integer> strings, List<String> values)
+            throws IOException {
+        out.writeByte(values.size());
+        for (String value : values) {
+            out.writeShort(strings.get(value));
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String value) {
+        strings.putIfAbsent(nullToEmpty(value), strings.size());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static List<String> listOrEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+}
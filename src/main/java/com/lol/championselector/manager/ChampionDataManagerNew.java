@@ -67,28 +67,12 @@ public class ChampionDataManagerNew {
         allChampions.clear();
         championMap.clear();
         
-        // 添加一些基础英雄作为后备数据
-        addChampion("Aatrox", "266", "Aatrox", "亚托克斯", 
-                   Arrays.asList("上单", "战士", "暗裔剑魔", "亚托克斯"), "暗裔剑魔", 
-                   Arrays.asList("Fighter", "Tank"));
-        
-        addChampion("Ahri", "103", "Ahri", "阿狸", 
-                   Arrays.asList("中单", "法师", "九尾妖狐", "阿狸"), "九尾妖狐", 
-                   Arrays.asList("Mage", "Assassin"));
-        
-        addChampion("Akali", "84", "Akali", "阿卡丽", 
-                   Arrays.asList("中单", "上单", "刺客", "离群之刺", "阿卡丽"), "离群之刺", 
-                   Arrays.asList("Assassin"));
-        
-        // 添加更多基础英雄...
-        logger.warn("Using hardcoded fallback data with {} champions", allChampions.size());
-    }
-    
-    private void addChampion(String key, String id, String nameEn, String nameCn, 
-                           List<String> keywords, String title, List<String> tags) {
-        Champion champion = new Champion(key, id, nameEn, nameCn, keywords, title, tags);
-        allChampions.add(champion);
-        championMap.put(key, champion);
+        // 使用内置的英雄目录作为后备数据
+        for (Champion champion : ChampionCatalog.getInstance().getChampions()) {
+            allChampions.add(champion);
+            championMap.put(champion.getKey(), champion);
+        }
+        logger.warn("Using bundled champion catalog with {} champions", allChampions.size());
     }
     
     public List<Champion> getAllChampions() {
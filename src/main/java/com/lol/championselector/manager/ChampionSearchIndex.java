@@ -0,0 +1,332 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.model.Champion;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 英雄搜索索引：构建时把中英文名、称号、关键词、标签和中文名拼音首字母统一转成小写并去掉空格和标点，
+ * 为每个词的1~3字片段建立倒排表。查询时取最短的倒排表作为候选再校验，
+ * 结果按 完全匹配 > 前缀匹配 > 包含匹配 排序，同级保持英雄列表原有顺序。
+ * 构建后不可变，可在多个线程间共享
+ */
+public final class ChampionSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int SUBSTRING = 2;
+    private static final int NO_MATCH = 3;
+
+    // GB2312一级汉字按拼音排序，各声母的起始区位码
+    private static final int[] GB2312_BOUNDARIES = {
+        0xB0A1, 0xB0C5, 0xB2C1, 0xB4EE, 0xB6EA, 0xB7A2, 0xB8C1, 0xB9FE, 0xBBF7, 0xBFA6, 0xC0AC, 0xC2E8,
+        0xC4C3, 0xC5B6, 0xC5BE, 0xC6DA, 0xC8BB, 0xC8F6, 0xCBFA, 0xCDDA, 0xCEF4, 0xD1B9, 0xD4D1, 0xD7FA
+    };
+    private static final String GB2312_INITIALS = "abcdefghjklmnopqrstwxyz";
+    // 英雄名和称号中出现的GB2312二级汉字
+    private static final String EXTRA_INITIALS = "斐f娅y黛d芙f彗h迦j珏j璐l蔻k菈l芮r雯w娑s垭y薇w婕j蓓b芸y"
+        + "殇s皎j铠k冥m鲛j魇y翎l籁l霆t咪m";
+    private static final Charset GB2312 = Charset.isSupported("GB2312") ? Charset.forName("GB2312") : null;
+
+    private final List<Champion> champions;
+    private final String[][] tokens;
+    private final GramTable grams;
+    private final String[] suggestionKeys;
+    private final String[] suggestionValues;
+
+    private ChampionSearchIndex(List<Champion> champions, String[][] tokens, GramTable grams,
+                                String[] suggestionKeys, String[] suggestionValues) {
+        this.champions = champions;
+        this.tokens = tokens;
+        this.grams = grams;
+        this.suggestionKeys = suggestionKeys;
+        this.suggestionValues = suggestionValues;
+    }
+
+    public static ChampionSearchIndex build(Collection<Champion> champions) {
+        List<Champion> roster = List.copyOf(champions);
+        String[][] tokens = new String[roster.size()][];
+        Map<Long, int[]> postings = new HashMap<>();
+        List<String[]> suggestions = new ArrayList<>();
+
+        for (int index = 0; index < roster.size(); index++) {
+            Champion champion = roster.get(index);
+            Set<String> fields = new LinkedHashSet<>();
+            fields.add(normalize(champion.getNameCn()));
+            fields.add(normalize(champion.getNameEn()));
+            fields.add(normalize(champion.getKey()));
+            fields.add(normalize(champion.getTitle()));
+            fields.add(pinyinInitials(champion.getNameCn()));
+            fields.add(pinyinInitials(champion.getTitle()));
+            if (champion.getKeywords() != null) {
+                champion.getKeywords().forEach(keyword -> fields.add(normalize(keyword)));
+            }
+            if (champion.getTags() != null) {
+                champion.getTags().forEach(tag -> fields.add(normalize(tag)));
+            }
+            fields.remove("");
+            tokens[index] = fields.toArray(new String[0]);
+
+            for (String token : tokens[index]) {
+                for (int start = 0; start < token.length(); start++) {
+                    for (int length = 1; length <= GRAM && start + length <= token.length(); length++) {
+                        postings.merge(gramKey(token, start, length), new int[]{index},
+                                       ChampionSearchIndex::appendPosting);
+                    }
+                }
+            }
+
+            addSuggestion(suggestions, normalize(champion.getNameCn()), champion.getNameCn());
+            addSuggestion(suggestions, normalize(champion.getNameEn()), champion.getNameEn());
+            addSuggestion(suggestions, pinyinInitials(champion.getNameCn()), champion.getNameCn());
+            if (champion.getKeywords() != null) {
+                champion.getKeywords().forEach(keyword -> addSuggestion(suggestions, normalize(keyword), keyword));
+            }
+        }
+
+        // 按归一化文本排序，前缀查询只需二分定位起点
+        suggestions.sort((a, b) -> a[0].equals(b[0]) ? a[1].compareTo(b[1]) : a[0].compareTo(b[0]));
+        String[] suggestionKeys = new String[suggestions.size()];
+        String[] suggestionValues = new String[suggestions.size()];
+        for (int i = 0; i < suggestions.size(); i++) {
+            suggestionKeys[i] = suggestions.get(i)[0];
+            suggestionValues[i] = suggestions.get(i)[1];
+        }
+
+        return new ChampionSearchIndex(roster, tokens, new GramTable(postings), suggestionKeys, suggestionValues);
+    }
+
+    /**
+     * 搜索英雄，空查询返回全部英雄
+     */
+    public List<Champion> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>(champions);
+        }
+
+        List<Champion> result = new ArrayList<>();
+        int[] candidates = candidates(normalized);
+        if (candidates == null) {
+            return result;
+        }
+        for (int rank = EXACT; rank <= SUBSTRING; rank++) {
+            for (int index : candidates) {
+                if (rank(index, normalized) == rank) {
+                    result.add(champions.get(index));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 以查询开头的英雄名、关键词建议（拼音首字母会提示对应的中文名）
+     */
+    public List<String> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        List<String> result = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return result;
+        }
+
+        for (int i = lowerBound(normalized); i < suggestionKeys.length && result.size() < limit
+                && suggestionKeys[i].startsWith(normalized); i++) {
+            if (!result.contains(suggestionValues[i])) {
+                result.add(suggestionValues[i]);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return champions.size();
+    }
+
+    /**
+     * 候选英雄（升序），短查询本身就是一个片段，长查询取最短的三字片段倒排表
+     */
+    private int[] candidates(String query) {
+        if (query.length() <= GRAM) {
+            return grams.get(gramKey(query, 0, query.length()));
+        }
+        int[] shortest = null;
+        for (int start = 0; start + GRAM <= query.length(); start++) {
+            int[] posting = grams.get(gramKey(query, start, GRAM));
+            if (posting == null) {
+                return null;
+            }
+            if (shortest == null || posting.length < shortest.length) {
+                shortest = posting;
+            }
+        }
+        return shortest;
+    }
+
+    private int rank(int index, String query) {
+        int best = NO_MATCH;
+        for (String token : tokens[index]) {
+            if (token.equals(query)) {
+                return EXACT;
+            }
+            if (token.startsWith(query)) {
+                best = PREFIX;
+            } else if (best > SUBSTRING && token.contains(query)) {
+                best = SUBSTRING;
+            }
+        }
+        return best;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = suggestionKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (suggestionKeys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 转小写并去掉空格和标点，"Kai'Sa"、"kai sa"、"KAISA"视为相同
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 中文文本的拼音首字母，如"亚托克斯" → "ytks"；不含汉字时返回空串
+     */
+    static String pinyinInitials(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        boolean hasHan = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.UnicodeScript.of(c) == Character.UnicodeScript.HAN) {
+                hasHan = true;
+                char initial = initialOf(c);
+                if (initial != 0) {
+                    sb.append(initial);
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return hasHan ? sb.toString() : "";
+    }
+
+    private static char initialOf(char c) {
+        int extra = EXTRA_INITIALS.indexOf(c);
+        if (extra >= 0 && extra % 2 == 0) {
+            return EXTRA_INITIALS.charAt(extra + 1);
+        }
+        if (GB2312 == null) {
+            return 0;
+        }
+        byte[] bytes = String.valueOf(c).getBytes(GB2312);
+        if (bytes.length != 2) {
+            return 0;
+        }
+        int code = ((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF);
+        for (int i = GB2312_INITIALS.length() - 1; i >= 0; i--) {
+            if (code >= GB2312_BOUNDARIES[i] && code < GB2312_BOUNDARIES[i + 1]) {
+                return GB2312_INITIALS.charAt(i);
+            }
+        }
+        return 0;
+    }
+
+    private static void addSuggestion(List<String[]> suggestions, String key, String value) {
+        if (!key.isEmpty() && value != null) {
+            suggestions.add(new String[]{key, value});
+        }
+    }
+
+    /**
+     * 英雄按序号递增加入，同一英雄的重复片段只记一次
+     */
+    private static int[] appendPosting(int[] existing, int[] added) {
+        if (existing[existing.length - 1] == added[0]) {
+            return existing;
+        }
+        int[] merged = Arrays.copyOf(existing, existing.length + 1);
+        merged[existing.length] = added[0];
+        return merged;
+    }
+
+    /**
+     * 1~3个字符打包成long，长度写在高位以区分不同长度的片段
+     */
+    private static long gramKey(String text, int start, int length) {
+        long key = length;
+        for (int i = start; i < start + length; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    /**
+     * 以long为键的开放寻址表，查询时不装箱
+     */
+    private static final class GramTable {
+        private final long[] keys;
+        private final int[][] values;
+        private final int mask;
+
+        GramTable(Map<Long, int[]> source) {
+            int capacity = Integer.highestOneBit(Math.max(2, source.size() * 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity][];
+            mask = capacity - 1;
+            source.forEach((key, posting) -> {
+                int slot = slot(key);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = posting;
+            });
+        }
+
+        int[] get(long key) {
+            for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return null;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
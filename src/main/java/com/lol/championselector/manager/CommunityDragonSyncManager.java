@@ -1,21 +1,37 @@
 package com.lol.championselector.manager;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.api.ConditionalFetcher;
+import com.lol.championselector.config.ChampionSelectorConfig;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,106 +39,207 @@ import java.util.regex.Pattern;
 public class CommunityDragonSyncManager {
     private static final Logger logger = LoggerFactory.getLogger(CommunityDragonSyncManager.class);
     
-    private static final String BASE_URL = "https://raw.communitydragon.org/latest/game/data/characters/";
+    private static final String ROOT_URL = "https://raw.communitydragon.org/latest/";
+    private static final String CHARACTERS_PATH = "game/data/characters/";
+    private static final String METADATA_PATH = "content-metadata.json";
     private static final String DATA_DIR = "src/main/resources/champion/data/community_dragon/";
+    private static final String SYNC_STATE_FILE = "sync_state.json";
+    private static final String VALIDATORS_FILE = "http_validators.json";
     
+    // 同一主机两次请求之间的最小间隔
+    private static final long HOST_MIN_INTERVAL_MS = 20;
+    
+    private enum Outcome { UPDATED, UNCHANGED, FAILED }
+    
+    private final String rootUrl;
+    private final String dataDir;
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ConditionalFetcher fetcher;
+    private final SyncState syncState;
     
     public CommunityDragonSyncManager() {
+        this(ROOT_URL, DATA_DIR, new ChampionSelectorConfig().getMaxConcurrentDownloads());
+    }
+    
+    /**
+     * @param rootUrl               Community Dragon的补丁根地址（测试时指向本地服务器）
+     * @param dataDir               数据保存目录
+     * @param maxConcurrentDownloads 同时下载的英雄数量
+     */
+    public CommunityDragonSyncManager(String rootUrl, String dataDir, int maxConcurrentDownloads) {
+        this.rootUrl = rootUrl.endsWith("/") ? rootUrl : rootUrl + "/";
+        this.dataDir = dataDir.endsWith("/") ? dataDir : dataDir + "/";
         this.httpClient = new OkHttpClient.Builder()
             .connectTimeout(30, TimeUnit.SECONDS)
             .readTimeout(60, TimeUnit.SECONDS)
             .writeTimeout(30, TimeUnit.SECONDS)
+            .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                .header("User-Agent", "LOL-Helper/1.0.0")
+                .build()))
             .build();
         this.objectMapper = new ObjectMapper();
         
         // 创建数据目录
-        File dataDir = new File(DATA_DIR);
-        if (!dataDir.exists()) {
-            dataDir.mkdirs();
+        File dir = new File(this.dataDir);
+        if (!dir.exists()) {
+            dir.mkdirs();
         }
+        this.fetcher = new ConditionalFetcher(httpClient, maxConcurrentDownloads, HOST_MIN_INTERVAL_MS,
+                                              Paths.get(this.dataDir, VALIDATORS_FILE));
+        this.syncState = loadSyncState();
     }
     
     public boolean syncChampionSkillData(String championKey) {
+        logger.debug("Syncing Community Dragon data for champion: {}", championKey);
+        Outcome outcome = processResponse(championKey, fetcher.fetch(characterUrl(championKey), outputFile(championKey),
+                                                                     body -> readDownload(body, championKey)));
+        saveSyncState();
+        return outcome != Outcome.FAILED;
+    }
+    
+    /**
+     * Community Dragon 使用小写的英雄名
+     */
+    private String characterUrl(String championKey) {
+        String lowerChampionKey = championKey.toLowerCase(Locale.ROOT);
+        return rootUrl + CHARACTERS_PATH + lowerChampionKey + "/" + lowerChampionKey + ".bin.json";
+    }
+    
+    private Path outputFile(String championKey) {
+        return Paths.get(dataDir + championKey + "_community.json");
+    }
+    
+    /**
+     * 从响应流中一次读完bin.json的结果：内容哈希和提取出的技能数据
+     */
+    private static final class Download {
+        final String hash;
+        final Map<String, Object> skillData;
+        
+        Download(String hash, Map<String, Object> skillData) {
+            this.hash = hash;
+            this.skillData = skillData;
+        }
+    }
+    
+    /**
+     * 边计算SHA-256边流式解析，不把整个bin.json缓冲到内存
+     */
+    private Download readDownload(InputStream body, String championKey) throws IOException {
+        DigestInputStream digestStream = new DigestInputStream(body, sha256());
+        Map<String, Object> skillData = extractSkillData(digestStream, championKey);
+        // 解析器在文档结束或出错时停止读取，剩余字节也要计入哈希
+        digestStream.transferTo(OutputStream.nullOutputStream());
+        return new Download(HexFormat.of().formatHex(digestStream.getMessageDigest().digest()), skillData);
+    }
+    
+    /**
+     * 处理下载结果：304或内容哈希未变化时跳过写入
+     */
+    private Outcome processResponse(String championKey, ConditionalFetcher.Result result) {
         try {
-            logger.debug("Syncing Community Dragon data for champion: {}", championKey);
-            
-            // Community Dragon 使用小写的英雄名
-            String lowerChampionKey = championKey.toLowerCase();
-            String url = BASE_URL + lowerChampionKey + "/" + lowerChampionKey + ".bin.json";
+            if (result.getStatus() == ConditionalFetcher.Status.NOT_MODIFIED) {
+                return Outcome.UNCHANGED;
+            }
+            if (result.getStatus() == ConditionalFetcher.Status.FAILED) {
+                logger.warn("Failed to fetch Community Dragon data for {}: HTTP {}", championKey, result.getHttpCode());
+                return Outcome.FAILED;
+            }
             
-            Request request = new Request.Builder()
-                .url(url)
-                .addHeader("User-Agent", "LOL-Helper/1.0.0")
-                .build();
+            Download download = result.getValue();
+            String hash = download.hash;
+            if (hash.equals(syncState.hashes.get(championKey)) && Files.exists(outputFile(championKey))) {
+                logger.debug("Community Dragon data unchanged for: {}", championKey);
+                return Outcome.UNCHANGED;
+            }
             
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    
-                    // 解析并提取技能数据
-                    Map<String, Object> skillData = extractSkillData(responseBody, championKey);
-                    
-                    if (!skillData.isEmpty()) {
-                        // 保存到本地文件
-                        saveSkillData(championKey, skillData);
-                        logger.debug("Successfully synced Community Dragon data for: {}", championKey);
-                        return true;
-                    } else {
-                        logger.warn("No useful skill data found for: {}", championKey);
-                        return false;
-                    }
-                } else {
-                    logger.warn("Failed to fetch Community Dragon data for {}: HTTP {}", championKey, response.code());
-                    return false;
-                }
+            Map<String, Object> skillData = download.skillData;
+            if (skillData.isEmpty()) {
+                logger.warn("No useful skill data found for: {}", championKey);
+                return Outcome.FAILED;
             }
             
+            // 保存到本地文件
+            saveSkillData(championKey, skillData);
+            syncState.hashes.put(championKey, hash);
+            logger.debug("Successfully synced Community Dragon data for: {}", championKey);
+            return Outcome.UPDATED;
+            
         } catch (Exception e) {
             logger.error("Error syncing Community Dragon data for champion: {}", championKey, e);
-            return false;
+            return Outcome.FAILED;
         }
     }
     
-    private Map<String, Object> extractSkillData(String jsonData, String championKey) {
+    /**
+     * 流式解析bin.json：只把与技能相关的顶层条目读成树，其余条目（皮肤、特效、动画等）直接跳过，
+     * 避免为整个文档建立JsonNode。不关闭传入的流
+     */
+    Map<String, Object> extractSkillData(InputStream jsonData, String championKey) {
         Map<String, Object> result = new HashMap<>();
+        Map<String, List<Double>> damageData = new HashMap<>();
+        Map<String, List<Double>> cooldownData = new HashMap<>();
+        Map<String, List<Double>> costData = new HashMap<>();
+        Map<String, List<Double>> rangeData = new HashMap<>();
         
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonData);
+        try (JsonParser parser = objectMapper.getFactory().createParser(jsonData)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                logger.error("Unexpected Community Dragon document for: {}", championKey);
+                return result;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                String lowerKey = key.toLowerCase();
+                parser.nextToken();
+                
+                // 在Community Dragon数据中查找技能相关信息
+                boolean damage = lowerKey.contains("spell") || lowerKey.contains("damage");
+                boolean cooldown = lowerKey.contains("cooldown") || lowerKey.contains("cd");
+                boolean cost = lowerKey.contains("cost") || lowerKey.contains("mana");
+                boolean range = lowerKey.contains("range") || lowerKey.contains("radius");
+                if (!damage && !cooldown && !cost && !range) {
+                    parser.skipChildren();
+                    continue;
+                }
+                
+                JsonNode value = parser.readValueAsTree();
+                if (damage) {
+                    extractDamageFromNode(value, key, damageData);
+                }
+                if (cooldown) {
+                    putNumbers(cooldownData, key, value);
+                }
+                if (cost) {
+                    putNumbers(costData, key, value);
+                }
+                if (range) {
+                    putNumbers(rangeData, key, value);
+                }
+            }
             
-            // 在Community Dragon数据中查找技能相关信息
-            result.put("damageData", extractDamageValues(rootNode));
-            result.put("cooldownData", extractCooldownValues(rootNode));
-            result.put("costData", extractCostValues(rootNode));
-            result.put("rangeData", extractRangeValues(rootNode));
+            result.put("damageData", damageData);
+            result.put("cooldownData", cooldownData);
+            result.put("costData", costData);
+            result.put("rangeData", rangeData);
             
             logger.debug("Extracted {} damage entries, {} cooldown entries for {}", 
-                        ((Map<?,?>)result.get("damageData")).size(),
-                        ((Map<?,?>)result.get("cooldownData")).size(),
-                        championKey);
+                        damageData.size(), cooldownData.size(), championKey);
             
         } catch (Exception e) {
             logger.error("Error parsing Community Dragon data for: {}", championKey, e);
+            result.clear();
         }
         
         return result;
     }
     
-    private Map<String, List<Double>> extractDamageValues(JsonNode rootNode) {
-        Map<String, List<Double>> damageData = new HashMap<>();
-        
-        // 遍历所有节点寻找伤害相关数据
-        rootNode.fields().forEachRemaining(entry -> {
-            String key = entry.getKey();
-            JsonNode value = entry.getValue();
-            
-            if (key.toLowerCase().contains("spell") || key.toLowerCase().contains("damage")) {
-                extractDamageFromNode(value, key, damageData);
-            }
-        });
-        
-        return damageData;
+    private void putNumbers(Map<String, List<Double>> target, String key, JsonNode value) {
+        List<Double> values = extractNumberArray(value);
+        if (!values.isEmpty()) {
+            target.put(key, values);
+        }
     }
     
     private void extractDamageFromNode(JsonNode node, String skillKey, Map<String, List<Double>> damageData) {
@@ -155,60 +272,6 @@ public class CommunityDragonSyncManager {
         }
     }
     
-    private Map<String, List<Double>> extractCooldownValues(JsonNode rootNode) {
-        Map<String, List<Double>> cooldownData = new HashMap<>();
-        
-        rootNode.fields().forEachRemaining(entry -> {
-            String key = entry.getKey();
-            JsonNode value = entry.getValue();
-            
-            if (key.toLowerCase().contains("cooldown") || key.toLowerCase().contains("cd")) {
-                List<Double> values = extractNumberArray(value);
-                if (!values.isEmpty()) {
-                    cooldownData.put(key, values);
-                }
-            }
-        });
-        
-        return cooldownData;
-    }
-    
-    private Map<String, List<Double>> extractCostValues(JsonNode rootNode) {
-        Map<String, List<Double>> costData = new HashMap<>();
-        
-        rootNode.fields().forEachRemaining(entry -> {
-            String key = entry.getKey();
-            JsonNode value = entry.getValue();
-            
-            if (key.toLowerCase().contains("cost") || key.toLowerCase().contains("mana")) {
-                List<Double> values = extractNumberArray(value);
-                if (!values.isEmpty()) {
-                    costData.put(key, values);
-                }
-            }
-        });
-        
-        return costData;
-    }
-    
-    private Map<String, List<Double>> extractRangeValues(JsonNode rootNode) {
-        Map<String, List<Double>> rangeData = new HashMap<>();
-        
-        rootNode.fields().forEachRemaining(entry -> {
-            String key = entry.getKey();
-            JsonNode value = entry.getValue();
-            
-            if (key.toLowerCase().contains("range") || key.toLowerCase().contains("radius")) {
-                List<Double> values = extractNumberArray(value);
-                if (!values.isEmpty()) {
-                    rangeData.put(key, values);
-                }
-            }
-        });
-        
-        return rangeData;
-    }
-    
     private List<Double> extractNumberArray(JsonNode node) {
         List<Double> numbers = new ArrayList<>();
         
@@ -238,8 +301,6 @@ public class CommunityDragonSyncManager {
     }
     
     private void saveSkillData(String championKey, Map<String, Object> skillData) throws IOException {
-        File file = new File(DATA_DIR + championKey + "_community.json");
-        
         // 添加元数据
         Map<String, Object> dataWithMeta = new HashMap<>();
         dataWithMeta.put("championKey", championKey);
@@ -247,12 +308,23 @@ public class CommunityDragonSyncManager {
         dataWithMeta.put("lastUpdate", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         dataWithMeta.put("skillData", skillData);
         
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, dataWithMeta);
+        writeAtomically(outputFile(championKey), dataWithMeta);
+    }
+    
+    /**
+     * 先写临时文件再替换，中断时不会留下写了一半的文件
+     */
+    private void writeAtomically(Path target, Object value) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), value);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
     
     public boolean syncAllChampions() {
-        logger.info("Starting Community Dragon sync for all champions...");
-        
         // 获取英雄列表
         LocalDataManager localDataManager = new LocalDataManager();
         localDataManager.loadChampions();
@@ -262,37 +334,107 @@ public class CommunityDragonSyncManager {
             championKeys.add(champion.getKey());
         });
         
-        int successCount = 0;
-        int failCount = 0;
+        return syncChampions(championKeys);
+    }
+    
+    /**
+     * 增量同步：补丁版本未变且文件齐全时直接返回；否则并发下载，
+     * 只解析和写入内容有变化的英雄
+     */
+    public boolean syncChampions(List<String> championKeys) {
+        logger.info("Starting Community Dragon sync for {} champions...", championKeys.size());
+        
+        String patch = fetchPatchVersion();
+        if (patch != null && patch.equals(syncState.patch)
+                && championKeys.stream().allMatch(key -> Files.exists(outputFile(key)))) {
+            logger.info("Community Dragon data is already up to date (patch: {})", patch);
+            return true;
+        }
         
+        Map<Outcome, Integer> counts = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> downloads = new ArrayList<>(championKeys.size());
         for (String championKey : championKeys) {
-            try {
-                if (syncChampionSkillData(championKey)) {
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-                
-                // 进度报告
-                if ((successCount + failCount) % 10 == 0) {
-                    logger.info("Community Dragon sync progress: {}/{} champions", 
-                               successCount + failCount, championKeys.size());
-                }
-                
-                // 避免请求过于频繁
-                Thread.sleep(100);
-                
-            } catch (Exception e) {
-                logger.warn("Error syncing {}: {}", championKey, e.getMessage());
-                failCount++;
-            }
+            downloads.add(fetcher.fetchAsync(characterUrl(championKey), outputFile(championKey),
+                                             body -> readDownload(body, championKey))
+                .thenApply(result -> processResponse(championKey, result))
+                .thenAccept(outcome -> {
+                    counts.merge(outcome, 1, Integer::sum);
+                    int done = counts.values().stream().mapToInt(Integer::intValue).sum();
+                    
+                    // 进度报告
+                    if (done % 10 == 0) {
+                        logger.info("Community Dragon sync progress: {}/{} champions", done, championKeys.size());
+                    }
+                }));
+        }
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).join();
+        
+        int failCount = counts.getOrDefault(Outcome.FAILED, 0);
+        if (failCount == 0 && patch != null) {
+            syncState.patch = patch;
         }
+        saveSyncState();
         
-        logger.info("Community Dragon sync completed: {} success, {} failed", successCount, failCount);
+        logger.info("Community Dragon sync completed: {} updated, {} unchanged, {} failed ({} KB transferred)",
+                    counts.getOrDefault(Outcome.UPDATED, 0), counts.getOrDefault(Outcome.UNCHANGED, 0),
+                    failCount, fetcher.getTransferredBytes() / 1024);
         return failCount == 0;
     }
     
+    private String fetchPatchVersion() {
+        try {
+            ConditionalFetcher.Result result = fetcher.fetch(rootUrl + METADATA_PATH, null);
+            if (result.getStatus() == ConditionalFetcher.Status.UPDATED) {
+                String version = objectMapper.readTree(result.getBody()).path("version").asText("");
+                return version.isEmpty() ? null : version;
+            }
+        } catch (Exception e) {
+            logger.debug("Error reading Community Dragon patch version", e);
+        }
+        return null;
+    }
+    
+    /**
+     * 上次同步的补丁版本和每个英雄bin.json的SHA-256
+     */
+    static class SyncState {
+        public String patch;
+        public Map<String, String> hashes = new ConcurrentHashMap<>();
+    }
+    
+    private SyncState loadSyncState() {
+        File file = new File(dataDir + SYNC_STATE_FILE);
+        if (file.exists()) {
+            try {
+                SyncState state = objectMapper.readValue(file, SyncState.class);
+                state.hashes = new ConcurrentHashMap<>(state.hashes);
+                return state;
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable Community Dragon sync state {}", file, e);
+            }
+        }
+        return new SyncState();
+    }
+    
+    private void saveSyncState() {
+        try {
+            writeAtomically(Paths.get(dataDir + SYNC_STATE_FILE), syncState);
+        } catch (IOException e) {
+            logger.warn("Failed to save Community Dragon sync state", e);
+        }
+        fetcher.saveValidators();
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
     public void shutdown() {
+        fetcher.shutdown();
         try {
             httpClient.dispatcher().executorService().shutdown();
             if (!httpClient.dispatcher().executorService().awaitTermination(5, TimeUnit.SECONDS)) {
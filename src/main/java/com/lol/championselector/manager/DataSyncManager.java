@@ -2,34 +2,57 @@ package com.lol.championselector.manager;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.api.ConditionalFetcher;
+import com.lol.championselector.config.ChampionSelectorConfig;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
-import okhttp3.ResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DataSyncManager {
     private static final Logger logger = LoggerFactory.getLogger(DataSyncManager.class);
     
-    private static final String VERSION_API = "https://ddragon.leagueoflegends.com/api/versions.json";
-    private static final String CHAMPIONS_API = "https://ddragon.leagueoflegends.com/cdn/%s/data/zh_CN/champion.json";
-    private static final String CHAMPION_DETAIL_API = "https://ddragon.leagueoflegends.com/cdn/%s/data/zh_CN/champion/%s.json";
+    private static final String DDRAGON_BASE_URL = "https://ddragon.leagueoflegends.com";
+    private static final String VERSION_API = "/api/versions.json";
+    private static final String CHAMPIONS_API = "/cdn/%s/data/zh_CN/champion.json";
+    private static final String CHAMPION_DETAIL_API = "/cdn/%s/data/zh_CN/champion/%s.json";
     
     private static final String DATA_DIR = "src/main/resources/champion/data";
     private static final String CHAMPIONS_FILE = "champions.json";
     private static final String VERSION_FILE = "version.txt";
     private static final String LAST_UPDATE_FILE = "last_update.txt";
+    private static final String VALIDATORS_FILE = "http_validators.json";
     
+    // 同一主机两次请求之间的最小间隔
+    private static final long HOST_MIN_INTERVAL_MS = 20;
+    
+    private final String baseUrl;
+    private final String dataDir;
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ConditionalFetcher fetcher;
     
     public DataSyncManager() {
+        this(DDRAGON_BASE_URL, DATA_DIR, new ChampionSelectorConfig().getMaxConcurrentDownloads());
+    }
+    
+    /**
+     * @param baseUrl               Data Dragon地址（测试时指向本地服务器）
+     * @param dataDir               数据保存目录
+     * @param maxConcurrentDownloads 同时下载的英雄详情数量
+     */
+    public DataSyncManager(String baseUrl, String dataDir, int maxConcurrentDownloads) {
+        this.baseUrl = baseUrl;
+        this.dataDir = dataDir;
         this.httpClient = new OkHttpClient.Builder()
             .connectTimeout(15, TimeUnit.SECONDS)
             .readTimeout(30, TimeUnit.SECONDS)
@@ -38,16 +61,18 @@ public class DataSyncManager {
         
         // 创建数据目录
         createDataDirectory();
+        this.fetcher = new ConditionalFetcher(httpClient, maxConcurrentDownloads, HOST_MIN_INTERVAL_MS,
+                                              Paths.get(dataDir, VALIDATORS_FILE));
     }
     
     private void createDataDirectory() {
-        File dataDir = new File(DATA_DIR);
-        if (!dataDir.exists()) {
-            boolean created = dataDir.mkdirs();
+        File dir = new File(dataDir);
+        if (!dir.exists()) {
+            boolean created = dir.mkdirs();
             if (created) {
-                logger.info("Created data directory: {}", DATA_DIR);
+                logger.info("Created data directory: {}", dataDir);
             } else {
-                logger.warn("Failed to create data directory: {}", DATA_DIR);
+                logger.warn("Failed to create data directory: {}", dataDir);
             }
         }
     }
@@ -64,10 +89,12 @@ public class DataSyncManager {
             }
             
             logger.info("Latest version: {}", latestVersion);
+            String versionPath = "/cdn/" + latestVersion + "/";
+            fetcher.retainValidators(url -> !url.contains("/cdn/") || url.contains(versionPath));
             
-            // 2. 检查是否需要更新
+            // 2. 检查是否需要更新（版本相同且数据完整时跳过）
             String currentVersion = getCurrentVersion();
-            if (latestVersion.equals(currentVersion)) {
+            if (latestVersion.equals(currentVersion) && isDataAvailable()) {
                 logger.info("Data is already up to date (version: {})", currentVersion);
                 return true;
             }
@@ -94,37 +121,29 @@ public class DataSyncManager {
             // 6. 更新版本信息
             updateVersionInfo(latestVersion);
             
-            logger.info("Champion data synchronization completed successfully");
+            logger.info("Champion data synchronization completed successfully ({} KB transferred)",
+                        fetcher.getTransferredBytes() / 1024);
             return true;
             
         } catch (Exception e) {
             logger.error("Error during data synchronization", e);
             return false;
+        } finally {
+            fetcher.saveValidators();
         }
     }
     
     private String getLatestVersion() {
         try {
-            Request request = new Request.Builder()
-                .url(VERSION_API)
-                .build();
-                
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    logger.error("Failed to get version info, HTTP: {}", response.code());
-                    return null;
-                }
-                
-                ResponseBody body = response.body();
-                if (body == null) {
-                    logger.error("Empty response body for version info");
-                    return null;
-                }
-                
-                JsonNode versions = objectMapper.readTree(body.string());
-                if (versions.isArray() && versions.size() > 0) {
-                    return versions.get(0).asText();
-                }
+            ConditionalFetcher.Result result = fetcher.fetch(baseUrl + VERSION_API, null);
+            if (result.getStatus() != ConditionalFetcher.Status.UPDATED) {
+                logger.error("Failed to get version info, HTTP: {}", result.getHttpCode());
+                return null;
+            }
+            
+            JsonNode versions = objectMapper.readTree(result.getBody());
+            if (versions.isArray() && versions.size() > 0) {
+                return versions.get(0).asText();
             }
         } catch (Exception e) {
             logger.error("Error getting latest version", e);
@@ -135,24 +154,18 @@ public class DataSyncManager {
     
     private JsonNode getChampionsData(String version) {
         try {
-            String url = String.format(CHAMPIONS_API, version);
-            Request request = new Request.Builder()
-                .url(url)
-                .build();
-                
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    logger.error("Failed to get champions data, HTTP: {}", response.code());
+            File championsFile = new File(dataDir, CHAMPIONS_FILE);
+            String url = baseUrl + String.format(CHAMPIONS_API, version);
+            ConditionalFetcher.Result result = fetcher.fetch(url, championsFile.toPath());
+            switch (result.getStatus()) {
+                case UPDATED:
+                    return objectMapper.readTree(result.getBody());
+                case NOT_MODIFIED:
+                    logger.debug("Champions data not modified, using {}", championsFile);
+                    return objectMapper.readTree(championsFile);
+                default:
+                    logger.error("Failed to get champions data, HTTP: {}", result.getHttpCode());
                     return null;
-                }
-                
-                ResponseBody body = response.body();
-                if (body == null) {
-                    logger.error("Empty response body for champions data");
-                    return null;
-                }
-                
-                return objectMapper.readTree(body.string());
             }
         } catch (Exception e) {
             logger.error("Error getting champions data", e);
@@ -170,47 +183,52 @@ public class DataSyncManager {
             }
             
             int totalChampions = data.size();
-            int successCount = 0;
-            int errorCount = 0;
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger unchangedCount = new AtomicInteger();
+            AtomicInteger errorCount = new AtomicInteger();
             
             logger.info("Starting to sync detailed data for {} champions", totalChampions);
             
             // 创建技能数据目录
-            File skillsDir = new File(DATA_DIR, "skills");
+            File skillsDir = new File(dataDir, "skills");
             if (!skillsDir.exists()) {
                 skillsDir.mkdirs();
             }
             
+            // 并发下载，并发数和请求间隔由fetcher控制
+            List<CompletableFuture<Void>> downloads = new ArrayList<>(totalChampions);
             for (JsonNode championNode : data) {
                 String championKey = championNode.path("id").asText();
+                File skillFile = new File(skillsDir, championKey + ".json");
+                String url = baseUrl + String.format(CHAMPION_DETAIL_API, version, championKey);
                 
-                try {
-                    JsonNode detailedData = getChampionDetailedData(version, championKey);
-                    if (detailedData != null) {
-                        File skillFile = new File(skillsDir, championKey + ".json");
-                        objectMapper.writerWithDefaultPrettyPrinter()
-                            .writeValue(skillFile, detailedData);
-                        successCount++;
-                        
-                        if (successCount % 10 == 0) {
-                            logger.info("Synced {}/{} champions", successCount, totalChampions);
+                downloads.add(fetcher.fetchAsync(url, skillFile.toPath()).thenAccept(result -> {
+                    try {
+                        if (result.getStatus() == ConditionalFetcher.Status.UPDATED) {
+                            objectMapper.writerWithDefaultPrettyPrinter()
+                                .writeValue(skillFile, objectMapper.readTree(result.getBody()));
+                        } else if (result.getStatus() == ConditionalFetcher.Status.NOT_MODIFIED) {
+                            unchangedCount.incrementAndGet();
+                        } else {
+                            errorCount.incrementAndGet();
+                            logger.warn("Failed to get detailed data for champion: {}", championKey);
+                            return;
                         }
-                    } else {
-                        errorCount++;
-                        logger.warn("Failed to get detailed data for champion: {}", championKey);
+                        int done = successCount.incrementAndGet();
+                        if (done % 10 == 0) {
+                            logger.info("Synced {}/{} champions", done, totalChampions);
+                        }
+                    } catch (Exception e) {
+                        errorCount.incrementAndGet();
+                        logger.error("Error syncing champion: {}", championKey, e);
                     }
-                    
-                    // 添加延迟避免请求过于频繁
-                    Thread.sleep(100);
-                    
-                } catch (Exception e) {
-                    errorCount++;
-                    logger.error("Error syncing champion: {}", championKey, e);
-                }
+                }));
             }
+            CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).join();
             
-            logger.info("Detailed data sync completed: {} success, {} errors", successCount, errorCount);
-            return errorCount == 0 || (double) successCount / totalChampions > 0.8; // 80%以上成功率认为可接受
+            logger.info("Detailed data sync completed: {} success ({} unchanged), {} errors",
+                        successCount.get(), unchangedCount.get(), errorCount.get());
+            return errorCount.get() == 0 || (double) successCount.get() / totalChampions > 0.8; // 80%以上成功率认为可接受
             
         } catch (Exception e) {
             logger.error("Error during detailed skills data sync", e);
@@ -218,35 +236,9 @@ public class DataSyncManager {
         }
     }
     
-    private JsonNode getChampionDetailedData(String version, String championKey) {
-        try {
-            String url = String.format(CHAMPION_DETAIL_API, version, championKey);
-            Request request = new Request.Builder()
-                .url(url)
-                .build();
-                
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    return null;
-                }
-                
-                ResponseBody body = response.body();
-                if (body == null) {
-                    return null;
-                }
-                
-                return objectMapper.readTree(body.string());
-            }
-        } catch (Exception e) {
-            logger.debug("Error getting detailed data for champion: {}", championKey, e);
-        }
-        
-        return null;
-    }
-    
     private boolean saveChampionsData(JsonNode championsData, String version) {
         try {
-            File championsFile = new File(DATA_DIR, CHAMPIONS_FILE);
+            File championsFile = new File(dataDir, CHAMPIONS_FILE);
             objectMapper.writerWithDefaultPrettyPrinter()
                 .writeValue(championsFile, championsData);
             
@@ -261,7 +253,7 @@ public class DataSyncManager {
     
     private String getCurrentVersion() {
         try {
-            File versionFile = new File(DATA_DIR, VERSION_FILE);
+            File versionFile = new File(dataDir, VERSION_FILE);
             if (versionFile.exists()) {
                 return new String(java.nio.file.Files.readAllBytes(versionFile.toPath())).trim();
             }
@@ -275,11 +267,11 @@ public class DataSyncManager {
     private void updateVersionInfo(String version) {
         try {
             // 保存版本信息
-            File versionFile = new File(DATA_DIR, VERSION_FILE);
+            File versionFile = new File(dataDir, VERSION_FILE);
             java.nio.file.Files.write(versionFile.toPath(), version.getBytes());
             
             // 保存更新时间
-            File updateFile = new File(DATA_DIR, LAST_UPDATE_FILE);
+            File updateFile = new File(dataDir, LAST_UPDATE_FILE);
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             java.nio.file.Files.write(updateFile.toPath(), timestamp.getBytes());
             
@@ -291,7 +283,7 @@ public class DataSyncManager {
     }
     
     public boolean isDataAvailable() {
-        File championsFile = new File(DATA_DIR, CHAMPIONS_FILE);
+        File championsFile = new File(dataDir, CHAMPIONS_FILE);
         return championsFile.exists();
     }
     
@@ -301,7 +293,7 @@ public class DataSyncManager {
     
     public String getLastUpdateTime() {
         try {
-            File updateFile = new File(DATA_DIR, LAST_UPDATE_FILE);
+            File updateFile = new File(dataDir, LAST_UPDATE_FILE);
             if (updateFile.exists()) {
                 return new String(java.nio.file.Files.readAllBytes(updateFile.toPath())).trim();
             }
@@ -314,6 +306,7 @@ public class DataSyncManager {
     
     public void shutdown() {
         try {
+            fetcher.shutdown();
             httpClient.dispatcher().executorService().shutdown();
             httpClient.connectionPool().evictAll();
             logger.info("DataSyncManager shut down successfully");
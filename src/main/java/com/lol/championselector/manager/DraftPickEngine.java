@@ -1,6 +1,7 @@
 package com.lol.championselector.manager;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.lol.championselector.model.ChampionIdSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -93,13 +94,23 @@ public class DraftPickEngine {
         private final boolean isDraftPick; // 是否是draft pick模式
         private final List<Integer> alliedTeam;
         private final List<Integer> enemyTeam;
-        private final Set<Integer> bannedChampions;
-        private final Set<Integer> pickedChampions;
+        private final ChampionIdSet bannedChampions;
+        private final ChampionIdSet pickedChampions;
         private final Map<Integer, Integer> playerChampions; // cellId -> championId
         
         public DraftAnalysis(List<DraftPhase> phases, DraftPhase currentPhase, DraftAction currentPlayerAction,
                            int currentTurn, boolean isDraftPick, List<Integer> alliedTeam, List<Integer> enemyTeam,
                            Set<Integer> bannedChampions, Set<Integer> pickedChampions, Map<Integer, Integer> playerChampions) {
+            this(phases, currentPhase, currentPlayerAction, currentTurn, isDraftPick, alliedTeam, enemyTeam,
+                 ChampionIdSet.copyOf(bannedChampions), ChampionIdSet.copyOf(pickedChampions), playerChampions);
+        }
+        
+        /**
+         * Bitset-backed analysis; the sets are stored as read-only copies
+         */
+        public DraftAnalysis(List<DraftPhase> phases, DraftPhase currentPhase, DraftAction currentPlayerAction,
+                           int currentTurn, boolean isDraftPick, List<Integer> alliedTeam, List<Integer> enemyTeam,
+                           ChampionIdSet bannedChampions, ChampionIdSet pickedChampions, Map<Integer, Integer> playerChampions) {
             this.phases = phases;
             this.currentPhase = currentPhase;
             this.currentPlayerAction = currentPlayerAction;
@@ -107,8 +118,8 @@ public class DraftPickEngine {
             this.isDraftPick = isDraftPick;
             this.alliedTeam = alliedTeam;
             this.enemyTeam = enemyTeam;
-            this.bannedChampions = bannedChampions;
-            this.pickedChampions = pickedChampions;
+            this.bannedChampions = bannedChampions.toReadOnly();
+            this.pickedChampions = pickedChampions.toReadOnly();
             this.playerChampions = playerChampions;
         }
         
@@ -120,9 +131,11 @@ public class DraftPickEngine {
         public boolean isDraftPick() { return isDraftPick; }
         public List<Integer> getAlliedTeam() { return alliedTeam; }
         public List<Integer> getEnemyTeam() { return enemyTeam; }
-        public Set<Integer> getBannedChampions() { return bannedChampions; }
-        public Set<Integer> getPickedChampions() { return pickedChampions; }
+        public ChampionIdSet getBannedChampions() { return bannedChampions; }
+        public ChampionIdSet getPickedChampions() { return pickedChampions; }
         public Map<Integer, Integer> getPlayerChampions() { return playerChampions; }
+        public boolean isBanned(int championId) { return bannedChampions.contains(championId); }
+        public boolean isPicked(int championId) { return pickedChampions.contains(championId); }
         
         @Override
         public String toString() {
@@ -132,6 +145,263 @@ public class DraftPickEngine {
         }
     }
     
+    /**
+     * 增量分析使用的可变draft状态，按actionId保存
+     */
+    private static class DraftState {
+        String sessionKey;
+        int localPlayerCellId = -1;
+        final Map<Integer, DraftAction> actionsById = new HashMap<>();
+        final List<DraftPhase> phases = new ArrayList<>();
+        final BitSet alliedCells = new BitSet();
+        List<Integer> alliedTeam = Collections.emptyList();
+        List<Integer> enemyTeam = Collections.emptyList();
+        List<TeamCell> teamCells = Collections.emptyList();
+        final ChampionIdSet banned = new ChampionIdSet();
+        final ChampionIdSet picked = new ChampionIdSet();
+        final Map<Integer, Integer> playerChampions = new HashMap<>();
+        
+        void clear() {
+            sessionKey = null;
+            localPlayerCellId = -1;
+            actionsById.clear();
+            phases.clear();
+            alliedCells.clear();
+            alliedTeam = Collections.emptyList();
+            enemyTeam = Collections.emptyList();
+            teamCells = Collections.emptyList();
+            banned.clear();
+            picked.clear();
+            playerChampions.clear();
+        }
+    }
+    
+    private final DraftState draftState = new DraftState();
+    
+    /**
+     * 增量分析draft状态：保留上一次的结果，只应用发生变化的action。
+     * 同一个session的连续更新应该调用此方法，新对局会自动重置状态。
+     */
+    public synchronized DraftAnalysis updateDraftSession(JsonNode session, int localPlayerCellId) {
+        if (session == null || session.isMissingNode()) {
+            logger.warn("Session为空或缺失");
+            return null;
+        }
+        
+        JsonNode actions = session.path("actions");
+        if (!actions.isArray()) {
+            logger.warn("Actions不是数组类型");
+            return null;
+        }
+        
+        DraftState state = draftState;
+        String sessionKey = session.path("gameId").asText("");
+        if (!sessionKey.equals(state.sessionKey) || localPlayerCellId != state.localPlayerCellId) {
+            state.clear();
+            state.sessionKey = sessionKey;
+            state.localPlayerCellId = localPlayerCellId;
+        }
+        
+        if (updateTeams(state, session)) {
+            // 格子换了阵营，已有action的isAllyTurn失效，全部按新队伍重建
+            state.actionsById.clear();
+            state.banned.clear();
+            state.picked.clear();
+            state.playerChampions.clear();
+        }
+        
+        DraftAction currentPlayerAction = null;
+        int currentTurn = 0;
+        boolean recountNeeded = false;
+        boolean phasesChanged = state.phases.size() != actions.size();
+        
+        for (int phaseIndex = 0; phaseIndex < actions.size(); phaseIndex++) {
+            JsonNode actionGroup = actions.get(phaseIndex);
+            boolean phaseDirty = phaseIndex >= state.phases.size()
+                || state.phases.get(phaseIndex).getActions().size() != actionGroup.size();
+            
+            for (JsonNode action : actionGroup) {
+                int actionId = action.path("id").asInt();
+                int championId = action.path("championId").asInt(0);
+                boolean isInProgress = action.path("isInProgress").asBoolean(false);
+                boolean completed = action.path("completed").asBoolean(false);
+                
+                DraftAction previous = state.actionsById.get(actionId);
+                DraftAction current = previous;
+                if (previous == null || previous.getChampionId() != championId
+                        || previous.isInProgress() != isInProgress || previous.isCompleted() != completed) {
+                    int actorCellId = action.path("actorCellId").asInt();
+                    current = new DraftAction(actionId, actorCellId, action.path("type").asText(""), championId,
+                                              isInProgress, completed, phaseIndex + 1,
+                                              actorCellId >= 0 && state.alliedCells.get(actorCellId));
+                    state.actionsById.put(actionId, current);
+                    phaseDirty = true;
+                    
+                    if (previous != null && previous.isCompleted() && previous.getChampionId() > 0) {
+                        recountNeeded = true; // 已锁定的action被改写，重新统计
+                    } else {
+                        recordLockedChampion(state, current);
+                    }
+                }
+                
+                if (current.getActorCellId() == localPlayerCellId && isInProgress && !completed) {
+                    currentPlayerAction = current;
+                    currentTurn = current.getPickTurn();
+                }
+            }
+            
+            if (phaseDirty) {
+                rebuildPhase(state, phaseIndex, actionGroup);
+                phasesChanged = true;
+            }
+        }
+        
+        while (state.phases.size() > actions.size()) {
+            state.phases.remove(state.phases.size() - 1);
+        }
+        
+        if (recountNeeded) {
+            state.banned.clear();
+            state.picked.clear();
+            state.playerChampions.clear();
+            for (DraftAction action : state.actionsById.values()) {
+                recordLockedChampion(state, action);
+            }
+        }
+        
+        DraftPhase currentPhase = null;
+        boolean hasBan = false;
+        boolean hasPick = false;
+        for (DraftPhase phase : state.phases) {
+            if (currentPhase == null && phase.isActive()) {
+                currentPhase = phase;
+            }
+            hasBan |= "ban".equals(phase.getType());
+            hasPick |= "pick".equals(phase.getType());
+        }
+        boolean isDraftPick = state.phases.size() > 2 && hasBan && hasPick;
+        
+        DraftAnalysis analysis = new DraftAnalysis(List.copyOf(state.phases), currentPhase, currentPlayerAction, currentTurn,
+                                                 isDraftPick, state.alliedTeam, state.enemyTeam,
+                                                 state.banned.toReadOnly(), state.picked.toReadOnly(),
+                                                 Map.copyOf(state.playerChampions));
+        if (phasesChanged) {
+            logger.debug("Draft增量分析完成: {}", analysis);
+        }
+        return analysis;
+    }
+    
+    /**
+     * 清空增量分析状态
+     */
+    public synchronized void resetDraftState() {
+        draftState.clear();
+    }
+    
+    /**
+     * 逐个格子比较双方队伍（身份、分路和意向英雄），有变化时重建队伍信息
+     *
+     * @return 格子所属的阵营是否变化
+     */
+    private boolean updateTeams(DraftState state, JsonNode session) {
+        JsonNode myTeam = session.path("myTeam");
+        JsonNode theirTeam = session.path("theirTeam");
+        List<TeamCell> cells = new ArrayList<>(myTeam.size() + theirTeam.size());
+        for (JsonNode player : myTeam) {
+            cells.add(new TeamCell(true, player));
+        }
+        for (JsonNode player : theirTeam) {
+            cells.add(new TeamCell(false, player));
+        }
+        if (cells.equals(state.teamCells)) {
+            return false;
+        }
+        state.teamCells = cells;
+        
+        List<Integer> alliedTeam = List.copyOf(extractTeamCellIds(myTeam));
+        List<Integer> enemyTeam = List.copyOf(extractTeamCellIds(theirTeam));
+        boolean membershipChanged = !alliedTeam.equals(state.alliedTeam) || !enemyTeam.equals(state.enemyTeam);
+        state.alliedTeam = alliedTeam;
+        state.enemyTeam = enemyTeam;
+        state.alliedCells.clear();
+        for (int cellId : alliedTeam) {
+            state.alliedCells.set(cellId);
+        }
+        logger.debug("己方队伍: {}, 敌方队伍: {}", state.alliedTeam, state.enemyTeam);
+        return membershipChanged;
+    }
+    
+    /**
+     * 队伍中一个格子的身份和意向字段；计时器、皮肤等字段不参与比较
+     */
+    private static final class TeamCell {
+        final boolean allied;
+        final int cellId;
+        final long summonerId;
+        final String puuid;
+        final String assignedPosition;
+        final int championPickIntent;
+        
+        TeamCell(boolean allied, JsonNode player) {
+            this.allied = allied;
+            this.cellId = player.path("cellId").asInt(-1);
+            this.summonerId = player.path("summonerId").asLong(0);
+            this.puuid = player.path("puuid").asText("");
+            this.assignedPosition = player.path("assignedPosition").asText("");
+            this.championPickIntent = player.path("championPickIntent").asInt(0);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TeamCell)) return false;
+            TeamCell other = (TeamCell) o;
+            return allied == other.allied && cellId == other.cellId && summonerId == other.summonerId
+                && championPickIntent == other.championPickIntent && puuid.equals(other.puuid)
+                && assignedPosition.equals(other.assignedPosition);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(allied, cellId, summonerId, puuid, assignedPosition, championPickIntent);
+        }
+    }
+    
+    private void rebuildPhase(DraftState state, int phaseIndex, JsonNode actionGroup) {
+        List<DraftAction> phaseActions = new ArrayList<>(actionGroup.size());
+        String phaseType = null;
+        boolean isPhaseActive = false;
+        for (JsonNode action : actionGroup) {
+            DraftAction draftAction = state.actionsById.get(action.path("id").asInt());
+            phaseActions.add(draftAction);
+            if (phaseType == null) {
+                phaseType = draftAction.getType();
+            }
+            if (draftAction.isInProgress() || !draftAction.isCompleted()) {
+                isPhaseActive = true;
+            }
+        }
+        
+        DraftPhase phase = new DraftPhase(phaseIndex, phaseType, Collections.unmodifiableList(phaseActions), isPhaseActive);
+        if (phaseIndex < state.phases.size()) {
+            state.phases.set(phaseIndex, phase);
+        } else {
+            state.phases.add(phase);
+        }
+    }
+    
+    private void recordLockedChampion(DraftState state, DraftAction action) {
+        if (!action.isCompleted() || action.getChampionId() <= 0) {
+            return;
+        }
+        if ("ban".equals(action.getType())) {
+            state.banned.add(action.getChampionId());
+        } else if ("pick".equals(action.getType())) {
+            state.picked.add(action.getChampionId());
+            state.playerChampions.put(action.getActorCellId(), action.getChampionId());
+        }
+    }
+    
     /**
      * 分析champion select session的draft pick状态
      */
@@ -163,8 +433,8 @@ public class DraftPickEngine {
         int currentTurn = 0;
         
         // 收集所有ban和pick的英雄
-        Set<Integer> bannedChampions = new HashSet<>();
-        Set<Integer> pickedChampions = new HashSet<>();
+        ChampionIdSet bannedChampions = new ChampionIdSet();
+        ChampionIdSet pickedChampions = new ChampionIdSet();
         Map<Integer, Integer> playerChampions = new HashMap<>();
         
         // 分析每个阶段
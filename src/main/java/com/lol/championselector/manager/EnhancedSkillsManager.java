@@ -115,6 +115,12 @@ public class EnhancedSkillsManager {
      * 查找腾讯英雄ID
      */
     private Integer findTencentHeroId(Champion champion) {
+        // 腾讯英雄ID与championId相同，优先查英雄目录
+        Integer championId = ChampionCatalog.getInstance().findIdByKey(champion.getKey());
+        if (championId != null) {
+            return championId;
+        }
+        
         // 通过英雄Key反向查找
         for (Map.Entry<Integer, String> entry : heroIdMapping.entrySet()) {
             if (entry.getValue().equalsIgnoreCase(champion.getKey()) ||
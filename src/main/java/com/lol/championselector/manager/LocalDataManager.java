@@ -24,6 +24,7 @@ public class LocalDataManager {
     
     private final ObjectMapper objectMapper;
     private List<Champion> champions;
+    private ChampionSearchIndex searchIndex = ChampionSearchIndex.build(List.of());
     
     public LocalDataManager() {
         this.objectMapper = new ObjectMapper();
@@ -58,6 +59,7 @@ public class LocalDataManager {
                     champions.add(champion);
                 }
             }
+            searchIndex = ChampionSearchIndex.build(champions);
             
             logger.info("Loaded {} champions from local data", champions.size());
             return true;
@@ -385,19 +387,7 @@ public class LocalDataManager {
     }
     
     public List<Champion> searchChampions(String query) {
-        if (query == null || query.trim().isEmpty()) {
-            return getAllChampions();
-        }
-        
-        String searchQuery = query.toLowerCase().trim();
-        return champions.stream()
-            .filter(champion -> matchesQuery(champion, searchQuery))
-            .collect(java.util.stream.Collectors.toList());
-    }
-    
-    private boolean matchesQuery(Champion champion, String query) {
-        return champion.getKeywords().stream()
-            .anyMatch(keyword -> keyword.toLowerCase().contains(query));
+        return searchIndex.search(query);
     }
     
     /**
@@ -0,0 +1,136 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.model.LogEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * 固定容量的日志环形缓冲区，同时维护当前筛选条件下的可见记录。
+ * 追加时只对新记录求值筛选条件，满了以后淘汰最旧的记录；
+ * 只有筛选条件变化时才重新扫描整个缓冲区。非线程安全，由界面线程独占使用。
+ */
+public class LogRingBuffer {
+
+    /**
+     * 一批追加对可见列表的影响：先从头部移除removedFromHead条，再在尾部追加appended
+     */
+    public static final class Delta {
+        private final int removedFromHead;
+        private final List<LogEntry> appended;
+
+        Delta(int removedFromHead, List<LogEntry> appended) {
+            this.removedFromHead = removedFromHead;
+            this.appended = appended;
+        }
+
+        public int getRemovedFromHead() { return removedFromHead; }
+        public List<LogEntry> getAppended() { return appended; }
+        public boolean isEmpty() { return removedFromHead == 0 && appended.isEmpty(); }
+    }
+
+    private final LogEntry[] entries;
+    private final ArrayDeque<LogEntry> visible = new ArrayDeque<>();
+    private Predicate<LogEntry> filter = entry -> true;
+    private int head = 0;
+    private int size = 0;
+    private long totalAppended = 0;
+
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.entries = new LogEntry[capacity];
+    }
+
+    /**
+     * 级别精确匹配（null表示全部级别），search为空时不按内容筛选
+     */
+    public static Predicate<LogEntry> filterOf(String level, String search) {
+        String query = search == null ? "" : search.trim().toLowerCase(Locale.ROOT);
+        if (level == null && query.isEmpty()) {
+            return entry -> true;
+        }
+        return entry -> (level == null || level.equals(entry.getLevel()))
+            && (query.isEmpty() || entry.containsIgnoreCase(query));
+    }
+
+    public Delta append(List<LogEntry> batch) {
+        int removedFromHead = 0;
+        List<LogEntry> appended = new ArrayList<>();
+        for (LogEntry entry : batch) {
+            if (size == entries.length) {
+                LogEntry evicted = entries[head];
+                entries[head] = null;
+                head = (head + 1) % entries.length;
+                size--;
+                // 可见列表与缓冲区同序，被淘汰的可见记录一定在头部
+                if (visible.peekFirst() == evicted) {
+                    visible.pollFirst();
+                    if (!appended.isEmpty() && appended.get(0) == evicted) {
+                        appended.remove(0);
+                    } else {
+                        removedFromHead++;
+                    }
+                }
+            }
+            entries[(head + size) % entries.length] = entry;
+            size++;
+            totalAppended++;
+            if (filter.test(entry)) {
+                visible.addLast(entry);
+                appended.add(entry);
+            }
+        }
+        return new Delta(removedFromHead, appended);
+    }
+
+    /**
+     * 更换筛选条件并重建可见列表
+     */
+    public List<LogEntry> setFilter(Predicate<LogEntry> newFilter) {
+        this.filter = newFilter;
+        visible.clear();
+        for (int i = 0; i < size; i++) {
+            LogEntry entry = entries[(head + i) % entries.length];
+            if (newFilter.test(entry)) {
+                visible.addLast(entry);
+            }
+        }
+        return getVisibleEntries();
+    }
+
+    public List<LogEntry> getVisibleEntries() {
+        return new ArrayList<>(visible);
+    }
+
+    public int getVisibleSize() {
+        return visible.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * 累计追加的记录数（包括已被淘汰的）
+     */
+    public long getTotalAppended() {
+        return totalAppended;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, null);
+        visible.clear();
+        head = 0;
+        size = 0;
+    }
+}
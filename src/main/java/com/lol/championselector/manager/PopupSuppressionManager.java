@@ -1,16 +1,17 @@
 package com.lol.championselector.manager;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.lol.championselector.lcu.ChampSelectEvent;
+import com.lol.championselector.lcu.ChampSelectSessionDiffer;
 import com.lol.championselector.lcu.GamePhase;
 import com.lol.championselector.lcu.LCUConnection;
+import com.lol.championselector.lcu.LCUMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,12 +19,18 @@ import java.util.concurrent.ConcurrentHashMap;
  * 弹窗抑制管理器
  * 负责在自动化功能启用时抑制游戏客户端的会话弹窗
  * 提供无干扰的自动化体验
+ * 不再自行轮询：订阅LCUMonitor的阶段、准备检查和英雄选择事件，每次状态转换最多最小化一次
  */
 public class PopupSuppressionManager {
     private static final Logger logger = LoggerFactory.getLogger(PopupSuppressionManager.class);
     
     private LCUConnection connection;
-    private ScheduledExecutorService scheduler;
+    private LCUMonitor monitor;
+    
+    // 事件订阅，detach时用同一引用取消
+    private final Consumer<GamePhase> phaseListener = this::updateGamePhase;
+    private final Consumer<Boolean> readyCheckListener = this::handleReadyCheckChanged;
+    private final Consumer<ChampSelectEvent> champSelectListener = this::handleChampSelectEvent;
     
     // 抑制配置
     private AtomicBoolean suppressReadyCheckPopup = new AtomicBoolean(false);
@@ -31,20 +38,19 @@ public class PopupSuppressionManager {
     private AtomicBoolean suppressPickPhasePopup = new AtomicBoolean(false);
     
     // 当前状态跟踪
-    private GamePhase currentPhase = GamePhase.NONE;
-    private boolean isMonitoring = false;
-    private boolean lastMinimizedState = false;
+    private volatile GamePhase currentPhase = GamePhase.NONE;
+    private volatile boolean isMonitoring = false;
+    private volatile boolean lastMinimizedState = false;
     
     // Session级别抑制状态跟踪
     private String currentSessionId = null;
     private final Set<String> suppressedActions = ConcurrentHashMap.newKeySet();
     private String lastReadyCheckSessionId = null;
+    private int readyCheckCount = 0;
     
     // 错误处理和安全机制
     private int consecutiveFailures = 0;
     private static final int MAX_CONSECUTIVE_FAILURES = 5;
-    private long lastSuppressionTime = 0;
-    private static final long MIN_SUPPRESSION_INTERVAL = 2000; // 2秒最小间隔
     private AtomicBoolean isTemporarilyDisabled = new AtomicBoolean(false);
     private long temporaryDisableEndTime = 0;
     
@@ -53,7 +59,30 @@ public class PopupSuppressionManager {
     
     public PopupSuppressionManager(LCUConnection connection) {
         this.connection = connection;
-        this.scheduler = Executors.newScheduledThreadPool(1);
+    }
+    
+    /**
+     * 订阅LCUMonitor的事件；同一时间只挂在一个monitor上
+     */
+    public synchronized void attachTo(LCUMonitor lcuMonitor) {
+        detach();
+        this.monitor = lcuMonitor;
+        lcuMonitor.addPhaseListener(phaseListener);
+        lcuMonitor.addReadyCheckListener(readyCheckListener);
+        lcuMonitor.addChampSelectEventListener(champSelectListener);
+        updateGamePhase(lcuMonitor.getCurrentPhase());
+    }
+    
+    /**
+     * 取消对LCUMonitor的订阅
+     */
+    public synchronized void detach() {
+        if (monitor != null) {
+            monitor.removePhaseListener(phaseListener);
+            monitor.removeReadyCheckListener(readyCheckListener);
+            monitor.removeChampSelectEventListener(champSelectListener);
+            monitor = null;
+        }
     }
     
     /**
@@ -66,9 +95,6 @@ public class PopupSuppressionManager {
         
         isMonitoring = true;
         logger.info("开始弹窗抑制监控");
-        
-        // 每500ms检查一次弹窗状态
-        scheduler.scheduleWithFixedDelay(this::checkAndSuppressPopups, 0, 500, TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -83,13 +109,48 @@ public class PopupSuppressionManager {
     }
     
     /**
-     * 检查并抑制弹窗
+     * 准备检查开始时最小化一次；同一次准备检查的重复通知被忽略
      */
-    private void checkAndSuppressPopups() {
-        if (!isMonitoring || connection == null) {
+    synchronized void handleReadyCheckChanged(boolean inReadyCheck) {
+        if (!inReadyCheck) {
+            lastReadyCheckSessionId = null;
+            return;
+        }
+        if (lastReadyCheckSessionId != null || !suppressReadyCheckPopup.get() || !canSuppress()) {
             return;
         }
         
+        lastReadyCheckSessionId = "readycheck_" + (++readyCheckCount);
+        minimizeClientWindow("准备检查阶段 (Session: " + lastReadyCheckSessionId + ")");
+        logger.info("抑制准备检查弹窗 - Session: {}", lastReadyCheckSessionId);
+    }
+    
+    /**
+     * 新session重置抑制记录，本地玩家的ban/pick action变为进行中时最小化一次
+     */
+    synchronized void handleChampSelectEvent(ChampSelectEvent event) {
+        switch (event.getType()) {
+            case SESSION_STARTED:
+                String oldSessionId = currentSessionId;
+                currentSessionId = "champselect_" + event.getDetail();
+                suppressedActions.clear();
+                logger.info("检测到新的英雄选择session: {} -> {}, 已清空抑制状态", oldSessionId, currentSessionId);
+                break;
+            case ACTION_STARTED:
+                if (event.isLocalPlayer() && canSuppress()) {
+                    suppressAction(currentSessionId, event.getActionType(), event.getActionId());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private boolean canSuppress() {
+        if (!isMonitoring || connection == null) {
+            return false;
+        }
+        
         // 检查是否临时禁用
         if (isTemporarilyDisabled.get()) {
             if (System.currentTimeMillis() > temporaryDisableEndTime) {
@@ -97,111 +158,40 @@ public class PopupSuppressionManager {
                 isTemporarilyDisabled.set(false);
                 consecutiveFailures = 0;
             } else {
-                return; // 仍在禁用期间
+                return false; // 仍在禁用期间
             }
         }
+        return true;
+    }
+    
+    /**
+     * 对一个进行中的ban/pick action最多最小化一次
+     */
+    private void suppressAction(String sessionId, String type, int actionId) {
+        // 构建action的唯一标识符
+        String actionKey = sessionId + "_" + type + "_" + actionId;
         
-        // 检查最小间隔
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastSuppressionTime < MIN_SUPPRESSION_INTERVAL) {
+        // 检查是否已经抑制过这个action
+        if (suppressedActions.contains(actionKey)) {
+            logger.debug("跳过已抑制的action - Action Key: {}", actionKey);
             return;
         }
         
-        try {
-            switch (currentPhase) {
-                case READY_CHECK:
-                    if (suppressReadyCheckPopup.get()) {
-                        suppressReadyCheckWindow();
-                    }
-                    break;
-                case CHAMP_SELECT:
-                    if (suppressBanPhasePopup.get() || suppressPickPhasePopup.get()) {
-                        suppressChampSelectWindow();
-                    }
-                    break;
-                default:
-                    // 其他阶段恢复正常状态
-                    if (lastMinimizedState) {
-                        restoreWindowState();
-                    }
-                    break;
-            }
-            
-            // 成功执行，重置失败计数
-            consecutiveFailures = 0;
-            
-        } catch (Exception e) {
-            handleSuppressionError(e);
+        String phaseType;
+        if ("ban".equals(type) && suppressBanPhasePopup.get()) {
+            phaseType = "Ban";
+        } else if ("pick".equals(type) && suppressPickPhasePopup.get()) {
+            phaseType = "Pick";
+        } else {
+            logger.debug("跳过{}阶段action - 抑制功能未启用, Action ID: {}", type, actionId);
+            return;
         }
-    }
-    
-    /**
-     * 抑制准备检查弹窗
-     */
-    private void suppressReadyCheckWindow() {
-        // 获取当前准备检查会话信息
-        connection.get("/lol-matchmaking/v1/ready-check")
-            .thenAccept(readyCheckResponse -> {
-                if (readyCheckResponse != null && !readyCheckResponse.isMissingNode()) {
-                    String state = readyCheckResponse.path("state").asText("");
-                    
-                    // 只在准备检查状态为InProgress时进行抑制
-                    if ("InProgress".equals(state)) {
-                        // 使用时间戳作为session标识
-                        long declaredTime = readyCheckResponse.path("declaredTime").asLong(System.currentTimeMillis());
-                        String sessionKey = "readycheck_" + declaredTime;
-                        
-                        // 检查是否已经抑制过这个准备检查
-                        if (!sessionKey.equals(lastReadyCheckSessionId)) {
-                            String oldSessionId = lastReadyCheckSessionId;
-                            lastReadyCheckSessionId = sessionKey;
-                            logger.info("检测到新的准备检查session: {} -> {}", oldSessionId, sessionKey);
-                            
-                            // 检查窗口状态并抑制
-                            connection.get("/riotclient/ux-state")
-                                .thenAccept(response -> {
-                                    if (response != null && !response.isMissingNode()) {
-                                        boolean isVisible = response.path("isVisible").asBoolean(true);
-                                        
-                                        if (isVisible) {
-                                            minimizeClientWindow("准备检查阶段 (Session: " + sessionKey + ")");
-                                            logger.info("抑制准备检查弹窗 - Session: {}", sessionKey);
-                                        } else {
-                                            logger.debug("窗口已隐藏，无需抑制 - Session: {}", sessionKey);
-                                        }
-                                    }
-                                })
-                                .exceptionally(throwable -> {
-                                    logger.debug("检查UX状态失败", throwable);
-                                    return null;
-                                });
-                        } else {
-                            logger.debug("跳过已抑制的准备检查session: {}", sessionKey);
-                        }
-                    }
-                }
-            })
-            .exceptionally(throwable -> {
-                logger.debug("获取准备检查状态失败", throwable);
-                return null;
-            });
-    }
-    
-    /**
-     * 抑制英雄选择弹窗
-     */
-    private void suppressChampSelectWindow() {
-        // 检查当前是Ban阶段还是Pick阶段
-        connection.get("/lol-champ-select/v1/session")
-            .thenAccept(response -> {
-                if (response != null && !response.isMissingNode()) {
-                    analyzeChampSelectPhase(response);
-                }
-            })
-            .exceptionally(throwable -> {
-                logger.debug("获取英雄选择会话失败", throwable);
-                return null;
-            });
+        
+        // 记录已抑制的action
+        suppressedActions.add(actionKey);
+        minimizeClientWindow(phaseType + "阶段 (Session: " + sessionId + ", Action: " + actionId + ")");
+        logger.info("抑制{}阶段弹窗 - Session: {}, Action ID: {}, Action Key: {}",
+                  phaseType, sessionId, actionId, actionKey);
     }
     
     /**
@@ -220,10 +210,15 @@ public class PopupSuppressionManager {
             return "champselect_chat_" + chatRoomName;
         }
         
-        // 备用方案2：使用myTeam信息的哈希值
+        // 备用方案2：只对队伍成员的身份字段求哈希，不序列化整个myTeam
         JsonNode myTeam = session.path("myTeam");
         if (!myTeam.isMissingNode() && myTeam.isArray() && myTeam.size() > 0) {
-            String teamHash = String.valueOf(myTeam.toString().hashCode());
+            int teamHash = 1;
+            for (JsonNode member : myTeam) {
+                teamHash = 31 * teamHash + member.path("cellId").asInt(-1);
+                teamHash = 31 * teamHash + member.path("summonerId").asText("").hashCode();
+                teamHash = 31 * teamHash + member.path("puuid").asText("").hashCode();
+            }
             return "champselect_team_" + teamHash;
         }
         
@@ -237,81 +232,36 @@ public class PopupSuppressionManager {
             }
         }
         
-        // 最后备用方案：使用session对象的哈希值（不再使用时间戳）
-        String sessionHash = String.valueOf(Math.abs(session.toString().hashCode()));
+        // 最后备用方案：使用session语义字段的指纹（与LCUMonitor的变化检测相同）
+        String sessionHash = Long.toHexString(ChampSelectSessionDiffer.fingerprint(session));
         logger.warn("使用session哈希值作为session ID: {}", sessionHash);
         return "champselect_hash_" + sessionHash;
     }
     
     /**
-     * 分析英雄选择阶段并决定是否抑制弹窗
+     * 按session快照补做一次检查（手动触发时使用），与事件路径共享已抑制记录
      */
-    private void analyzeChampSelectPhase(JsonNode session) {
+    private synchronized void analyzeChampSelectPhase(JsonNode session) {
         JsonNode actions = session.path("actions");
         JsonNode localPlayerCell = session.path("localPlayerCellId");
         
-        if (localPlayerCell.isMissingNode()) {
+        if (localPlayerCell.isMissingNode() || !actions.isArray()) {
             return;
         }
         
-        // 获取当前session ID - 使用更稳定的标识符
-        String sessionId = generateStableSessionId(session);
-        
-        // 如果session发生变化，重置抑制状态
-        if (!sessionId.equals(currentSessionId)) {
-            String oldSessionId = currentSessionId;
-            currentSessionId = sessionId;
-            suppressedActions.clear();
-            logger.info("检测到新的英雄选择session: {} -> {}, 已清空抑制状态", oldSessionId, sessionId);
-        }
-        
+        // 事件路径已确定session时沿用，保证同一action不会被重复抑制
+        String sessionId = currentSessionId != null ? currentSessionId : generateStableSessionId(session);
+        currentSessionId = sessionId;
         int localCellId = localPlayerCell.asInt();
         
-        // 遍历当前激活的actions
-        if (actions.isArray()) {
-            for (JsonNode actionGroup : actions) {
-                if (actionGroup.isArray()) {
-                    for (JsonNode action : actionGroup) {
-                        int actorCellId = action.path("actorCellId").asInt();
-                        String type = action.path("type").asText("");
-                        boolean isInProgress = action.path("isInProgress").asBoolean(false);
-                        int actionId = action.path("id").asInt();
-                        
-                        // 检查是否是当前玩家的活跃action
-                        if (actorCellId == localCellId && isInProgress) {
-                            // 构建action的唯一标识符
-                            String actionKey = sessionId + "_" + type + "_" + actionId;
-                            
-                            // 检查是否已经抑制过这个action
-                            if (!suppressedActions.contains(actionKey)) {
-                                boolean shouldSuppress = false;
-                                String phaseType = "";
-                                
-                                if ("ban".equals(type) && suppressBanPhasePopup.get()) {
-                                    shouldSuppress = true;
-                                    phaseType = "Ban";
-                                } else if ("pick".equals(type) && suppressPickPhasePopup.get()) {
-                                    shouldSuppress = true;
-                                    phaseType = "Pick";
-                                }
-                                
-                                if (shouldSuppress) {
-                                    // 记录已抑制的action
-                                    suppressedActions.add(actionKey);
-                                    minimizeClientWindow(phaseType + "阶段 (Session: " + sessionId + ", Action: " + actionId + ")");
-                                    logger.info("抑制{}阶段弹窗 - Session: {}, Action ID: {}, Action Key: {}", 
-                                              phaseType, sessionId, actionId, actionKey);
-                                } else {
-                                    logger.debug("跳过{}阶段action - 抑制功能未启用, Action ID: {}", type, actionId);
-                                }
-                            } else {
-                                logger.debug("跳过已抑制的action - Action Key: {}", actionKey);
-                            }
-                        } else {
-                            logger.debug("跳过非当前玩家或非进行中的action - ActorCellId: {}, LocalCellId: {}, InProgress: {}, Action ID: {}", 
-                                       actorCellId, localCellId, isInProgress, actionId);
-                        }
-                    }
+        for (JsonNode actionGroup : actions) {
+            if (!actionGroup.isArray()) {
+                continue;
+            }
+            for (JsonNode action : actionGroup) {
+                if (action.path("actorCellId").asInt() == localCellId
+                    && action.path("isInProgress").asBoolean(false)) {
+                    suppressAction(sessionId, action.path("type").asText(""), action.path("id").asInt());
                 }
             }
         }
@@ -321,9 +271,6 @@ public class PopupSuppressionManager {
      * 最小化客户端窗口
      */
     private void minimizeClientWindow(String reason) {
-        // 更新最后抑制时间
-        lastSuppressionTime = System.currentTimeMillis();
-        
         connection.post("/riotclient/ux-minimize", null)
             .thenAccept(response -> {
                 lastMinimizedState = true;
@@ -428,7 +375,7 @@ public class PopupSuppressionManager {
     /**
      * 更新当前游戏阶段
      */
-    public void updateGamePhase(GamePhase newPhase) {
+    public synchronized void updateGamePhase(GamePhase newPhase) {
         if (currentPhase != newPhase) {
             GamePhase oldPhase = currentPhase;
             currentPhase = newPhase;
@@ -492,28 +439,39 @@ public class PopupSuppressionManager {
      * 关闭弹窗抑制管理器
      */
     public void shutdown() {
+        detach();
         stopMonitoring();
         
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
-        
         logger.info("弹窗抑制管理器已关闭");
     }
     
     /**
-     * 手动触发弹窗抑制检查
+     * 手动触发弹窗抑制检查，使用LCUMonitor的共享状态而不是单独请求
      */
     public CompletableFuture<Void> triggerSuppressionCheck() {
-        return CompletableFuture.runAsync(this::checkAndSuppressPopups, scheduler);
+        LCUMonitor source = monitor;
+        if (source == null || !canSuppress()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        if (currentPhase == GamePhase.READY_CHECK) {
+            handleReadyCheckChanged(source.isInReadyCheck());
+            return CompletableFuture.completedFuture(null);
+        }
+        if (currentPhase == GamePhase.CHAMP_SELECT
+            && (suppressBanPhasePopup.get() || suppressPickPhasePopup.get())) {
+            return source.getChampSelectSessionDetails()
+                .thenAccept(session -> {
+                    if (session != null && !session.isMissingNode()) {
+                        analyzeChampSelectPhase(session);
+                    }
+                })
+                .exceptionally(throwable -> {
+                    logger.debug("获取英雄选择会话失败", throwable);
+                    return null;
+                });
+        }
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -682,7 +640,7 @@ public class PopupSuppressionManager {
     /**
      * 清除session状态（调试用）
      */
-    public void clearSessionState() {
+    public synchronized void clearSessionState() {
         logger.info("手动清除session状态 - 当前session: {}, 已抑制actions: {}", 
                    currentSessionId, suppressedActions.size());
         currentSessionId = null;
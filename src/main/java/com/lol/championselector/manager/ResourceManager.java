@@ -4,21 +4,24 @@ import javafx.animation.Timeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Unified resource manager for ExecutorService and Timeline instances
- * Prevents resource leaks and provides centralized shutdown management
+ * Prevents resource leaks and provides centralized shutdown management.
+ * Owns the shared executor topology (timer wheel, LCU action and query lanes, I/O and decode pools)
+ * so the total thread count stays bounded and background downloads cannot starve champ-select work.
  */
 public class ResourceManager {
     private static final Logger logger = LoggerFactory.getLogger(ResourceManager.class);
     
-    private static final ResourceManager INSTANCE = new ResourceManager();
-    
     // Thread pool management
     private final Set<ExecutorService> executorServices = ConcurrentHashMap.newKeySet();
     private final Set<ScheduledExecutorService> scheduledExecutorServices = ConcurrentHashMap.newKeySet();
@@ -26,9 +29,47 @@ public class ResourceManager {
     // Timeline management
     private final Set<Timeline> timelines = ConcurrentHashMap.newKeySet();
     
+    /**
+     * Roles of the shared executor topology; every manager obtains its threads by role
+     */
+    public enum Role {
+        /** Timer wheel for delays and polling ticks; tasks must be short and must not block */
+        TIMER("Timer"),
+        /** Latency-critical champ-select work: accept/ban/pick calls and the decision loop */
+        LCU_ACTION("LCU-Action"),
+        /** Blocking LCU GETs; bounded queue, rejects instead of piling up */
+        LCU_QUERY("LCU-Query"),
+        /** Background downloads, disk and data sync */
+        IO("IO"),
+        /** CPU-bound image decoding */
+        DECODE("Decode");
+
+        private final String threadPrefix;
+
+        Role(String threadPrefix) {
+            this.threadPrefix = threadPrefix;
+        }
+
+        public String getThreadPrefix() {
+            return threadPrefix;
+        }
+    }
+    
+    // Topology sizing: total shared threads stay bounded regardless of how many managers exist
+    static final int TIMER_THREADS = 2;
+    static final int LCU_ACTION_THREADS = 2;
+    static final int LCU_QUERY_THREADS = 3;
+    static final int LCU_QUERY_QUEUE_CAPACITY = 64;
+    static final int IO_THREADS = 4;
+    static final int DECODE_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    
+    // Declared after the sizing constants it depends on
+    private static final ResourceManager INSTANCE = new ResourceManager();
+    
     // Shared thread pools
-    private final ScheduledExecutorService sharedScheduler;
-    private final ExecutorService sharedExecutor;
+    private final Map<Role, ExecutorService> topology = new EnumMap<>(Role.class);
+    private final MeteredScheduledExecutor sharedScheduler;
     
     // State management
     private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
@@ -39,31 +80,31 @@ public class ResourceManager {
     private static final long CLEANUP_INTERVAL_MS = 60000; // 1 minute
     
     private ResourceManager() {
-        // Create shared thread pools with proper naming and daemon threads
-        this.sharedScheduler = Executors.newScheduledThreadPool(4, r -> {
-            Thread t = new Thread(r, "SharedScheduler-" + threadCounter.incrementAndGet());
-            t.setDaemon(true);
-            t.setUncaughtExceptionHandler((thread, ex) -> 
-                logger.error("Uncaught exception in shared scheduler thread: {}", thread.getName(), ex));
-            return t;
-        });
-        
-        this.sharedExecutor = Executors.newCachedThreadPool(r -> {
-            Thread t = new Thread(r, "SharedExecutor-" + threadCounter.incrementAndGet());
-            t.setDaemon(true);
-            t.setUncaughtExceptionHandler((thread, ex) -> 
-                logger.error("Uncaught exception in shared executor thread: {}", thread.getName(), ex));
-            return t;
-        });
+        this.sharedScheduler = new MeteredScheduledExecutor(TIMER_THREADS, threadFactory(Role.TIMER, Thread.NORM_PRIORITY));
+        topology.put(Role.TIMER, sharedScheduler);
+        // Actions are rare and must never be dropped, so their queue is unbounded
+        topology.put(Role.LCU_ACTION, createPool(Role.LCU_ACTION, LCU_ACTION_THREADS,
+            new LinkedBlockingQueue<>(), Thread.MAX_PRIORITY));
+        topology.put(Role.LCU_QUERY, createPool(Role.LCU_QUERY, LCU_QUERY_THREADS,
+            new ArrayBlockingQueue<>(LCU_QUERY_QUEUE_CAPACITY), Thread.NORM_PRIORITY));
+        // Background work runs below normal priority so it yields to champ-select threads
+        topology.put(Role.IO, createPool(Role.IO, IO_THREADS,
+            new LinkedBlockingQueue<>(), Thread.NORM_PRIORITY - 1));
+        topology.put(Role.DECODE, createPool(Role.DECODE, DECODE_THREADS,
+            new LinkedBlockingQueue<>(), Thread.NORM_PRIORITY - 1));
         
         // Register shared pools for shutdown
         scheduledExecutorServices.add(sharedScheduler);
-        executorServices.add(sharedExecutor);
+        for (Map.Entry<Role, ExecutorService> entry : topology.entrySet()) {
+            if (entry.getKey() != Role.TIMER) {
+                executorServices.add(entry.getValue());
+            }
+        }
         
         // Schedule periodic cleanup
         schedulePeriodicCleanup();
         
-        logger.info("ResourceManager initialized with shared thread pools");
+        logger.info("ResourceManager initialized with executor topology: {}", topology.keySet());
     }
     
     public static ResourceManager getInstance() {
@@ -71,7 +112,33 @@ public class ResourceManager {
     }
     
     /**
-     * Get the shared ScheduledExecutorService for light-weight tasks
+     * Shared pool for a role. Callers must not shut it down; use {@link #newBoundedExecutor} for
+     * a view with its own lifecycle.
+     */
+    public ExecutorService getExecutor(Role role) {
+        if (isShuttingDown.get()) {
+            throw new IllegalStateException("ResourceManager is shutting down");
+        }
+        return topology.get(role);
+    }
+    
+    /**
+     * Concurrency-limited view over a role's pool, owned (and shut down) by the caller
+     */
+    public BoundedExecutor newBoundedExecutor(Role role, int maxConcurrent) {
+        return new BoundedExecutor(getExecutor(role), maxConcurrent, new ConcurrentLinkedQueue<>());
+    }
+    
+    /**
+     * Serial view over a role's pool: tasks run one at a time in submission order
+     */
+    public BoundedExecutor newSerialExecutor(Role role) {
+        return newBoundedExecutor(role, 1);
+    }
+    
+    /**
+     * The shared timer wheel ({@link Role#TIMER}). Scheduled tasks must stay short;
+     * blocking work should be handed to another role.
      */
     public ScheduledExecutorService getSharedScheduler() {
         if (isShuttingDown.get()) {
@@ -81,17 +148,51 @@ public class ResourceManager {
     }
     
     /**
-     * Get the shared ExecutorService for general async tasks
+     * Get the shared ExecutorService for general async tasks, i.e. the {@link Role#IO} pool
      */
     public ExecutorService getSharedExecutor() {
-        if (isShuttingDown.get()) {
-            throw new IllegalStateException("ResourceManager is shutting down");
+        return getExecutor(Role.IO);
+    }
+    
+    /**
+     * Queue depth, active threads and task latency of a role's pool
+     */
+    public ExecutorMetrics getExecutorMetrics(Role role) {
+        ExecutorService executor = topology.get(role);
+        if (executor instanceof MeteredScheduledExecutor) {
+            return ((MeteredScheduledExecutor) executor).metrics(role);
         }
-        return sharedExecutor;
+        return ((MeteredThreadPoolExecutor) executor).metrics(role);
+    }
+    
+    public Map<Role, ExecutorMetrics> getAllExecutorMetrics() {
+        Map<Role, ExecutorMetrics> metrics = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            metrics.put(role, getExecutorMetrics(role));
+        }
+        return metrics;
+    }
+    
+    private ThreadFactory threadFactory(Role role, int priority) {
+        return r -> {
+            Thread t = new Thread(r, role.getThreadPrefix() + "-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(priority);
+            t.setUncaughtExceptionHandler((thread, ex) -> 
+                logger.error("Uncaught exception in {} thread: {}", role, thread.getName(), ex));
+            return t;
+        };
+    }
+    
+    private MeteredThreadPoolExecutor createPool(Role role, int threads, BlockingQueue<Runnable> queue, int priority) {
+        MeteredThreadPoolExecutor executor = new MeteredThreadPoolExecutor(threads, queue, threadFactory(role, priority));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
     
     /**
-     * Create and register a new ScheduledExecutorService
+     * Create and register a new ScheduledExecutorService.
+     * Prefer {@link #getSharedScheduler()}; a dedicated pool adds threads outside the topology.
      */
     public ScheduledExecutorService createScheduledExecutor(String namePrefix, int corePoolSize) {
         if (isShuttingDown.get()) {
@@ -112,7 +213,8 @@ public class ResourceManager {
     }
     
     /**
-     * Create and register a new ExecutorService
+     * Create and register a new ExecutorService.
+     * Prefer {@link #newBoundedExecutor}; a dedicated pool adds threads outside the topology.
      */
     public ExecutorService createExecutor(String namePrefix, int corePoolSize, int maxPoolSize) {
         if (isShuttingDown.get()) {
@@ -203,6 +305,11 @@ public class ResourceManager {
         logger.debug("Resource cleanup - Executors: {} + {}, Timelines: {}, Active threads: {}", 
                    executorServices.size(), scheduledExecutorServices.size(), 
                    timelines.size(), Thread.activeCount());
+        if (logger.isDebugEnabled()) {
+            for (ExecutorMetrics metrics : getAllExecutorMetrics().values()) {
+                logger.debug("Executor {}", metrics);
+            }
+        }
     }
     
     /**
@@ -241,6 +348,148 @@ public class ResourceManager {
         }
     }
     
+    /**
+     * Snapshot of one role's pool. Latency is the time a task waits before a thread picks it up
+     * (for the timer: how late it starts relative to its scheduled time).
+     */
+    public static class ExecutorMetrics {
+        public final Role role;
+        public final int poolSize;
+        public final int activeCount;
+        public final int queueDepth;
+        public final long completedTasks;
+        public final long rejectedTasks;
+        public final double averageLatencyMillis;
+        public final double maxLatencyMillis;
+        
+        public ExecutorMetrics(Role role, int poolSize, int activeCount, int queueDepth, long completedTasks,
+                               long rejectedTasks, double averageLatencyMillis, double maxLatencyMillis) {
+            this.role = role;
+            this.poolSize = poolSize;
+            this.activeCount = activeCount;
+            this.queueDepth = queueDepth;
+            this.completedTasks = completedTasks;
+            this.rejectedTasks = rejectedTasks;
+            this.averageLatencyMillis = averageLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s{threads=%d, active=%d, queued=%d, completed=%d, rejected=%d, latency avg/max=%.2f/%.2f ms}",
+                               role, poolSize, activeCount, queueDepth, completedTasks, rejectedTasks,
+                               averageLatencyMillis, maxLatencyMillis);
+        }
+    }
+    
+    private static final class LatencyRecorder {
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder rejected = new LongAdder();
+        
+        void record(long nanos) {
+            totalNanos.add(nanos);
+            samples.increment();
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+        
+        RejectedExecutionHandler countingAbortPolicy() {
+            return (task, executor) -> {
+                rejected.increment();
+                throw new RejectedExecutionException("Task rejected from " + executor);
+            };
+        }
+        
+        ExecutorMetrics snapshot(Role role, ThreadPoolExecutor executor) {
+            long count = samples.sum();
+            return new ExecutorMetrics(role, executor.getPoolSize(), executor.getActiveCount(),
+                executor.getQueue().size(), executor.getCompletedTaskCount(), rejected.sum(),
+                count == 0 ? 0 : totalNanos.sum() / (double) count / 1_000_000.0,
+                maxNanos.get() / 1_000_000.0);
+        }
+    }
+    
+    /**
+     * Fixed-size pool that records how long each task waited in the queue
+     */
+    private static final class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+        private final LatencyRecorder latency;
+        
+        MeteredThreadPoolExecutor(int threads, BlockingQueue<Runnable> queue, ThreadFactory threadFactory) {
+            this(threads, queue, threadFactory, new LatencyRecorder());
+        }
+        
+        private MeteredThreadPoolExecutor(int threads, BlockingQueue<Runnable> queue, ThreadFactory threadFactory,
+                                          LatencyRecorder latency) {
+            super(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, threadFactory,
+                  latency.countingAbortPolicy());
+            this.latency = latency;
+        }
+        
+        @Override
+        public void execute(Runnable command) {
+            super.execute(new TimedTask(command, System.nanoTime()));
+        }
+        
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+            if (r instanceof TimedTask) {
+                latency.record(System.nanoTime() - ((TimedTask) r).enqueuedAt);
+            }
+        }
+        
+        ExecutorMetrics metrics(Role role) {
+            return latency.snapshot(role, this);
+        }
+    }
+    
+    private static final class TimedTask implements Runnable {
+        final Runnable task;
+        final long enqueuedAt;
+        
+        TimedTask(Runnable task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+        
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+    
+    /**
+     * Timer wheel that records how late each tick starts; cancelled tasks leave the queue immediately
+     */
+    private static final class MeteredScheduledExecutor extends ScheduledThreadPoolExecutor {
+        private final LatencyRecorder latency;
+        
+        MeteredScheduledExecutor(int threads, ThreadFactory threadFactory) {
+            this(threads, threadFactory, new LatencyRecorder());
+        }
+        
+        private MeteredScheduledExecutor(int threads, ThreadFactory threadFactory, LatencyRecorder latency) {
+            super(threads, threadFactory, latency.countingAbortPolicy());
+            this.latency = latency;
+            setRemoveOnCancelPolicy(true);
+            setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+        
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+            if (r instanceof Delayed) {
+                latency.record(Math.max(0, -((Delayed) r).getDelay(TimeUnit.NANOSECONDS)));
+            }
+        }
+        
+        ExecutorMetrics metrics(Role role) {
+            return latency.snapshot(role, this);
+        }
+    }
+    
     /**
      * Shutdown all managed resources
      */
@@ -251,6 +500,7 @@ public class ResourceManager {
         }
         
         logger.info("Shutting down ResourceManager - Current stats: {}", getResourceStats());
+        logger.info("Executor metrics at shutdown: {}", getAllExecutorMetrics().values());
         
         // Stop all timelines first
         for (Timeline timeline : timelines) {
@@ -1,10 +1,6 @@
 package com.lol.championselector.manager;
 
-import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.layout.ColumnConstraints;
-import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,52 +40,6 @@ public class ResponsiveLayoutManager {
         return optimalColumns;
     }
     
-    public void rearrangeChampionGrid(GridPane gridPane, List<Node> championButtons, int newColumns) {
-        if (gridPane == null || championButtons == null || championButtons.isEmpty()) {
-            logger.warn("Invalid parameters for grid rearrangement");
-            return;
-        }
-        
-        if (newColumns <= 0) {
-            logger.warn("Invalid column count: {}", newColumns);
-            return;
-        }
-        
-        logger.debug("Rearranging grid with {} champions into {} columns", championButtons.size(), newColumns);
-        
-        gridPane.getChildren().clear();
-        
-        for (int i = 0; i < championButtons.size(); i++) {
-            int row = i / newColumns;
-            int col = i % newColumns;
-            
-            Node championButton = championButtons.get(i);
-            GridPane.setConstraints(championButton, col, row);
-            gridPane.getChildren().add(championButton);
-        }
-        
-        configureColumnConstraints(gridPane, newColumns);
-        
-        logger.debug("Grid rearranged successfully with {} rows and {} columns", 
-                    (championButtons.size() + newColumns - 1) / newColumns, newColumns);
-    }
-    
-    private void configureColumnConstraints(GridPane gridPane, int columnCount) {
-        gridPane.getColumnConstraints().clear();
-        
-        double percentWidth = 100.0 / columnCount;
-        
-        for (int i = 0; i < columnCount; i++) {
-            ColumnConstraints constraints = new ColumnConstraints();
-            constraints.setHgrow(Priority.ALWAYS);
-            constraints.setPercentWidth(percentWidth);
-            constraints.setFillWidth(true);
-            gridPane.getColumnConstraints().add(constraints);
-        }
-        
-        logger.debug("Configured {} column constraints with {}% width each", columnCount, percentWidth);
-    }
-    
     public boolean shouldRearrange(int currentColumns, int newColumns) {
         return currentColumns != newColumns;
     }
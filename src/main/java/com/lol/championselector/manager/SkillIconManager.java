@@ -12,13 +12,13 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class SkillIconManager {
     private static final Logger logger = LoggerFactory.getLogger(SkillIconManager.class);
@@ -27,19 +27,22 @@ public class SkillIconManager {
     private static final String PASSIVE_ICON_BASE_URL = "https://ddragon.leagueoflegends.com/cdn/15.14.1/img/passive/";
     private static final String CACHE_DIR = "skill_icons";
     private static final String LOCAL_SKILL_ICONS_DIR = "champion/skill_icons";
-    private static final int MAX_CACHE_SIZE = 500;
+    private static final long MAX_MEMORY_USAGE_BYTES = 16 * 1024 * 1024;
+    private static final int FULL_SIZE = 0;
     private static final int CACHE_EXPIRE_HOURS = 24;
     
     private final AsyncCache<String, Image> memoryCache;
     private final OkHttpClient httpClient;
     private final ExecutorService executor;
     private final Path cacheDirectory;
+    private final ThumbnailCache thumbnails;
     private final Image defaultSkillIcon;
     private final Image defaultPassiveIcon;
     
     public SkillIconManager() {
         this.memoryCache = Caffeine.newBuilder()
-            .maximumSize(MAX_CACHE_SIZE)
+            .maximumWeight(MAX_MEMORY_USAGE_BYTES)
+            .weigher((String key, Image image) -> (int) image.getWidth() * (int) image.getHeight() * 4)
             .expireAfterWrite(Duration.ofHours(CACHE_EXPIRE_HOURS))
             .buildAsync();
             
@@ -48,8 +51,9 @@ public class SkillIconManager {
             .readTimeout(Duration.ofSeconds(10))
             .build();
             
-        this.executor = Executors.newFixedThreadPool(3);
+        this.executor = ResourceManager.getInstance().newBoundedExecutor(ResourceManager.Role.IO, 3);
         this.cacheDirectory = Paths.get(CACHE_DIR);
+        this.thumbnails = new ThumbnailCache(cacheDirectory.resolve("thumbs"));
         
         // Create cache directory
         try {
@@ -68,12 +72,19 @@ public class SkillIconManager {
     }
     
     public CompletableFuture<Image> getSkillIconAsync(String iconFileName, String championKey) {
+        return getSkillIconAsync(iconFileName, championKey, FULL_SIZE);
+    }
+    
+    /**
+     * Load a skill icon at its display size; the downscaled copy is persisted to the disk cache
+     */
+    public CompletableFuture<Image> getSkillIconAsync(String iconFileName, String championKey, int size) {
         if (iconFileName == null || iconFileName.isEmpty()) {
             return CompletableFuture.completedFuture(defaultSkillIcon);
         }
         
         String cacheKey = "skill_" + iconFileName;
-        return getIconAsync(cacheKey, SKILL_ICON_BASE_URL + iconFileName, defaultSkillIcon, championKey);
+        return getIconAsync(cacheKey, SKILL_ICON_BASE_URL + iconFileName, defaultSkillIcon, championKey, size);
     }
     
     public CompletableFuture<Image> getPassiveIconAsync(String iconFileName) {
@@ -81,37 +92,56 @@ public class SkillIconManager {
     }
     
     public CompletableFuture<Image> getPassiveIconAsync(String iconFileName, String championKey) {
+        return getPassiveIconAsync(iconFileName, championKey, FULL_SIZE);
+    }
+    
+    public CompletableFuture<Image> getPassiveIconAsync(String iconFileName, String championKey, int size) {
         if (iconFileName == null || iconFileName.isEmpty()) {
             return CompletableFuture.completedFuture(defaultPassiveIcon);
         }
         
         String cacheKey = "passive_" + iconFileName;
-        return getIconAsync(cacheKey, PASSIVE_ICON_BASE_URL + iconFileName, defaultPassiveIcon, championKey);
+        return getIconAsync(cacheKey, PASSIVE_ICON_BASE_URL + iconFileName, defaultPassiveIcon, championKey, size);
     }
     
-    private CompletableFuture<Image> getIconAsync(String cacheKey, String url, Image defaultIcon, String championKey) {
-        return memoryCache.get(cacheKey, (key, executor) -> {
-            return loadIconFromCacheOrNetwork(key, url, defaultIcon, championKey);
+    private CompletableFuture<Image> getIconAsync(String cacheKey, String url, Image defaultIcon, String championKey, int size) {
+        // One cache entry per display size
+        return memoryCache.get(cacheKey + "@" + size, (key, executor) -> {
+            return loadIconFromCacheOrNetwork(cacheKey, url, defaultIcon, championKey, size);
         });
     }
     
-    private CompletableFuture<Image> loadIconFromCacheOrNetwork(String cacheKey, String url, Image defaultIcon, String championKey) {
+    private CompletableFuture<Image> loadIconFromCacheOrNetwork(String cacheKey, String url, Image defaultIcon, String championKey, int size) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                // First, try to load from local resources
-                Image localImage = loadFromLocalResources(cacheKey, championKey);
+                URL resource = localResource(cacheKey, championKey);
+                Path cachedFile = cacheDirectory.resolve(cacheKey + ".png");
+                
+                // Already downscaled thumbnail first, only if it was made from the current source
+                if (size != FULL_SIZE) {
+                    long fingerprint = resource != null ? ThumbnailCache.fingerprint(resource)
+                        : Files.exists(cachedFile) ? ThumbnailCache.fingerprint(cachedFile) : ThumbnailCache.NO_SOURCE;
+                    if (thumbnails.exists(cacheKey, size, fingerprint)) {
+                        Image thumbnail = thumbnails.readExisting(cacheKey, size, fingerprint);
+                        if (thumbnail != null) {
+                            return thumbnail;
+                        }
+                    }
+                }
+                
+                // Then try to load from local resources
+                Image localImage = loadFromLocalResources(cacheKey, resource, size);
                 if (localImage != null) {
                     logger.debug("Loaded skill icon from local resources: {}", cacheKey);
                     return localImage;
                 }
                 
                 // Try to load from file cache second
-                Path cachedFile = cacheDirectory.resolve(cacheKey + ".png");
                 if (Files.exists(cachedFile)) {
                     try {
                         byte[] imageData = Files.readAllBytes(cachedFile);
-                        Image image = new Image(new ByteArrayInputStream(imageData));
-                        if (!image.isError()) {
+                        Image image = decode(cacheKey, size, ThumbnailCache.fingerprint(cachedFile), imageData);
+                        if (image != null) {
                             logger.debug("Loaded skill icon from cache: {}", cacheKey);
                             return image;
                         }
@@ -121,7 +151,7 @@ public class SkillIconManager {
                 }
                 
                 // Download from network as last resort
-                return downloadIcon(url, cachedFile, defaultIcon);
+                return downloadIcon(url, cachedFile, defaultIcon, cacheKey, size);
                 
             } catch (Exception e) {
                 logger.warn("Failed to load skill icon {}: {}", cacheKey, e.getMessage());
@@ -130,7 +160,7 @@ public class SkillIconManager {
         }, executor);
     }
     
-    private Image downloadIcon(String url, Path cacheFile, Image defaultIcon) {
+    private Image downloadIcon(String url, Path cacheFile, Image defaultIcon, String cacheKey, int size) {
         try {
             Request request = new Request.Builder()
                 .url(url)
@@ -152,8 +182,8 @@ public class SkillIconManager {
                     }
                     
                     // Create image
-                    Image image = new Image(new ByteArrayInputStream(imageData));
-                    if (!image.isError()) {
+                    Image image = decode(cacheKey, size, ThumbnailCache.fingerprint(cacheFile), imageData);
+                    if (image != null) {
                         return image;
                     }
                 }
@@ -165,25 +195,25 @@ public class SkillIconManager {
         return defaultIcon;
     }
     
-    private Image loadFromLocalResources(String cacheKey, String championKey) {
-        try {
-            if (championKey == null || championKey.isEmpty()) {
-                return null;
-            }
-            
-            // Extract filename from cache key
-            String fileName = cacheKey.replace("passive_", "").replace("skill_", "");
-            
-            // Try to load from champion folder in skill_icons directory
-            String resourcePath = "/" + LOCAL_SKILL_ICONS_DIR + "/" + championKey + "/" + fileName;
-            try (var inputStream = getClass().getResourceAsStream(resourcePath)) {
-                if (inputStream != null) {
-                    Image image = new Image(inputStream);
-                    if (!image.isError()) {
-                        return image;
-                    }
-                }
-            }
+    /**
+     * Bundled icon in the champion folder of the skill_icons directory, or null
+     */
+    private URL localResource(String cacheKey, String championKey) {
+        if (championKey == null || championKey.isEmpty()) {
+            return null;
+        }
+        
+        // Extract filename from cache key
+        String fileName = cacheKey.replace("passive_", "").replace("skill_", "");
+        return getClass().getResource("/" + LOCAL_SKILL_ICONS_DIR + "/" + championKey + "/" + fileName);
+    }
+    
+    private Image loadFromLocalResources(String cacheKey, URL resource, int size) {
+        if (resource == null) {
+            return null;
+        }
+        try (var inputStream = resource.openStream()) {
+            return decode(cacheKey, size, ThumbnailCache.fingerprint(resource), inputStream.readAllBytes());
         } catch (Exception e) {
             logger.debug("Failed to load skill icon from local resources: {}", cacheKey);
         }
@@ -191,6 +221,17 @@ public class SkillIconManager {
         return null;
     }
     
+    /**
+     * Downscale to a thumbnail when a display size is given, otherwise decode at full size; null on failure
+     */
+    private Image decode(String cacheKey, int size, long sourceFingerprint, byte[] imageData) {
+        if (size != FULL_SIZE) {
+            return thumbnails.create(cacheKey, size, sourceFingerprint, imageData);
+        }
+        Image image = new Image(new ByteArrayInputStream(imageData));
+        return image.isError() ? null : image;
+    }
+    
     private Image createDefaultIcon(String emoji, int width, int height) {
         try {
             // Create a simple colored rectangle as default icon
@@ -2,12 +2,12 @@ package com.lol.championselector.manager;
 
 import com.lol.championselector.config.AutoAcceptConfig;
 import com.lol.championselector.manager.DraftPickEngine.DraftAnalysis;
+import com.lol.championselector.model.ChampionIdSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.HashSet;
 
 /**
  * 智能英雄选择策略 - 基于draft pick分析动态调整英雄选择
@@ -48,31 +48,18 @@ public class SmartChampionSelector {
     }
     
     // 英雄角色分类 - 基于实际游戏中的角色定位
-    private static final Map<String, Set<Integer>> ROLE_CHAMPIONS = new HashMap<>();
+    private static final Map<String, ChampionIdSet> ROLE_CHAMPIONS = new HashMap<>();
+    private static final ChampionIdSet NO_CHAMPIONS = new ChampionIdSet().toReadOnly();
     
     static {
         // 这里可以根据实际需要扩展英雄分类
         // 示例：一些常见英雄的角色分类
         
-        Set<Integer> adcChampions = new HashSet<>();
-        Collections.addAll(adcChampions, 22, 18, 51, 119, 96); // Ashe, Tristana, Caitlyn, Draven, Kog'Maw
-        ROLE_CHAMPIONS.put("ADC", adcChampions);
-        
-        Set<Integer> supportChampions = new HashSet<>();
-        Collections.addAll(supportChampions, 12, 40, 89, 25, 111); // Alistar, Janna, Leona, Morgana, Nautilus
-        ROLE_CHAMPIONS.put("Support", supportChampions);
-        
-        Set<Integer> tankChampions = new HashSet<>();
-        Collections.addAll(tankChampions, 54, 57, 78, 14, 113); // Malphite, Maokai, Poppy, Sion, Sejuani
-        ROLE_CHAMPIONS.put("Tank", tankChampions);
-        
-        Set<Integer> apCarryChampions = new HashSet<>();
-        Collections.addAll(apCarryChampions, 1, 7, 99, 69, 134); // Annie, LeBlanc, Lux, Cassiopeia, Syndra
-        ROLE_CHAMPIONS.put("AP_Carry", apCarryChampions);
-        
-        Set<Integer> assassinChampions = new HashSet<>();
-        Collections.addAll(assassinChampions, 238, 91, 121, 107, 245); // Zed, Talon, Kha'Zix, Rengar, Ekko
-        ROLE_CHAMPIONS.put("Assassin", assassinChampions);
+        ROLE_CHAMPIONS.put("ADC", ChampionIdSet.of(22, 18, 51, 119, 96).toReadOnly()); // Ashe, Tristana, Caitlyn, Draven, Kog'Maw
+        ROLE_CHAMPIONS.put("Support", ChampionIdSet.of(12, 40, 89, 25, 111).toReadOnly()); // Alistar, Janna, Leona, Morgana, Nautilus
+        ROLE_CHAMPIONS.put("Tank", ChampionIdSet.of(54, 57, 78, 14, 113).toReadOnly()); // Malphite, Maokai, Poppy, Sion, Sejuani
+        ROLE_CHAMPIONS.put("AP_Carry", ChampionIdSet.of(1, 7, 99, 69, 134).toReadOnly()); // Annie, LeBlanc, Lux, Cassiopeia, Syndra
+        ROLE_CHAMPIONS.put("Assassin", ChampionIdSet.of(238, 91, 121, 107, 245).toReadOnly()); // Zed, Talon, Kha'Zix, Rengar, Ekko
     }
     
     /**
@@ -103,10 +90,10 @@ public class SmartChampionSelector {
         }
         
         // 获取可用英雄（排除已ban和已pick的）
+        ChampionIdSet unavailable = analysis.getBannedChampions().union(analysis.getPickedChampions());
         List<AutoAcceptConfig.ChampionInfo> availableChampions = championQueue.stream()
                 .filter(champion -> champion.getChampionId() != null)
-                .filter(champion -> !analysis.getBannedChampions().contains(champion.getChampionId()))
-                .filter(champion -> !analysis.getPickedChampions().contains(champion.getChampionId()))
+                .filter(champion -> !unavailable.contains(champion.getChampionId().intValue()))
                 .collect(Collectors.toList());
         
         logger.debug("可用英雄数量: {} (排除{}个已ban, {}个已pick)", 
@@ -115,8 +102,7 @@ public class SmartChampionSelector {
         if (availableChampions.isEmpty()) {
             logger.warn("没有可用英雄，尝试使用默认英雄");
             if (defaultChampion != null && defaultChampion.getChampionId() != null &&
-                !analysis.getBannedChampions().contains(defaultChampion.getChampionId()) &&
-                !analysis.getPickedChampions().contains(defaultChampion.getChampionId())) {
+                !unavailable.contains(defaultChampion.getChampionId().intValue())) {
                 return new SelectionStrategy(defaultChampion, "队列中无可用英雄，使用默认", 4, false, new ArrayList<>());
             } else {
                 logger.error("连默认英雄都不可用");
@@ -196,17 +182,16 @@ public class SmartChampionSelector {
         logger.debug("分析敌方英雄进行针对: {}", enemyPicks.values());
         
         // 检查敌方是否有特定类型的英雄需要针对
-        Set<Integer> enemyChampions = new HashSet<>(enemyPicks.values());
+        ChampionIdSet enemyChampions = ChampionIdSet.copyOf(enemyPicks.values());
         
         // 如果敌方有很多AD英雄，优先选择护甲类英雄
-        long adCount = enemyChampions.stream()
-                .filter(champId -> ROLE_CHAMPIONS.getOrDefault("ADC", Collections.emptySet()).contains(champId))
-                .count();
+        int adCount = enemyChampions.intersect(ROLE_CHAMPIONS.getOrDefault("ADC", NO_CHAMPIONS)).size();
         
         if (adCount >= 2) {
             // 寻找坦克或护甲类英雄
+            ChampionIdSet tankChampions = ROLE_CHAMPIONS.getOrDefault("Tank", NO_CHAMPIONS);
             for (AutoAcceptConfig.ChampionInfo champion : availableChampions) {
-                if (ROLE_CHAMPIONS.getOrDefault("Tank", Collections.emptySet()).contains(champion.getChampionId())) {
+                if (tankChampions.contains(champion.getChampionId().intValue())) {
                     logger.debug("针对多AD阵容选择坦克: {}", champion);
                     return champion;
                 }
@@ -233,14 +218,11 @@ public class SmartChampionSelector {
         }
         
         // 分析团队构成缺失的角色
-        Set<Integer> allyChampions = new HashSet<>(allyPicks.values());
+        ChampionIdSet allyChampions = ChampionIdSet.copyOf(allyPicks.values());
         
-        boolean hasADC = allyChampions.stream().anyMatch(champId -> 
-                ROLE_CHAMPIONS.getOrDefault("ADC", Collections.emptySet()).contains(champId));
-        boolean hasSupport = allyChampions.stream().anyMatch(champId -> 
-                ROLE_CHAMPIONS.getOrDefault("Support", Collections.emptySet()).contains(champId));
-        boolean hasTank = allyChampions.stream().anyMatch(champId -> 
-                ROLE_CHAMPIONS.getOrDefault("Tank", Collections.emptySet()).contains(champId));
+        boolean hasADC = allyChampions.intersects(ROLE_CHAMPIONS.getOrDefault("ADC", NO_CHAMPIONS));
+        boolean hasSupport = allyChampions.intersects(ROLE_CHAMPIONS.getOrDefault("Support", NO_CHAMPIONS));
+        boolean hasTank = allyChampions.intersects(ROLE_CHAMPIONS.getOrDefault("Tank", NO_CHAMPIONS));
         
         logger.debug("团队构成分析 - ADC: {}, Support: {}, Tank: {}", hasADC, hasSupport, hasTank);
         
@@ -260,10 +242,10 @@ public class SmartChampionSelector {
      * 按角色选择英雄
      */
     private AutoAcceptConfig.ChampionInfo selectByRole(List<AutoAcceptConfig.ChampionInfo> availableChampions, String role) {
-        Set<Integer> roleChampions = ROLE_CHAMPIONS.getOrDefault(role, Collections.emptySet());
+        ChampionIdSet roleChampions = ROLE_CHAMPIONS.getOrDefault(role, NO_CHAMPIONS);
         
         for (AutoAcceptConfig.ChampionInfo champion : availableChampions) {
-            if (roleChampions.contains(champion.getChampionId())) {
+            if (roleChampions.contains(champion.getChampionId().intValue())) {
                 logger.debug("按角色{}选择英雄: {}", role, champion);
                 return champion;
             }
@@ -2,14 +2,13 @@ package com.lol.championselector.manager;
 
 import com.lol.championselector.config.AutoAcceptConfig;
 import com.lol.championselector.lcu.LCUMonitor;
+import com.lol.championselector.model.ChampionIdSet;
 import com.lol.championselector.util.ExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.*;
 import java.util.Map;
-import java.util.Set;
-import java.util.HashSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -22,6 +21,7 @@ public class SmartTimingManager {
     private final LCUMonitor lcuMonitor;
     private final AutoAcceptConfig config;
     private final ScheduledExecutorService scheduler;
+    private volatile ScheduledFuture<?> processingTask;
     
     // 跟踪hover状态的Map: actionId -> PendingAction
     private final Map<Integer, PendingAction> pendingActions = new ConcurrentHashMap<>();
@@ -30,7 +30,7 @@ public class SmartTimingManager {
     public SmartTimingManager(LCUMonitor lcuMonitor, AutoAcceptConfig config) {
         this.lcuMonitor = lcuMonitor;
         this.config = config;
-        this.scheduler = ResourceManager.getInstance().createScheduledExecutor("SmartTiming", 2);
+        this.scheduler = ResourceManager.getInstance().getSharedScheduler();
     }
     
     /**
@@ -44,7 +44,7 @@ public class SmartTimingManager {
         logger.info("SmartTimingManager started");
         
         // 每500ms检查一次待处理的actions
-        scheduler.scheduleWithFixedDelay(() -> {
+        processingTask = scheduler.scheduleWithFixedDelay(() -> {
             ExceptionHandler.executeWithLogging(
                 this::processPendingActions, 
                 "SmartTimingManager.processPendingActions"
@@ -62,6 +62,13 @@ public class SmartTimingManager {
         
         logger.info("SmartTimingManager stopped");
         
+        // 共享定时器不能关闭，只取消本管理器的周期任务
+        ScheduledFuture<?> task = processingTask;
+        if (task != null) {
+            task.cancel(false);
+            processingTask = null;
+        }
+        
         // 取消所有待处理的任务
         pendingActions.clear();
     }
@@ -70,13 +77,13 @@ public class SmartTimingManager {
      * 智能处理Ban操作
      */
     public void handleSmartBan(int actionId, AutoAcceptConfig.ChampionInfo selectedBanChampion, String playerPosition) {
-        handleSmartBan(actionId, selectedBanChampion, playerPosition, new HashSet<>());
+        handleSmartBan(actionId, selectedBanChampion, playerPosition, new ChampionIdSet());
     }
     
     /**
      * 智能处理Ban操作（接收已选定的英雄）
      */
-    public void handleSmartBan(int actionId, AutoAcceptConfig.ChampionInfo selectedBanChampion, String playerPosition, Set<Integer> bannedChampions) {
+    public void handleSmartBan(int actionId, AutoAcceptConfig.ChampionInfo selectedBanChampion, String playerPosition, ChampionIdSet bannedChampions) {
         if (!config.getChampionSelect().isSmartTimingEnabled()) {
             // 如果未启用智能时机，直接执行Ban
             executeBan(actionId, selectedBanChampion);
@@ -323,18 +330,6 @@ public class SmartTimingManager {
     public void shutdown() {
         stop();
         
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
-        
         logger.info("SmartTimingManager shutdown completed");
     }
     
@@ -0,0 +1,204 @@
+package com.lol.championselector.manager;
+
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 缩略图层：按界面实际显示尺寸缩放图片，缩小后的PNG持久化到磁盘，
+ * 之后直接解码小图，不再加载原图。文件名带原图指纹，原图变化后旧缩略图不再命中
+ */
+class ThumbnailCache {
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailCache.class);
+
+    /** 原图来源未知，此时不读也不写缩略图 */
+    static final long NO_SOURCE = -1;
+
+    private final Path directory;
+
+    ThumbnailCache(Path directory) {
+        this.directory = directory;
+    }
+
+    boolean exists(String name, int size, long sourceFingerprint) {
+        return sourceFingerprint != NO_SOURCE && Files.isRegularFile(thumbnailPath(name, size, sourceFingerprint));
+    }
+
+    /**
+     * 读取已持久化的缩略图，不存在或损坏时返回null
+     */
+    Image readExisting(String name, int size, long sourceFingerprint) {
+        Path file = thumbnailPath(name, size, sourceFingerprint);
+        try {
+            Image image = new Image(new ByteArrayInputStream(Files.readAllBytes(file)));
+            return image.isError() ? null : image;
+        } catch (IOException e) {
+            logger.debug("Failed to read thumbnail {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 从原图数据生成缩略图并持久化（来源未知时只生成不保存）；无法用ImageIO处理的格式退回到按请求尺寸解码
+     */
+    Image create(String name, int size, long sourceFingerprint, byte[] original) {
+        if (original == null) {
+            return null;
+        }
+
+        byte[] thumbnail = null;
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+            if (source != null) {
+                thumbnail = encode(fit(source, size));
+                if (sourceFingerprint != NO_SOURCE) {
+                    Path file = thumbnailPath(name, size, sourceFingerprint);
+                    write(file, thumbnail);
+                    deleteOutdated(file, prefixOf(name, size));
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to create thumbnail {}@{}: {}", name, size, e.getMessage());
+        }
+
+        Image image = thumbnail != null
+            ? new Image(new ByteArrayInputStream(thumbnail))
+            : decode(original, size);
+        return image.isError() ? null : image;
+    }
+
+    /**
+     * 按请求尺寸平滑解码，像素只按显示尺寸分配
+     */
+    static Image decode(byte[] data, int size) {
+        return new Image(new ByteArrayInputStream(data), size, size, true, true);
+    }
+
+    Path thumbnailPath(String name, int size, long sourceFingerprint) {
+        return directory.resolve(prefixOf(name, size) + Long.toHexString(sourceFingerprint) + ".png");
+    }
+
+    private static String prefixOf(String name, int size) {
+        String baseName = name.endsWith(".png") ? name.substring(0, name.length() - 4) : name;
+        return baseName.replaceAll("[^A-Za-z0-9._-]", "_") + "@" + size + "-";
+    }
+
+    /**
+     * 本地文件的指纹：大小和修改时间
+     */
+    static long fingerprint(Path file) {
+        try {
+            return Files.size(file) * 31 + Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return NO_SOURCE;
+        }
+    }
+
+    /**
+     * 类路径资源的指纹：JAR中的条目取字节数，开发环境下的文件取大小和修改时间；不读取内容
+     */
+    static long fingerprint(URL resource) {
+        if (resource == null) {
+            return NO_SOURCE;
+        }
+        try {
+            if ("file".equals(resource.getProtocol())) {
+                return fingerprint(Paths.get(resource.toURI()));
+            }
+            long length = resource.openConnection().getContentLengthLong();
+            return length >= 0 ? length : NO_SOURCE;
+        } catch (IOException | URISyntaxException e) {
+            return NO_SOURCE;
+        }
+    }
+
+    /**
+     * 等比缩放到长边为size
+     */
+    static BufferedImage fit(BufferedImage source, int size) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (width >= height) {
+            return scale(source, size, Math.max(1, Math.round((float) height * size / width)));
+        }
+        return scale(source, Math.max(1, Math.round((float) width * size / height)), size);
+    }
+
+    /**
+     * 逐级减半缩放，避免一次大比例缩小产生锯齿
+     */
+    static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (width < targetWidth * 2 && height < targetHeight * 2) {
+                width = targetWidth;
+                height = targetHeight;
+            }
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", out)) {
+            throw new IOException("No PNG writer available");
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 删除同一图片同一尺寸下由旧原图生成的缩略图
+     */
+    private void deleteOutdated(Path current, String prefix) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*.png")) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to clean outdated thumbnails {}*: {}", prefix, e.getMessage());
+        }
+    }
+
+    private void write(Path file, byte[] data) {
+        try {
+            Files.createDirectories(directory);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // 持久化失败不影响本次显示
+            logger.debug("Failed to persist thumbnail {}: {}", file, e.getMessage());
+        }
+    }
+}
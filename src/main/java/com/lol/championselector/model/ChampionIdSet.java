@@ -0,0 +1,258 @@
+package com.lol.championselector.model;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * championId集合，用long[]位图存储（championId目前都小于1000，16个long即可覆盖，超出时自动扩容）。
+ * contains/add提供int重载，判断时不装箱；集合运算按64位字进行。
+ * 同时实现Set&lt;Integer&gt;，可直接传给原有接口。championId &lt;= 0 表示"未选择"，不会被加入
+ */
+public final class ChampionIdSet extends AbstractSet<Integer> {
+    private static final int DEFAULT_WORDS = 16;
+
+    private long[] words;
+    private final boolean readOnly;
+
+    public ChampionIdSet() {
+        this(new long[DEFAULT_WORDS], false);
+    }
+
+    private ChampionIdSet(long[] words, boolean readOnly) {
+        this.words = words;
+        this.readOnly = readOnly;
+    }
+
+    public static ChampionIdSet of(int... championIds) {
+        ChampionIdSet set = new ChampionIdSet();
+        for (int championId : championIds) {
+            set.add(championId);
+        }
+        return set;
+    }
+
+    /**
+     * 复制任意集合，null元素和非正数id被忽略
+     */
+    public static ChampionIdSet copyOf(Collection<Integer> championIds) {
+        if (championIds instanceof ChampionIdSet) {
+            return ((ChampionIdSet) championIds).copy();
+        }
+        ChampionIdSet set = new ChampionIdSet();
+        if (championIds != null) {
+            for (Integer championId : championIds) {
+                if (championId != null) {
+                    set.add(championId.intValue());
+                }
+            }
+        }
+        return set;
+    }
+
+    public boolean contains(int championId) {
+        int word = championId >>> 6;
+        return championId > 0 && word < words.length && (words[word] & (1L << championId)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && contains(((Integer) o).intValue());
+    }
+
+    public boolean add(int championId) {
+        checkWritable();
+        if (championId <= 0 || contains(championId)) {
+            return false;
+        }
+        int word = championId >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(words.length * 2, word + 1));
+        }
+        words[word] |= 1L << championId;
+        return true;
+    }
+
+    @Override
+    public boolean add(Integer championId) {
+        return championId != null && add(championId.intValue());
+    }
+
+    public boolean remove(int championId) {
+        checkWritable();
+        if (!contains(championId)) {
+            return false;
+        }
+        words[championId >>> 6] &= ~(1L << championId);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Integer && remove(((Integer) o).intValue());
+    }
+
+    @Override
+    public void clear() {
+        checkWritable();
+        Arrays.fill(words, 0);
+    }
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 并集（返回新集合）
+     */
+    public ChampionIdSet union(ChampionIdSet other) {
+        long[] result = Arrays.copyOf(words, Math.max(words.length, other.words.length));
+        for (int i = 0; i < other.words.length; i++) {
+            result[i] |= other.words[i];
+        }
+        return new ChampionIdSet(result, false);
+    }
+
+    /**
+     * 交集（返回新集合）
+     */
+    public ChampionIdSet intersect(ChampionIdSet other) {
+        long[] result = Arrays.copyOf(words, Math.max(DEFAULT_WORDS, Math.min(words.length, other.words.length)));
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= i < other.words.length ? other.words[i] : 0;
+        }
+        return new ChampionIdSet(result, false);
+    }
+
+    /**
+     * 差集：在本集合中但不在other中（返回新集合）
+     */
+    public ChampionIdSet andNot(ChampionIdSet other) {
+        long[] result = Arrays.copyOf(words, words.length);
+        for (int i = 0; i < Math.min(result.length, other.words.length); i++) {
+            result[i] &= ~other.words[i];
+        }
+        return new ChampionIdSet(result, false);
+    }
+
+    /**
+     * 是否有共同元素，不分配内存
+     */
+    public boolean intersects(ChampionIdSet other) {
+        for (int i = 0; i < Math.min(words.length, other.words.length); i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 就地并入other的所有元素
+     */
+    public void addAll(ChampionIdSet other) {
+        checkWritable();
+        if (other.words.length > words.length) {
+            words = Arrays.copyOf(words, other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> championIds) {
+        if (championIds instanceof ChampionIdSet) {
+            int before = size();
+            addAll((ChampionIdSet) championIds);
+            return size() != before;
+        }
+        return super.addAll(championIds);
+    }
+
+    public ChampionIdSet copy() {
+        return new ChampionIdSet(words.clone(), false);
+    }
+
+    /**
+     * 只读副本，修改时抛出UnsupportedOperationException
+     */
+    public ChampionIdSet toReadOnly() {
+        return readOnly ? this : new ChampionIdSet(words.clone(), true);
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int next = nextSetBit(1);
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next > 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (next <= 0) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = nextSetBit(next + 1);
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last <= 0) {
+                    throw new IllegalStateException();
+                }
+                ChampionIdSet.this.remove(last);
+                last = -1;
+            }
+        };
+    }
+
+    /**
+     * 从from开始的下一个championId，没有时返回-1
+     */
+    public int nextSetBit(int from) {
+        int word = from >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word >= words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Read-only champion id set");
+        }
+    }
+}
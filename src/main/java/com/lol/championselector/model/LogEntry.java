@@ -0,0 +1,88 @@
+package com.lol.championselector.model;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * 一条结构化日志记录（时间戳、级别、logger、消息），由日志查看器按行显示
+ */
+public final class LogEntry {
+    private static final DateTimeFormatter TIME_FORMATTER =
+        DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final long timestamp;
+    private final String level;
+    private final String loggerName;
+    private final String message;
+
+    // 格式化文本和搜索用小写文本按需生成并缓存
+    private String line;
+    private String searchText;
+
+    /**
+     * @param loggerName 界面状态消息等没有logger的记录传null
+     */
+    public LogEntry(long timestamp, String level, String loggerName, String message) {
+        this.timestamp = timestamp;
+        this.level = level != null ? level : "INFO";
+        this.loggerName = loggerName;
+        this.message = message != null ? message : "";
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 显示和导出用的单行文本
+     */
+    public String format() {
+        String result = line;
+        if (result == null) {
+            StringBuilder builder = new StringBuilder(message.length() + 48)
+                .append('[').append(TIME_FORMATTER.format(Instant.ofEpochMilli(timestamp))).append("] ");
+            if (loggerName != null) {
+                builder.append(level).append(' ').append(shortLoggerName()).append(" - ");
+            }
+            result = builder.append(message).toString();
+            line = result;
+        }
+        return result;
+    }
+
+    /**
+     * 大小写不敏感的包含判断，query需已转为小写
+     */
+    public boolean containsIgnoreCase(String lowerCaseQuery) {
+        String text = searchText;
+        if (text == null) {
+            text = format().toLowerCase(Locale.ROOT);
+            searchText = text;
+        }
+        return text.contains(lowerCaseQuery);
+    }
+
+    private String shortLoggerName() {
+        int dot = loggerName.lastIndexOf('.');
+        return dot >= 0 ? loggerName.substring(dot + 1) : loggerName;
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
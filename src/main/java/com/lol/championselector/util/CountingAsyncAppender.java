@@ -0,0 +1,59 @@
+package com.lol.championselector.util;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender that counts what it drops instead of dropping silently:
+ * events discarded because the queue crossed the discarding threshold
+ * (TRACE/DEBUG/INFO only) and, with neverBlock, events rejected by a full queue.
+ * The counts are reported when the appender stops.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder droppedWhenFull = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // put() drops silently when neverBlock is set, so check first; racing producers may undercount
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            droppedWhenFull.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /**
+     * Only consulted once the queue is below the discarding threshold
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getDroppedWhenFullCount() {
+        return droppedWhenFull.sum();
+    }
+
+    @Override
+    public void stop() {
+        long total = getDiscardedCount() + getDroppedWhenFullCount();
+        if (total > 0) {
+            addWarn("Appender [" + name + "] dropped " + total + " events ("
+                + getDiscardedCount() + " discarded below threshold, "
+                + getDroppedWhenFullCount() + " rejected by full queue)");
+        }
+        super.stop();
+    }
+}
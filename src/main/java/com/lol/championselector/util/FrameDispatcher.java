@@ -0,0 +1,247 @@
+package com.lol.championselector.util;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Frame-coalescing dispatcher for JavaFX UI updates.
+ * Tasks submitted from any thread are drained on an {@link AnimationTimer} pulse, at most
+ * {@link #getFrameBudgetMillis()} per frame; what does not fit carries over to the next frame.
+ * Keyed submissions are coalesced: only the latest task per key runs (last write wins), so
+ * bursts of status/badge refreshes cost one update per frame. Everything runs in submission
+ * order; a keyed task takes the place of its latest submission, so it never jumps ahead of
+ * ordered work submitted before it. Keyed tasks may be dropped and should only render state.
+ * The timer only runs while work is pending.
+ */
+public class FrameDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(FrameDispatcher.class);
+
+    private static final long DEFAULT_FRAME_BUDGET_MS = 4;
+    private static final FrameDispatcher INSTANCE = new FrameDispatcher(DEFAULT_FRAME_BUDGET_MS, true);
+
+    private static final class Task {
+        final Object key;
+        final Runnable action;
+        final long enqueuedAt;
+
+        Task(Object key, Runnable action, long enqueuedAt) {
+            this.key = key;
+            this.action = action;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    // 有序任务和带key任务共用一个队列；被替换的带key任务留在队列中，出队时跳过
+    private final ConcurrentLinkedQueue<Task> tasks = new ConcurrentLinkedQueue<>();
+    // 每个key当前有效的任务
+    private final Map<Object, Task> keyedTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicBoolean pulseScheduled = new AtomicBoolean(false);
+    private final boolean pulseDriven;
+    private volatile long frameBudgetNanos;
+    private AnimationTimer timer;
+
+    // 指标
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder latencyNanosTotal = new LongAdder();
+    private volatile long maxLatencyNanos;
+    private volatile long lastFrameNanos;
+    private volatile long maxFrameNanos;
+    private volatile long frames;
+
+    /**
+     * @param pulseDriven false to drain manually via {@link #drainFrame()} (no JavaFX toolkit needed)
+     */
+    FrameDispatcher(long frameBudgetMs, boolean pulseDriven) {
+        this.frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(frameBudgetMs);
+        this.pulseDriven = pulseDriven;
+    }
+
+    public static FrameDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run task on the FX thread in a coming frame, in submission order
+     */
+    public void submit(Runnable task) {
+        queueDepth.incrementAndGet();
+        tasks.offer(new Task(null, task, System.nanoTime()));
+        schedulePulse();
+    }
+
+    /**
+     * Run task on the FX thread in a coming frame, replacing any not-yet-run task with the same key
+     */
+    public void submit(Object key, Runnable task) {
+        Task keyed = new Task(key, task, System.nanoTime());
+        Task previous = keyedTasks.put(key, keyed);
+        if (previous == null) {
+            queueDepth.incrementAndGet();
+        } else {
+            coalesced.increment();
+        }
+        tasks.offer(keyed);
+        schedulePulse();
+    }
+
+    /**
+     * Drain queued work for one frame in submission order, skipping keyed tasks that were replaced.
+     * Always runs at least one task so progress is made even when a single task exceeds the budget.
+     *
+     * @return number of tasks executed
+     */
+    int drainFrame() {
+        long start = System.nanoTime();
+        long deadline = start + frameBudgetNanos;
+        int ran = 0;
+
+        Task task;
+        while ((ran == 0 || System.nanoTime() < deadline) && (task = tasks.poll()) != null) {
+            if (task.key != null && !keyedTasks.remove(task.key, task)) {
+                continue;
+            }
+            queueDepth.decrementAndGet();
+            execute(task);
+            ran++;
+        }
+
+        if (ran > 0) {
+            long frameNanos = System.nanoTime() - start;
+            lastFrameNanos = frameNanos;
+            if (frameNanos > maxFrameNanos) {
+                maxFrameNanos = frameNanos;
+            }
+            frames++;
+        }
+        return ran;
+    }
+
+    private void execute(Task task) {
+        long latency = System.nanoTime() - task.enqueuedAt;
+        latencyNanosTotal.add(latency);
+        if (latency > maxLatencyNanos) {
+            maxLatencyNanos = latency;
+        }
+        try {
+            task.action.run();
+        } catch (Exception e) {
+            logger.error("Error executing UI task", e);
+        }
+        executed.increment();
+    }
+
+    private void schedulePulse() {
+        if (!pulseDriven || !pulseScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Platform.runLater(this::startTimer);
+        } catch (IllegalStateException e) {
+            // 工具包尚未启动：保留任务，下次提交时重试
+            pulseScheduled.set(false);
+            logger.debug("JavaFX toolkit not initialized, UI tasks stay queued");
+        }
+    }
+
+    private void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    drainFrame();
+                    if (queueDepth.get() == 0) {
+                        stop();
+                        pulseScheduled.set(false);
+                        // 与提交方的竞争：停止后又有新任务时继续运行
+                        if (queueDepth.get() > 0 && pulseScheduled.compareAndSet(false, true)) {
+                            start();
+                        }
+                    }
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Run everything queued right now on the FX thread, ignoring the frame budget
+     */
+    public void flush() {
+        Runnable drainAll = () -> {
+            long budget = frameBudgetNanos;
+            frameBudgetNanos = Long.MAX_VALUE / 2;
+            try {
+                drainFrame();
+            } finally {
+                frameBudgetNanos = budget;
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            drainAll.run();
+        } else {
+            Platform.runLater(drainAll);
+        }
+    }
+
+    public void setFrameBudgetMillis(long budgetMs) {
+        this.frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMs));
+    }
+
+    public long getFrameBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(frameBudgetNanos);
+    }
+
+    /**
+     * Tasks waiting to run (each pending key counts once)
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Keyed submissions that replaced a pending update instead of adding work
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public double getAverageLatencyMillis() {
+        long count = executed.sum();
+        return count == 0 ? 0 : latencyNanosTotal.sum() / (double) count / 1_000_000.0;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1_000_000.0;
+    }
+
+    public double getLastFrameMillis() {
+        return lastFrameNanos / 1_000_000.0;
+    }
+
+    public double getMaxFrameMillis() {
+        return maxFrameNanos / 1_000_000.0;
+    }
+
+    public String getStats() {
+        return String.format("Queue depth: %d, executed: %d, coalesced: %d, frames: %d, "
+                + "latency avg/max: %.2f/%.2f ms, frame last/max: %.2f/%.2f ms",
+            getQueueDepth(), getExecutedCount(), getCoalescedCount(), frames,
+            getAverageLatencyMillis(), getMaxLatencyMillis(), getLastFrameMillis(), getMaxFrameMillis());
+    }
+}
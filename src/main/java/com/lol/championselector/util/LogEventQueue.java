@@ -0,0 +1,74 @@
+package com.lol.championselector.util;
+
+import com.lol.championselector.model.LogEntry;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer/single-consumer queue of log entries.
+ * Producers (any logging thread) never block or take a lock: when the queue is full the
+ * new entry is dropped and counted. Only one consumer may call {@link #drain}.
+ */
+public final class LogEventQueue {
+    private final ConcurrentLinkedQueue<LogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final int capacity;
+
+    public LogEventQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return false if the queue was full and the entry was dropped
+     */
+    public boolean offer(LogEntry entry) {
+        offered.increment();
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(entry);
+        return true;
+    }
+
+    /**
+     * Hand at most maxEntries queued entries to sink, in arrival order
+     *
+     * @return number of entries drained
+     */
+    public int drain(Consumer<LogEntry> sink, int maxEntries) {
+        int drained = 0;
+        LogEntry entry;
+        while (drained < maxEntries && (entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            drained++;
+            sink.accept(entry);
+        }
+        return drained;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long getOfferedCount() {
+        return offered.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
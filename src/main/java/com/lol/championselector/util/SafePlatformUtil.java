@@ -3,9 +3,6 @@ package com.lol.championselector.util;
 import javafx.application.Platform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -19,19 +16,9 @@ public class SafePlatformUtil {
     private static final AtomicBoolean javafxInitialized = new AtomicBoolean(false);
     private static final Object initLock = new Object();
     
-    // Performance optimization: batch Platform.runLater calls
-    private static final BlockingQueue<Runnable> pendingTasks = new LinkedBlockingQueue<>();
-    private static final AtomicInteger pendingTaskCount = new AtomicInteger(0);
-    private static final int BATCH_SIZE = 10;
+    // Non-priority tasks are drained per frame by the FrameDispatcher
     private static volatile boolean batchProcessingEnabled = true;
     
-    static {
-        // Start batch processor
-        Thread batchProcessor = new Thread(SafePlatformUtil::processBatchedTasks, "JavaFX-BatchProcessor");
-        batchProcessor.setDaemon(true);
-        batchProcessor.start();
-    }
-    
     /**
      * Safely execute a runnable on the JavaFX Application Thread
      * @param runnable the task to execute
@@ -44,7 +31,7 @@ public class SafePlatformUtil {
     /**
      * Safely execute a runnable on the JavaFX Application Thread
      * @param runnable the task to execute
-     * @param priority if true, execute immediately without batching
+     * @param priority if true, post directly with Platform.runLater instead of waiting for the next frame
      * @return true if successfully executed, false otherwise
      */
     public static boolean runLater(Runnable runnable, boolean priority) {
@@ -71,10 +58,9 @@ public class SafePlatformUtil {
                 }
             }
             
-            // Use batching for better performance unless priority is requested
-            if (!priority && batchProcessingEnabled && pendingTaskCount.get() < 100) {
-                pendingTasks.offer(runnable);
-                pendingTaskCount.incrementAndGet();
+            // Drain on the next frame pulse unless priority is requested
+            if (!priority && batchProcessingEnabled) {
+                FrameDispatcher.getInstance().submit(runnable);
                 return true;
             }
             
@@ -209,56 +195,6 @@ public class SafePlatformUtil {
                             currentThread.getName(), isFxThread);
     }
     
-    /**
-     * Process batched JavaFX tasks for better performance
-     */
-    private static void processBatchedTasks() {
-        while (true) {
-            try {
-                // Wait for tasks or timeout after 50ms
-                Runnable task = pendingTasks.poll(50, TimeUnit.MILLISECONDS);
-                if (task == null) {
-                    continue;
-                }
-                
-                // Collect batch of tasks
-                java.util.List<Runnable> batch = new java.util.ArrayList<>();
-                batch.add(task);
-                pendingTaskCount.decrementAndGet();
-                
-                // Try to get more tasks up to batch size
-                for (int i = 1; i < BATCH_SIZE; i++) {
-                    Runnable nextTask = pendingTasks.poll();
-                    if (nextTask == null) {
-                        break;
-                    }
-                    batch.add(nextTask);
-                    pendingTaskCount.decrementAndGet();
-                }
-                
-                // Execute batch on JavaFX thread
-                if (!batch.isEmpty()) {
-                    Platform.runLater(() -> {
-                        for (Runnable batchedTask : batch) {
-                            try {
-                                batchedTask.run();
-                            } catch (Exception e) {
-                                logger.error("Error executing batched runnable on JavaFX thread", e);
-                            }
-                        }
-                    });
-                }
-                
-            } catch (InterruptedException e) {
-                logger.debug("Batch processor interrupted");
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                logger.error("Error in batch processor", e);
-            }
-        }
-    }
-    
     /**
      * Enable or disable batch processing
      */
@@ -271,8 +207,8 @@ public class SafePlatformUtil {
      * Get current batch processing stats
      */
     public static String getBatchStats() {
-        return String.format("Pending tasks: %d, Batch processing: %s", 
-                           pendingTaskCount.get(), batchProcessingEnabled ? "enabled" : "disabled");
+        return String.format("%s, Batch processing: %s", 
+                           FrameDispatcher.getInstance().getStats(), batchProcessingEnabled ? "enabled" : "disabled");
     }
     
     /**
@@ -289,28 +225,10 @@ public class SafePlatformUtil {
      * Flush all pending batched tasks immediately
      */
     public static void flushPendingTasks() {
-        int taskCount = pendingTaskCount.get();
+        int taskCount = FrameDispatcher.getInstance().getQueueDepth();
         if (taskCount > 0) {
             logger.debug("Flushing {} pending JavaFX tasks", taskCount);
-            
-            java.util.List<Runnable> allTasks = new java.util.ArrayList<>();
-            Runnable task;
-            while ((task = pendingTasks.poll()) != null) {
-                allTasks.add(task);
-                pendingTaskCount.decrementAndGet();
-            }
-            
-            if (!allTasks.isEmpty()) {
-                Platform.runLater(() -> {
-                    for (Runnable flushTask : allTasks) {
-                        try {
-                            flushTask.run();
-                        } catch (Exception e) {
-                            logger.error("Error executing flushed runnable on JavaFX thread", e);
-                        }
-                    }
-                });
-            }
+            FrameDispatcher.getInstance().flush();
         }
     }
-}
\ No newline at end of file
+}
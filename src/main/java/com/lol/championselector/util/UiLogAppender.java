@@ -0,0 +1,112 @@
+package com.lol.championselector.util;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.ContextBase;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.lol.championselector.model.LogEntry;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logback appender that feeds the in-app log viewer and status panel.
+ * Events are converted to {@link LogEntry} and pushed into a bounded {@link LogEventQueue}
+ * owned by the appender; the logging thread never waits for the UI.
+ * The queue is registered in the appender's Logback context while it runs, so appenders in
+ * other contexts (e.g. tests) never replace the application's queue.
+ * Configured in logback.xml; {@link #getQueue()} is null until Logback starts it.
+ */
+public class UiLogAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    /**
+     * Logger used for user-facing status messages, shown in the main window's status panel
+     */
+    public static final String STATUS_LOGGER = "com.lol.championselector.status";
+
+    private static final String QUEUE_KEY = UiLogAppender.class.getName() + ".queue";
+
+    private int capacity = 8192;
+    private volatile LogEventQueue queue;
+
+    /**
+     * Queue of the appender running in the application's Logback context, or null
+     */
+    public static LogEventQueue getQueue() {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        return factory instanceof Context ? getQueue((Context) factory) : null;
+    }
+
+    static LogEventQueue getQueue(Context context) {
+        Object registered = context.getObject(QUEUE_KEY);
+        return registered instanceof LogEventQueue ? (LogEventQueue) registered : null;
+    }
+
+    /**
+     * True when Logback routes events to the UI, i.e. the status panel can rely on this appender
+     */
+    public static boolean isActive() {
+        return getQueue() != null;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void start() {
+        if (capacity <= 0) {
+            addError("capacity must be positive for appender [" + name + "]");
+            return;
+        }
+        LogEventQueue owned = new LogEventQueue(capacity);
+        queue = owned;
+        context.putObject(QUEUE_KEY, owned);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        LogEventQueue owned = queue;
+        if (owned != null) {
+            if (owned.getDroppedCount() > 0) {
+                addInfo("UI log queue dropped " + owned.getDroppedCount() + " of "
+                    + owned.getOfferedCount() + " events");
+            }
+            // Unregister only our own queue; an instance started later in the same context keeps its queue
+            if (getQueue(context) == owned && context instanceof ContextBase) {
+                ((ContextBase) context).removeObject(QUEUE_KEY);
+            }
+        }
+        super.stop();
+    }
+
+    /**
+     * Queue owned by this appender instance, null before start
+     */
+    LogEventQueue getEventQueue() {
+        return queue;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        LogEventQueue target = queue;
+        if (target != null) {
+            target.offer(toEntry(event));
+        }
+    }
+
+    static LogEntry toEntry(ILoggingEvent event) {
+        String message = event.getFormattedMessage();
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            message = message + " (" + throwable.getClassName()
+                + (throwable.getMessage() != null ? ": " + throwable.getMessage() : "") + ")";
+        }
+        return new LogEntry(event.getTimeStamp(), event.getLevel().toString(), event.getLoggerName(), message);
+    }
+}
@@ -0,0 +1,80 @@
+package com.lol.championselector.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.config.AutoAcceptConfig;
+import com.lol.championselector.manager.ChampionCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of auto-accept-config.json: deserializing a full config (which also builds the default
+ * position presets) and resolving every configured champion's id, once with the shared catalog index
+ * and once with the previous approach of filling a fresh key-to-id map per lookup.
+ * Add "-prof gc" to the JMH arguments to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AutoAcceptConfigBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> configuredKeys = new ArrayList<>();
+    private byte[] configJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.lol")).setLevel(Level.WARN);
+
+        AutoAcceptConfig config = new AutoAcceptConfig();
+        configJson = mapper.writeValueAsBytes(config);
+        config.getChampionSelect().getPositionConfigs().values().forEach(position -> {
+            position.getBanChampions().forEach(champion -> configuredKeys.add(champion.getKey()));
+            position.getPickChampions().forEach(champion -> configuredKeys.add(champion.getKey()));
+        });
+    }
+
+    @Benchmark
+    public AutoAcceptConfig loadConfig() throws Exception {
+        AutoAcceptConfig config = mapper.readValue(configJson, AutoAcceptConfig.class);
+        config.validateAndFixConfiguration();
+        return config;
+    }
+
+    @Benchmark
+    public void resolveIdsWithCatalog(Blackhole blackhole) {
+        ChampionCatalog catalog = ChampionCatalog.getInstance();
+        for (String key : configuredKeys) {
+            blackhole.consume(catalog.findIdByKey(key));
+        }
+    }
+
+    @Benchmark
+    public void resolveIdsWithPerCallMap(Blackhole blackhole) {
+        for (String key : configuredKeys) {
+            blackhole.consume(legacyLookup(key));
+        }
+    }
+
+    /**
+     * 旧实现：每次查找都重新填充一张完整的key→id表
+     */
+    private static Integer legacyLookup(String key) {
+        ChampionCatalog catalog = ChampionCatalog.getInstance();
+        Map<String, Integer> keyToIdMap = new HashMap<>();
+        for (int i = 0; i < catalog.size(); i++) {
+            keyToIdMap.put(catalog.getKey(i), catalog.getId(i));
+        }
+        return keyToIdMap.get(key);
+    }
+}
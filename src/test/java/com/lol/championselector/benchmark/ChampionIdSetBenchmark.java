@@ -0,0 +1,71 @@
+package com.lol.championselector.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.lol.championselector.config.AutoAcceptConfig;
+import com.lol.championselector.model.ChampionIdSet;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Availability check on the pick path: build the banned/picked sets from a late-draft session
+ * (10 bans, 9 picks) and walk a position's pick queue for the first free champion,
+ * once with boxed HashSet&lt;Integer&gt; and once with ChampionIdSet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChampionIdSetBenchmark {
+
+    private static final int[] BANS = {157, 238, 555, 11, 121, 84, 99, 236, 104, 777};
+    private static final int[] PICKS = {266, 64, 103, 222, 412, 86, 141, 7, 119};
+
+    private AutoAcceptConfig.PositionConfig position;
+    private List<AutoAcceptConfig.ChampionInfo> queue;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.lol")).setLevel(Level.WARN);
+
+        position = new AutoAcceptConfig.PositionConfig("middle");
+        queue = List.of(
+            AutoAcceptConfig.ChampionInfo.forChampionId(103),
+            AutoAcceptConfig.ChampionInfo.forChampionId(7),
+            AutoAcceptConfig.ChampionInfo.forChampionId(238),
+            AutoAcceptConfig.ChampionInfo.forChampionId(99),
+            AutoAcceptConfig.ChampionInfo.forChampionId(134));
+        position.setPickChampions(queue);
+    }
+
+    @Benchmark
+    public AutoAcceptConfig.ChampionInfo hashSetAvailability() {
+        Set<Integer> banned = new HashSet<>();
+        for (int championId : BANS) {
+            banned.add(championId);
+        }
+        Set<Integer> picked = new HashSet<>();
+        for (int championId : PICKS) {
+            picked.add(championId);
+        }
+        for (AutoAcceptConfig.ChampionInfo champion : queue) {
+            if (!banned.contains(champion.getChampionId()) && !picked.contains(champion.getChampionId())) {
+                return champion;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public AutoAcceptConfig.ChampionInfo bitsetAvailability() {
+        ChampionIdSet banned = ChampionIdSet.of(BANS);
+        ChampionIdSet picked = ChampionIdSet.of(PICKS);
+        return position.getAlternatePickChampion(banned, picked);
+    }
+}
@@ -0,0 +1,90 @@
+package com.lol.championselector.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.lol.championselector.manager.ChampionDataManager;
+import com.lol.championselector.manager.ChampionSearchIndex;
+import com.lol.championselector.model.Champion;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-keystroke search cost over the built-in roster: the precomputed index vs. the previous
+ * linear scan that lowercased every field of every champion on each query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChampionSearchBenchmark {
+
+    // 用户逐字输入时的查询序列
+    private static final String[] TYPED = {"yasuo", "ahri", "阿卡丽", "jfjh", "中单", "kai'sa", "assassin", "剑"};
+
+    private final List<String> keystrokes = new ArrayList<>();
+    private List<Champion> champions;
+    private ChampionSearchIndex index;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.lol")).setLevel(Level.WARN);
+
+        champions = new ChampionDataManager().getAllChampions();
+        index = ChampionSearchIndex.build(champions);
+        for (String word : TYPED) {
+            for (int i = 1; i <= word.length(); i++) {
+                keystrokes.add(word.substring(0, i));
+            }
+        }
+        cursor = 0;
+    }
+
+    private String nextQuery() {
+        String query = keystrokes.get(cursor);
+        cursor = (cursor + 1) % keystrokes.size();
+        return query;
+    }
+
+    @Benchmark
+    public List<Champion> indexedSearch() {
+        return index.search(nextQuery());
+    }
+
+    @Benchmark
+    public List<Champion> linearScan() {
+        String query = nextQuery().toLowerCase().trim();
+        List<Champion> result = new ArrayList<>();
+        for (Champion champion : champions) {
+            if (matches(champion, query)) {
+                result.add(champion);
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(Champion champion, String query) {
+        if (champion.getNameCn().toLowerCase().contains(query)
+                || champion.getNameEn().toLowerCase().contains(query)
+                || champion.getKey().toLowerCase().contains(query)
+                || (champion.getTitle() != null && champion.getTitle().toLowerCase().contains(query))) {
+            return true;
+        }
+        for (String keyword : champion.getKeywords()) {
+            if (keyword.toLowerCase().contains(query)) {
+                return true;
+            }
+        }
+        for (String tag : champion.getTags()) {
+            if (tag.toLowerCase().contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.lol.championselector.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.lol.championselector.manager.DraftPickEngine;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-update cost of DraftPickEngine: full re-analysis vs. incremental update,
+ * replayed over a recorded champ select session where most ticks only move the timer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DraftPickEngineBenchmark {
+
+    private static final int UPDATES = 40;
+
+    private final List<JsonNode> updates = new ArrayList<>();
+    private DraftPickEngine fullEngine;
+    private DraftPickEngine incrementalEngine;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.lol")).setLevel(Level.WARN);
+
+        ObjectNode session;
+        try (InputStream in = DraftPickEngineBenchmark.class.getResourceAsStream("/lcu/champ-select-session.json")) {
+            session = (ObjectNode) new ObjectMapper().readTree(in);
+        }
+
+        // 每秒两次推送，绝大多数只有计时器变化；每10次有一个action状态变化
+        for (int i = 0; i < UPDATES; i++) {
+            ObjectNode update = session.deepCopy();
+            ((ObjectNode) update.path("timer")).put("adjustedTimeLeftInPhase", 30000 - i * 500);
+            if (i >= UPDATES / 2) {
+                for (JsonNode group : update.path("actions")) {
+                    for (JsonNode action : group) {
+                        if (action.path("actorCellId").asInt() == 2 && "pick".equals(action.path("type").asText())) {
+                            ((ObjectNode) action).put("championId", 99);
+                        }
+                    }
+                }
+            }
+            updates.add(update);
+        }
+
+        fullEngine = new DraftPickEngine();
+        incrementalEngine = new DraftPickEngine();
+        cursor = 0;
+    }
+
+    private JsonNode nextUpdate() {
+        JsonNode update = updates.get(cursor);
+        cursor = (cursor + 1) % UPDATES;
+        return update;
+    }
+
+    @Benchmark
+    public DraftPickEngine.DraftAnalysis fullAnalysis() {
+        return fullEngine.analyzeDraftSession(nextUpdate(), 2);
+    }
+
+    @Benchmark
+    public DraftPickEngine.DraftAnalysis incrementalUpdate() {
+        return incrementalEngine.updateDraftSession(nextUpdate(), 2);
+    }
+}
@@ -0,0 +1,69 @@
+package com.lol.championselector.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AutoAcceptConfig的单元测试，覆盖配置序列化往返、默认英雄的championId和反向查找
+ */
+class AutoAcceptConfigTest {
+
+    @Test
+    void testSavedConfigCanBeReadBack() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        AutoAcceptConfig original = new AutoAcceptConfig();
+        original.getChampionSelect().setPickChampion(AutoAcceptConfig.ChampionInfo.forChampionId(222));
+
+        AutoAcceptConfig loaded = mapper.readValue(mapper.writeValueAsBytes(original), AutoAcceptConfig.class);
+        loaded.validateAndFixConfiguration();
+
+        assertEquals("Jinx", loaded.getChampionSelect().getPickChampion().getKey());
+        assertEquals(222, loaded.getChampionSelect().getPickChampion().getChampionId());
+        assertEquals(original.getChampionSelect().getPositionConfigs().keySet(),
+                     loaded.getChampionSelect().getPositionConfigs().keySet());
+    }
+
+    @Test
+    void testForChampionId() {
+        AutoAcceptConfig.ChampionInfo ahri = AutoAcceptConfig.ChampionInfo.forChampionId(103);
+        assertNotNull(ahri);
+        assertEquals("Ahri", ahri.getKey());
+        assertEquals("阿狸", ahri.getNameCn());
+        assertEquals(103, ahri.getChampionId());
+
+        assertNull(AutoAcceptConfig.ChampionInfo.forChampionId(0));
+        assertNull(AutoAcceptConfig.ChampionInfo.forChampionId(5000));
+    }
+
+    @Test
+    void testEveryDefaultChampionResolves() {
+        AutoAcceptConfig config = new AutoAcceptConfig();
+        config.validateAndFixConfiguration();
+
+        AutoAcceptConfig.ChampionSelectConfig championSelect = config.getChampionSelect();
+        List<AutoAcceptConfig.ChampionInfo> defaults = new ArrayList<>();
+        defaults.add(championSelect.getBanChampion());
+        defaults.add(championSelect.getPickChampion());
+        for (AutoAcceptConfig.PositionConfig position : championSelect.getPositionConfigs().values()) {
+            defaults.addAll(position.getBanChampions());
+            defaults.addAll(position.getPickChampions());
+        }
+
+        assertTrue(defaults.size() > 2);
+        for (AutoAcceptConfig.ChampionInfo champion : defaults) {
+            assertNotNull(champion.getChampionId(), "Default champion " + champion.getKey() + " must resolve");
+        }
+    }
+
+    @Test
+    void testLegacyKeyStillResolves() {
+        AutoAcceptConfig.ChampionInfo legacy = new AutoAcceptConfig.ChampionInfo("Ammu", "阿木木", "殇之木乃伊");
+        legacy.ensureChampionId();
+        assertEquals(32, legacy.getChampionId());
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lol.championselector.config.AutoAcceptConfig;
 import com.lol.championselector.lcu.LCUMonitor;
 import com.lol.championselector.manager.LanguageManager;
+import com.lol.championselector.model.ChampionIdSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -12,6 +13,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -106,7 +108,7 @@ class AutoBanPickFunctionalTest {
         // Mock LCU responses
         when(mockLCUMonitor.isConnected()).thenReturn(true);
         when(mockLCUMonitor.banChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
-        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(java.util.Set.of()));
+        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
         
         // Create a mock champion select session with ban action
         String sessionJson = createMockChampSelectSession("ban", false, 0);
@@ -125,8 +127,8 @@ class AutoBanPickFunctionalTest {
         // Mock LCU responses
         when(mockLCUMonitor.isConnected()).thenReturn(true);
         when(mockLCUMonitor.pickChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
-        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(java.util.Set.of()));
-        when(mockLCUMonitor.getPickedChampions()).thenReturn(CompletableFuture.completedFuture(java.util.Set.of()));
+        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
+        when(mockLCUMonitor.getPickedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
         
         // Create a mock champion select session with pick action
         String sessionJson = createMockChampSelectSession("pick", false, 0);
@@ -188,7 +190,7 @@ class AutoBanPickFunctionalTest {
         when(mockLCUMonitor.getPlayerPosition()).thenReturn(CompletableFuture.completedFuture("bottom"));
         when(mockLCUMonitor.isConnected()).thenReturn(true);
         when(mockLCUMonitor.banChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
-        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(java.util.Set.of()));
+        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
         
         // Create a mock champion select session
         String sessionJson = createMockChampSelectSession("ban", false, 0);
@@ -224,7 +226,7 @@ class AutoBanPickFunctionalTest {
         // Mock LCU responses
         when(mockLCUMonitor.isConnected()).thenReturn(true);
         when(mockLCUMonitor.banChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
-        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(java.util.Set.of()));
+        when(mockLCUMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
         
         // Create a session where a teammate has hovered the champion we want to ban
         String sessionJson = createMockChampSelectSessionWithTeammateHover();
@@ -0,0 +1,55 @@
+package com.lol.championselector.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualTileGrid可见行和行高计算的单元测试，无需JavaFX
+ */
+class VirtualTileGridTest {
+
+    private static final double ROW_HEIGHT = 105; // 100px按钮 + 5px间距
+
+    @Test
+    void testTopOfRosterMaterializesViewportPlusOverscan() {
+        // 170个英雄、8列共22行，400px视口约4行
+        assertArrayEquals(new int[]{0, 4}, range(170, 8, 400, 0.0, 0));
+        assertArrayEquals(new int[]{0, 6}, range(170, 8, 400, 0.0, 2));
+    }
+
+    @Test
+    void testBottomOfRosterIsClampedToLastRow() {
+        int[] rows = range(170, 8, 400, 1.0, 2);
+        assertEquals(22, rows[1]);
+        assertTrue(rows[0] >= 16, "Only rows near the bottom should be materialized");
+        assertTrue(rows[1] - rows[0] <= 8);
+    }
+
+    @Test
+    void testRowCountIndependentOfRosterSize() {
+        // 视口最多跨5行（部分可见），加上两端预留行
+        int maxRows = 5 + 2 * 2;
+        for (int items : new int[]{170, 1700, 17000}) {
+            int[] rows = range(items, 8, 400, 0.5, 2);
+            assertTrue(rows[1] - rows[0] <= maxRows, items + " items materialized " + (rows[1] - rows[0]) + " rows");
+        }
+    }
+
+    @Test
+    void testFilteredListSmallerThanViewport() {
+        assertArrayEquals(new int[]{0, 1}, range(5, 8, 400, 0.0, 2));
+        assertArrayEquals(new int[]{0, 0}, range(0, 8, 400, 0.0, 2));
+    }
+
+    @Test
+    void testRowHeightPrefersMeasuredCell() {
+        assertEquals(105, VirtualTileGrid.rowHeight(-1, 100, 5));
+        // 按钮内容撑高后按实际高度计算
+        assertEquals(133, VirtualTileGrid.rowHeight(128, 100, 5));
+    }
+
+    private static int[] range(int items, int columns, double viewport, double vvalue, int overscan) {
+        return VirtualTileGrid.rowRange(items, columns, ROW_HEIGHT, 5, 10, 10, viewport, vvalue, overscan);
+    }
+}
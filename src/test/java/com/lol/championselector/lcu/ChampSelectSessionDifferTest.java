@@ -0,0 +1,102 @@
+package com.lol.championselector.lcu;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChampSelectSessionDiffer的单元测试
+ */
+class ChampSelectSessionDifferTest {
+
+    private ObjectMapper objectMapper;
+    private ChampSelectSessionDiffer differ;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        differ = new ChampSelectSessionDiffer();
+    }
+
+    private JsonNode session(int banChampion, boolean banInProgress, boolean banCompleted, long timeLeft) throws Exception {
+        return objectMapper.readTree(String.format("""
+            {
+                "gameId": 4242,
+                "localPlayerCellId": 2,
+                "timer": {"phase": "BAN_PICK", "adjustedTimeLeftInPhase": %d},
+                "bans": {"myTeamBans": [], "theirTeamBans": []},
+                "myTeam": [
+                    {"cellId": 1, "championId": 0, "championPickIntent": 0, "assignedPosition": "top"},
+                    {"cellId": 2, "championId": 0, "championPickIntent": 0, "assignedPosition": "middle"}
+                ],
+                "theirTeam": [],
+                "actions": [[
+                    {"id": 7, "actorCellId": 2, "type": "ban", "championId": %d, "isInProgress": %s, "completed": %s}
+                ]]
+            }
+            """, timeLeft, banChampion, banInProgress, banCompleted));
+    }
+
+    @Test
+    void testTimerTicksDoNotProduceChanges() throws Exception {
+        assertNotNull(differ.update(session(0, true, false, 30000)));
+        assertNull(differ.update(session(0, true, false, 29500)));
+        assertNull(differ.update(session(0, true, false, 29000)));
+        assertEquals(ChampSelectSessionDiffer.fingerprint(session(0, true, false, 1)),
+                     ChampSelectSessionDiffer.fingerprint(session(0, true, false, 2)));
+    }
+
+    @Test
+    void testEmitsTypedEventsForActionLifecycle() throws Exception {
+        List<ChampSelectEvent> started = differ.update(session(0, true, false, 30000));
+        assertTrue(hasEvent(started, ChampSelectEvent.Type.SESSION_STARTED));
+        assertTrue(hasEvent(started, ChampSelectEvent.Type.POSITION_ASSIGNED));
+        ChampSelectEvent actionStarted = find(started, ChampSelectEvent.Type.ACTION_STARTED);
+        assertEquals(7, actionStarted.getActionId());
+        assertTrue(actionStarted.isLocalPlayer());
+
+        List<ChampSelectEvent> hovered = differ.update(session(157, true, false, 20000));
+        assertEquals(1, hovered.size());
+        assertEquals(157, find(hovered, ChampSelectEvent.Type.CHAMPION_HOVERED).getChampionId());
+
+        List<ChampSelectEvent> locked = differ.update(session(157, false, true, 10000));
+        assertTrue(hasEvent(locked, ChampSelectEvent.Type.ACTION_COMPLETED));
+        assertEquals(157, find(locked, ChampSelectEvent.Type.BAN_LOCKED).getChampionId());
+        assertFalse(hasEvent(locked, ChampSelectEvent.Type.SESSION_STARTED));
+    }
+
+    @Test
+    void testTeammateHoverAndNewSession() throws Exception {
+        differ.update(session(0, true, false, 30000));
+
+        ObjectNode hovered = (ObjectNode) session(0, true, false, 30000);
+        ((ObjectNode) hovered.path("myTeam").get(0)).put("championPickIntent", 64);
+        ChampSelectEvent hover = find(differ.update(hovered), ChampSelectEvent.Type.CHAMPION_HOVERED);
+        assertEquals(1, hover.getActorCellId());
+        assertEquals(64, hover.getChampionId());
+        assertFalse(hover.isLocalPlayer());
+
+        ObjectNode nextGame = (ObjectNode) session(0, true, false, 30000);
+        nextGame.put("gameId", 4343);
+        List<ChampSelectEvent> events = differ.update(nextGame);
+        assertTrue(hasEvent(events, ChampSelectEvent.Type.SESSION_STARTED));
+        assertTrue(hasEvent(events, ChampSelectEvent.Type.ACTION_STARTED));
+
+        differ.reset();
+        assertTrue(hasEvent(differ.update(nextGame), ChampSelectEvent.Type.SESSION_STARTED));
+    }
+
+    private static boolean hasEvent(List<ChampSelectEvent> events, ChampSelectEvent.Type type) {
+        return events.stream().anyMatch(e -> e.getType() == type);
+    }
+
+    private static ChampSelectEvent find(List<ChampSelectEvent> events, ChampSelectEvent.Type type) {
+        return events.stream().filter(e -> e.getType() == type).findFirst().orElseThrow();
+    }
+}
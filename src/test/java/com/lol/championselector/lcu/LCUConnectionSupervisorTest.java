@@ -0,0 +1,145 @@
+package com.lol.championselector.lcu;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LCUConnectionSupervisor的单元测试，使用假lockfile和本地HTTP服务器模拟客户端启动与退出
+ */
+class LCUConnectionSupervisorTest {
+
+    @TempDir
+    Path installDir;
+
+    private MockWebServer server;
+    private Path lockfile;
+    private LCUMonitor monitor;
+    private LCUConnectionSupervisor supervisor;
+    private final BlockingQueue<LCUConnectionSupervisor.State> states = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = newClientServer();
+        lockfile = installDir.resolve("lockfile");
+        LCUDetector.setLockfileCandidates(List.of(lockfile));
+
+        monitor = new LCUMonitor();
+        monitor.setEventStreamEnabled(false);
+        // 退避间隔足够长，确保连接是由lockfile变化触发的
+        supervisor = new LCUConnectionSupervisor(monitor, 10_000, 30_000, 200);
+        supervisor.addStateListener(states::add);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        supervisor.shutdown();
+        monitor.shutdown();
+        server.shutdown();
+        LCUDetector.setLockfileCandidates(null);
+    }
+
+    @Test
+    void testConnectsAsSoonAsLockfileAppears() throws Exception {
+        supervisor.start();
+        assertEquals(LCUConnectionSupervisor.State.CONNECTING, states.poll(5, TimeUnit.SECONDS));
+        assertEquals(LCUConnectionSupervisor.State.WAITING, states.poll(5, TimeUnit.SECONDS));
+
+        long started = System.nanoTime();
+        writeLockfile(server.getPort(), "first");
+        assertEquals(LCUConnectionSupervisor.State.CONNECTING, states.poll(5, TimeUnit.SECONDS));
+        assertEquals(LCUConnectionSupervisor.State.CONNECTED, states.poll(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 5000,
+                   "Lockfile change should trigger an attempt before the backoff expires");
+        assertTrue(monitor.isConnected());
+        assertTrue(monitor.isMonitoring());
+    }
+
+    @Test
+    void testDetectsLossAndReconnectsToRestartedClient() throws Exception {
+        writeLockfile(server.getPort(), "first");
+        supervisor.start();
+        awaitState(LCUConnectionSupervisor.State.CONNECTED);
+
+        // 客户端退出
+        server.shutdown();
+        awaitState(LCUConnectionSupervisor.State.LOST);
+        assertEquals(LCUConnectionSupervisor.State.WAITING, states.poll(5, TimeUnit.SECONDS));
+        assertFalse(monitor.isConnected());
+
+        // 客户端在新端口重启
+        server = newClientServer();
+        Thread.sleep(20); // 保证lockfile修改时间变化
+        writeLockfile(server.getPort(), "second");
+        awaitState(LCUConnectionSupervisor.State.CONNECTED);
+        assertEquals(okhttp3.Credentials.basic("riot", "second"),
+                     server.takeRequest(5, TimeUnit.SECONDS).getHeader("Authorization"));
+    }
+
+    @Test
+    void testStopAndManualModeFailure() throws Exception {
+        supervisor.setAutoReconnect(false);
+        supervisor.start();
+        awaitState(LCUConnectionSupervisor.State.FAILED);
+
+        writeLockfile(server.getPort(), "first");
+        supervisor.start();
+        awaitState(LCUConnectionSupervisor.State.CONNECTED);
+
+        supervisor.stop();
+        awaitState(LCUConnectionSupervisor.State.STOPPED);
+        assertFalse(monitor.isConnected());
+        assertFalse(monitor.isMonitoring());
+    }
+
+    @Test
+    void testMonitorConnectsWithGivenInfoWithoutDetection() throws Exception {
+        // 没有lockfile，只能使用传入的信息
+        assertTrue(monitor.connect(new LCUDetector.LCUInfo(server.getPort(), "given", "http", 0))
+                       .get(5, TimeUnit.SECONDS));
+        assertTrue(monitor.isConnected());
+        assertEquals(okhttp3.Credentials.basic("riot", "given"),
+                     server.takeRequest(5, TimeUnit.SECONDS).getHeader("Authorization"));
+    }
+
+    private void awaitState(LCUConnectionSupervisor.State expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            LCUConnectionSupervisor.State state = states.poll(100, TimeUnit.MILLISECONDS);
+            if (state == expected) {
+                return;
+            }
+        }
+        fail("Timed out waiting for " + expected + ", current state " + supervisor.getState());
+    }
+
+    private void writeLockfile(int port, String password) throws Exception {
+        Files.writeString(lockfile, "LeagueClient:999999999:" + port + ":" + password + ":http");
+    }
+
+    private static MockWebServer newClientServer() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody("\"None\"");
+            }
+        });
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,165 @@
+package com.lol.championselector.lcu;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LCUConnection的单元测试，验证连接复用与降级策略
+ */
+class LCUConnectionTest {
+
+    private MockWebServer server;
+    private LCUConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        connection = new LCUConnection("http://127.0.0.1:" + server.getPort(), "test-password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void testRequestsReuseWarmConnection() throws Exception {
+        server.enqueue(new MockResponse().setBody("\"Lobby\""));
+        server.enqueue(new MockResponse().setBody("{\"state\": \"InProgress\"}"));
+        server.enqueue(new MockResponse().setBody("{\"championId\": 157, \"completed\": true}"));
+
+        assertTrue(connection.testConnection().get(5, TimeUnit.SECONDS));
+        JsonNode readyCheck = connection.get("/lol-matchmaking/v1/ready-check").get(5, TimeUnit.SECONDS);
+        JsonNode action = connection.patch("/lol-champ-select/v1/session/actions/1", null).get(5, TimeUnit.SECONDS);
+
+        assertEquals("InProgress", readyCheck.path("state").asText());
+        assertEquals(157, action.path("championId").asInt());
+
+        RecordedRequest first = server.takeRequest(5, TimeUnit.SECONDS);
+        RecordedRequest second = server.takeRequest(5, TimeUnit.SECONDS);
+        RecordedRequest third = server.takeRequest(5, TimeUnit.SECONDS);
+        assertNotEquals("close", first.getHeader("Connection"));
+        assertEquals(0, first.getSequenceNumber());
+        assertEquals(1, second.getSequenceNumber(), "Second request should reuse the pooled connection");
+        assertEquals(2, third.getSequenceNumber(), "Action request should reuse the pooled connection");
+        assertTrue(connection.isKeepAliveEnabled());
+    }
+
+    @Test
+    void testFallsBackToCloseAfterRepeatedTransportFailures() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                // 复用的连接在响应体中途断开
+                if (request.getPath().startsWith("/broken") && request.getSequenceNumber() > 0) {
+                    return new MockResponse().setBody("{\"state\": \"InProgress\", \"timer\": 1234567890}")
+                        .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+                }
+                return new MockResponse().setBody("\"Lobby\"");
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Lobby", connection.get("/broken/warm").get(5, TimeUnit.SECONDS).asText());
+            JsonNode response = connection.get("/broken").get(5, TimeUnit.SECONDS);
+            assertEquals("io_error", response.path("error").asText());
+        }
+        assertFalse(connection.isKeepAliveEnabled());
+
+        JsonNode phase = connection.get("/lol-gameflow/v1/gameflow-phase").get(5, TimeUnit.SECONDS);
+        assertEquals("Lobby", phase.asText());
+
+        RecordedRequest last = null;
+        RecordedRequest request;
+        while ((request = server.takeRequest(100, TimeUnit.MILLISECONDS)) != null) {
+            last = request;
+        }
+        assertNotNull(last);
+        assertEquals("/lol-gameflow/v1/gameflow-phase", last.getPath());
+        assertEquals("close", last.getHeader("Connection"));
+    }
+
+    @Test
+    void testRefusedConnectionsKeepKeepAlive() throws Exception {
+        // 客户端重启期间端口拒绝连接，不应关闭连接复用
+        MockWebServer stopped = new MockWebServer();
+        stopped.start();
+        int port = stopped.getPort();
+        stopped.shutdown();
+
+        LCUConnection restarting = new LCUConnection("http://127.0.0.1:" + port, "test-password");
+        try {
+            for (int i = 0; i < 5; i++) {
+                JsonNode response = restarting.get("/lol-gameflow/v1/gameflow-phase").get(5, TimeUnit.SECONDS);
+                assertEquals("io_error", response.path("error").asText());
+            }
+            assertTrue(restarting.isKeepAliveEnabled());
+        } finally {
+            restarting.shutdown();
+        }
+    }
+
+    @Test
+    void testActionLaneIsNotStarvedByQueries() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getPath().startsWith("/slow")) {
+                    return new MockResponse().setBody("{}").setHeadersDelay(2, TimeUnit.SECONDS);
+                }
+                return new MockResponse().setBody("{\"championId\": 157, \"completed\": true}");
+            }
+        });
+
+        LCURequestExecutor lanes = new LCURequestExecutor(1, 1, 1);
+        LCUConnection laneConnection = new LCUConnection("http://127.0.0.1:" + server.getPort(), "test-password", lanes);
+        try {
+            laneConnection.get("/slow/1");
+            laneConnection.get("/slow/2");
+            JsonNode rejected = laneConnection.get("/slow/3").get(1, TimeUnit.SECONDS);
+            assertEquals("busy", rejected.path("error").asText());
+
+            long start = System.nanoTime();
+            JsonNode action = laneConnection.patch("/lol-champ-select/v1/session/actions/1", null).get(1, TimeUnit.SECONDS);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(157, action.path("championId").asInt());
+            assertTrue(elapsedMs < 1000, "Action should not wait behind queued queries");
+        } finally {
+            laneConnection.shutdown();
+            lanes.shutdown();
+        }
+    }
+
+    @Test
+    void testDecodesTypedAndEmptyResponsesFromStream() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"state\": \"InProgress\", \"playerResponse\": \"None\", \"timer\": 3.5, \"extra\": 1}"));
+        server.enqueue(new MockResponse().setBody("\"ChampSelect\""));
+        server.enqueue(new MockResponse().setResponseCode(204));
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"message\": \"No ready check\"}"));
+
+        ReadyCheck readyCheck = connection.get("/lol-matchmaking/v1/ready-check", ReadyCheck.class).get(5, TimeUnit.SECONDS);
+        String phase = connection.get("/lol-gameflow/v1/gameflow-phase", String.class).get(5, TimeUnit.SECONDS);
+        JsonNode accepted = connection.post("/lol-matchmaking/v1/ready-check/accept", null).get(5, TimeUnit.SECONDS);
+        ReadyCheck missing = connection.get("/lol-matchmaking/v1/ready-check", ReadyCheck.class).get(5, TimeUnit.SECONDS);
+
+        assertTrue(readyCheck.isInProgress());
+        assertEquals("None", readyCheck.getPlayerResponse());
+        assertEquals("ChampSelect", phase);
+        assertTrue(accepted.path("success").asBoolean());
+        assertNull(missing);
+    }
+}
@@ -0,0 +1,84 @@
+package com.lol.championselector.lcu;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LCUDetector的单元测试，使用假lockfile和本地服务器模拟客户端
+ */
+class LCUDetectorTest {
+
+    @TempDir
+    Path installDir;
+
+    private MockWebServer server;
+    private Path lockfile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        lockfile = installDir.resolve("lockfile");
+        LCUDetector.setLockfileCandidates(List.of(installDir.resolve("missing").resolve("lockfile"), lockfile));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+        LCUDetector.setLockfileCandidates(null);
+    }
+
+    @Test
+    void testDetectsFromLockfileAndCaches() throws Exception {
+        Files.writeString(lockfile, "LeagueClient:12345:" + server.getPort() + ":s3cr3t-token:https");
+
+        Optional<LCUDetector.LCUInfo> info = LCUDetector.detectLCU().get();
+        assertTrue(info.isPresent());
+        assertEquals(server.getPort(), info.get().getPort());
+        assertEquals("s3cr3t-token", info.get().getPassword());
+        assertEquals("https", info.get().getProtocol());
+
+        // 缓存命中时不再读取lockfile
+        Files.delete(lockfile);
+        assertSame(info.get(), LCUDetector.detectLCU().get().orElseThrow());
+        assertTrue(LCUDetector.isLeagueClientRunning().get());
+    }
+
+    @Test
+    void testRediscoversAfterClientRestart() throws Exception {
+        Files.writeString(lockfile, "LeagueClient:12345:" + server.getPort() + ":first:https");
+        assertEquals("first", LCUDetector.detectLCU().get().orElseThrow().getPassword());
+
+        // 旧客户端退出，新客户端在另一个端口启动
+        server.shutdown();
+        server = new MockWebServer();
+        server.start();
+        Files.writeString(lockfile, "LeagueClient:23456:" + server.getPort() + ":second:https");
+
+        LCUDetector.LCUInfo info = LCUDetector.detectLCU().get().orElseThrow();
+        assertEquals("second", info.getPassword());
+        assertEquals(server.getPort(), info.getPort());
+    }
+
+    @Test
+    void testIgnoresStaleAndMalformedLockfiles() throws Exception {
+        int port = server.getPort();
+        server.shutdown();
+        Files.writeString(lockfile, "LeagueClient:12345:" + port + ":stale:https");
+        assertTrue(LCUDetector.readLockfile(lockfile).isEmpty(), "Lockfile whose port is closed should be ignored");
+
+        Files.writeString(lockfile, "garbage");
+        assertTrue(LCUDetector.readLockfile(lockfile).isEmpty());
+        assertTrue(LCUDetector.readLockfile(installDir.resolve("nope")).isEmpty());
+    }
+}
@@ -0,0 +1,154 @@
+package com.lol.championselector.lcu;
+
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LCUEventStream的单元测试，使用本地WebSocket服务器模拟客户端
+ */
+class LCUEventStreamTest {
+
+    private MockWebServer server;
+    private LCUConnection connection;
+    private LCUEventStream stream;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        connection = new LCUConnection("http://127.0.0.1:" + server.getPort(), "test-password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (stream != null) {
+            stream.close();
+        }
+        connection.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void testSubscribesAndDispatchesPushedEvents() throws Exception {
+        BlockingQueue<String> subscriptions = new LinkedBlockingQueue<>();
+        server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+            @Override
+            public void onMessage(WebSocket webSocket, String text) {
+                subscriptions.add(text);
+                if (text.contains("gameflow-phase")) {
+                    webSocket.send("[8, \"OnJsonApiEvent\", {\"data\": \"ReadyCheck\", \"eventType\": \"Update\", "
+                        + "\"uri\": \"/lol-gameflow/v1/gameflow-phase\"}]");
+                    webSocket.send("[8, \"OnJsonApiEvent\", {\"data\": null, \"eventType\": \"Delete\", "
+                        + "\"uri\": \"/lol-champ-select/v1/session\"}]");
+                }
+            }
+
+            @Override
+            public void onClosing(WebSocket webSocket, int code, String reason) {
+                webSocket.close(code, null);
+            }
+        }));
+
+        List<LCUEventStream.LCUEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(2);
+        CountDownLatch opened = new CountDownLatch(1);
+
+        stream = new LCUEventStream(connection);
+        stream.subscribe("/lol-gameflow/v1/gameflow-phase", event -> {
+            events.add(event);
+            received.countDown();
+        });
+        stream.subscribe("/lol-champ-select/v1/session", event -> {
+            events.add(event);
+            received.countDown();
+        });
+        stream.setOnStateChanged(open -> {
+            if (open) {
+                opened.countDown();
+            }
+        });
+        stream.start();
+
+        assertTrue(opened.await(5, TimeUnit.SECONDS), "Event stream should open");
+        assertTrue(received.await(5, TimeUnit.SECONDS), "Pushed events should be dispatched");
+        assertTrue(stream.isOpen());
+
+        String authorization = server.takeRequest(5, TimeUnit.SECONDS).getHeader("Authorization");
+        assertNotNull(authorization);
+        assertTrue(authorization.startsWith("Basic "));
+
+        String first = subscriptions.poll(5, TimeUnit.SECONDS);
+        String second = subscriptions.poll(5, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertTrue((first + second).contains("[5, \"OnJsonApiEvent_lol-gameflow_v1_gameflow-phase\"]"));
+        assertTrue((first + second).contains("[5, \"OnJsonApiEvent_lol-champ-select_v1_session\"]"));
+
+        LCUEventStream.LCUEvent phaseEvent = events.stream()
+            .filter(e -> e.getUri().equals("/lol-gameflow/v1/gameflow-phase"))
+            .findFirst().orElseThrow();
+        assertEquals("ReadyCheck", phaseEvent.getData().asText());
+        assertFalse(phaseEvent.isDelete());
+
+        LCUEventStream.LCUEvent sessionEvent = events.stream()
+            .filter(e -> e.getUri().equals("/lol-champ-select/v1/session"))
+            .findFirst().orElseThrow();
+        assertTrue(sessionEvent.isDelete());
+    }
+
+    @Test
+    void testReportsClosedWhenServerDropsSocket() throws Exception {
+        server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+            @Override
+            public void onOpen(WebSocket webSocket, Response response) {
+                webSocket.close(1001, "client restarting");
+            }
+        }));
+
+        CountDownLatch closed = new CountDownLatch(1);
+        stream = new LCUEventStream(connection);
+        stream.subscribe("/lol-gameflow/v1/gameflow-phase", event -> { });
+        stream.setOnStateChanged(open -> {
+            if (!open) {
+                closed.countDown();
+            }
+        });
+        stream.start();
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS), "Dropped socket should be reported");
+        assertFalse(stream.isOpen());
+    }
+
+    @Test
+    void testIgnoresUnsubscribedAndMalformedFrames() {
+        List<LCUEventStream.LCUEvent> events = new CopyOnWriteArrayList<>();
+        stream = new LCUEventStream(connection);
+        stream.subscribe("/lol-matchmaking/v1/ready-check", events::add);
+
+        stream.handleMessage("not json");
+        stream.handleMessage("[0, \"welcome\"]");
+        stream.handleMessage("[8, \"OnJsonApiEvent\", {\"data\": {}, \"eventType\": \"Update\", \"uri\": \"/other\"}]");
+        stream.handleMessage("[8, \"OnJsonApiEvent\", {\"data\": {\"state\": \"InProgress\"}, \"eventType\": \"Create\", "
+            + "\"uri\": \"/lol-matchmaking/v1/ready-check\"}]");
+
+        assertEquals(1, events.size());
+        assertEquals("InProgress", events.get(0).getData().path("state").asText());
+        assertEquals("OnJsonApiEvent_lol-matchmaking_v1_ready-check",
+            LCUEventStream.topicFor("/lol-matchmaking/v1/ready-check"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.lol.championselector.lcu;
+
+import com.lol.championselector.model.ChampionIdSet;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LCUMonitor会话快照缓存与session重新派发的单元测试
+ */
+class LCUMonitorTest {
+
+    private MockWebServer server;
+    private LCUConnection connection;
+    private LCUMonitor monitor;
+    private final AtomicInteger sessionRequests = new AtomicInteger();
+    private String session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/lcu/champ-select-session.json")) {
+            session = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if ("/lol-champ-select/v1/session".equals(request.getPath())) {
+                    sessionRequests.incrementAndGet();
+                    return new MockResponse().setBody(session).setBodyDelay(200, TimeUnit.MILLISECONDS);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        server.start();
+
+        connection = new LCUConnection("http://127.0.0.1:" + server.getPort(), "test-password");
+        monitor = new LCUMonitor(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        monitor.shutdown();
+        connection.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void testConcurrentAccessorsShareOneRequest() throws Exception {
+        CompletableFuture<ChampionIdSet> banned = monitor.getBannedChampions();
+        CompletableFuture<ChampionIdSet> picked = monitor.getPickedChampions();
+        CompletableFuture<ChampionIdSet> hovered = monitor.getTeammateHoveredChampions();
+
+        assertEquals(10, banned.get(5, TimeUnit.SECONDS).size());
+        assertTrue(picked.get(5, TimeUnit.SECONDS).contains(266));
+        assertTrue(hovered.get(5, TimeUnit.SECONDS).contains(22));
+        assertEquals(1, sessionRequests.get(), "Concurrent callers should be coalesced onto one GET");
+        assertEquals(1, monitor.getSessionSnapshotVersion());
+    }
+
+    @Test
+    void testStalenessBound() throws Exception {
+        monitor.setSessionStalenessMillis(60_000);
+        monitor.getBannedChampions().get(5, TimeUnit.SECONDS);
+        monitor.getPickedChampions().get(5, TimeUnit.SECONDS);
+        monitor.getChampSelectSessionDetails().get(5, TimeUnit.SECONDS);
+        assertEquals(1, sessionRequests.get(), "Fresh snapshot should be served without a round trip");
+
+        monitor.getChampSelectSessionDetails(0).get(5, TimeUnit.SECONDS);
+        assertEquals(2, sessionRequests.get(), "Expired snapshot should trigger a refresh");
+        assertEquals(2, monitor.getSessionSnapshotVersion());
+    }
+}
@@ -0,0 +1,127 @@
+package com.lol.championselector.manager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AvatarAtlas的单元测试，只校验像素数据，无需JavaFX
+ */
+class AvatarAtlasTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void testBuildsAtlasWithDownscaledBgraTiles() {
+        AvatarAtlas atlas = new AvatarAtlas(cacheDir);
+        assertTrue(atlas.load(List.of("Red", "Blue", "Missing"), solidPng(0xFFFF0000, 0xFF0000FF), 1L));
+        assertTrue(atlas.isReady());
+
+        ByteBuffer red = atlas.getTile("Red", AvatarAtlas.GRID_SIZE);
+        assertEquals(AvatarAtlas.GRID_SIZE * AvatarAtlas.GRID_SIZE * 4, red.remaining());
+        assertArrayEquals(new byte[]{0, 0, (byte) 0xFF, (byte) 0xFF}, firstPixel(red));
+
+        ByteBuffer blue = atlas.getTile("Blue", AvatarAtlas.QUEUE_SIZE);
+        assertEquals(AvatarAtlas.QUEUE_SIZE * AvatarAtlas.QUEUE_SIZE * 4, blue.remaining());
+        assertArrayEquals(new byte[]{(byte) 0xFF, 0, 0, (byte) 0xFF}, firstPixel(blue));
+
+        assertNull(atlas.getTile("Missing", AvatarAtlas.GRID_SIZE));
+        assertNull(atlas.getTile("Red", 64));
+    }
+
+    @Test
+    void testReusesExistingAtlasAndRebuildsWhenChampionsChange() throws Exception {
+        new AvatarAtlas(cacheDir).load(List.of("Red"), solidPng(0xFFFF0000, 0xFFFF0000), 1L);
+        assertEquals(1, atlasFiles().size());
+
+        // 已有图集时不再解码任何PNG
+        AtomicInteger decodes = new AtomicInteger();
+        AvatarAtlas reopened = new AvatarAtlas(cacheDir);
+        assertTrue(reopened.load(List.of("Red"), key -> {
+            decodes.incrementAndGet();
+            return null;
+        }, 1L));
+        assertEquals(0, decodes.get());
+        assertNotNull(reopened.getTile("Red", AvatarAtlas.GRID_SIZE));
+
+        // 英雄列表变化后重新生成
+        AvatarAtlas rebuilt = new AvatarAtlas(cacheDir);
+        assertTrue(rebuilt.load(List.of("Red", "Blue"), solidPng(0xFFFF0000, 0xFF0000FF), 1L));
+        assertNotNull(rebuilt.getTile("Blue", AvatarAtlas.QUEUE_SIZE));
+        assertEquals(1, atlasFiles().size(), "Outdated atlas should be removed");
+    }
+
+    @Test
+    void testRebuildsWhenSourceChanges() throws Exception {
+        new AvatarAtlas(cacheDir).load(List.of("Red"), solidPng(0xFFFF0000, 0xFFFF0000), 1L);
+
+        // 英雄列表不变，但头像内容变了
+        AvatarAtlas rebuilt = new AvatarAtlas(cacheDir);
+        assertTrue(rebuilt.load(List.of("Red"), solidPng(0xFF0000FF, 0xFF0000FF), 2L));
+        assertArrayEquals(new byte[]{(byte) 0xFF, 0, 0, (byte) 0xFF},
+                          firstPixel(rebuilt.getTile("Red", AvatarAtlas.GRID_SIZE)));
+        assertEquals(1, atlasFiles().size(), "Outdated atlas should be removed");
+    }
+
+    @Test
+    void testResourceFingerprintTracksCatalogVersion() {
+        List<String> keys = List.of("Ahri", "Jinx");
+        long fingerprint = AvatarAtlas.resourceFingerprint("15.14.1", keys);
+        assertEquals(fingerprint, AvatarAtlas.resourceFingerprint("15.14.1", keys));
+        assertNotEquals(fingerprint, AvatarAtlas.resourceFingerprint("15.15.1", keys));
+    }
+
+    private List<Path> atlasFiles() throws Exception {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static byte[] firstPixel(ByteBuffer tile) {
+        byte[] pixel = new byte[4];
+        tile.duplicate().get(pixel);
+        return pixel;
+    }
+
+    /**
+     * Red使用第一种颜色，其他英雄使用第二种，Missing没有头像
+     */
+    private static Function<String, InputStream> solidPng(int redArgb, int otherArgb) {
+        return key -> {
+            if (key.equals("Missing")) {
+                return null;
+            }
+            BufferedImage image = new BufferedImage(120, 120, BufferedImage.TYPE_INT_ARGB);
+            int color = key.equals("Red") ? redArgb : otherArgb;
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    image.setRGB(x, y, color);
+                }
+            }
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(image, "png", out);
+                return new ByteArrayInputStream(out.toByteArray());
+            } catch (java.io.IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
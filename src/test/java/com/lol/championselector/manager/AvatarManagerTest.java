@@ -0,0 +1,150 @@
+package com.lol.championselector.manager;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AvatarManager的单元测试，用假解码器代替PNG解码
+ */
+class AvatarManagerTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private AvatarManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneDecode() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger decodes = new AtomicInteger();
+        Image decoded = new WritableImage(4, 4);
+        manager = newManager(key -> {
+            decodes.incrementAndGet();
+            await(release);
+            return decoded;
+        });
+
+        CompletableFuture<Image> grid = manager.getAvatarAsync("Ahri");
+        CompletableFuture<Image> queue = manager.getAvatarAsync("Ahri");
+        release.countDown();
+
+        assertSame(decoded, grid.get(5, TimeUnit.SECONDS));
+        assertSame(decoded, queue.get(5, TimeUnit.SECONDS));
+        assertSame(decoded, manager.getAvatarAsync("Ahri").get(5, TimeUnit.SECONDS));
+        assertEquals(1, decodes.get());
+
+        AvatarManager.CacheStats stats = manager.getCacheStats();
+        assertEquals(1, stats.missCount);
+        assertEquals(2, stats.hitCount);
+        assertEquals(1, stats.loadCount);
+        assertEquals(0, stats.loadFailureCount);
+    }
+
+    @Test
+    void testEachRenderSizeIsCachedSeparately() throws Exception {
+        List<Integer> requestedSizes = new CopyOnWriteArrayList<>();
+        manager = new AvatarManager(cacheDir, new AvatarAtlas(cacheDir), (key, size) -> {
+            requestedSizes.add(size);
+            return new WritableImage(Math.max(1, size), Math.max(1, size));
+        });
+
+        Image grid = manager.getAvatarAsync("Ahri", AvatarAtlas.GRID_SIZE).get(5, TimeUnit.SECONDS);
+        Image queue = manager.getAvatarAsync("Ahri", AvatarAtlas.QUEUE_SIZE).get(5, TimeUnit.SECONDS);
+        assertEquals(AvatarAtlas.GRID_SIZE, grid.getWidth());
+        assertEquals(AvatarAtlas.QUEUE_SIZE, queue.getWidth());
+        assertSame(queue, manager.getAvatarAsync("Ahri", AvatarAtlas.QUEUE_SIZE).get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(AvatarAtlas.GRID_SIZE, AvatarAtlas.QUEUE_SIZE), requestedSizes);
+
+        // 缓存按实际像素计重
+        long expectedWeight = 4L * (AvatarAtlas.GRID_SIZE * AvatarAtlas.GRID_SIZE
+                                    + AvatarAtlas.QUEUE_SIZE * AvatarAtlas.QUEUE_SIZE);
+        assertEquals(expectedWeight, manager.getCacheStats().estimatedMemoryUsage);
+    }
+
+    @Test
+    void testFailedLoadFallsBackToDefaultAndIsRetried() throws Exception {
+        // 本地缓存文件损坏，避免测试访问网络
+        Files.write(cacheDir.resolve("Ahri.png"), new byte[]{1, 2, 3});
+        AtomicInteger decodes = new AtomicInteger();
+        manager = newManager(key -> {
+            decodes.incrementAndGet();
+            return null;
+        });
+
+        assertSame(manager.getDefaultImage(), manager.getAvatarAsync("Ahri").get(5, TimeUnit.SECONDS));
+        assertSame(manager.getDefaultImage(), manager.getAvatarAsync("Ahri").get(5, TimeUnit.SECONDS));
+        assertEquals(2, decodes.get(), "Failures must not be cached");
+        assertEquals(2, manager.getCacheStats().loadFailureCount);
+    }
+
+    @Test
+    void testVisibleChampionsAreDecodedFirst() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        Map<String, Boolean> blockers = new ConcurrentHashMap<>();
+        manager = newManager(key -> {
+            if (blockers.containsKey(key)) {
+                await(release);
+            } else {
+                order.add(key);
+            }
+            return new WritableImage(1, 1);
+        });
+
+        // 占满所有解码线程
+        String[] busyKeys = {"Aatrox", "Akali", "Akshan", "Alistar", "Amumu", "Anivia", "Annie", "Ashe"};
+        List<CompletableFuture<Image>> futures = new ArrayList<>();
+        for (int i = 0; i < AvatarManager.DECODE_THREADS; i++) {
+            blockers.put(busyKeys[i], true);
+            futures.add(manager.getAvatarAsync(busyKeys[i]));
+        }
+        Thread.sleep(100);
+
+        for (String key : List.of("Garen", "Jinx", "Zed")) {
+            futures.add(manager.getAvatarAsync(key));
+        }
+        manager.setVisibleChampions(List.of("Zed"));
+        release.countDown();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertEquals("Zed", order.get(0));
+        assertEquals(List.of("Zed", "Garen", "Jinx"), order);
+    }
+
+    private AvatarManager newManager(Function<String, Image> decoder) {
+        return new AvatarManager(cacheDir, new AvatarAtlas(cacheDir), (key, size) -> decoder.apply(key));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.lol.championselector.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedExecutor的单元测试：并发上限、串行顺序、关闭只影响视图本身，以及共享线程池的指标
+ */
+class BoundedExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testConcurrencyIsLimited() throws Exception {
+        BoundedExecutor view = new BoundedExecutor(pool, 2, new ConcurrentLinkedQueue<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            view.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get(), "The view must never exceed its limit even though the pool has 8 threads");
+    }
+
+    @Test
+    void testSerialViewKeepsSubmissionOrder() throws Exception {
+        BoundedExecutor serial = new BoundedExecutor(pool, 1, new ConcurrentLinkedQueue<>());
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            expected.add(value);
+            serial.execute(() -> order.add(value));
+        }
+        serial.shutdown();
+
+        assertTrue(serial.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(expected, order);
+    }
+
+    @Test
+    void testShutdownNowReturnsPendingAndLeavesPoolRunning() throws Exception {
+        BoundedExecutor view = new BoundedExecutor(pool, 1, new ConcurrentLinkedQueue<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        view.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        view.execute(() -> { });
+        view.execute(() -> { });
+
+        assertEquals(2, view.shutdownNow().size());
+        assertThrows(RejectedExecutionException.class, () -> view.execute(() -> { }));
+        assertFalse(view.isTerminated(), "The running task is not interrupted");
+
+        release.countDown();
+        assertTrue(view.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(pool.isShutdown());
+        assertEquals("ok", pool.submit(() -> "ok").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSharedPoolsReportLatencyMetrics() throws Exception {
+        ResourceManager resources = ResourceManager.getInstance();
+        long completedBefore = resources.getExecutorMetrics(ResourceManager.Role.DECODE).completedTasks;
+
+        BoundedExecutor view = resources.newBoundedExecutor(ResourceManager.Role.DECODE, 1);
+        CountDownLatch done = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            view.execute(() -> {
+                sleep(5);
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        view.shutdown();
+        assertTrue(view.awaitTermination(5, TimeUnit.SECONDS));
+
+        // 线程池在任务返回后才计入completed
+        ResourceManager.ExecutorMetrics metrics = resources.getExecutorMetrics(ResourceManager.Role.DECODE);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (metrics.completedTasks < completedBefore + 5 && System.currentTimeMillis() < deadline) {
+            sleep(10);
+            metrics = resources.getExecutorMetrics(ResourceManager.Role.DECODE);
+        }
+        assertEquals(ResourceManager.Role.DECODE, metrics.role);
+        assertTrue(metrics.completedTasks >= completedBefore + 5);
+        assertTrue(metrics.poolSize <= ResourceManager.DECODE_THREADS);
+        assertTrue(metrics.maxLatencyMillis >= metrics.averageLatencyMillis);
+        assertEquals(ResourceManager.Role.values().length, resources.getAllExecutorMetrics().size());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
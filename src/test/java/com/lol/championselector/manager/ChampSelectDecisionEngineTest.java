@@ -0,0 +1,147 @@
+package com.lol.championselector.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.lol.championselector.config.AutoAcceptConfig;
+import com.lol.championselector.lcu.LCUMonitor;
+import com.lol.championselector.model.ChampionIdSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChampSelectDecisionEngine的单元测试：引擎自己选择英雄并向模拟的LCUMonitor发出ban/pick，无需JavaFX
+ */
+class ChampSelectDecisionEngineTest {
+
+    private static final int JINX = 222;
+    private static final int KATARINA = 55;
+
+    private AutoAcceptConfig.ChampionSelectConfig config;
+    private LCUMonitor lcuMonitor;
+    private ChampSelectDecisionEngine engine;
+    private final BlockingQueue<ChampSelectDecisionEngine.ActionOutcome> outcomes = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ChampSelectDecisionEngine.ChampSelectView> views = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> statuses = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> detectedPositions = new LinkedBlockingQueue<>();
+    private ObjectNode session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = new AutoAcceptConfig.ChampionSelectConfig();
+        config.setAutoPickEnabled(true);
+        config.setSimpleBanDelaySeconds(1);
+
+        lcuMonitor = mock(LCUMonitor.class);
+        when(lcuMonitor.isConnected()).thenReturn(true);
+        when(lcuMonitor.getRemainingTimeInPhase()).thenReturn(CompletableFuture.completedFuture(5));
+        when(lcuMonitor.getPlayerPosition()).thenReturn(CompletableFuture.completedFuture("middle"));
+        when(lcuMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
+        when(lcuMonitor.getPickedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
+        when(lcuMonitor.banChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
+        when(lcuMonitor.pickChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
+
+        engine = new ChampSelectDecisionEngine(new DraftPickEngine(), new SmartChampionSelector(), lcuMonitor, () -> config);
+        engine.setSecondMillis(1);
+        engine.setOnActionCompleted(outcomes::add);
+        engine.setOnViewUpdated(views::add);
+        engine.setOnStatus(statuses::add);
+        engine.setOnPositionDetected(detectedPositions::add);
+        try (InputStream in = getClass().getResourceAsStream("/lcu/champ-select-session.json")) {
+            session = (ObjectNode) new ObjectMapper().readTree(in);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void testPicksOnceAndPublishesView() throws Exception {
+        engine.submitSession(session);
+
+        ChampSelectDecisionEngine.ActionOutcome outcome = outcomes.poll(5, TimeUnit.SECONDS);
+        assertNotNull(outcome);
+        assertEquals(ChampSelectDecisionEngine.ActionType.PICK, outcome.getType());
+        assertTrue(outcome.isSuccess());
+        assertEquals(16, outcome.getActionId());
+        verify(lcuMonitor).pickChampion(JINX, 16);
+        verify(lcuMonitor, never()).banChampion(anyInt(), anyInt());
+        assertTrue(statuses.stream().anyMatch(status -> status.startsWith("✓")), "Success should be reported as status text");
+
+        ChampSelectDecisionEngine.ChampSelectView view = views.poll(5, TimeUnit.SECONDS);
+        assertNotNull(view);
+        assertEquals(16, view.getCurrentActionId());
+        assertEquals(10, view.getBannedChampions().size());
+        assertTrue(view.getTeammateHoveredChampions().contains(22));
+        assertThrows(UnsupportedOperationException.class, () -> view.getPickedChampions().add(1));
+
+        // 已成功的action不再重复pick
+        engine.submitSession(session.deepCopy());
+        assertNotNull(views.poll(5, TimeUnit.SECONDS));
+        assertNull(outcomes.poll(200, TimeUnit.MILLISECONDS));
+        verify(lcuMonitor, times(1)).pickChampion(anyInt(), anyInt());
+    }
+
+    @Test
+    void testFailedPickIsRetriedUntilLimitWithoutSessionChange() throws Exception {
+        when(lcuMonitor.pickChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(false));
+        engine.submitSession(session);
+
+        // 不提交新的session：引擎用缓存的session自行重试，每次失败只重试一次
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            ChampSelectDecisionEngine.ActionOutcome outcome = outcomes.poll(5, TimeUnit.SECONDS);
+            assertNotNull(outcome, "Attempt " + attempt + " should reach the client");
+            assertFalse(outcome.isSuccess());
+        }
+        assertNull(outcomes.poll(1, TimeUnit.SECONDS), "Retry limit should stop further attempts");
+        verify(lcuMonitor, times(3)).pickChampion(JINX, 16);
+    }
+
+    @Test
+    void testBanSkipsBannedChampionsInDetectedPositionQueue() throws Exception {
+        config.setAutoBanEnabled(true);
+        ((ObjectNode) ((ArrayNode) session.path("actions").get(4)).get(1)).put("type", "ban");
+        // 亚索、劫已被ban，中路队列的下一个是卡特琳娜
+        when(lcuMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(ChampionIdSet.of(157, 238)));
+        engine.submitSession(session);
+
+        ChampSelectDecisionEngine.ActionOutcome outcome = outcomes.poll(5, TimeUnit.SECONDS);
+        assertNotNull(outcome);
+        assertEquals(ChampSelectDecisionEngine.ActionType.BAN, outcome.getType());
+        assertTrue(outcome.isSuccess());
+        assertEquals("middle", detectedPositions.poll(1, TimeUnit.SECONDS));
+        verify(lcuMonitor).banChampion(KATARINA, 16);
+        verify(lcuMonitor, never()).pickChampion(anyInt(), anyInt());
+    }
+
+    @Test
+    void testDisabledAutoPickAndReset() throws Exception {
+        config.setAutoPickEnabled(false);
+        engine.submitSession(session);
+
+        assertNotNull(views.poll(5, TimeUnit.SECONDS));
+        assertNull(outcomes.poll(100, TimeUnit.MILLISECONDS));
+        verify(lcuMonitor, never()).pickChampion(anyInt(), anyInt());
+
+        // 离开英雄选择后，同一action可以重新处理
+        config.setAutoPickEnabled(true);
+        engine.reset();
+        engine.submitSession(session);
+        assertNotNull(outcomes.poll(5, TimeUnit.SECONDS));
+        verify(lcuMonitor).pickChampion(eq(JINX), eq(16));
+    }
+}
@@ -0,0 +1,90 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.config.AutoAcceptConfig;
+import com.lol.championselector.model.Champion;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChampionCatalog的单元测试，覆盖内置目录的查找和二进制格式的读写
+ */
+class ChampionCatalogTest {
+
+    @Test
+    void testBundledCatalogLookups() {
+        ChampionCatalog catalog = ChampionCatalog.getInstance();
+        assertTrue(catalog.size() > 150, "Bundled catalog should contain the full roster");
+
+        int ahri = catalog.indexOfKey("Ahri");
+        assertEquals(103, catalog.getId(ahri));
+        assertEquals(ahri, catalog.indexOfId(103));
+        assertEquals("阿狸", catalog.getChampion(ahri).getNameCn());
+        assertEquals(ChampionCatalog.ROLE_MIDDLE, catalog.getRoles(ahri));
+
+        // 忽略大小写、标点，并接受英文名
+        assertEquals(145, catalog.findIdByKey("kai'sa"));
+        assertEquals(62, catalog.findIdByKey("Wukong"));
+        assertEquals("MonkeyKing", catalog.findKeyById(62));
+
+        assertEquals(-1, catalog.indexOfId(99999));
+        assertEquals(-1, catalog.indexOfId(-1));
+        assertNull(catalog.findIdByKey("NotAChampion"));
+        assertNull(catalog.findById(0));
+    }
+
+    @Test
+    void testRoundTripsThroughBinaryFormat() throws IOException {
+        List<Champion> champions = List.of(
+            new Champion("Thresh", "412", "Thresh", "锤石", List.of("辅助", "魂锁典狱长"), "魂锁典狱长", List.of("Support")),
+            new Champion("Ezreal", "81", "Ezreal", "伊泽瑞尔", List.of("adc", "射手"), "探险家", List.of("Marksman", "Mage"))
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChampionCatalog.write("1.2.3", champions, out);
+
+        ChampionCatalog catalog = ChampionCatalog.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("1.2.3", catalog.getVersion());
+        assertEquals(2, catalog.size());
+
+        Champion ezreal = catalog.findById(81);
+        assertEquals("伊泽瑞尔", ezreal.getNameCn());
+        assertEquals("探险家", ezreal.getTitle());
+        assertEquals(List.of("adc", "射手"), ezreal.getKeywords());
+        assertEquals(List.of("Marksman", "Mage"), ezreal.getTags());
+        assertEquals(ChampionCatalog.ROLE_BOTTOM, catalog.getRoles(catalog.indexOfKey("Ezreal")));
+        assertEquals(ChampionCatalog.ROLE_UTILITY, catalog.getRoles(catalog.indexOfId(412)));
+    }
+
+    @Test
+    void testWritesChampionWithoutKey() throws IOException {
+        List<Champion> champions = List.of(
+            new Champion(null, "1", "Annie", "安妮", null, null, null)
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChampionCatalog.write("1.2.3", champions, out);
+
+        ChampionCatalog catalog = ChampionCatalog.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("安妮", catalog.findById(1).getNameCn());
+    }
+
+    @Test
+    void testRejectsOtherFiles() {
+        assertThrows(IOException.class, () -> ChampionCatalog.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})));
+    }
+
+    @Test
+    void testAutoAcceptConfigResolvesIdsFromCatalog() {
+        AutoAcceptConfig.ChampionInfo info = new AutoAcceptConfig.ChampionInfo("Jinx", "金克丝", "暴走萝莉");
+        assertEquals(222, info.getChampionId());
+
+        AutoAcceptConfig.ChampionInfo legacy = new AutoAcceptConfig.ChampionInfo();
+        legacy.setKey("drmundo");
+        legacy.ensureChampionId();
+        assertEquals(36, legacy.getChampionId());
+    }
+}
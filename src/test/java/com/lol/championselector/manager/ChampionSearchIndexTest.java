@@ -0,0 +1,105 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.model.Champion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChampionSearchIndex的单元测试，覆盖排序、拼音首字母和与线性扫描结果的一致性
+ */
+class ChampionSearchIndexTest {
+
+    private static final List<Champion> ROSTER = List.of(
+        champion("MasterYi", "Master Yi", "易", "无极剑圣", "打野", "Fighter"),
+        champion("Yasuo", "Yasuo", "亚索", "疾风剑豪", "中单", "Fighter"),
+        champion("Yone", "Yone", "永恩", "封魔剑魂", "中单", "Assassin"),
+        champion("KaiSa", "Kai'Sa", "卡莎", "虚空之女", "ADC", "Marksman"),
+        champion("Jax", "Jax", "贾克斯", "武器大师", "上单", "Fighter")
+    );
+
+    @Test
+    void testRanksExactThenPrefixThenSubstring() {
+        ChampionSearchIndex index = ChampionSearchIndex.build(ROSTER);
+
+        // "y"是"易"的拼音首字母（完全匹配），Yasuo和Yone前缀匹配
+        assertEquals(List.of("MasterYi", "Yasuo", "Yone"), keys(index.search("y")));
+        // "a"：assassin、adc前缀匹配排在其他包含匹配之前
+        assertEquals(List.of("Yone", "KaiSa", "MasterYi", "Yasuo", "Jax"), keys(index.search("a")));
+        // "剑"：三个称号都包含，保持原有顺序
+        assertEquals(List.of("MasterYi", "Yasuo", "Yone"), keys(index.search("剑")));
+        assertEquals(List.of("Yasuo"), keys(index.search("YA")));
+    }
+
+    @Test
+    void testNormalizesPunctuationCaseAndPinyin() {
+        ChampionSearchIndex index = ChampionSearchIndex.build(ROSTER);
+
+        assertEquals(List.of("KaiSa"), keys(index.search("kai'sa")));
+        assertEquals(List.of("KaiSa"), keys(index.search(" Kai Sa ")));
+        assertEquals(List.of("Yasuo"), keys(index.search("jfjh")));
+        assertEquals(List.of("Jax"), keys(index.search("wqds")));
+        assertTrue(index.search("zzz").isEmpty());
+        assertEquals(ROSTER.size(), index.search("  ").size());
+
+        assertEquals("ytks", ChampionSearchIndex.pinyinInitials("亚托克斯"));
+        assertEquals("kss", ChampionSearchIndex.pinyinInitials("卡莎·S"));
+        assertEquals("", ChampionSearchIndex.pinyinInitials("Ahri"));
+    }
+
+    @Test
+    void testSuggestionsArePrefixMatchesIncludingPinyin() {
+        ChampionSearchIndex index = ChampionSearchIndex.build(ROSTER);
+
+        assertEquals(List.of("易", "Yasuo"), index.suggest("y", 2));
+        assertEquals(List.of("亚索"), index.suggest("ys", 10));
+        assertTrue(index.suggest("", 10).isEmpty());
+    }
+
+    @Test
+    void testMatchesLinearScanOnRealRoster() {
+        ChampionDataManager dataManager = new ChampionDataManager();
+        List<Champion> all = dataManager.getAllChampions();
+        ChampionSearchIndex index = ChampionSearchIndex.build(all);
+
+        for (String query : List.of("a", "ah", "ahr", "ahri", "阿", "阿狸", "中单", "mage", "剑", "ys", "ysuo", "kai'sa", "lee s")) {
+            String normalized = ChampionSearchIndex.normalize(query);
+            List<String> expected = all.stream()
+                .filter(champion -> containsQuery(champion, normalized))
+                .map(Champion::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+            List<String> actual = keys(index.search(query)).stream().sorted().collect(Collectors.toList());
+            assertEquals(expected, actual, "Query: " + query);
+        }
+
+        // 完全匹配的英雄排在第一位
+        assertEquals("Ahri", dataManager.searchChampions("阿狸").get(0).getKey());
+        assertEquals("Yasuo", dataManager.searchChampions("yasuo").get(0).getKey());
+        assertTrue(dataManager.getSearchSuggestions("阿").contains("阿狸"));
+    }
+
+    private static boolean containsQuery(Champion champion, String query) {
+        if (ChampionSearchIndex.normalize(champion.getNameCn()).contains(query)
+                || ChampionSearchIndex.normalize(champion.getNameEn()).contains(query)
+                || ChampionSearchIndex.normalize(champion.getKey()).contains(query)
+                || ChampionSearchIndex.normalize(champion.getTitle()).contains(query)
+                || ChampionSearchIndex.pinyinInitials(champion.getNameCn()).contains(query)
+                || ChampionSearchIndex.pinyinInitials(champion.getTitle()).contains(query)) {
+            return true;
+        }
+        return champion.getKeywords().stream().anyMatch(k -> ChampionSearchIndex.normalize(k).contains(query))
+            || champion.getTags().stream().anyMatch(t -> ChampionSearchIndex.normalize(t).contains(query));
+    }
+
+    private static List<String> keys(List<Champion> champions) {
+        return champions.stream().map(Champion::getKey).collect(Collectors.toList());
+    }
+
+    private static Champion champion(String key, String nameEn, String nameCn, String title, String keyword, String tag) {
+        return new Champion(key, "0", nameEn, nameCn, List.of(keyword, nameCn), title, List.of(tag));
+    }
+}
@@ -0,0 +1,144 @@
+package com.lol.championselector.manager;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CommunityDragonSyncManager的单元测试：流式提取技能数据，以及按补丁版本和内容哈希的增量同步
+ */
+class CommunityDragonSyncManagerTest {
+
+    private static final String AATROX = "{"
+        + "\"Characters/Aatrox/Skins/Skin0\":{\"skinClassification\":1,\"mDamageTint\":[1,2,3]},"
+        + "\"Characters/Aatrox/Spells/AatroxQAbility/AatroxQ\":{\"mSpell\":{"
+        + "\"mDataValues\":[{\"mName\":\"QDamage\",\"mValues\":[0,10,30,50,70,90,110]}],"
+        + "\"DamageRatio\":[0.6,0.65]}},"
+        + "\"AatroxCooldown\":[14,12,10,8,6],"
+        + "\"AatroxManaCost\":\"0/0/0\","
+        + "\"AatroxCastRange\":650}";
+
+    @TempDir
+    Path dataDir;
+
+    private MockWebServer server;
+    private final AtomicReference<String> patch = new AtomicReference<>("15.14.1");
+    private final Map<String, String> characters = new ConcurrentHashMap<>();
+    private final Map<String, Integer> characterRequests = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        characters.put("aatrox", AATROX);
+        characters.put("ahri", AATROX.replace("Aatrox", "Ahri"));
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if ("/content-metadata.json".equals(path)) {
+                    return new MockResponse().setBody("{\"version\":\"" + patch.get() + "\"}");
+                }
+                for (Map.Entry<String, String> entry : characters.entrySet()) {
+                    String key = entry.getKey();
+                    if (("/game/data/characters/" + key + "/" + key + ".bin.json").equals(path)) {
+                        characterRequests.merge(key, 1, Integer::sum);
+                        return new MockResponse().setBody(entry.getValue());
+                    }
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    private CommunityDragonSyncManager newManager() {
+        return new CommunityDragonSyncManager("http://127.0.0.1:" + server.getPort() + "/", dataDir.toString(), 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamingExtractionSkipsUnrelatedEntries() {
+        CommunityDragonSyncManager manager = newManager();
+        try {
+            Map<String, Object> skillData = manager.extractSkillData(stream(AATROX), "Aatrox");
+
+            Map<String, List<Double>> damage = (Map<String, List<Double>>) skillData.get("damageData");
+            String spell = "Characters/Aatrox/Spells/AatroxQAbility/AatroxQ";
+            assertEquals(List.of(0.6, 0.65), damage.get(spell + "_DamageRatio"));
+            assertTrue(damage.keySet().stream().noneMatch(key -> key.contains("Skins")));
+
+            assertEquals(List.of(14.0, 12.0, 10.0, 8.0, 6.0),
+                ((Map<String, List<Double>>) skillData.get("cooldownData")).get("AatroxCooldown"));
+            assertEquals(List.of(0.0, 0.0, 0.0),
+                ((Map<String, List<Double>>) skillData.get("costData")).get("AatroxManaCost"));
+            assertEquals(List.of(650.0),
+                ((Map<String, List<Double>>) skillData.get("rangeData")).get("AatroxCastRange"));
+
+            assertTrue(manager.extractSkillData(stream("[1,2]"), "Broken").isEmpty());
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    void testIncrementalSyncOnlyRewritesChangedCharacters() throws Exception {
+        List<String> champions = List.of("Aatrox", "Ahri");
+        Path aatroxFile = dataDir.resolve("Aatrox_community.json");
+        Path ahriFile = dataDir.resolve("Ahri_community.json");
+
+        CommunityDragonSyncManager first = newManager();
+        assertTrue(first.syncChampions(champions));
+        first.shutdown();
+        assertTrue(Files.exists(aatroxFile));
+        assertTrue(Files.exists(ahriFile));
+        String aatroxBefore = Files.readString(aatroxFile);
+
+        // 同一补丁：只请求版本信息
+        int requests = server.getRequestCount();
+        CommunityDragonSyncManager second = newManager();
+        assertTrue(second.syncChampions(champions));
+        second.shutdown();
+        assertEquals(requests + 1, server.getRequestCount());
+
+        // 新补丁只改了Ahri：Aatrox哈希不变，不重写
+        patch.set("15.15.1");
+        characters.put("ahri", characters.get("ahri").replace("650", "700"));
+        CommunityDragonSyncManager third = newManager();
+        try {
+            assertTrue(third.syncChampions(champions));
+        } finally {
+            third.shutdown();
+        }
+        assertEquals(2, characterRequests.get("aatrox"));
+        assertEquals(aatroxBefore, Files.readString(aatroxFile));
+        assertTrue(Files.readString(ahriFile).contains("700.0"));
+        assertTrue(Files.readString(dataDir.resolve("sync_state.json")).contains("15.15.1"));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
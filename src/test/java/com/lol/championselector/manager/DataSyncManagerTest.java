@@ -0,0 +1,167 @@
+package com.lol.championselector.manager;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DataSyncManager的单元测试：使用本地模拟的Data Dragon验证并发下载、条件请求、版本跳过和旧校验值清理
+ */
+class DataSyncManagerTest {
+
+    private static final List<String> CHAMPIONS = List.of("Ahri", "Annie", "Ashe", "Garen", "Jinx", "Lux");
+    private static final int MAX_CONCURRENT = 3;
+
+    @TempDir
+    Path dataDir;
+
+    private MockWebServer server;
+    private final AtomicInteger detailDownloads = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        StringBuilder list = new StringBuilder("{\"data\":{");
+        for (int i = 0; i < CHAMPIONS.size(); i++) {
+            list.append(i > 0 ? "," : "").append('"').append(CHAMPIONS.get(i))
+                .append("\":{\"id\":\"").append(CHAMPIONS.get(i)).append("\"}");
+        }
+        String championList = list.append("}}").toString();
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                String path = request.getPath();
+                if ("/api/versions.json".equals(path)) {
+                    return new MockResponse().setBody("[\"15.14.1\",\"15.13.1\"]");
+                }
+                if ("/cdn/15.14.1/data/zh_CN/champion.json".equals(path)) {
+                    return new MockResponse().setBody(championList).setHeader("ETag", "\"list\"");
+                }
+                if (path != null && path.startsWith("/cdn/15.14.1/data/zh_CN/champion/")) {
+                    String key = path.substring(path.lastIndexOf('/') + 1, path.length() - 5);
+                    String etag = "\"" + key + "-v1\"";
+                    if (etag.equals(request.getHeader("If-None-Match"))) {
+                        notModified.incrementAndGet();
+                        return new MockResponse().setResponseCode(304);
+                    }
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(100);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    detailDownloads.incrementAndGet();
+                    return new MockResponse().setHeader("ETag", etag)
+                        .setBody("{\"data\":{\"" + key + "\":{\"id\":\"" + key + "\"}}}");
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    private DataSyncManager newManager() {
+        return new DataSyncManager("http://127.0.0.1:" + server.getPort(), dataDir.toString(), MAX_CONCURRENT);
+    }
+
+    @Test
+    void testParallelSyncWithBoundedConcurrency() {
+        DataSyncManager manager = newManager();
+        try {
+            long started = System.nanoTime();
+            assertTrue(manager.syncChampionData());
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            assertEquals(CHAMPIONS.size(), detailDownloads.get());
+            assertTrue(maxInFlight.get() <= MAX_CONCURRENT, "Concurrency limit exceeded: " + maxInFlight.get());
+            assertTrue(maxInFlight.get() > 1, "Details should be fetched in parallel");
+            // 旧实现串行下载且每个请求后等待100ms
+            assertTrue(elapsedMs < CHAMPIONS.size() * 200L, "Sync took " + elapsedMs + " ms");
+
+            assertTrue(Files.exists(dataDir.resolve("skills/Jinx.json")));
+            assertTrue(Files.exists(dataDir.resolve("http_validators.json")));
+            assertEquals("15.14.1", manager.getDataVersion());
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    void testUnchangedVersionSkipsDownloads() throws Exception {
+        DataSyncManager first = newManager();
+        assertTrue(first.syncChampionData());
+        first.shutdown();
+        int requestsAfterFirstSync = server.getRequestCount();
+
+        DataSyncManager second = newManager();
+        try {
+            assertTrue(second.syncChampionData());
+            // 只请求了版本列表
+            assertEquals(requestsAfterFirstSync + 1, server.getRequestCount());
+        } finally {
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void testResyncUsesConditionalRequests() throws Exception {
+        DataSyncManager first = newManager();
+        assertTrue(first.syncChampionData());
+        first.shutdown();
+
+        // 删除版本文件，强制重新同步；校验值已持久化，详情文件应全部返回304
+        Files.delete(dataDir.resolve("version.txt"));
+        String jinxBefore = Files.readString(dataDir.resolve("skills/Jinx.json"));
+
+        DataSyncManager second = newManager();
+        try {
+            assertTrue(second.syncChampionData());
+            assertEquals(CHAMPIONS.size(), detailDownloads.get(), "No detail should be downloaded twice");
+            assertEquals(CHAMPIONS.size(), notModified.get());
+            assertEquals(jinxBefore, Files.readString(dataDir.resolve("skills/Jinx.json")));
+            assertEquals("15.14.1", second.getDataVersion());
+        } finally {
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void testValidatorsOfOldVersionsArePruned() throws Exception {
+        String base = "http://127.0.0.1:" + server.getPort();
+        Files.writeString(dataDir.resolve("http_validators.json"),
+            "{\"" + base + "/cdn/15.13.1/data/zh_CN/champion/Ahri.json\":{\"etag\":\"\\\"old\\\"\"}}");
+
+        DataSyncManager manager = newManager();
+        try {
+            assertTrue(manager.syncChampionData());
+        } finally {
+            manager.shutdown();
+        }
+
+        String validators = Files.readString(dataDir.resolve("http_validators.json"));
+        assertFalse(validators.contains("/cdn/15.13.1/"), "Validators of an old version must be dropped");
+        assertTrue(validators.contains("/cdn/15.14.1/data/zh_CN/champion/Jinx.json"));
+    }
+}
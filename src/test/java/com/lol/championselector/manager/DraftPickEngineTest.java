@@ -0,0 +1,138 @@
+package com.lol.championselector.manager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DraftPickEngine增量分析的单元测试
+ */
+class DraftPickEngineTest {
+
+    private ObjectMapper objectMapper;
+    private DraftPickEngine engine;
+    private ObjectNode session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        engine = new DraftPickEngine();
+        try (InputStream in = getClass().getResourceAsStream("/lcu/champ-select-session.json")) {
+            session = (ObjectNode) objectMapper.readTree(in);
+        }
+    }
+
+    @Test
+    void testIncrementalMatchesFullAnalysis() {
+        DraftPickEngine.DraftAnalysis full = engine.analyzeDraftSession(session, 2);
+        DraftPickEngine.DraftAnalysis incremental = engine.updateDraftSession(session, 2);
+
+        assertAnalysisEquals(full, incremental);
+        assertEquals(10, incremental.getBannedChampions().size());
+        assertTrue(incremental.isBanned(157));
+        assertTrue(incremental.getBannedChampions().contains(157));
+        assertTrue(incremental.isPicked(266));
+        assertFalse(incremental.isPicked(157));
+        assertEquals(2, incremental.getCurrentPlayerAction().getActorCellId());
+        assertTrue(incremental.getCurrentPlayerAction().isAllyTurn());
+    }
+
+    @Test
+    void testAppliesOnlyChangedActions() {
+        DraftPickEngine.DraftAnalysis first = engine.updateDraftSession(session, 2);
+
+        // 计时器变化不应产生新的action对象
+        ((ObjectNode) session.path("timer")).put("adjustedTimeLeftInPhase", 12000);
+        DraftPickEngine.DraftAnalysis unchanged = engine.updateDraftSession(session, 2);
+        assertSame(first.getCurrentPlayerAction(), unchanged.getCurrentPlayerAction());
+        assertSame(first.getPhases().get(0), unchanged.getPhases().get(0));
+
+        // 本地玩家锁定英雄
+        ObjectNode localAction = findAction(session, 2);
+        localAction.put("championId", 99).put("completed", true).put("isInProgress", false);
+        DraftPickEngine.DraftAnalysis locked = engine.updateDraftSession(session, 2);
+
+        assertNull(locked.getCurrentPlayerAction());
+        assertTrue(locked.isPicked(99));
+        assertEquals(99, locked.getPlayerChampions().get(2));
+        assertSame(first.getPhases().get(0), locked.getPhases().get(0), "Untouched ban phase should be reused");
+        assertFalse(first.isPicked(99), "Earlier analysis snapshots must stay immutable");
+        assertAnalysisEquals(engine.analyzeDraftSession(session, 2), locked);
+    }
+
+    @Test
+    void testNewGameResetsState() {
+        engine.updateDraftSession(session, 2);
+
+        ObjectNode nextGame = session.deepCopy();
+        nextGame.put("gameId", 1);
+        for (JsonNode group : nextGame.path("actions")) {
+            for (JsonNode action : group) {
+                ((ObjectNode) action).put("championId", 0).put("completed", false);
+            }
+        }
+
+        DraftPickEngine.DraftAnalysis analysis = engine.updateDraftSession(nextGame, 2);
+        assertTrue(analysis.getBannedChampions().isEmpty());
+        assertTrue(analysis.getPickedChampions().isEmpty());
+        assertAnalysisEquals(engine.analyzeDraftSession(nextGame, 2), analysis);
+    }
+
+    @Test
+    void testTeamChangeWithSameSizesIsApplied() {
+        DraftPickEngine.DraftAnalysis first = engine.updateDraftSession(session, 2);
+        assertSame(first.getAlliedTeam(), engine.updateDraftSession(session, 2).getAlliedTeam());
+
+        // 意向英雄变化：队伍重建，但格子阵营不变
+        ((ObjectNode) session.path("myTeam").get(1)).put("championPickIntent", 103);
+        DraftPickEngine.DraftAnalysis intent = engine.updateDraftSession(session, 2);
+        assertNotSame(first.getAlliedTeam(), intent.getAlliedTeam());
+        assertEquals(first.getAlliedTeam(), intent.getAlliedTeam());
+        assertSame(first.getPhases().get(0), intent.getPhases().get(0));
+
+        // 队伍人数不变，但0号和5号格子互换了阵营
+        ((ObjectNode) session.path("myTeam").get(0)).put("cellId", 5);
+        ((ObjectNode) session.path("theirTeam").get(0)).put("cellId", 0);
+        DraftPickEngine.DraftAnalysis swapped = engine.updateDraftSession(session, 2);
+        assertTrue(swapped.getAlliedTeam().contains(5));
+        assertTrue(swapped.getEnemyTeam().contains(0));
+        assertAnalysisEquals(engine.analyzeDraftSession(session, 2), swapped);
+        for (DraftPickEngine.DraftPhase phase : swapped.getPhases()) {
+            for (DraftPickEngine.DraftAction action : phase.getActions()) {
+                assertEquals(swapped.getAlliedTeam().contains(action.getActorCellId()), action.isAllyTurn(),
+                             "Action of cell " + action.getActorCellId());
+            }
+        }
+    }
+
+    private static ObjectNode findAction(ObjectNode session, int actorCellId) {
+        for (JsonNode group : session.path("actions")) {
+            for (JsonNode action : group) {
+                if (action.path("actorCellId").asInt() == actorCellId && "pick".equals(action.path("type").asText())) {
+                    return (ObjectNode) action;
+                }
+            }
+        }
+        throw new AssertionError("No pick action for cell " + actorCellId);
+    }
+
+    private static void assertAnalysisEquals(DraftPickEngine.DraftAnalysis expected, DraftPickEngine.DraftAnalysis actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getBannedChampions(), actual.getBannedChampions());
+        assertEquals(expected.getPickedChampions(), actual.getPickedChampions());
+        assertEquals(expected.getPlayerChampions(), actual.getPlayerChampions());
+        assertEquals(expected.getAlliedTeam(), actual.getAlliedTeam());
+        assertEquals(expected.getEnemyTeam(), actual.getEnemyTeam());
+        assertEquals(expected.getPhases().size(), actual.getPhases().size());
+        for (int i = 0; i < expected.getPhases().size(); i++) {
+            assertEquals(expected.getPhases().get(i).toString(), actual.getPhases().get(i).toString());
+            assertEquals(expected.getPhases().get(i).getActions().toString(), actual.getPhases().get(i).getActions().toString());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.lol.championselector.manager;
+
+import com.lol.championselector.model.LogEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LogRingBuffer的单元测试：固定容量淘汰、增量筛选以及可见列表与缓冲区保持一致
+ */
+class LogRingBufferTest {
+
+    private static LogEntry entry(int i, String level) {
+        return new LogEntry(i, level, "com.lol.championselector.Test", "message " + i);
+    }
+
+    private static List<LogEntry> batch(int from, int to) {
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            entries.add(entry(i, i % 2 == 0 ? "INFO" : "DEBUG"));
+        }
+        return entries;
+    }
+
+    /**
+     * 按Delta维护一份"界面列表"，检查它始终等于缓冲区的可见记录
+     */
+    private static void applyDelta(List<LogEntry> view, LogRingBuffer.Delta delta) {
+        view.subList(0, delta.getRemovedFromHead()).clear();
+        view.addAll(delta.getAppended());
+    }
+
+    @Test
+    void testCapacityIsBounded() {
+        LogRingBuffer buffer = new LogRingBuffer(100);
+        List<LogEntry> view = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            applyDelta(view, buffer.append(batch(i * 7, i * 7 + 7)));
+        }
+
+        assertEquals(100, buffer.size());
+        assertEquals(350, buffer.getTotalAppended());
+        assertEquals(buffer.getVisibleEntries(), view);
+        assertEquals("message 250", view.get(0).getMessage());
+        assertEquals("message 349", view.get(view.size() - 1).getMessage());
+    }
+
+    @Test
+    void testIncrementalFilterOnlyEvaluatesNewEntries() {
+        LogRingBuffer buffer = new LogRingBuffer(10);
+        buffer.append(batch(0, 10));
+
+        AtomicInteger evaluations = new AtomicInteger();
+        Predicate<LogEntry> info = LogRingBuffer.filterOf("INFO", null);
+        List<LogEntry> view = new ArrayList<>(buffer.setFilter(entry -> {
+            evaluations.incrementAndGet();
+            return info.test(entry);
+        }));
+        assertEquals(5, view.size());
+        assertEquals(10, evaluations.get());
+
+        evaluations.set(0);
+        applyDelta(view, buffer.append(batch(10, 14)));
+        assertEquals(4, evaluations.get());
+        assertEquals(buffer.getVisibleEntries(), view);
+        assertTrue(view.stream().allMatch(entry -> "INFO".equals(entry.getLevel())));
+        assertEquals("message 4", view.get(0).getMessage());
+    }
+
+    @Test
+    void testBatchLargerThanCapacity() {
+        LogRingBuffer buffer = new LogRingBuffer(8);
+        List<LogEntry> view = new ArrayList<>();
+        applyDelta(view, buffer.append(batch(0, 5)));
+        applyDelta(view, buffer.append(batch(5, 30)));
+
+        assertEquals(buffer.getVisibleEntries(), view);
+        assertEquals(8, view.size());
+        assertEquals("message 22", view.get(0).getMessage());
+    }
+
+    @Test
+    void testSearchIsCaseInsensitive() {
+        LogRingBuffer buffer = new LogRingBuffer(16);
+        buffer.append(List.of(
+            new LogEntry(0, "INFO", null, "Accepted ready check"),
+            new LogEntry(0, "WARN", "com.lol.championselector.lcu.LCUMonitor", "Persistent failures"),
+            new LogEntry(0, "INFO", null, "Ban phase started")));
+
+        assertEquals(1, buffer.setFilter(LogRingBuffer.filterOf(null, "READY")).size());
+        // logger名称也参与搜索
+        assertEquals(1, buffer.setFilter(LogRingBuffer.filterOf(null, "lcumonitor")).size());
+        assertEquals(0, buffer.setFilter(LogRingBuffer.filterOf("WARN", "ready")).size());
+        assertEquals(3, buffer.setFilter(LogRingBuffer.filterOf(null, "  ")).size());
+
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.getVisibleSize());
+    }
+}
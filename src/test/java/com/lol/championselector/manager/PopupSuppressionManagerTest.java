@@ -2,12 +2,21 @@ package com.lol.championselector.manager;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lol.championselector.lcu.ChampSelectEvent;
+import com.lol.championselector.lcu.GamePhase;
+import com.lol.championselector.lcu.LCUConnection;
+import com.lol.championselector.lcu.LCUMonitor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
- * PopupSuppressionManager的单元测试
+ * PopupSuppressionManager的单元测试：session ID生成，以及基于LCUMonitor事件的单次抑制
  */
 public class PopupSuppressionManagerTest {
     
@@ -111,4 +120,81 @@ public class PopupSuppressionManagerTest {
         assertEquals(sessionId2, sessionId3);
         assertEquals("champselect_game_987654321", sessionId1);
     }
-}
\ No newline at end of file
+    
+    private LCUConnection mockConnection() {
+        LCUConnection connection = mock(LCUConnection.class);
+        when(connection.post(anyString(), any()))
+            .thenReturn(CompletableFuture.completedFuture(objectMapper.createObjectNode()));
+        return connection;
+    }
+    
+    private static ChampSelectEvent actionStarted(int actionId, String type, boolean local) {
+        return new ChampSelectEvent(ChampSelectEvent.Type.ACTION_STARTED, actionId, local ? 2 : 7, type, 0, local, null);
+    }
+    
+    @Test
+    void testChampSelectTransitionsMinimizeOncePerAction() {
+        LCUConnection connection = mockConnection();
+        PopupSuppressionManager manager = new PopupSuppressionManager(connection);
+        manager.setSuppressBanPhasePopup(true);
+        manager.setSuppressPickPhasePopup(true);
+        manager.startMonitoring();
+        manager.updateGamePhase(GamePhase.CHAMP_SELECT);
+        
+        manager.handleChampSelectEvent(new ChampSelectEvent(ChampSelectEvent.Type.SESSION_STARTED, -1, -1, null, 0, false, "42"));
+        manager.handleChampSelectEvent(actionStarted(1, "ban", true));
+        manager.handleChampSelectEvent(actionStarted(1, "ban", true));
+        manager.handleChampSelectEvent(actionStarted(2, "ban", false));
+        manager.handleChampSelectEvent(actionStarted(5, "pick", true));
+        verify(connection, times(2)).post("/riotclient/ux-minimize", null);
+        
+        // 新session中相同的action ID应重新抑制
+        manager.handleChampSelectEvent(new ChampSelectEvent(ChampSelectEvent.Type.SESSION_STARTED, -1, -1, null, 0, false, "43"));
+        manager.handleChampSelectEvent(actionStarted(1, "ban", true));
+        verify(connection, times(3)).post("/riotclient/ux-minimize", null);
+        
+        // 事件驱动，不应自行请求session或准备检查状态
+        verify(connection, never()).get(anyString());
+        manager.shutdown();
+    }
+    
+    @Test
+    void testReadyCheckMinimizesOncePerTransition() {
+        LCUConnection connection = mockConnection();
+        PopupSuppressionManager manager = new PopupSuppressionManager(connection);
+        manager.setSuppressReadyCheckPopup(true);
+        manager.startMonitoring();
+        
+        manager.handleReadyCheckChanged(true);
+        manager.handleReadyCheckChanged(true);
+        verify(connection, times(1)).post("/riotclient/ux-minimize", null);
+        
+        manager.handleReadyCheckChanged(false);
+        manager.handleReadyCheckChanged(true);
+        verify(connection, times(2)).post("/riotclient/ux-minimize", null);
+        
+        // 停止监控后忽略事件
+        manager.stopMonitoring();
+        manager.handleReadyCheckChanged(false);
+        manager.handleReadyCheckChanged(true);
+        verify(connection, times(2)).post("/riotclient/ux-minimize", null);
+        manager.shutdown();
+    }
+    
+    @Test
+    void testAttachSubscribesToMonitor() {
+        LCUMonitor monitor = mock(LCUMonitor.class);
+        when(monitor.getCurrentPhase()).thenReturn(GamePhase.LOBBY);
+        PopupSuppressionManager manager = new PopupSuppressionManager(mockConnection());
+        
+        manager.attachTo(monitor);
+        verify(monitor).addPhaseListener(any());
+        verify(monitor).addReadyCheckListener(any());
+        verify(monitor).addChampSelectEventListener(any());
+        
+        manager.shutdown();
+        verify(monitor).removePhaseListener(any());
+        verify(monitor).removeReadyCheckListener(any());
+        verify(monitor).removeChampSelectEventListener(any());
+    }
+}
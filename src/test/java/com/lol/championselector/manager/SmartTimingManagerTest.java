@@ -2,6 +2,7 @@ package com.lol.championselector.manager;
 
 import com.lol.championselector.config.AutoAcceptConfig;
 import com.lol.championselector.lcu.LCUMonitor;
+import com.lol.championselector.model.ChampionIdSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
@@ -11,7 +12,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.HashSet;
 
 /**
  * SmartTimingManager的单元测试
@@ -36,8 +36,8 @@ public class SmartTimingManagerTest {
         config.getChampionSelect().setUsePositionBasedSelection(false);
         
         // 设置默认的mock行为
-        when(lcuMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new HashSet<>()));
-        when(lcuMonitor.getPickedChampions()).thenReturn(CompletableFuture.completedFuture(new HashSet<>()));
+        when(lcuMonitor.getBannedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
+        when(lcuMonitor.getPickedChampions()).thenReturn(CompletableFuture.completedFuture(new ChampionIdSet()));
         when(lcuMonitor.getRemainingTimeInPhase()).thenReturn(CompletableFuture.completedFuture(5));
         when(lcuMonitor.hoverChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
         when(lcuMonitor.banChampion(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
@@ -0,0 +1,96 @@
+package com.lol.championselector.manager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ThumbnailCache的单元测试，校验持久化的缩略图尺寸以及原图变化后的失效
+ */
+class ThumbnailCacheTest {
+
+    @TempDir
+    Path thumbDir;
+
+    @Test
+    void testPersistsDownscaledVariantPerSize() throws Exception {
+        ThumbnailCache thumbnails = new ThumbnailCache(thumbDir);
+        byte[] original = png(120, 120);
+
+        thumbnails.create("Ahri", 24, 7L, original);
+        thumbnails.create("Ahri", 90, 7L, original);
+
+        assertTrue(thumbnails.exists("Ahri", 24, 7L));
+        assertTrue(thumbnails.exists("Ahri", 90, 7L));
+        assertFalse(thumbnails.exists("Ahri", 32, 7L));
+        assertEquals(24, ImageIO.read(thumbnails.thumbnailPath("Ahri", 24, 7L).toFile()).getWidth());
+        assertEquals(90, ImageIO.read(thumbnails.thumbnailPath("Ahri", 90, 7L).toFile()).getHeight());
+    }
+
+    @Test
+    void testKeepsAspectRatioAndSanitizesNames() throws Exception {
+        ThumbnailCache thumbnails = new ThumbnailCache(thumbDir);
+        thumbnails.create("skill_Ahri Q.png", 32, 0xabcL, png(128, 64));
+
+        Path file = thumbnails.thumbnailPath("skill_Ahri Q.png", 32, 0xabcL);
+        assertEquals("skill_Ahri_Q@32-abc.png", file.getFileName().toString());
+        BufferedImage thumbnail = ImageIO.read(file.toFile());
+        assertEquals(32, thumbnail.getWidth());
+        assertEquals(16, thumbnail.getHeight());
+    }
+
+    @Test
+    void testIgnoresUndecodableData() {
+        ThumbnailCache thumbnails = new ThumbnailCache(thumbDir);
+        assertNull(thumbnails.create("Broken", 24, 1L, new byte[]{1, 2, 3}));
+        assertNull(thumbnails.create("Missing", 24, 1L, null));
+        assertFalse(thumbnails.exists("Broken", 24, 1L));
+    }
+
+    @Test
+    void testChangedSourceMissesOldThumbnail(@TempDir Path sourceDir) throws Exception {
+        ThumbnailCache thumbnails = new ThumbnailCache(thumbDir);
+        Path source = sourceDir.resolve("Ahri.png");
+        Files.write(source, png(120, 120));
+        long before = ThumbnailCache.fingerprint(source);
+        thumbnails.create("Ahri", 24, before, Files.readAllBytes(source));
+        assertTrue(thumbnails.exists("Ahri", 24, before));
+
+        // 原图被替换：大小和修改时间都变了
+        Files.write(source, png(240, 120));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 5000));
+        long after = ThumbnailCache.fingerprint(source);
+        assertNotEquals(before, after);
+        assertFalse(thumbnails.exists("Ahri", 24, after));
+
+        thumbnails.create("Ahri", 24, after, Files.readAllBytes(source));
+        assertEquals(12, ImageIO.read(thumbnails.thumbnailPath("Ahri", 24, after).toFile()).getHeight());
+        try (Stream<Path> files = Files.list(thumbDir)) {
+            assertEquals(1, files.count(), "Thumbnail of the old source should be removed");
+        }
+    }
+
+    @Test
+    void testUnknownSourceIsNotPersisted() throws Exception {
+        ThumbnailCache thumbnails = new ThumbnailCache(thumbDir);
+        assertNotNull(thumbnails.create("Ahri", 24, ThumbnailCache.NO_SOURCE, png(120, 120)));
+        assertFalse(thumbnails.exists("Ahri", 24, ThumbnailCache.NO_SOURCE));
+        assertFalse(Files.exists(thumbDir.resolve("Ahri@24-ffffffffffffffff.png")));
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,77 @@
+package com.lol.championselector.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChampionIdSet的单元测试，覆盖位图的增删查、集合运算以及与Set&lt;Integer&gt;的互通
+ */
+class ChampionIdSetTest {
+
+    @Test
+    void testAddContainsAndRemove() {
+        ChampionIdSet set = ChampionIdSet.of(103, 1, 64, 63);
+        assertTrue(set.contains(103));
+        assertTrue(set.contains(Integer.valueOf(64)));
+        assertFalse(set.contains(2));
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains("103"));
+
+        // 0表示未选择，不会加入集合
+        assertFalse(set.add(0));
+        assertFalse(set.add(103));
+        assertEquals(4, set.size());
+
+        assertTrue(set.remove(64));
+        assertFalse(set.remove(64));
+        assertEquals(List.of(1, 63, 103), List.copyOf(set));
+    }
+
+    @Test
+    void testGrowsBeyondDefaultCapacity() {
+        ChampionIdSet set = new ChampionIdSet();
+        set.add(2500);
+        assertTrue(set.contains(2500));
+        assertFalse(set.contains(2499));
+        assertEquals(2500, set.nextSetBit(1));
+    }
+
+    @Test
+    void testSetOperations() {
+        ChampionIdSet banned = ChampionIdSet.of(22, 51, 119);
+        ChampionIdSet picked = ChampionIdSet.of(51, 412, 2000);
+
+        assertEquals(Set.of(22, 51, 119, 412, 2000), banned.union(picked));
+        assertEquals(Set.of(51), banned.intersect(picked));
+        assertEquals(Set.of(22, 119), banned.andNot(picked));
+        assertEquals(Set.of(412, 2000), picked.andNot(banned));
+        assertTrue(banned.intersects(picked));
+        assertFalse(banned.intersects(ChampionIdSet.of(1, 2000)));
+
+        // 运算不修改原集合
+        assertEquals(3, banned.size());
+        assertEquals(3, picked.size());
+    }
+
+    @Test
+    void testInteropWithCollections() {
+        ChampionIdSet set = ChampionIdSet.copyOf(java.util.Arrays.asList(5, null, 0, 7));
+        assertEquals(Set.of(5, 7), set);
+        assertEquals(Set.of(5, 7).hashCode(), set.hashCode());
+
+        ChampionIdSet readOnly = set.toReadOnly();
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add(9));
+        assertThrows(UnsupportedOperationException.class, readOnly::clear);
+
+        // 只读副本与原集合互不影响
+        set.add(9);
+        assertFalse(readOnly.contains(9));
+        ChampionIdSet copy = readOnly.copy();
+        copy.add(9);
+        assertTrue(copy.contains(9));
+    }
+}
@@ -0,0 +1,79 @@
+package com.lol.championselector.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CountingAsyncAppender的单元测试：下游阻塞时调用方不被阻塞，且每个丢弃的事件都被计数
+ */
+class CountingAsyncAppenderTest {
+
+    /**
+     * 模拟卡住的磁盘写入
+     */
+    private static class BlockedAppender extends AppenderBase<ILoggingEvent> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger written = new AtomicInteger();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.incrementAndGet();
+        }
+    }
+
+    @Test
+    void testCallersNeverBlockAndDropsAreCounted() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        BlockedAppender slow = new BlockedAppender();
+        slow.setContext(context);
+        slow.start();
+
+        CountingAsyncAppender async = new CountingAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC_FILE");
+        async.setQueueSize(16);
+        async.setNeverBlock(true);
+        async.addAppender(slow);
+        async.start();
+
+        Logger logger = context.getLogger("com.lol.championselector.lcu.LCUConnection");
+        logger.setLevel(Level.DEBUG);
+        logger.setAdditive(false);
+        logger.addAppender(async);
+
+        int total = 1000;
+        long started = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            if (i % 10 == 0) {
+                logger.warn("request {} failed", i);
+            } else {
+                logger.debug("request {}", i);
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertTrue(elapsedMs < 2000, "Logging blocked for " + elapsedMs + " ms");
+        assertTrue(async.getDiscardedCount() > 0, "DEBUG events should be discarded near capacity");
+        assertTrue(async.getDroppedWhenFullCount() > 0, "WARN events beyond the queue should be rejected, not block");
+
+        slow.release.countDown();
+        async.stop();
+        assertEquals(total, slow.written.get() + async.getDiscardedCount() + async.getDroppedWhenFullCount());
+    }
+}
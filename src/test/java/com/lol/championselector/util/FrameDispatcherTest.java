@@ -0,0 +1,113 @@
+package com.lol.championselector.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FrameDispatcher的单元测试：按key合并、提交顺序、每帧时间预算以及指标统计（手动驱动帧，不依赖JavaFX）
+ */
+class FrameDispatcherTest {
+
+    @Test
+    void testKeyedUpdatesAreCoalesced() throws Exception {
+        FrameDispatcher dispatcher = new FrameDispatcher(4, false);
+        AtomicReference<String> label = new AtomicReference<>();
+        AtomicInteger renders = new AtomicInteger();
+
+        Thread[] producers = new Thread[4];
+        CountDownLatch done = new CountDownLatch(producers.length);
+        for (int p = 0; p < producers.length; p++) {
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    dispatcher.submit("status", () -> renders.incrementAndGet());
+                }
+                done.countDown();
+            });
+            producers[p].start();
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        dispatcher.submit("status", () -> {
+            renders.incrementAndGet();
+            label.set("final");
+        });
+
+        assertEquals(1, dispatcher.getQueueDepth());
+        assertEquals(1, dispatcher.drainFrame());
+        assertEquals(1, renders.get());
+        assertEquals("final", label.get());
+        assertEquals(4000, dispatcher.getCoalescedCount());
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void testKeyedUpdatesKeepSubmissionOrder() {
+        FrameDispatcher dispatcher = new FrameDispatcher(4, false);
+        List<String> order = new ArrayList<>();
+        dispatcher.submit("badge", () -> order.add("badge-1"));
+        dispatcher.submit(() -> order.add("message-1"));
+        dispatcher.submit("badge", () -> order.add("badge-2"));
+        dispatcher.submit(() -> order.add("message-2"));
+        dispatcher.submit("status", () -> order.add("status-1"));
+
+        assertEquals(4, dispatcher.getQueueDepth());
+        assertEquals(4, dispatcher.drainFrame());
+        assertEquals(List.of("message-1", "badge-2", "message-2", "status-1"), order);
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void testFrameBudgetCarriesWorkOver() {
+        FrameDispatcher dispatcher = new FrameDispatcher(5, false);
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            dispatcher.submit(() -> {
+                ran.incrementAndGet();
+                sleep(2);
+            });
+        }
+
+        int firstFrame = dispatcher.drainFrame();
+        assertTrue(firstFrame >= 1 && firstFrame < 20, "First frame ran " + firstFrame + " tasks");
+        assertEquals(20 - firstFrame, dispatcher.getQueueDepth());
+
+        int frames = 1;
+        while (dispatcher.getQueueDepth() > 0) {
+            dispatcher.drainFrame();
+            frames++;
+        }
+        assertEquals(20, ran.get());
+        assertTrue(frames > 1);
+        assertTrue(dispatcher.getMaxFrameMillis() < 50, "Frame took " + dispatcher.getMaxFrameMillis() + " ms");
+        assertTrue(dispatcher.getMaxLatencyMillis() >= dispatcher.getAverageLatencyMillis());
+        assertEquals(20, dispatcher.getExecutedCount());
+    }
+
+    @Test
+    void testFailingTaskDoesNotStopFrame() {
+        FrameDispatcher dispatcher = new FrameDispatcher(1000, false);
+        AtomicInteger ran = new AtomicInteger();
+        dispatcher.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        dispatcher.submit(ran::incrementAndGet);
+
+        assertEquals(2, dispatcher.drainFrame());
+        assertEquals(1, ran.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
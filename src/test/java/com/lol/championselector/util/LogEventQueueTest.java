@@ -0,0 +1,102 @@
+package com.lol.championselector.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.lol.championselector.model.LogEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LogEventQueue和UiLogAppender的单元测试：多线程写入时有界、不丢序，并统计丢弃数量
+ */
+class LogEventQueueTest {
+
+    @Test
+    void testBoundedWithDropAccounting() throws Exception {
+        LogEventQueue queue = new LogEventQueue(1000);
+        int producers = 4;
+        int perProducer = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(new LogEntry(i, "DEBUG", "producer" + producer, String.valueOf(i)));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals(1000, queue.size());
+        assertEquals(producers * perProducer, queue.getOfferedCount());
+        assertEquals(producers * perProducer - 1000, queue.getDroppedCount());
+
+        // 每个生产者自己的记录保持顺序
+        List<LogEntry> drained = new ArrayList<>();
+        assertEquals(600, queue.drain(drained::add, 600));
+        queue.drain(drained::add, Integer.MAX_VALUE);
+        assertEquals(1000, drained.size());
+        assertEquals(0, queue.size());
+        for (int p = 0; p < producers; p++) {
+            String name = "producer" + p;
+            long last = -1;
+            for (LogEntry entry : drained) {
+                if (name.equals(entry.getLoggerName())) {
+                    assertTrue(entry.getTimestamp() > last);
+                    last = entry.getTimestamp();
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAppenderConvertsEvents() {
+        LogEventQueue applicationQueue = UiLogAppender.getQueue();
+        LoggerContext context = new LoggerContext();
+        UiLogAppender appender = new UiLogAppender();
+        appender.setContext(context);
+        appender.setName("UI");
+        appender.setCapacity(16);
+        appender.start();
+        try {
+            LoggingEvent event = new LoggingEvent(getClass().getName(), context.getLogger("com.lol.championselector.lcu.LCUMonitor"),
+                Level.WARN, "Failed {} times", new IllegalStateException("boom"), new Object[]{3});
+            appender.doAppend(event);
+
+            // 队列属于该appender所在的上下文，不替换应用的全局队列
+            assertSame(appender.getEventQueue(), UiLogAppender.getQueue(context));
+            assertSame(applicationQueue, UiLogAppender.getQueue());
+
+            List<LogEntry> drained = new ArrayList<>();
+            appender.getEventQueue().drain(drained::add, 16);
+            assertEquals(1, drained.size());
+            LogEntry entry = drained.get(0);
+            assertEquals("WARN", entry.getLevel());
+            assertEquals("com.lol.championselector.lcu.LCUMonitor", entry.getLoggerName());
+            assertEquals("Failed 3 times (java.lang.IllegalStateException: boom)", entry.getMessage());
+            assertTrue(entry.format().contains("WARN LCUMonitor - Failed 3 times"));
+        } finally {
+            appender.stop();
+        }
+        assertNull(UiLogAppender.getQueue(context), "Stopped appender must unregister its queue");
+        assertSame(applicationQueue, UiLogAppender.getQueue());
+    }
+}